@@ -0,0 +1,83 @@
+package com.pruebatecnica.meli.benchmark;
+
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Compara el recorrido lineal previo contra el índice primitivo de IDs del snapshot.
+// Ejecutar con: ./gradlew jmh (resultados en build/results/jmh).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BusquedaPorIdBenchmark {
+
+    private static final List<String> ESPECIFICACIONES = List.of("128GB", "6GB RAM");
+
+    @Param({"10000", "1000000", "10000000"})
+    private int cantidadProductos;
+
+    private CatalogoSnapshot snapshot;
+    private List<Producto> productos;
+    private Long idBuscado;
+    private List<Long> idsBuscados;
+
+    @Setup(Level.Trial)
+    public void prepararCatalogo() {
+        List<Producto> generados = new ArrayList<>(cantidadProductos);
+        for (long id = 1; id <= cantidadProductos; id++) {
+            generados.add(new Producto(id, "Producto", "url", "desc", id, 4.5, "Categoria", "Marca", ESPECIFICACIONES));
+        }
+        snapshot = CatalogoSnapshot.desde(generados, 1L, Instant.now(), Duration.ZERO);
+        productos = snapshot.productos();
+    }
+
+    @Setup(Level.Iteration)
+    public void elegirIds() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        idBuscado = aleatorio.nextLong(1, cantidadProductos + 1L);
+        idsBuscados = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            idsBuscados.add(aleatorio.nextLong(1, cantidadProductos + 1L));
+        }
+    }
+
+    @Benchmark
+    public Optional<Producto> porIdRecorridoLineal() {
+        return productos.stream()
+                .filter(producto -> producto.idProducto().equals(idBuscado))
+                .findFirst();
+    }
+
+    @Benchmark
+    public Optional<Producto> porIdIndice() {
+        return snapshot.buscarPorId(idBuscado);
+    }
+
+    @Benchmark
+    public List<Producto> porIdsRecorridoLineal() {
+        return productos.stream()
+                .filter(producto -> idsBuscados.contains(producto.idProducto()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Producto> porIdsIndice() {
+        return snapshot.buscarPorIds(idsBuscados);
+    }
+}
@@ -0,0 +1,208 @@
+package com.pruebatecnica.meli.benchmark;
+
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.especificacion.Especificacion;
+import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorAtributo;
+import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorCategoria;
+import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorPrecio;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Compara el filtrado por categoría y rango de precio con especificaciones sobre objetos Producto
+// contra el recorrido de las columnas fuera del heap del snapshot, y este último contra la paginación
+// en un solo recorrido que no reserva memoria proporcional al catálogo. También mide el listado acotado
+// solo por precio máximo, que el planificador resuelve con el índice ordenado de precios, y el listado
+// ordenado por precio: una página profunda sin filtros (permutación precalculada) y la primera página
+// filtrada por categoría (selección top-K). Por último, la misma primera página por categoría y precio
+// sin calcular el total, que termina el recorrido al completarla, y la página con facetas de categoría, marca
+// y precio: contadas en el mismo recorrido (categoría y precio) o por intersección de mapas de bits (categoría).
+// También mide la búsqueda por nombre tolerante a errores ("smarphone") combinada con la categoría y la
+// búsqueda de texto completo ordenada por relevancia BM25 ("smartphone cafetera") acotada por categoría, y las
+// sugerencias del autocompletado para un prefijo ("sma"), que lee las precalculadas en el nodo del trie.
+// Finalmente, el filtro por atributos de las especificaciones (ram >= 16 GB y almacenamiento >= 512 GB) con la
+// categoría: extrayendo los atributos de cada Producto contra el índice columnar de atributos del snapshot.
+// Ejecutar con: ./gradlew jmh (resultados en build/results/jmh).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FiltroCatalogoBenchmark {
+
+    private static final List<List<String>> ESPECIFICACIONES = List.of(List.of("128GB", "6GB RAM"),
+            List.of("256GB", "8GB RAM"), List.of("512GB", "16GB RAM"), List.of("1TB", "32GB RAM", "Bluetooth 5.0"));
+    private static final List<String> ATRIBUTOS_BUSCADOS = List.of("ram:>=16", "almacenamiento:>=512GB");
+    private static final List<String> CATEGORIAS = List.of("Electrónica", "Hogar", "Deportes", "Juguetes", "Libros");
+    private static final List<String> TIPOS = List.of("Smartphone", "Laptop", "Auriculares", "Televisor",
+            "Cafetera", "Bicicleta", "Licuadora");
+    private static final String CATEGORIA_BUSCADA = "Hogar";
+    private static final String NOMBRE_CON_ERROR = "smarphone";
+    private static final String TEXTO_BUSCADO = "smartphone cafetera";
+    private static final String PREFIJO = "sma";
+    private static final double PRECIO_MIN = 1000.0;
+    private static final double PRECIO_MAX = 2000.0;
+    private static final double PRECIO_TOPE = 500.0;
+
+    @Param({"10000", "1000000", "10000000"})
+    private int cantidadProductos;
+
+    private CatalogoSnapshot snapshot;
+    private List<Producto> productos;
+    private ProductoCriteriosBusqueda criterios;
+    private ProductoCriteriosBusqueda criteriosPorTope;
+    private ProductoCriteriosBusqueda criteriosPaginaProfunda;
+    private ProductoCriteriosBusqueda criteriosOrdenadosPorCategoria;
+    private ProductoCriteriosBusqueda criteriosSinTotal;
+    private ProductoCriteriosBusqueda criteriosConFacetas;
+    private ProductoCriteriosBusqueda criteriosFacetasPorMapas;
+    private ProductoCriteriosBusqueda criteriosNombreDifuso;
+    private ProductoCriteriosBusqueda criteriosTexto;
+    private ProductoCriteriosBusqueda criteriosAtributos;
+
+    @Setup(Level.Trial)
+    public void prepararCatalogo() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        List<Producto> generados = new ArrayList<>(cantidadProductos);
+        for (long id = 1; id <= cantidadProductos; id++) {
+            String nombre = TIPOS.get((int) (id % TIPOS.size())) + " " + id;
+            generados.add(new Producto(id, nombre, "url", "desc", aleatorio.nextInt(10_000), 4.5,
+                    CATEGORIAS.get((int) (id % CATEGORIAS.size())), "Marca",
+                    ESPECIFICACIONES.get((int) (id / 3 % ESPECIFICACIONES.size()))));
+        }
+        snapshot = CatalogoSnapshot.desde(generados, 1L, Instant.now(), Duration.ZERO);
+        productos = snapshot.productos();
+        criterios = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conRangoPrecio(Optional.of(PRECIO_MIN), Optional.of(PRECIO_MAX));
+        criteriosPorTope = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conRangoPrecio(Optional.empty(), Optional.of(PRECIO_TOPE));
+        Optional<Ordenamiento> porPrecio = Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, true));
+        criteriosPaginaProfunda = ProductoCriteriosBusqueda.sinFiltros(cantidadProductos / 40, 20).conOrden(porPrecio);
+        criteriosOrdenadosPorCategoria = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conOrden(porPrecio);
+        criteriosSinTotal = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conRangoPrecio(Optional.of(PRECIO_MIN), Optional.of(PRECIO_MAX))
+                .conIncluirTotal(ModoTotal.NINGUNO);
+        criteriosConFacetas = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conRangoPrecio(Optional.of(PRECIO_MIN), Optional.of(PRECIO_MAX))
+                .conFacetas(EnumSet.allOf(CampoFaceta.class));
+        criteriosFacetasPorMapas = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conFacetas(EnumSet.allOf(CampoFaceta.class));
+        criteriosNombreDifuso = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conNombre(Optional.of(NOMBRE_CON_ERROR))
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conNombreDifuso(true);
+        criteriosTexto = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conIncluirTotal(ModoTotal.NINGUNO)
+                .conTexto(Optional.of(TEXTO_BUSCADO));
+        criteriosAtributos = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conCategoria(Optional.of(CATEGORIA_BUSCADA))
+                .conAtributos(ATRIBUTOS_BUSCADOS.stream().map(FiltroAtributo::interpretar).toList());
+    }
+
+    @Benchmark
+    public List<Producto> especificacionesSobreObjetos() {
+        EspecificacionPorCategoria porCategoria = new EspecificacionPorCategoria(CATEGORIA_BUSCADA);
+        EspecificacionPorPrecio porPrecio = new EspecificacionPorPrecio(PRECIO_MIN, PRECIO_MAX);
+        List<Producto> filtrados = productos.stream().filter(porCategoria::esSatisfechoPor).toList();
+        filtrados = filtrados.stream().filter(porPrecio::esSatisfechoPor).toList();
+        return filtrados.subList(0, Math.min(20, filtrados.size()));
+    }
+
+    @Benchmark
+    public List<Producto> columnasFueraDelHeap() {
+        int[] ordinales = snapshot.filtrar(criterios);
+        return snapshot.materializar(ordinales, 0, Math.min(20, ordinales.length));
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaEnUnSoloRecorrido() {
+        return snapshot.paginar(criterios);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaPorTopeDePrecio() {
+        return snapshot.paginar(criteriosPorTope);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaProfundaOrdenadaPorPrecio() {
+        return snapshot.paginar(criteriosPaginaProfunda);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> primeraPaginaOrdenadaConFiltro() {
+        return snapshot.paginar(criteriosOrdenadosPorCategoria);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> primeraPaginaSinTotal() {
+        return snapshot.paginar(criteriosSinTotal);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaConFacetasEnElRecorrido() {
+        return snapshot.paginar(criteriosConFacetas);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaConFacetasPorMapasDeBits() {
+        return snapshot.paginar(criteriosFacetasPorMapas);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaPorNombreDifuso() {
+        return snapshot.paginar(criteriosNombreDifuso);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaPorRelevancia() {
+        return snapshot.paginar(criteriosTexto);
+    }
+
+    @Benchmark
+    public List<Producto> sugerenciasPorPrefijo() {
+        return snapshot.autocompletar(PREFIJO, 8);
+    }
+
+    @Benchmark
+    public List<Producto> atributosSobreObjetos() {
+        Especificacion<Producto> especificacion = new EspecificacionPorCategoria(CATEGORIA_BUSCADA);
+        for (FiltroAtributo filtro : criteriosAtributos.atributos()) {
+            especificacion = especificacion.y(new EspecificacionPorAtributo(filtro));
+        }
+        List<Producto> filtrados = productos.stream().filter(especificacion::esSatisfechoPor).toList();
+        return filtrados.subList(0, Math.min(20, filtrados.size()));
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaPorAtributos() {
+        return snapshot.paginar(criteriosAtributos);
+    }
+}
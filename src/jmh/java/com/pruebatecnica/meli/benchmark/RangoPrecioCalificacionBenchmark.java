@@ -0,0 +1,110 @@
+package com.pruebatecnica.meli.benchmark;
+
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorCalificacion;
+import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorPrecio;
+import com.pruebatecnica.meli.dominio.indice.IndiceOrdenado;
+import com.pruebatecnica.meli.dominio.indice.IndiceRejilla;
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Compara la consulta de caja precio × calificación (precio entre 2000 y 4000, calificación desde 4.5; cerca
+// del 3 % del catálogo) resuelta de tres formas: componiendo los filtros independientes, ya sea con
+// especificaciones sobre objetos Producto o intersecando los tramos de los dos índices ordenados como mapas de
+// bits, contra la rejilla ordenada, que solo visita las celdas del tramo de precio. También mide la página
+// completa del snapshot, cuyo planificador elige la rejilla.
+// Ejecutar con: ./gradlew jmh (resultados en build/results/jmh).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RangoPrecioCalificacionBenchmark {
+
+    private static final double PRECIO_MIN = 2000.0;
+    private static final double PRECIO_MAX = 4000.0;
+    private static final double CALIFICACION_MIN = 4.5;
+    private static final double CALIFICACION_MAX = 5.0;
+
+    @Param({"1000000", "10000000"})
+    private int cantidadProductos;
+
+    private CatalogoSnapshot snapshot;
+    private List<Producto> productos;
+    private IndiceOrdenado precios;
+    private IndiceOrdenado calificaciones;
+    private IndiceRejilla rejilla;
+    private ProductoCriteriosBusqueda criterios;
+
+    @Setup(Level.Trial)
+    public void prepararCatalogo() {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        List<Producto> generados = new ArrayList<>(cantidadProductos);
+        double[] columnaPrecios = new double[cantidadProductos];
+        double[] columnaCalificaciones = new double[cantidadProductos];
+        for (int ordinal = 0; ordinal < cantidadProductos; ordinal++) {
+            columnaPrecios[ordinal] = aleatorio.nextInt(10_000);
+            columnaCalificaciones[ordinal] = (10 + aleatorio.nextInt(41)) / 10.0;
+            generados.add(new Producto(ordinal + 1L, "Producto " + ordinal, "url", "desc", columnaPrecios[ordinal],
+                    columnaCalificaciones[ordinal], "Hogar", "Marca", List.of()));
+        }
+        snapshot = CatalogoSnapshot.desde(generados, 1L, Instant.now(), Duration.ZERO);
+        productos = snapshot.productos();
+        precios = IndiceOrdenado.desde(cantidadProductos, ordinal -> columnaPrecios[ordinal]);
+        calificaciones = IndiceOrdenado.desde(cantidadProductos, ordinal -> columnaCalificaciones[ordinal]);
+        rejilla = IndiceRejilla.desde(precios, calificaciones);
+        criterios = ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conRangoPrecio(Optional.of(PRECIO_MIN), Optional.of(PRECIO_MAX))
+                .conRangoCalificacion(Optional.of(CALIFICACION_MIN), Optional.of(CALIFICACION_MAX));
+    }
+
+    @Benchmark
+    public int especificacionesSobreObjetos() {
+        EspecificacionPorPrecio porPrecio = new EspecificacionPorPrecio(PRECIO_MIN, PRECIO_MAX);
+        EspecificacionPorCalificacion porCalificacion = new EspecificacionPorCalificacion(CALIFICACION_MIN,
+                CALIFICACION_MAX);
+        return (int) productos.stream()
+                .filter(porPrecio::esSatisfechoPor)
+                .filter(porCalificacion::esSatisfechoPor)
+                .count();
+    }
+
+    @Benchmark
+    public int indicesIndependientes() {
+        MapaBits porPrecio = MapaBits.desde(precios.ordinalesEntre(PRECIO_MIN, PRECIO_MAX));
+        MapaBits porCalificacion = MapaBits.desde(calificaciones.ordinalesEntre(CALIFICACION_MIN, CALIFICACION_MAX));
+        return porPrecio.y(porCalificacion).cardinalidad();
+    }
+
+    @Benchmark
+    public int rejillaOrdenada() {
+        return rejilla.ordinalesEntre(PRECIO_MIN, PRECIO_MAX, CALIFICACION_MIN, CALIFICACION_MAX).length;
+    }
+
+    @Benchmark
+    public int conteoEnRejilla() {
+        return rejilla.contarEntre(PRECIO_MIN, PRECIO_MAX, CALIFICACION_MIN, CALIFICACION_MAX);
+    }
+
+    @Benchmark
+    public ResultadoPaginado<Producto> paginaConRejilla() {
+        return snapshot.paginar(criterios);
+    }
+}
@@ -0,0 +1,74 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+// Compara la carga en streaming (un hilo) contra la carga paralela por fragmentos sobre un catálogo sintético.
+// Vive en el paquete de persistencia porque el lector y el cargador son de visibilidad de paquete.
+// Ejecutar con: ./gradlew jmh (resultados en build/results/jmh).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CargaCatalogoBenchmark {
+
+    @Param({"1000000"})
+    private int cantidadProductos;
+
+    @Param({"1", "2", "4", "8"})
+    private int hilos;
+
+    private final JsonFactory fabricaJson = new JsonFactory();
+    private final LectorCatalogoJson lector = new LectorCatalogoJson(fabricaJson);
+    private CargadorParaleloCatalogo cargadorParalelo;
+    private byte[] datos;
+
+    @Setup(Level.Trial)
+    public void generarCatalogo() {
+        StringBuilder json = new StringBuilder(cantidadProductos * 260).append("[\n");
+        for (int id = 1; id <= cantidadProductos; id++) {
+            if (id > 1) {
+                json.append(",\n");
+            }
+            json.append("  {\"idProducto\": ").append(id)
+                    .append(", \"nombre\": \"Producto ").append(id).append("\"")
+                    .append(", \"imagenUrl\": \"https://imagenes.ejemplo.com/").append(id).append(".jpg\"")
+                    .append(", \"descripcion\": \"Descripción del producto ").append(id).append("\"")
+                    .append(", \"precio\": ").append(id % 5000).append(".99")
+                    .append(", \"calificacion\": 4.5, \"categoria\": \"Electrónica\", \"marca\": \"XYZ\"")
+                    .append(", \"especificaciones\": [\"128GB\", \"6GB RAM\"]}");
+        }
+        datos = json.append("\n]").toString().getBytes(StandardCharsets.UTF_8);
+        cargadorParalelo = new CargadorParaleloCatalogo(fabricaJson, lector, hilos);
+    }
+
+    @Benchmark
+    public CatalogoSnapshot cargaStreaming() throws IOException {
+        ConstructorCatalogo constructor = new ConstructorCatalogo(cantidadProductos);
+        lector.leer(new ByteArrayInputStream(datos), constructor);
+        return constructor.construir(1L, Instant.now(), Duration.ZERO);
+    }
+
+    @Benchmark
+    public CatalogoSnapshot cargaParalela() throws IOException {
+        ConstructorCatalogo constructor = new ConstructorCatalogo(cantidadProductos);
+        cargadorParalelo.cargar(datos, constructor);
+        return constructor.construir(1L, Instant.now(), Duration.ZERO);
+    }
+}
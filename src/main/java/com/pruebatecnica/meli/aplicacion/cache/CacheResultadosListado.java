@@ -0,0 +1,100 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+import com.pruebatecnica.meli.dominio.modelo.Facetas;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Caché de páginas de listado delante del snapshot del catálogo, con política W-TinyLFU (ver CacheTinyLfu).
+// Cada entrada pertenece a la versión del snapshot con la que se calculó: cuando se publica una versión
+// nueva (recarga, lote de deltas o compactación) la caché se vacía y los resultados calculados sobre una
+// versión anterior ya no se guardan. Con capacidad 0 la caché queda deshabilitada.
+@Component
+public class CacheResultadosListado {
+    private final int capacidad;
+    private final CacheTinyLfu<ClaveConsulta, ResultadoPaginado<Producto>> cache;
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private long invalidaciones;
+    private long versionVigente = Long.MIN_VALUE;
+
+    public CacheResultadosListado(@Value("${productos.cache.capacidad:10000}") int capacidad) {
+        this.capacidad = Math.max(0, capacidad);
+        this.cache = this.capacidad == 0 ? null : new CacheTinyLfu<>(this.capacidad);
+    }
+
+    // Este método devuelve la página guardada para la clave de los criterios o la calcula con los criterios
+    // recibidos y la guarda, así que el resultado no depende de si la caché está habilitada. El cálculo se hace
+    // fuera del candado: dos pedidos simultáneos de la misma consulta pueden calcularla ambos, pero ninguno
+    // bloquea a las demás consultas.
+    public ResultadoPaginado<Producto> obtener(long version, ProductoCriteriosBusqueda criterios,
+                                               Function<ProductoCriteriosBusqueda, ResultadoPaginado<Producto>> calcular) {
+        if (cache == null) {
+            return calcular.apply(criterios);
+        }
+        ClaveConsulta clave = ClaveConsulta.de(criterios);
+        boolean vigente = sincronizarVersion(version);
+        ResultadoPaginado<Producto> guardado = vigente ? cache.obtener(clave) : null;
+        if (guardado != null) {
+            aciertos.increment();
+            return guardado;
+        }
+        fallos.increment();
+        ResultadoPaginado<Producto> calculado = calcular.apply(criterios);
+        if (!vigente) {
+            return calculado;
+        }
+        ResultadoPaginado<Producto> inmutable = inmutable(calculado);
+        guardarSiSigueVigente(version, clave, inmutable);
+        return inmutable;
+    }
+
+    public EstadisticasCache estadisticas() {
+        synchronized (this) {
+            return new EstadisticasCache(cache != null, capacidad, cache == null ? 0 : cache.tamanio(),
+                    aciertos.sum(), fallos.sum(), cache == null ? 0 : cache.desalojos(), invalidaciones,
+                    versionVigente == Long.MIN_VALUE ? 0 : versionVigente);
+        }
+    }
+
+    // Una versión más nueva vacía la caché; una más vieja (un pedido que empezó antes de publicarse la
+    // vigente) se resuelve sin leer ni escribir la caché.
+    private synchronized boolean sincronizarVersion(long version) {
+        if (version > versionVigente) {
+            if (versionVigente != Long.MIN_VALUE) {
+                invalidaciones++;
+            }
+            versionVigente = version;
+            cache.limpiar();
+        }
+        return version == versionVigente;
+    }
+
+    // Este método copia la página y sus listas en versiones no modificables: la entrada se comparte entre todos
+    // los pedidos que aciertan, así que ninguno puede alterar lo que reciben los demás.
+    private static ResultadoPaginado<Producto> inmutable(ResultadoPaginado<Producto> resultado) {
+        Facetas facetas = resultado.facetas();
+        Facetas facetasInmutables = facetas == null ? null : new Facetas(copiar(facetas.categorias()),
+                copiar(facetas.marcas()), copiar(facetas.precios()));
+        return new ResultadoPaginado<>(List.copyOf(resultado.elementos()), resultado.paginaActual(),
+                resultado.totalPaginas(), resultado.totalElementos(), resultado.siguienteCursor(),
+                resultado.precisionTotal(), resultado.margenErrorTotal(), facetasInmutables);
+    }
+
+    private static <T> List<T> copiar(List<T> lista) {
+        return lista == null ? null : List.copyOf(lista);
+    }
+
+    private synchronized void guardarSiSigueVigente(long version, ClaveConsulta clave,
+                                                    ResultadoPaginado<Producto> resultado) {
+        if (version == versionVigente) {
+            cache.guardar(clave, resultado);
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Caché acotada con política W-TinyLFU: las entradas nuevas pasan por una ventana LRU pequeña (1 % de la
+// capacidad) y, al salir de ella, compiten por entrar a la región principal contra la entrada menos reciente
+// del período de prueba; gana la de mayor frecuencia estimada por el sketch. La región principal es un LRU
+// segmentado: un acierto en prueba promueve la entrada a la zona protegida (80 % de la región). Así, una
+// ráfaga de consultas que se piden una sola vez no desplaza a las consultas populares.
+// obtener y guardar son O(1) amortizado (el sketch envejece todos sus contadores cada 10 × capacidad accesos);
+// limpiar es O(capacidad) porque vacía la tabla del mapa. Todas se sincronizan sobre la instancia.
+final class CacheTinyLfu<K, V> {
+    private static final int PORCENTAJE_VENTANA = 1;
+    private static final int PORCENTAJE_PROTEGIDA = 80;
+
+    private final Map<K, Nodo<K, V>> entradas;
+    private final SketchFrecuencias sketch;
+    private final ListaLru<K, V> ventana = new ListaLru<>();
+    private final ListaLru<K, V> prueba = new ListaLru<>();
+    private final ListaLru<K, V> protegida = new ListaLru<>();
+    private final int capacidadVentana;
+    private final int capacidadPrincipal;
+    private final int capacidadProtegida;
+    private long desalojos;
+
+    CacheTinyLfu(int capacidad) {
+        this.entradas = new HashMap<>(capacidad * 4 / 3 + 1);
+        this.sketch = new SketchFrecuencias(capacidad);
+        this.capacidadVentana = Math.max(1, capacidad * PORCENTAJE_VENTANA / 100);
+        this.capacidadPrincipal = Math.max(0, capacidad - capacidadVentana);
+        this.capacidadProtegida = capacidadPrincipal * PORCENTAJE_PROTEGIDA / 100;
+    }
+
+    // Este método devuelve el valor de la clave o null, y registra el acceso en el sketch.
+    synchronized V obtener(K clave) {
+        sketch.incrementar(clave);
+        Nodo<K, V> nodo = entradas.get(clave);
+        if (nodo == null) {
+            return null;
+        }
+        if (nodo.region == Region.PRUEBA) {
+            prueba.quitar(nodo);
+            nodo.region = Region.PROTEGIDA;
+            protegida.agregarAlFinal(nodo);
+            while (protegida.tamanio > capacidadProtegida) {
+                Nodo<K, V> degradado = protegida.primero();
+                protegida.quitar(degradado);
+                degradado.region = Region.PRUEBA;
+                prueba.agregarAlFinal(degradado);
+            }
+        } else {
+            listaDe(nodo).moverAlFinal(nodo);
+        }
+        return nodo.valor;
+    }
+
+    // Este método guarda el valor; si la clave ya estaba, lo reemplaza.
+    synchronized void guardar(K clave, V valor) {
+        Nodo<K, V> existente = entradas.get(clave);
+        if (existente != null) {
+            existente.valor = valor;
+            return;
+        }
+        Nodo<K, V> nodo = new Nodo<>(clave, valor);
+        entradas.put(clave, nodo);
+        ventana.agregarAlFinal(nodo);
+        desalojar();
+    }
+
+    // Este método quita todas las entradas en O(capacidad): las listas se vacían en O(1), pero el mapa recorre
+    // su tabla. El sketch conserva la popularidad de las claves, que no depende de los valores descartados.
+    synchronized void limpiar() {
+        entradas.clear();
+        ventana.vaciar();
+        prueba.vaciar();
+        protegida.vaciar();
+    }
+
+    synchronized int tamanio() {
+        return entradas.size();
+    }
+
+    synchronized long desalojos() {
+        return desalojos;
+    }
+
+    // Cada entrada que excede la ventana es candidata a la región principal: si hay lugar entra al período de
+    // prueba; si no, compite con la víctima (la más antigua del período de prueba, elegida antes de moverla) y
+    // se desaloja la de menor frecuencia (ante empate, la candidata: la víctima ya demostró uso).
+    private void desalojar() {
+        while (ventana.tamanio > capacidadVentana) {
+            Nodo<K, V> candidata = ventana.primero();
+            ventana.quitar(candidata);
+            if (prueba.tamanio + protegida.tamanio < capacidadPrincipal) {
+                admitir(candidata);
+                continue;
+            }
+            Nodo<K, V> victima = prueba.tamanio == 0 ? null : prueba.primero();
+            if (victima != null && sketch.frecuencia(candidata.clave) > sketch.frecuencia(victima.clave)) {
+                prueba.quitar(victima);
+                entradas.remove(victima.clave);
+                admitir(candidata);
+            } else {
+                entradas.remove(candidata.clave);
+            }
+            desalojos++;
+        }
+    }
+
+    private void admitir(Nodo<K, V> candidata) {
+        candidata.region = Region.PRUEBA;
+        prueba.agregarAlFinal(candidata);
+    }
+
+    private ListaLru<K, V> listaDe(Nodo<K, V> nodo) {
+        return switch (nodo.region) {
+            case VENTANA -> ventana;
+            case PRUEBA -> prueba;
+            case PROTEGIDA -> protegida;
+        };
+    }
+
+    private enum Region { VENTANA, PRUEBA, PROTEGIDA }
+
+    private static final class Nodo<K, V> {
+        private final K clave;
+        private V valor;
+        private Region region = Region.VENTANA;
+        private Nodo<K, V> anterior;
+        private Nodo<K, V> siguiente;
+
+        Nodo(K clave, V valor) {
+            this.clave = clave;
+            this.valor = valor;
+        }
+    }
+
+    // Lista doblemente enlazada con centinela: el primero es el menos reciente.
+    private static final class ListaLru<K, V> {
+        private final Nodo<K, V> centinela = new Nodo<>(null, null);
+        private int tamanio;
+
+        ListaLru() {
+            vaciar();
+        }
+
+        Nodo<K, V> primero() {
+            return centinela.siguiente;
+        }
+
+        Nodo<K, V> ultimo() {
+            return centinela.anterior;
+        }
+
+        void agregarAlFinal(Nodo<K, V> nodo) {
+            nodo.anterior = centinela.anterior;
+            nodo.siguiente = centinela;
+            centinela.anterior.siguiente = nodo;
+            centinela.anterior = nodo;
+            tamanio++;
+        }
+
+        void quitar(Nodo<K, V> nodo) {
+            nodo.anterior.siguiente = nodo.siguiente;
+            nodo.siguiente.anterior = nodo.anterior;
+            nodo.anterior = null;
+            nodo.siguiente = null;
+            tamanio--;
+        }
+
+        void moverAlFinal(Nodo<K, V> nodo) {
+            quitar(nodo);
+            agregarAlFinal(nodo);
+        }
+
+        void vaciar() {
+            centinela.anterior = centinela;
+            centinela.siguiente = centinela;
+            tamanio = 0;
+        }
+    }
+}
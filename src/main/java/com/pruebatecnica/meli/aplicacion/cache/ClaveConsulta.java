@@ -0,0 +1,56 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Clave de la caché de listados: los criterios con los textos en su clave de búsqueda (minúsculas y sin tildes,
+// lo mismo que ya ignoran los filtros) y los Optional aplanados a valores nulables, de modo que "Electrónica",
+// "electronica" y "ELECTRÓNICA" comparten entrada y el hash no recorre envoltorios. Los filtros por atributo
+// ya llegan con el nombre normalizado y el valor en la unidad canónica, así que "ram:>=16" y "RAM:>=16GB"
+// también comparten entrada.
+record ClaveConsulta(
+        String nombre,
+        String categoria,
+        String marca,
+        Double precioMin,
+        Double precioMax,
+        Double calificacionMin,
+        Double calificacionMax,
+        Ordenamiento.Campo campoOrden,
+        boolean descendente,
+        CursorPaginacion cursor,
+        ModoTotal incluirTotal,
+        Set<CampoFaceta> facetas,
+        boolean nombreDifuso,
+        String texto,
+        List<FiltroAtributo> atributos,
+        int pagina,
+        int tamanioPagina
+) {
+    // Este método arma la clave de los criterios; la consulta se ejecuta con los criterios originales, que dan el
+    // mismo resultado para toda la clave porque los filtros comparan por la misma clave de búsqueda.
+    static ClaveConsulta de(ProductoCriteriosBusqueda criterios) {
+        Optional<Ordenamiento> orden = criterios.orden();
+        return new ClaveConsulta(normalizar(criterios.nombre()), normalizar(criterios.categoria()),
+                normalizar(criterios.marca()), criterios.precioMin().orElse(null),
+                criterios.precioMax().orElse(null), criterios.calificacionMin().orElse(null),
+                criterios.calificacionMax().orElse(null), orden.map(Ordenamiento::campo).orElse(null),
+                orden.map(Ordenamiento::descendente).orElse(false), criterios.cursor().orElse(null),
+                criterios.incluirTotal(), criterios.facetas(), criterios.nombreDifuso(),
+                normalizar(criterios.texto()), criterios.atributos(), criterios.pagina(),
+                criterios.tamanioPagina());
+    }
+
+    private static String normalizar(Optional<String> texto) {
+        return texto.map(ClaveBusqueda::normalizar).orElse(null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+// Contadores acumulados de la caché de listados desde el arranque.
+public record EstadisticasCache(
+        boolean habilitada,
+        int capacidad,
+        int entradas,
+        long aciertos,
+        long fallos,
+        long desalojos,
+        long invalidaciones,
+        long versionCatalogo
+) {
+    // Fracción de consultas resueltas desde la caché (0 si todavía no hubo consultas).
+    public double tasaAciertos() {
+        long consultas = aciertos + fallos;
+        return consultas == 0 ? 0.0 : (double) aciertos / consultas;
+    }
+}
@@ -0,0 +1,78 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+// Estimador aproximado de la frecuencia reciente de cada clave (count-min sketch): contadores de 4 bits,
+// dieciséis por long, cuatro por clave en posiciones elegidas con funciones de dispersión distintas; la
+// frecuencia es el mínimo de los cuatro. Cada 10 × capacidad incrementos todos los contadores se dividen
+// por dos, de modo que las claves que dejaron de pedirse pierden peso frente a las nuevas.
+final class SketchFrecuencias {
+    private static final int FRECUENCIA_MAXIMA = 15;
+    private static final long MASCARA_MITAD = 0x7777_7777_7777_7777L;
+    private static final long[] SEMILLAS = {
+            0xC3A5_C85C_97CB_3127L, 0xB492_B66F_BE98_F273L, 0x9AE1_6A3B_2F90_404FL, 0xCBF2_9CE4_8422_2325L};
+
+    private final long[] tabla;
+    private final int muestraEnvejecimiento;
+    private int incrementos;
+
+    SketchFrecuencias(int capacidad) {
+        int longitud = Integer.highestOneBit(Math.max(1, capacidad - 1)) << 1;
+        this.tabla = new long[Math.max(8, longitud)];
+        this.muestraEnvejecimiento = (int) Math.min(10L * Math.max(1, capacidad), Integer.MAX_VALUE);
+    }
+
+    // Este método devuelve la frecuencia estimada de la clave (nunca menor que la real, salvo por el
+    // envejecimiento).
+    int frecuencia(Object clave) {
+        int dispersion = dispersar(clave.hashCode());
+        int minimo = FRECUENCIA_MAXIMA;
+        for (int i = 0; i < SEMILLAS.length; i++) {
+            long posicion = posicion(dispersion, i);
+            minimo = Math.min(minimo, (int) ((tabla[indice(posicion)] >>> desplazamiento(posicion)) & 0xF));
+        }
+        return minimo;
+    }
+
+    // Este método registra un acceso a la clave y, al completar la muestra, envejece todos los contadores.
+    void incrementar(Object clave) {
+        int dispersion = dispersar(clave.hashCode());
+        boolean incrementado = false;
+        for (int i = 0; i < SEMILLAS.length; i++) {
+            long posicion = posicion(dispersion, i);
+            int indice = indice(posicion);
+            int desplazamiento = desplazamiento(posicion);
+            if (((tabla[indice] >>> desplazamiento) & 0xF) < FRECUENCIA_MAXIMA) {
+                tabla[indice] += 1L << desplazamiento;
+                incrementado = true;
+            }
+        }
+        if (incrementado && ++incrementos >= muestraEnvejecimiento) {
+            envejecer();
+        }
+    }
+
+    private void envejecer() {
+        for (int i = 0; i < tabla.length; i++) {
+            tabla[i] = (tabla[i] >>> 1) & MASCARA_MITAD;
+        }
+        incrementos /= 2;
+    }
+
+    private static long posicion(int dispersion, int funcion) {
+        long posicion = (dispersion + SEMILLAS[funcion]) * SEMILLAS[funcion];
+        return posicion + (posicion >>> 32);
+    }
+
+    private int indice(long posicion) {
+        return (int) posicion & (tabla.length - 1);
+    }
+
+    // Cada long guarda 16 contadores de 4 bits; los bits altos de la posición eligen cuál.
+    private static int desplazamiento(long posicion) {
+        return ((int) (posicion >>> 40) & 0xF) << 2;
+    }
+
+    private static int dispersar(int hash) {
+        int dispersion = hash * 0x9E37_79B9;
+        return dispersion ^ (dispersion >>> 16);
+    }
+}
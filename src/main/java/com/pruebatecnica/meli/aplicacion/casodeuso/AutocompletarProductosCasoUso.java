@@ -0,0 +1,60 @@
+package com.pruebatecnica.meli.aplicacion.casodeuso;
+
+import com.pruebatecnica.meli.compartido.excepciones.ParametrosInvalidosException;
+import com.pruebatecnica.meli.compartido.utilidad.ProductoConstantes;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.indice.IndiceAutocompletado;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.Sugerencia;
+import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class AutocompletarProductosCasoUso {
+    private final ProductoRepositorio productoRepositorio;
+
+    public AutocompletarProductosCasoUso(ProductoRepositorio productoRepositorio) {
+        this.productoRepositorio = productoRepositorio;
+    }
+
+    // Este método valida los parámetros y devuelve las sugerencias para el prefijo, de mayor a menor calificación.
+    // Sobre un snapshot se resuelven con el trie de autocompletado; sin snapshot se recorre el catálogo.
+    public List<Sugerencia> autocompletar(String prefijo, int limite) {
+        String prefijoLimpio = validarPrefijo(prefijo);
+        validarLimite(limite);
+
+        Optional<CatalogoSnapshot> snapshot = productoRepositorio.obtenerSnapshot();
+        List<Producto> productos = snapshot.isPresent()
+                ? snapshot.get().autocompletar(prefijoLimpio, limite)
+                : recorrerCatalogo(ClaveBusqueda.normalizar(prefijoLimpio), limite);
+        return productos.stream().map(Sugerencia::de).toList();
+    }
+
+    // Sin índice se ordenan las coincidencias con un orden estable, así que los empates conservan el orden del catálogo.
+    private List<Producto> recorrerCatalogo(String clave, int limite) {
+        return productoRepositorio.listarProductos().stream()
+                .filter(producto -> IndiceAutocompletado.coincide(producto.nombre(), clave))
+                .sorted(Comparator.comparingDouble(Producto::calificacion).reversed())
+                .limit(limite)
+                .toList();
+    }
+
+    private static String validarPrefijo(String prefijo) {
+        if (prefijo == null || prefijo.isBlank()) {
+            throw new ParametrosInvalidosException(ProductoConstantes.ERROR_PREFIJO_VACIO);
+        }
+        return prefijo.strip();
+    }
+
+    private static void validarLimite(int limite) {
+        if (limite < 1 || limite > ProductoConstantes.MAXIMO_LIMITE_AUTOCOMPLETADO) {
+            throw new ParametrosInvalidosException(String.format(ProductoConstantes.ERROR_LIMITE_AUTOCOMPLETADO,
+                    ProductoConstantes.MAXIMO_LIMITE_AUTOCOMPLETADO, limite));
+        }
+    }
+}
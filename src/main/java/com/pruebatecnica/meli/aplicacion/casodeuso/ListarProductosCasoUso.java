@@ -1,68 +1,73 @@
 package com.pruebatecnica.meli.aplicacion.casodeuso;
 
+import com.pruebatecnica.meli.aplicacion.cache.CacheResultadosListado;
+import com.pruebatecnica.meli.compartido.excepciones.CursorVencidoException;
+import com.pruebatecnica.meli.compartido.utilidad.ProductoConstantes;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.PlanConsulta;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
 import com.pruebatecnica.meli.dominio.modelo.Producto;
 import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
 import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
 import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
-import com.pruebatecnica.meli.dominio.especificacion.Especificacion;
-import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorNombre;
-import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorCategoria;
-import com.pruebatecnica.meli.dominio.especificacion.EspecificacionPorPrecio;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ListarProductosCasoUso {
+    private static final long VERSION_SIN_SNAPSHOT = 0L;
+
     private final ProductoRepositorio productoRepositorio;
+    private final CacheResultadosListado cacheResultados;
 
     public ListarProductosCasoUso(ProductoRepositorio productoRepositorio) {
+        this(productoRepositorio, new CacheResultadosListado(0));
+    }
+
+    @Autowired
+    public ListarProductosCasoUso(ProductoRepositorio productoRepositorio, CacheResultadosListado cacheResultados) {
         this.productoRepositorio = productoRepositorio;
+        this.cacheResultados = cacheResultados;
     }
 
     // Este método obtiene y retoran la lista de productos una vez aplicados los filtros y la paginación.
+    // Sobre un snapshot, las páginas se guardan en la caché de listados asociadas a su versión; sin snapshot
+    // no hay versión con la cual invalidarlas, así que no se guardan.
     public ResultadoPaginado<Producto> listarProductos(ProductoCriteriosBusqueda criterios) {
-        List<Producto> productos = productoRepositorio.listarProductos();
-
-        List<Especificacion<Producto>> especificaciones = construirEspecificaciones(criterios);
-        productos = filtrarProductos(productos, especificaciones);
-
-        return paginarProductos(productos, criterios);
-    }
-
-    // Este método construye una lista de especificaciones basadas en los criterios de búsqueda proporcionados.
-    private List<Especificacion<Producto>> construirEspecificaciones(ProductoCriteriosBusqueda criterios) {
-        List<Especificacion<Producto>> especificaciones = new ArrayList<>();
-
-        criterios.nombre().ifPresent(nombre -> especificaciones.add(new EspecificacionPorNombre(nombre)));
-        criterios.categoria().ifPresent(categoria -> especificaciones.add(new EspecificacionPorCategoria(categoria)));
-        if (criterios.precioMin().isPresent() || criterios.precioMax().isPresent()) {
-            especificaciones.add(new EspecificacionPorPrecio(
-                criterios.precioMin().orElse(null),
-                criterios.precioMax().orElse(null)));
+        Optional<CatalogoSnapshot> snapshot = productoRepositorio.obtenerSnapshot();
+        if (snapshot.isPresent()) {
+            CatalogoSnapshot vigente = snapshot.get();
+            return cacheResultados.obtener(vigente.version(), ubicarCursor(vigente, criterios), vigente::paginar);
         }
+        CatalogoSnapshot deLaLista = snapshotDeLaLista();
+        return deLaLista.paginar(ubicarCursor(deLaLista, criterios));
+    }
 
-        return especificaciones;
+    // Este método devuelve el plan con el que se resolvería la consulta, sin ejecutarla.
+    public PlanConsulta explicarConsulta(ProductoCriteriosBusqueda criterios) {
+        return productoRepositorio.obtenerSnapshot().orElseGet(this::snapshotDeLaLista).planificar(criterios);
     }
 
-    // Este método filtra la lista de productos utilizando las especificaciones proporcionadas.
-    private List<Producto> filtrarProductos(List<Producto> productos, List<Especificacion<Producto>> especificaciones) {
-        for (Especificacion<Producto> especificacion : especificaciones) {
-            productos = productos.stream().filter(especificacion::esSatisfechoPor).toList();
+    // Este método traduce el cursor a la base vigente; si una recarga o compactación eliminó su última fila,
+    // no hay dónde continuar y el cursor se informa como vencido.
+    private static ProductoCriteriosBusqueda ubicarCursor(CatalogoSnapshot snapshot,
+                                                          ProductoCriteriosBusqueda criterios) {
+        if (criterios.cursor().isEmpty()) {
+            return criterios;
         }
-        return productos;
+        CursorPaginacion ubicado = snapshot.ubicarCursor(criterios.cursor().get())
+                .orElseThrow(() -> new CursorVencidoException(ProductoConstantes.ERROR_CURSOR_VENCIDO));
+        return criterios.conCursor(Optional.of(ubicado));
     }
 
-    // Este método pagina la lista de productos según los criterios de paginación proporcionados.
-    private ResultadoPaginado<Producto> paginarProductos(List<Producto> productos, ProductoCriteriosBusqueda criterios) {
-        int totalElementos = productos.size();
-        int pagina = criterios.pagina();
-        int tamanioPagina = criterios.tamanioPagina();
-        int desdeIndice = Math.min(pagina * tamanioPagina, totalElementos);
-        int hastaIndice = Math.min(desdeIndice + tamanioPagina, totalElementos);
-        List<Producto> paginaProductos = productos.subList(desdeIndice, hastaIndice);
-        int totalPaginas = (int) Math.ceil((double) totalElementos / tamanioPagina);
-
-        return new ResultadoPaginado<>(paginaProductos, pagina, totalPaginas, totalElementos);
+    // Los repositorios que no mantienen un snapshot entregan la lista; se la envuelve en uno con la misma fábrica
+    // que usa la carga, de modo que toda consulta se resuelve con el mismo motor. Construirlo cuesta O(N) por
+    // petición, el mismo orden que recorrer la lista.
+    private CatalogoSnapshot snapshotDeLaLista() {
+        return CatalogoSnapshot.desde(productoRepositorio.listarProductos(), VERSION_SIN_SNAPSHOT, Instant.now(),
+                Duration.ZERO);
     }
 }
@@ -0,0 +1,7 @@
+package com.pruebatecnica.meli.compartido.excepciones;
+
+public class CursorVencidoException extends RuntimeException {
+    public CursorVencidoException(String mensaje) {
+        super(mensaje);
+    }
+}
@@ -4,10 +4,25 @@ public final class ProductoConstantes {
 
     public static final int MINIMO_IDS_CONSULTA = 2;
     public static final int MAXIMO_IDS_CONSULTA = 5;
+    public static final int LIMITE_AUTOCOMPLETADO_POR_DEFECTO = 8;
+    public static final int MAXIMO_LIMITE_AUTOCOMPLETADO = 10;
 
     public static final String PARAMETRO_IDS = "ids";
+    public static final String DIRECCION_ASCENDENTE = "asc";
+    public static final String DIRECCION_DESCENDENTE = "desc";
 
     public static final String ERROR_CANTIDAD_IDS = "La cantidad de IDs debe estar entre %d y %d, pero se recibieron %d";
+    public static final String ERROR_ORDENAR_POR = "El parámetro ordenarPor debe ser precio, calificacion o nombre, pero se recibió '%s'";
+    public static final String ERROR_DIRECCION = "El parámetro direccion debe ser asc o desc, pero se recibió '%s'";
+    public static final String ERROR_CURSOR = "El cursor de paginación no es válido";
+    public static final String ERROR_CURSOR_ORDENAMIENTO = "El cursor de paginación corresponde a otro ordenamiento";
+    public static final String ERROR_CURSOR_VENCIDO = "El cursor de paginación corresponde a una versión anterior del catálogo cuya última fila ya no existe: vuelva a la primera página";
+    public static final String ERROR_CURSOR_RELEVANCIA = "El orden por relevancia de q no admite cursor: use pagina u ordenarPor";
+    public static final String ERROR_INCLUIR_TOTAL = "El parámetro incluirTotal debe ser exacto, aproximado o ninguno, pero se recibió '%s'";
+    public static final String ERROR_PREFIJO_VACIO = "El parámetro prefijo no puede estar vacío";
+    public static final String ERROR_LIMITE_AUTOCOMPLETADO = "El parámetro limite debe estar entre 1 y %d, pero se recibió %d";
+    public static final String ERROR_FACETAS = "El parámetro facetas debe ser una lista de categoria, marca o precio separados por comas, pero se recibió '%s'";
+    public static final String ERROR_ATRIBUTO = "El parámetro atributo debe tener la forma nombre:comparación valor (por ejemplo ram:>=16), pero se recibió '%s'";
 
     private ProductoConstantes() {}
 }
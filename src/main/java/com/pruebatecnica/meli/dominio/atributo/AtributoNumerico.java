@@ -0,0 +1,6 @@
+package com.pruebatecnica.meli.dominio.atributo;
+
+// Atributo tipado extraído de una especificación: nombre normalizado (minúsculas sin tildes), valor en la
+// unidad canónica y esa unidad (null para los conteos sin unidad, como "4 puertos").
+public record AtributoNumerico(String nombre, double valor, String unidad) {
+}
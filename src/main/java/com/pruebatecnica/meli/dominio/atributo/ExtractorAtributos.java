@@ -0,0 +1,150 @@
+package com.pruebatecnica.meli.dominio.atributo;
+
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Extracción de atributos numéricos de las especificaciones libres: "16GB RAM" es ram = 16 GB, "cámara 48MP" es
+// camara = 48 MP, "1TB" es almacenamiento = 1024 GB y "4 puertos" es puertos = 4. Sobre la clave de búsqueda de
+// la especificación (ver ClaveBusqueda), se busca una única cantidad, con su unidad pegada o en la palabra
+// siguiente, y el nombre es el resto de las palabras o, si no hay, el que la unidad indica por defecto. Las
+// especificaciones sin cantidad, con más de una, con una unidad desconocida ("4K") o con palabras que no son solo
+// letras ("Intel i7", "USB-C") no producen atributos.
+public final class ExtractorAtributos {
+    private ExtractorAtributos() {
+    }
+
+    // Este método extrae el atributo de una especificación, si lo tiene.
+    public static Optional<AtributoNumerico> extraer(String especificacion) {
+        String clave = ClaveBusqueda.normalizar(especificacion);
+        if (clave == null) {
+            return Optional.empty();
+        }
+        String[] palabras = clave.trim().split("\\s+");
+        StringBuilder nombre = new StringBuilder();
+        double numero = Double.NaN;
+        UnidadMedida unidad = null;
+        for (int i = 0; i < palabras.length; i++) {
+            String palabra = palabras[i];
+            if (palabra.isEmpty()) {
+                continue;
+            }
+            int finNumero = finNumero(palabra);
+            if (finNumero < 0) {
+                if (!soloLetras(palabra)) {
+                    return Optional.empty();
+                }
+                nombre.append(nombre.isEmpty() ? "" : " ").append(palabra);
+                continue;
+            }
+            if (!Double.isNaN(numero)) {
+                return Optional.empty();
+            }
+            numero = Double.parseDouble(palabra.substring(0, finNumero).replace(',', '.'));
+            if (finNumero < palabra.length()) {
+                unidad = UnidadMedida.desdeSufijo(palabra.substring(finNumero));
+                if (unidad == null) {
+                    return Optional.empty();
+                }
+            } else if (i + 1 < palabras.length && UnidadMedida.desdeSufijo(palabras[i + 1]) != null) {
+                unidad = UnidadMedida.desdeSufijo(palabras[++i]);
+            }
+        }
+        if (Double.isNaN(numero)) {
+            return Optional.empty();
+        }
+        String nombreAtributo = !nombre.isEmpty() ? nombre.toString() : unidad == null ? null : unidad.nombrePorDefecto();
+        if (nombreAtributo == null) {
+            return Optional.empty();
+        }
+        return Optional.of(unidad == null
+                ? new AtributoNumerico(nombreAtributo, numero, null)
+                : new AtributoNumerico(nombreAtributo, unidad.normalizar(numero), unidad.canonica()));
+    }
+
+    // Este método extrae los atributos de todas las especificaciones de un producto; si dos especificaciones
+    // dan el mismo nombre, vale la primera.
+    public static List<AtributoNumerico> extraer(List<String> especificaciones) {
+        if (especificaciones == null || especificaciones.isEmpty()) {
+            return List.of();
+        }
+        List<AtributoNumerico> atributos = new ArrayList<>(especificaciones.size());
+        for (String especificacion : especificaciones) {
+            extraer(especificacion).ifPresent(atributo -> {
+                if (atributos.stream().noneMatch(existente -> existente.nombre().equals(atributo.nombre()))) {
+                    atributos.add(atributo);
+                }
+            });
+        }
+        return atributos;
+    }
+
+    // Este método devuelve el valor del atributo en la unidad canónica, o NaN si el producto no lo tiene.
+    public static double valor(List<String> especificaciones, String nombre) {
+        if (especificaciones == null) {
+            return Double.NaN;
+        }
+        for (String especificacion : especificaciones) {
+            Optional<AtributoNumerico> atributo = extraer(especificacion);
+            if (atributo.isPresent() && atributo.get().nombre().equals(nombre)) {
+                return atributo.get().valor();
+            }
+        }
+        return Double.NaN;
+    }
+
+    // Este método interpreta una cantidad suelta con su unidad opcional ("16", "1TB", "48 mp") y la devuelve en la
+    // unidad canónica; NaN si no es una cantidad o la unidad no se reconoce.
+    public static double cantidad(String texto) {
+        String clave = ClaveBusqueda.normalizar(texto);
+        if (clave == null) {
+            return Double.NaN;
+        }
+        String compacta = clave.replaceAll("\\s+", "");
+        int finNumero = finNumero(compacta);
+        if (finNumero < 0) {
+            return Double.NaN;
+        }
+        double numero = Double.parseDouble(compacta.substring(0, finNumero).replace(',', '.'));
+        if (finNumero == compacta.length()) {
+            return numero;
+        }
+        UnidadMedida unidad = UnidadMedida.desdeSufijo(compacta.substring(finNumero));
+        return unidad == null ? Double.NaN : unidad.normalizar(numero);
+    }
+
+    // Posición en la que termina la cantidad al comienzo de la palabra (dígitos con una parte decimal opcional
+    // separada por punto o coma), o -1 si la palabra no empieza con un dígito.
+    private static int finNumero(String palabra) {
+        int posicion = digitos(palabra, 0);
+        if (posicion == 0) {
+            return -1;
+        }
+        if (posicion + 1 < palabra.length() && (palabra.charAt(posicion) == '.' || palabra.charAt(posicion) == ',')) {
+            int finDecimales = digitos(palabra, posicion + 1);
+            if (finDecimales > posicion + 1) {
+                return finDecimales;
+            }
+        }
+        return posicion;
+    }
+
+    private static int digitos(String palabra, int desde) {
+        int posicion = desde;
+        while (posicion < palabra.length() && palabra.charAt(posicion) >= '0' && palabra.charAt(posicion) <= '9') {
+            posicion++;
+        }
+        return posicion;
+    }
+
+    private static boolean soloLetras(String palabra) {
+        for (int i = 0; i < palabra.length(); i++) {
+            if (!Character.isLetter(palabra.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+package com.pruebatecnica.meli.dominio.atributo;
+
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+// Condición sobre un atributo numérico de las especificaciones, con la forma nombre:comparación valor
+// ("ram:>=16", "almacenamiento:>=1TB", "camara:48"). Sin comparación se pide igualdad. El valor puede llevar
+// unidad y se compara en la unidad canónica (ver UnidadMedida); un producto sin el atributo no la cumple.
+public record FiltroAtributo(String nombre, Comparacion comparacion, double valor) {
+    private static final String ERROR_FILTRO = "Filtro por atributo inválido";
+    private static final char SEPARADOR = ':';
+
+    public enum Comparacion {
+        MAYOR_O_IGUAL(">="), MENOR_O_IGUAL("<="), MAYOR(">"), MENOR("<"), IGUAL("=");
+
+        private final String simbolo;
+
+        Comparacion(String simbolo) {
+            this.simbolo = simbolo;
+        }
+
+        public String simbolo() {
+            return simbolo;
+        }
+    }
+
+    // Este método interpreta el filtro recibido como texto; si no tiene la forma esperada lanza
+    // IllegalArgumentException.
+    public static FiltroAtributo interpretar(String texto) {
+        int separador = texto == null ? -1 : texto.indexOf(SEPARADOR);
+        if (separador < 0) {
+            throw new IllegalArgumentException(ERROR_FILTRO);
+        }
+        String nombre = ClaveBusqueda.normalizar(texto.substring(0, separador).trim()).replaceAll("\\s+", " ");
+        String condicion = texto.substring(separador + 1).trim();
+        Comparacion comparacion = Comparacion.IGUAL;
+        for (Comparacion candidata : Comparacion.values()) {
+            if (condicion.startsWith(candidata.simbolo())) {
+                comparacion = candidata;
+                condicion = condicion.substring(candidata.simbolo().length());
+                break;
+            }
+        }
+        double valor = ExtractorAtributos.cantidad(condicion);
+        if (nombre.isEmpty() || Double.isNaN(valor)) {
+            throw new IllegalArgumentException(ERROR_FILTRO);
+        }
+        return new FiltroAtributo(nombre, comparacion, valor);
+    }
+
+    // Este método indica si el valor de un producto cumple la condición; NaN (sin el atributo) nunca la cumple.
+    public boolean cumple(double valorProducto) {
+        if (Double.isNaN(valorProducto)) {
+            return false;
+        }
+        return switch (comparacion) {
+            case MAYOR_O_IGUAL -> valorProducto >= valor;
+            case MENOR_O_IGUAL -> valorProducto <= valor;
+            case MAYOR -> valorProducto > valor;
+            case MENOR -> valorProducto < valor;
+            case IGUAL -> valorProducto == valor;
+        };
+    }
+}
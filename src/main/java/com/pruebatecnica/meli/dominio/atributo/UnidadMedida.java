@@ -0,0 +1,63 @@
+package com.pruebatecnica.meli.dominio.atributo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Unidades reconocidas en las especificaciones. Cada una se normaliza a la unidad canónica de su magnitud
+// (los TB y MB se expresan en GB, los MHz en GHz), y las que identifican por sí solas a una característica
+// tienen un nombre de atributo por defecto para las especificaciones sin palabras ("128GB", "1TB").
+public enum UnidadMedida {
+    GIGABYTE("GB", 1, "almacenamiento", "gb"),
+    TERABYTE("GB", 1024, "almacenamiento", "tb"),
+    MEGABYTE("GB", 1.0 / 1024, "almacenamiento", "mb"),
+    MEGAPIXEL("MP", 1, "camara", "mp"),
+    MILIAMPERE_HORA("mAh", 1, "bateria", "mah"),
+    PUNTOS_POR_PULGADA("DPI", 1, "dpi", "dpi"),
+    HORA("h", 1, "autonomia", "h", "hs", "horas"),
+    METRO("m", 1, null, "m", "metros"),
+    GIGAHERTZ("GHz", 1, "frecuencia", "ghz"),
+    MEGAHERTZ("GHz", 1.0 / 1000, "frecuencia", "mhz"),
+    WATT("W", 1, "potencia", "w"),
+    PULGADA("pulgadas", 1, "pantalla", "pulgadas");
+
+    private static final Map<String, UnidadMedida> POR_SUFIJO = new HashMap<>();
+
+    static {
+        for (UnidadMedida unidad : values()) {
+            for (String sufijo : unidad.sufijos) {
+                POR_SUFIJO.put(sufijo, unidad);
+            }
+        }
+    }
+
+    private final String canonica;
+    private final double factor;
+    private final String nombrePorDefecto;
+    private final String[] sufijos;
+
+    UnidadMedida(String canonica, double factor, String nombrePorDefecto, String... sufijos) {
+        this.canonica = canonica;
+        this.factor = factor;
+        this.nombrePorDefecto = nombrePorDefecto;
+        this.sufijos = sufijos;
+    }
+
+    // Este método busca la unidad por su sufijo ya normalizado (minúsculas sin tildes); null si no se reconoce.
+    public static UnidadMedida desdeSufijo(String sufijo) {
+        return POR_SUFIJO.get(sufijo);
+    }
+
+    public String canonica() {
+        return canonica;
+    }
+
+    // Nombre del atributo cuando la especificación solo tiene el número y la unidad; null si la unidad sola
+    // no alcanza para saber qué mide.
+    public String nombrePorDefecto() {
+        return nombrePorDefecto;
+    }
+
+    public double normalizar(double valor) {
+        return valor * factor;
+    }
+}
@@ -0,0 +1,11 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+// Forma en que el plan obtiene los candidatos antes de evaluar los filtros restantes.
+public enum AccesoConsulta {
+    RECORRIDO_COMPLETO,
+    INDICE_MAPAS_BITS,
+    INDICE_PRECIO,
+    INDICE_PRECIO_CALIFICACION,
+    INDICE_NOMBRE,
+    INDICE_TEXTO
+}
@@ -0,0 +1,423 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.IndiceAtributos;
+import com.pruebatecnica.meli.dominio.indice.IndiceAutocompletado;
+import com.pruebatecnica.meli.dominio.indice.IndiceIds;
+import com.pruebatecnica.meli.dominio.indice.IndiceTerminos;
+import com.pruebatecnica.meli.dominio.indice.IndiceTextoCompleto;
+import com.pruebatecnica.meli.dominio.indice.IndiceTrigramas;
+import com.pruebatecnica.meli.dominio.indice.SeleccionPorPuntaje;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// Vista inmutable del catálogo cargado en memoria. Se construye una única vez por carga
+// y se comparte entre todas las peticiones sin volver a leer ni parsear la fuente.
+// Los cambios incrementales se aplican como una capa delta sobre la base (ver DeltaCatalogo):
+// cada lote publica un snapshot nuevo que comparte productos, índice y columnas con el anterior.
+public final class CatalogoSnapshot {
+    private final List<Producto> productos;
+    private final IndiceIds indiceIds;
+    private final IndiceTrigramas indiceNombres;
+    private final IndiceTerminos indiceTerminos;
+    private final IndiceDiferido<IndiceTextoCompleto> indiceTexto;
+    private final IndiceAutocompletado indiceAutocompletado;
+    private final IndiceDiferido<IndiceAtributos> indiceAtributos;
+    private final ColumnasCatalogo columnas;
+    private final List<EstadisticasDiccionario> diccionarios;
+    private final List<RegistroInvalido> registrosInvalidos;
+    private final MetadatosCatalogo metadatos;
+    private final EstadisticasCatalogo estadisticas;
+    private final DeltaCatalogo delta;
+    private final long versionBase;
+    private volatile List<Producto> productosVigentes;
+
+    CatalogoSnapshot(List<Producto> productos, IndiceIds indiceIds, IndiceTrigramas indiceNombres,
+                     ColumnasCatalogo columnas, List<EstadisticasDiccionario> diccionarios,
+                     List<RegistroInvalido> registrosInvalidos, MetadatosCatalogo metadatos) {
+        this(productos, indiceIds, indiceNombres, IndiceTerminos.desde(indiceNombres),
+                new IndiceDiferido<>(() -> IndiceTextoCompleto.desde(productos)),
+                IndiceAutocompletado.desde(indiceNombres, columnas::calificacion),
+                new IndiceDiferido<>(() -> IndiceAtributos.desde(productos)), columnas, diccionarios,
+                registrosInvalidos, metadatos, EstadisticasCatalogo.desde(columnas), DeltaCatalogo.VACIO,
+                metadatos.version());
+    }
+
+    private CatalogoSnapshot(List<Producto> productos, IndiceIds indiceIds, IndiceTrigramas indiceNombres,
+                             IndiceTerminos indiceTerminos, IndiceDiferido<IndiceTextoCompleto> indiceTexto,
+                             IndiceAutocompletado indiceAutocompletado,
+                             IndiceDiferido<IndiceAtributos> indiceAtributos,
+                             ColumnasCatalogo columnas, List<EstadisticasDiccionario> diccionarios,
+                             List<RegistroInvalido> registrosInvalidos,
+                             MetadatosCatalogo metadatos, EstadisticasCatalogo estadisticas, DeltaCatalogo delta,
+                             long versionBase) {
+        this.productos = productos;
+        this.indiceIds = indiceIds;
+        this.indiceNombres = indiceNombres;
+        this.indiceTerminos = indiceTerminos;
+        this.indiceTexto = indiceTexto;
+        this.indiceAutocompletado = indiceAutocompletado;
+        this.indiceAtributos = indiceAtributos;
+        this.columnas = columnas;
+        this.diccionarios = diccionarios;
+        this.registrosInvalidos = registrosInvalidos;
+        this.metadatos = metadatos;
+        this.estadisticas = estadisticas;
+        this.delta = delta;
+        this.versionBase = versionBase;
+        this.productosVigentes = delta.vacio() ? productos : null;
+    }
+
+    // Este método construye un snapshot a partir de una lista ya materializada de productos.
+    public static CatalogoSnapshot desde(List<Producto> productos, long version, Instant cargadoEn, Duration duracionCarga) {
+        ConstructorCatalogo constructor = new ConstructorCatalogo(productos.size());
+        productos.forEach(constructor::agregar);
+        return constructor.construir(version, cargadoEn, duracionCarga);
+    }
+
+    // Este método publica un snapshot sobre productos e índice que la fuente ya entrega construidos
+    // (por ejemplo, una lista respaldada por un archivo mapeado en memoria).
+    public static CatalogoSnapshot sobre(List<Producto> productos, IndiceIds indiceIds, IndiceTrigramas indiceNombres,
+                                         ColumnasCatalogo columnas, MetadatosCatalogo metadatos) {
+        List<EstadisticasDiccionario> diccionarios = List.of(
+                columnas.diccionarioCategorias().estadisticas(ConstructorCatalogo.CAMPO_CATEGORIA),
+                columnas.diccionarioMarcas().estadisticas(ConstructorCatalogo.CAMPO_MARCA));
+        return new CatalogoSnapshot(productos, indiceIds, indiceNombres, columnas, diccionarios, List.of(), metadatos);
+    }
+
+    // Este método aplica un lote de upserts y bajas sin reconstruir la base: el costo es proporcional
+    // a los cambios acumulados desde la última compactación, no al tamaño del catálogo.
+    public CatalogoSnapshot aplicar(List<OperacionDelta> operaciones, long version, Instant aplicadoEn,
+                                    Duration duracion) {
+        DeltaCatalogo nuevoDelta = delta.aplicar(operaciones, indiceIds);
+        MetadatosCatalogo nuevosMetadatos = new MetadatosCatalogo(version, aplicadoEn, duracion,
+                productos.size() + nuevoDelta.variacionTamanio(), metadatos.registrosInvalidos());
+        return new CatalogoSnapshot(productos, indiceIds, indiceNombres, indiceTerminos, indiceTexto,
+                indiceAutocompletado, indiceAtributos, columnas, diccionarios, registrosInvalidos, nuevosMetadatos,
+                estadisticas, nuevoDelta, versionBase);
+    }
+
+    // Este método integra la capa delta en una base nueva (índice, columnas y diccionarios incluidos),
+    // de modo que las consultas vuelvan a resolverse por completo sobre las columnas.
+    public CatalogoSnapshot compactar(long version, Instant compactadoEn) {
+        long inicio = System.nanoTime();
+        List<Producto> vigentes = productos();
+        ConstructorCatalogo constructor = new ConstructorCatalogo(vigentes.size());
+        vigentes.forEach(constructor::agregar);
+        constructor.heredarRegistrosInvalidos(registrosInvalidos, metadatos.registrosInvalidos());
+        return constructor.construir(version, compactadoEn, Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    // Operaciones incrementales aplicadas desde la última carga completa o compactación.
+    public int operacionesPendientes() {
+        return delta.operaciones();
+    }
+
+    // Productos vigentes en orden de catálogo. Con cambios pendientes de compactar, la lista se
+    // materializa (O(N)) la primera vez que se pide en cada versión; para contar basta tamanio().
+    public List<Producto> productos() {
+        List<Producto> vigentes = productosVigentes;
+        if (vigentes == null) {
+            vigentes = materializarVigentes();
+            productosVigentes = vigentes;
+        }
+        return vigentes;
+    }
+
+    public int tamanio() {
+        return productos.size() + delta.variacionTamanio();
+    }
+
+    public long version() {
+        return metadatos.version();
+    }
+
+    public ColumnasCatalogo columnas() {
+        return columnas;
+    }
+
+    public MetadatosCatalogo metadatos() {
+        return metadatos;
+    }
+
+    // Tamaño y ahorro estimado de los diccionarios de cadenas construidos en la carga.
+    public List<EstadisticasDiccionario> diccionarios() {
+        return diccionarios;
+    }
+
+    // Bytes ocupados por los índices de consulta: mapas de bits, índices de precios y calificaciones, rejilla
+    // precio × calificación, trigramas y palabras del nombre, índices invertido de texto y de autocompletado y
+    // columnas de atributos.
+    public long bytesIndices() {
+        return estadisticas.bytesIndices() + indiceNombres.bytesOcupados() + indiceTerminos.bytesOcupados()
+                + indiceTexto.medirSiConstruido(IndiceTextoCompleto::bytesOcupados)
+                + indiceAutocompletado.bytesOcupados()
+                + indiceAtributos.medirSiConstruido(IndiceAtributos::bytesOcupados);
+    }
+
+    // Palabras distintas y bytes del índice de la búsqueda por nombre tolerante a errores.
+    public int terminosIndiceDifuso() {
+        return indiceTerminos.terminosDistintos();
+    }
+
+    public long bytesIndiceDifuso() {
+        return indiceTerminos.bytesOcupados();
+    }
+
+    // Términos distintos y bytes del índice invertido de la búsqueda de texto completo; cero hasta que la primera
+    // búsqueda por texto lo construye.
+    public int terminosIndiceTexto() {
+        return (int) indiceTexto.medirSiConstruido(IndiceTextoCompleto::terminosDistintos);
+    }
+
+    public long bytesIndiceTexto() {
+        return indiceTexto.medirSiConstruido(IndiceTextoCompleto::bytesOcupados);
+    }
+
+    // Nodos y bytes del trie de autocompletado.
+    public int nodosIndiceAutocompletado() {
+        return indiceAutocompletado.nodos();
+    }
+
+    public long bytesIndiceAutocompletado() {
+        return indiceAutocompletado.bytesOcupados();
+    }
+
+    // Atributos distintos extraídos de las especificaciones y bytes de su índice columnar; cero hasta que el
+    // primer filtro por atributo lo construye.
+    public int atributosIndexados() {
+        return (int) indiceAtributos.medirSiConstruido(IndiceAtributos::atributosDistintos);
+    }
+
+    public long bytesIndiceAtributos() {
+        return indiceAtributos.medirSiConstruido(IndiceAtributos::bytesOcupados);
+    }
+
+    // Detalle de los primeros registros descartados durante la carga.
+    public List<RegistroInvalido> registrosInvalidos() {
+        return registrosInvalidos;
+    }
+
+    // Este método resuelve un producto por su ID en O(1) a través del índice primitivo.
+    public Optional<Producto> buscarPorId(Long idProducto) {
+        if (idProducto == null) {
+            return Optional.empty();
+        }
+        int ordinal = ordinalDe(idProducto);
+        return ordinal == IndiceIds.NO_ENCONTRADO ? Optional.empty() : Optional.of(producto(ordinal));
+    }
+
+    // Este método resuelve varios IDs en O(K), conservando el orden del catálogo y sin duplicados.
+    public List<Producto> buscarPorIds(List<Long> ids) {
+        int[] ordinales = new int[ids.size()];
+        int encontrados = 0;
+        for (Long id : ids) {
+            int ordinal = id == null ? IndiceIds.NO_ENCONTRADO : ordinalDe(id);
+            if (ordinal != IndiceIds.NO_ENCONTRADO) {
+                ordinales[encontrados++] = ordinal;
+            }
+        }
+        Arrays.sort(ordinales, 0, encontrados);
+
+        List<Producto> resultado = new ArrayList<>(encontrados);
+        for (int i = 0; i < encontrados; i++) {
+            if (i == 0 || ordinales[i] != ordinales[i - 1]) {
+                resultado.add(producto(ordinales[i]));
+            }
+        }
+        return resultado;
+    }
+
+    // Este método devuelve hasta 'limite' productos con alguna palabra del nombre que empieza con el prefijo, de
+    // mayor a menor calificación; sin cambios pendientes son las sugerencias precalculadas del nodo del prefijo.
+    public List<Producto> autocompletar(String prefijo, int limite) {
+        String clave = ClaveBusqueda.normalizar(prefijo);
+        int nodo = indiceAutocompletado.buscar(clave);
+        if (!delta.vacio()) {
+            return autocompletarConDelta(clave, nodo, limite);
+        }
+        int cantidad = nodo == IndiceAutocompletado.SIN_NODO ? 0
+                : Math.min(limite, indiceAutocompletado.cantidadSugerencias(nodo));
+        List<Producto> sugerencias = new ArrayList<>(cantidad);
+        for (int posicion = 0; posicion < cantidad; posicion++) {
+            sugerencias.add(productos.get(indiceAutocompletado.sugerencia(nodo, posicion)));
+        }
+        return sugerencias;
+    }
+
+    // Con capa delta se descartan las sugerencias modificadas y se suman las de la capa; si eso vacía una lista
+    // llena, se recorre el subárbol completo del prefijo porque pueden entrar productos que no estaban en ella.
+    private List<Producto> autocompletarConDelta(String clave, int nodo, int limite) {
+        SeleccionPorPuntaje seleccion =
+                new SeleccionPorPuntaje(Math.min(limite, IndiceAutocompletado.SUGERENCIAS_POR_NODO));
+        if (nodo != IndiceAutocompletado.SIN_NODO) {
+            int disponibles = indiceAutocompletado.cantidadSugerencias(nodo);
+            int[] candidatos = new int[disponibles];
+            int vigentes = 0;
+            for (int posicion = 0; posicion < disponibles; posicion++) {
+                candidatos[posicion] = indiceAutocompletado.sugerencia(nodo, posicion);
+                if (!delta.modificado(candidatos[posicion])) {
+                    vigentes++;
+                }
+            }
+            if (vigentes < limite && disponibles == IndiceAutocompletado.SUGERENCIAS_POR_NODO) {
+                candidatos = indiceAutocompletado.ordinalesDelSubarbol(nodo);
+            }
+            for (int ordinal : candidatos) {
+                if (!delta.modificado(ordinal)) {
+                    seleccion.ofrecer(ordinal, columnas.calificacion(ordinal));
+                }
+            }
+        }
+        for (int ordinal : delta.ordinalesModificados()) {
+            Producto vigente = delta.reemplazo(ordinal);
+            if (vigente != null && IndiceAutocompletado.coincide(vigente.nombre(), clave)) {
+                seleccion.ofrecer(ordinal, vigente.calificacion());
+            }
+        }
+        List<Producto> agregados = delta.agregados();
+        for (int posicion = 0; posicion < agregados.size(); posicion++) {
+            Producto agregado = agregados.get(posicion);
+            if (agregado != null && IndiceAutocompletado.coincide(agregado.nombre(), clave)) {
+                seleccion.ofrecer(productos.size() + posicion, agregado.calificacion());
+            }
+        }
+        int[] ordinales = seleccion.ordenados();
+        return materializar(ordinales, 0, ordinales.length);
+    }
+
+    // Este método devuelve los ordinales que cumplen los criterios, en orden de catálogo.
+    public int[] filtrar(ProductoCriteriosBusqueda criterios) {
+        int[] ordinales = new int[productos.size() + delta.agregados().size()];
+        int encontrados = new EjecutorConsultas(this).recorrer(criterios, 0,
+                new PaginaCatalogo(ordinales, 0, 0, ordinales.length, false));
+        return Arrays.copyOf(ordinales, encontrados);
+    }
+
+    // Este método resuelve una página en un único recorrido cuya memoria depende del tamaño de página. El cursor,
+    // si lo hay, debe estar ubicado en esta base (ver ubicarCursor).
+    public ResultadoPaginado<Producto> paginar(ProductoCriteriosBusqueda criterios) {
+        return new PaginadorCatalogo(this).paginar(criterios);
+    }
+
+    // Este método traduce el cursor a los ordinales de esta base. Si se emitió sobre ella (con o sin deltas
+    // posteriores) sus ordinales siguen valiendo; si no, la última fila entregada se busca por su ID. Vacío si
+    // esa fila ya no existe, porque entonces no hay forma de saber dónde continuar.
+    public Optional<CursorPaginacion> ubicarCursor(CursorPaginacion cursor) {
+        if (cursor.versionBase() == versionBase) {
+            return Optional.of(cursor);
+        }
+        int ordinal = cursor.idProducto() == CursorPaginacion.SIN_ID
+                ? IndiceIds.NO_ENCONTRADO : ordinalDe(cursor.idProducto());
+        return ordinal == IndiceIds.NO_ENCONTRADO ? Optional.empty() : Optional.of(cursor.enBase(ordinal, versionBase));
+    }
+
+    // Este método devuelve el plan que se usaría para la consulta sin ejecutarla.
+    public PlanConsulta planificar(ProductoCriteriosBusqueda criterios) {
+        EjecutorConsultas ejecutor = new EjecutorConsultas(this);
+        return ejecutor.planificar(criterios, ejecutor.preparar(criterios));
+    }
+
+    // Este método materializa solo los productos del rango de ordinales solicitado (por ejemplo, una página).
+    public List<Producto> materializar(int[] ordinales, int desde, int hasta) {
+        List<Producto> resultado = new ArrayList<>(hasta - desde);
+        for (int i = desde; i < hasta; i++) {
+            resultado.add(producto(ordinales[i]));
+        }
+        return resultado;
+    }
+
+    // Los ordinales de la base se resuelven por el índice; los productos agregados por la capa delta
+    // continúan la numeración a partir del tamaño de la base.
+    private int ordinalDe(long idProducto) {
+        int ordinal = indiceIds.buscar(idProducto);
+        if (ordinal != IndiceIds.NO_ENCONTRADO) {
+            return delta.modificado(ordinal) && delta.reemplazo(ordinal) == null ? IndiceIds.NO_ENCONTRADO : ordinal;
+        }
+        int posicion = delta.posicionAgregado(idProducto);
+        return posicion == IndiceIds.NO_ENCONTRADO ? IndiceIds.NO_ENCONTRADO : productos.size() + posicion;
+    }
+
+    Producto producto(int ordinal) {
+        if (ordinal >= productos.size()) {
+            return delta.agregados().get(ordinal - productos.size());
+        }
+        return delta.modificado(ordinal) ? delta.reemplazo(ordinal) : productos.get(ordinal);
+    }
+
+    private List<Producto> materializarVigentes() {
+        List<Producto> vigentes = new ArrayList<>(tamanio());
+        for (int ordinal = 0; ordinal < productos.size(); ordinal++) {
+            Producto vigente = producto(ordinal);
+            if (vigente != null) {
+                vigentes.add(vigente);
+            }
+        }
+        for (Producto agregado : delta.agregados()) {
+            if (agregado != null) {
+                vigentes.add(agregado);
+            }
+        }
+        return Collections.unmodifiableList(vigentes);
+    }
+
+    int tamanioBase() {
+        return productos.size();
+    }
+
+    List<Producto> productosBase() {
+        return productos;
+    }
+
+    EstadisticasCatalogo estadisticas() {
+        return estadisticas;
+    }
+
+    DeltaCatalogo delta() {
+        return delta;
+    }
+
+    // Versión de la carga o compactación que construyó la base; los snapshots con deltas sobre ella la conservan.
+    long versionBase() {
+        return versionBase;
+    }
+
+    IndiceTrigramas indiceNombres() {
+        return indiceNombres;
+    }
+
+    IndiceTerminos indiceTerminos() {
+        return indiceTerminos;
+    }
+
+    IndiceTextoCompleto indiceTexto() {
+        return indiceTexto.obtener();
+    }
+
+    IndiceAtributos indiceAtributos() {
+        return indiceAtributos.obtener();
+    }
+
+    // Indica si el ordinal es de la base y no fue tocado por la capa delta, así que sus columnas están vigentes.
+    boolean vigenteEnBase(int ordinal) {
+        return ordinal < productos.size() && !delta.modificado(ordinal);
+    }
+
+    double precio(int ordinal) {
+        return vigenteEnBase(ordinal) ? columnas.precio(ordinal) : producto(ordinal).precio();
+    }
+
+    double calificacion(int ordinal) {
+        return vigenteEnBase(ordinal) ? columnas.calificacion(ordinal) : producto(ordinal).calificacion();
+    }
+}
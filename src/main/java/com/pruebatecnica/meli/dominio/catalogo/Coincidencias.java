@@ -0,0 +1,22 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+
+// Receptor de las coincidencias de un recorrido, numeradas en orden de catálogo.
+@FunctionalInterface
+interface Coincidencias {
+    void registrar(int numero, int ordinal);
+
+    // Este método entrega, uno por uno, los ordinales de un conjunto que el recorrido resolvió en bloque.
+    default void registrarTodas(MapaBits coincidentes) {
+        int[] ordinales = coincidentes.aArreglo();
+        for (int i = 0; i < ordinales.length; i++) {
+            registrar(i, ordinales[i]);
+        }
+    }
+
+    // Indica que el recorrido puede terminar porque no se necesitan más coincidencias.
+    default boolean completa() {
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+// Almacenamiento columnar fuera del heap de los campos que usan los filtros: IDs, precio y calificación
+// en arreglos contiguos, y categoría y marca codificadas como enteros contra un diccionario.
+// Permite recorrer rangos sin tocar el grafo de objetos Producto.
+public final class ColumnasCatalogo {
+    public static final int SIN_VALOR = DiccionarioCadenas.SIN_VALOR;
+    public static final long SIN_ID = Long.MIN_VALUE;
+
+    private final int tamanio;
+    private final LongBuffer ids;
+    private final DoubleBuffer precios;
+    private final DoubleBuffer calificaciones;
+    private final IntBuffer categorias;
+    private final IntBuffer marcas;
+    private final DiccionarioCadenas diccionarioCategorias;
+    private final DiccionarioCadenas diccionarioMarcas;
+
+    ColumnasCatalogo(int tamanio, LongBuffer ids, DoubleBuffer precios, DoubleBuffer calificaciones,
+                     IntBuffer categorias, IntBuffer marcas,
+                     DiccionarioCadenas diccionarioCategorias, DiccionarioCadenas diccionarioMarcas) {
+        this.tamanio = tamanio;
+        this.ids = ids;
+        this.precios = precios;
+        this.calificaciones = calificaciones;
+        this.categorias = categorias;
+        this.marcas = marcas;
+        this.diccionarioCategorias = diccionarioCategorias;
+        this.diccionarioMarcas = diccionarioMarcas;
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    // ID del producto, o SIN_ID si el registro no tiene.
+    public long idProducto(int ordinal) {
+        return ids.get(ordinal);
+    }
+
+    public double precio(int ordinal) {
+        return precios.get(ordinal);
+    }
+
+    public double calificacion(int ordinal) {
+        return calificaciones.get(ordinal);
+    }
+
+    // Código de diccionario de la categoría del producto, o SIN_VALOR si no tiene.
+    public int codigoCategoria(int ordinal) {
+        return categorias.get(ordinal);
+    }
+
+    // Código de diccionario de la marca del producto, o SIN_VALOR si no tiene.
+    public int codigoMarca(int ordinal) {
+        return marcas.get(ordinal);
+    }
+
+    public DiccionarioCadenas diccionarioCategorias() {
+        return diccionarioCategorias;
+    }
+
+    public DiccionarioCadenas diccionarioMarcas() {
+        return diccionarioMarcas;
+    }
+
+    // Este método marca los códigos de categoría que coinciden sin distinguir mayúsculas, para filtrar
+    // la columna comparando enteros en lugar de cadenas.
+    public boolean[] codigosCategoria(String categoria) {
+        return diccionarioCategorias.codigosIgualesA(categoria);
+    }
+
+    // Este método marca los códigos de marca que coinciden sin distinguir mayúsculas.
+    public boolean[] codigosMarca(String marca) {
+        return diccionarioMarcas.codigosIgualesA(marca);
+    }
+
+    // Bytes reservados fuera del heap por las columnas.
+    public long bytesFueraDelHeap() {
+        return (long) tamanio * (Long.BYTES + 2L * Double.BYTES + 2L * Integer.BYTES);
+    }
+}
@@ -0,0 +1,138 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.IndiceIds;
+import com.pruebatecnica.meli.dominio.indice.IndiceTrigramas;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// Acumula los productos a medida que se leen de la fuente y alimenta los índices en el mismo paso,
+// sin listas intermedias. Categoría, marca y especificaciones se canonicalizan contra diccionarios,
+// de modo que cada valor repetido existe una sola vez en el heap. Una instancia construye un único snapshot.
+public final class ConstructorCatalogo {
+    private static final int MAXIMO_REGISTROS_INVALIDOS_DETALLADOS = 100;
+    private static final int CAPACIDAD_INICIAL = 1024;
+    static final String CAMPO_CATEGORIA = "categoria";
+    static final String CAMPO_MARCA = "marca";
+    static final String CAMPO_ESPECIFICACIONES = "especificaciones";
+    private static final String CONSTRUCTOR_YA_UTILIZADO = "El constructor de catálogo ya generó su snapshot";
+
+    private final ArrayList<Producto> productos;
+    private final IndiceIds indiceIds;
+    private final IndiceTrigramas indiceNombres;
+    private final ConstructorColumnas columnas;
+    private final DiccionarioCadenas especificaciones = new DiccionarioCadenas();
+    private final List<RegistroInvalido> registrosInvalidos = new ArrayList<>();
+    private int totalRegistrosInvalidos;
+    private boolean construido;
+
+    public ConstructorCatalogo() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    public ConstructorCatalogo(int capacidadEstimada) {
+        this.productos = new ArrayList<>(capacidadEstimada);
+        this.indiceIds = new IndiceIds(capacidadEstimada);
+        this.indiceNombres = new IndiceTrigramas(capacidadEstimada);
+        this.columnas = new ConstructorColumnas(capacidadEstimada);
+    }
+
+    // Este método registra el producto con el siguiente ordinal disponible, lo indexa por ID y por
+    // los trigramas de su nombre, y copia a las columnas los campos que usan los filtros.
+    public void agregar(Producto producto) {
+        validarDisponible();
+        int ordinal = productos.size();
+        int codigoCategoria = columnas.diccionarioCategorias().codificar(producto.categoria());
+        int codigoMarca = columnas.diccionarioMarcas().codificar(producto.marca());
+        productos.add(compartirCadenas(producto,
+                columnas.diccionarioCategorias().valor(codigoCategoria),
+                columnas.diccionarioMarcas().valor(codigoMarca)));
+        if (producto.idProducto() != null) {
+            indiceIds.agregar(producto.idProducto(), ordinal);
+        }
+        indiceNombres.agregar(ordinal, producto.nombre());
+        columnas.agregar(producto.idProducto() == null ? ColumnasCatalogo.SIN_ID : producto.idProducto(),
+                producto.precio(), producto.calificacion(), codigoCategoria, codigoMarca);
+    }
+
+    // Este método contabiliza un registro descartado; solo se conserva el detalle de los primeros.
+    public void registrarInvalido(RegistroInvalido registro) {
+        validarDisponible();
+        totalRegistrosInvalidos++;
+        if (registrosInvalidos.size() < MAXIMO_REGISTROS_INVALIDOS_DETALLADOS) {
+            registrosInvalidos.add(registro);
+        }
+    }
+
+    // Este método conserva los registros descartados de una carga previa (por ejemplo, al compactar
+    // la capa delta), manteniendo el total original aunque solo se tenga el detalle de los primeros.
+    void heredarRegistrosInvalidos(List<RegistroInvalido> detalle, int total) {
+        validarDisponible();
+        detalle.stream().limit(MAXIMO_REGISTROS_INVALIDOS_DETALLADOS - registrosInvalidos.size())
+                .forEach(registrosInvalidos::add);
+        totalRegistrosInvalidos += total;
+    }
+
+    public int tamanio() {
+        return productos.size();
+    }
+
+    // Este método publica el snapshot inmutable; el constructor no puede reutilizarse después.
+    public CatalogoSnapshot construir(long version, Instant cargadoEn, Duration duracionCarga) {
+        validarDisponible();
+        construido = true;
+        productos.trimToSize();
+        especificaciones.congelar();
+        indiceNombres.congelar();
+        ColumnasCatalogo columnasPublicadas = columnas.construir();
+        MetadatosCatalogo metadatos = new MetadatosCatalogo(
+                version, cargadoEn, duracionCarga, productos.size(), totalRegistrosInvalidos);
+        return new CatalogoSnapshot(
+                Collections.unmodifiableList(productos),
+                indiceIds,
+                indiceNombres,
+                columnasPublicadas,
+                List.of(columnasPublicadas.diccionarioCategorias().estadisticas(CAMPO_CATEGORIA),
+                        columnasPublicadas.diccionarioMarcas().estadisticas(CAMPO_MARCA),
+                        especificaciones.estadisticas(CAMPO_ESPECIFICACIONES)),
+                List.copyOf(registrosInvalidos),
+                metadatos);
+    }
+
+    // Este método reemplaza las cadenas repetidas por las instancias del diccionario; si el producto
+    // ya las referencia, se conserva la misma instancia de Producto.
+    private Producto compartirCadenas(Producto producto, String categoria, String marca) {
+        List<String> especificacionesCompartidas = compartirEspecificaciones(producto.especificaciones());
+        if (categoria == producto.categoria() && marca == producto.marca()
+                && especificacionesCompartidas == producto.especificaciones()) {
+            return producto;
+        }
+        return new Producto(producto.idProducto(), producto.nombre(), producto.imagenUrl(), producto.descripcion(),
+                producto.precio(), producto.calificacion(), categoria, marca, especificacionesCompartidas);
+    }
+
+    private List<String> compartirEspecificaciones(List<String> valores) {
+        if (valores == null || valores.isEmpty()) {
+            return valores;
+        }
+        String[] compartidos = new String[valores.size()];
+        boolean cambio = false;
+        for (int i = 0; i < compartidos.length; i++) {
+            String valor = valores.get(i);
+            compartidos[i] = especificaciones.canonica(valor);
+            cambio |= compartidos[i] != valor;
+        }
+        return cambio ? Collections.unmodifiableList(Arrays.asList(compartidos)) : valores;
+    }
+
+    private void validarDisponible() {
+        if (construido) {
+            throw new IllegalStateException(CONSTRUCTOR_YA_UTILIZADO);
+        }
+    }
+}
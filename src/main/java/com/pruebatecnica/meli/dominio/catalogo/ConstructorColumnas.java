@@ -0,0 +1,103 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+// Acumula los valores de las columnas en arreglos primitivos durante la carga y los copia
+// a buffers directos al construir, de modo que el catálogo publicado vive fuera del heap.
+// Categoría y marca llegan ya codificadas contra los diccionarios que expone este constructor.
+public final class ConstructorColumnas {
+    private static final String CONSTRUCTOR_YA_UTILIZADO = "El constructor de columnas ya generó sus columnas";
+
+    private long[] ids;
+    private double[] precios;
+    private double[] calificaciones;
+    private int[] categorias;
+    private int[] marcas;
+    private int tamanio;
+    private final DiccionarioCadenas diccionarioCategorias = new DiccionarioCadenas();
+    private final DiccionarioCadenas diccionarioMarcas = new DiccionarioCadenas();
+    private boolean construido;
+
+    public ConstructorColumnas(int capacidadEstimada) {
+        int capacidad = Math.max(1, capacidadEstimada);
+        this.ids = new long[capacidad];
+        this.precios = new double[capacidad];
+        this.calificaciones = new double[capacidad];
+        this.categorias = new int[capacidad];
+        this.marcas = new int[capacidad];
+    }
+
+    public DiccionarioCadenas diccionarioCategorias() {
+        return diccionarioCategorias;
+    }
+
+    public DiccionarioCadenas diccionarioMarcas() {
+        return diccionarioMarcas;
+    }
+
+    // Este método agrega una fila con el siguiente ordinal disponible.
+    public void agregar(long idProducto, double precio, double calificacion, int codigoCategoria, int codigoMarca) {
+        if (construido) {
+            throw new IllegalStateException(CONSTRUCTOR_YA_UTILIZADO);
+        }
+        if (tamanio == ids.length) {
+            crecer();
+        }
+        ids[tamanio] = idProducto;
+        precios[tamanio] = precio;
+        calificaciones[tamanio] = calificacion;
+        categorias[tamanio] = codigoCategoria;
+        marcas[tamanio] = codigoMarca;
+        tamanio++;
+    }
+
+    // Este método copia las columnas a memoria fuera del heap; el constructor no puede reutilizarse después.
+    public ColumnasCatalogo construir() {
+        if (construido) {
+            throw new IllegalStateException(CONSTRUCTOR_YA_UTILIZADO);
+        }
+        construido = true;
+        LongBuffer columnaIds = directo(tamanio, Long.BYTES).asLongBuffer().put(0, ids, 0, tamanio);
+        DoubleBuffer columnaPrecios = directo(tamanio, Double.BYTES).asDoubleBuffer().put(0, precios, 0, tamanio);
+        DoubleBuffer columnaCalificaciones = directo(tamanio, Double.BYTES).asDoubleBuffer().put(0, calificaciones, 0, tamanio);
+        IntBuffer columnaCategorias = directo(tamanio, Integer.BYTES).asIntBuffer().put(0, categorias, 0, tamanio);
+        IntBuffer columnaMarcas = directo(tamanio, Integer.BYTES).asIntBuffer().put(0, marcas, 0, tamanio);
+        liberarArreglos();
+        diccionarioCategorias.congelar();
+        diccionarioMarcas.congelar();
+        return new ColumnasCatalogo(tamanio,
+                columnaIds.asReadOnlyBuffer(),
+                columnaPrecios.asReadOnlyBuffer(),
+                columnaCalificaciones.asReadOnlyBuffer(),
+                columnaCategorias.asReadOnlyBuffer(),
+                columnaMarcas.asReadOnlyBuffer(),
+                diccionarioCategorias,
+                diccionarioMarcas);
+    }
+
+    private static ByteBuffer directo(int elementos, int bytesPorElemento) {
+        return ByteBuffer.allocateDirect(Math.multiplyExact(elementos, bytesPorElemento)).order(ByteOrder.nativeOrder());
+    }
+
+    private void crecer() {
+        int capacidad = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacidad);
+        precios = Arrays.copyOf(precios, capacidad);
+        calificaciones = Arrays.copyOf(calificaciones, capacidad);
+        categorias = Arrays.copyOf(categorias, capacidad);
+        marcas = Arrays.copyOf(marcas, capacidad);
+    }
+
+    private void liberarArreglos() {
+        ids = null;
+        precios = null;
+        calificaciones = null;
+        categorias = null;
+        marcas = null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+
+// Lo que una consulta necesita de los índices del snapshot, resuelto una sola vez antes de planificarla.
+record Consulta(boolean[] codigosCategoria, boolean[] codigosMarca, MapaBits nombresDifusos,
+                MapaBits coincidenciasTexto, MapaBits coincidenciasAtributos, MapaBits candidatosMapas,
+                int[][] listasNombre) {
+}
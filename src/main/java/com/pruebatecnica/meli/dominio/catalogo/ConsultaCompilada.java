@@ -0,0 +1,161 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.atributo.ExtractorAtributos;
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.indice.IndiceTextoCompleto;
+import com.pruebatecnica.meli.dominio.indice.IndiceTrigramas;
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.texto.AnalizadorTexto;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+import com.pruebatecnica.meli.dominio.texto.DistanciaEdicion;
+
+import java.util.List;
+
+// Criterios de búsqueda resueltos una sola vez contra los diccionarios del snapshot: categoría y marca quedan
+// como conjuntos de códigos, los rangos de precio y calificación como límites primitivos y los textos como
+// claves de búsqueda (minúsculas sin tildes). Un único predicado evalúa los criterios por ordinal en el orden
+// que fijó el plan, omitiendo los que ya resuelve el acceso por índice; el nombre de la base se compara contra
+// las claves que el índice de nombres calculó al construir el snapshot, sin decodificar el producto. En la
+// búsqueda tolerante a errores el nombre de la base ya quedó resuelto en un mapa de bits por el índice de
+// palabras, y lo mismo ocurre con la búsqueda de texto completo y el índice invertido, y con los filtros por
+// atributo y su índice columnar.
+final class ConsultaCompilada {
+    private static final int FILTRO_CATEGORIA = 0;
+    private static final int FILTRO_PRECIO = 1;
+    private static final int FILTRO_NOMBRE = 2;
+    private static final int FILTRO_MARCA = 3;
+    private static final int FILTRO_TEXTO = 4;
+    private static final int FILTRO_ATRIBUTOS = 5;
+    private static final int FILTRO_CALIFICACION = 6;
+
+    private final ColumnasCatalogo columnas;
+    private final IndiceTrigramas indiceNombres;
+    private final boolean[] codigosCategoria;
+    private final String categoria;
+    private final boolean[] codigosMarca;
+    private final String marca;
+    private final double precioMin;
+    private final double precioMax;
+    private final double calificacionMin;
+    private final double calificacionMax;
+    private final String nombre;
+    private final MapaBits nombresDifusos;
+    private final String[] terminosDifusos;
+    private final MapaBits coincidenciasTexto;
+    private final String[] terminosTexto;
+    private final MapaBits coincidenciasAtributos;
+    private final List<FiltroAtributo> filtrosAtributos;
+    private final int[] orden;
+
+    private ConsultaCompilada(ColumnasCatalogo columnas, IndiceTrigramas indiceNombres,
+                              ProductoCriteriosBusqueda criterios, boolean[] codigosCategoria,
+                              boolean[] codigosMarca, MapaBits nombresDifusos, MapaBits coincidenciasTexto,
+                              MapaBits coincidenciasAtributos, PlanConsulta plan) {
+        this.columnas = columnas;
+        this.indiceNombres = indiceNombres;
+        this.codigosCategoria = codigosCategoria;
+        this.categoria = criterios.categoria().map(ClaveBusqueda::normalizar).orElse(null);
+        this.codigosMarca = codigosMarca;
+        this.marca = criterios.marca().map(ClaveBusqueda::normalizar).orElse(null);
+        this.precioMin = criterios.precioMin().orElse(Double.NEGATIVE_INFINITY);
+        this.precioMax = criterios.precioMax().orElse(Double.POSITIVE_INFINITY);
+        this.calificacionMin = criterios.calificacionMin().orElse(Double.NEGATIVE_INFINITY);
+        this.calificacionMax = criterios.calificacionMax().orElse(Double.POSITIVE_INFINITY);
+        this.nombre = criterios.nombre().map(ClaveBusqueda::normalizar).orElse(null);
+        this.nombresDifusos = nombresDifusos;
+        this.terminosDifusos = nombresDifusos == null ? null : DistanciaEdicion.terminos(nombre);
+        this.coincidenciasTexto = coincidenciasTexto;
+        this.terminosTexto = criterios.texto().map(AnalizadorTexto::terminosConsulta).orElse(null);
+        this.coincidenciasAtributos = coincidenciasAtributos;
+        this.filtrosAtributos = criterios.atributos();
+        this.orden = plan.filtros().stream()
+                .filter(filtro -> !filtro.resueltoPorIndice())
+                .mapToInt(filtro -> switch (filtro.campo()) {
+                    case PlanificadorConsultas.CAMPO_CATEGORIA -> FILTRO_CATEGORIA;
+                    case PlanificadorConsultas.CAMPO_MARCA -> FILTRO_MARCA;
+                    case PlanificadorConsultas.CAMPO_PRECIO -> FILTRO_PRECIO;
+                    case PlanificadorConsultas.CAMPO_CALIFICACION -> FILTRO_CALIFICACION;
+                    case PlanificadorConsultas.CAMPO_TEXTO -> FILTRO_TEXTO;
+                    case PlanificadorConsultas.CAMPO_ATRIBUTOS -> FILTRO_ATRIBUTOS;
+                    default -> FILTRO_NOMBRE;
+                })
+                .toArray();
+    }
+
+    static ConsultaCompilada compilar(ColumnasCatalogo columnas, IndiceTrigramas indiceNombres,
+                                      ProductoCriteriosBusqueda criterios, boolean[] codigosCategoria,
+                                      boolean[] codigosMarca, MapaBits nombresDifusos,
+                                      MapaBits coincidenciasTexto, MapaBits coincidenciasAtributos,
+                                      PlanConsulta plan) {
+        return new ConsultaCompilada(columnas, indiceNombres, criterios, codigosCategoria, codigosMarca,
+                nombresDifusos, coincidenciasTexto, coincidenciasAtributos, plan);
+    }
+
+    // Indica si el acceso por índice ya resolvió todos los filtros, de modo que no queda nada por evaluar.
+    boolean sinFiltrosPendientes() {
+        return orden.length == 0;
+    }
+
+    // Este método evalúa un ordinal de la base sobre las columnas, cortando en el primer filtro que no se cumple.
+    boolean cumple(int ordinal) {
+        for (int filtro : orden) {
+            boolean cumple = switch (filtro) {
+                case FILTRO_CATEGORIA -> coincide(codigosCategoria, columnas.codigoCategoria(ordinal));
+                case FILTRO_MARCA -> coincide(codigosMarca, columnas.codigoMarca(ordinal));
+                case FILTRO_PRECIO -> precioEnRango(columnas.precio(ordinal));
+                case FILTRO_CALIFICACION -> calificacionEnRango(columnas.calificacion(ordinal));
+                case FILTRO_TEXTO -> coincidenciasTexto.contiene(ordinal);
+                case FILTRO_ATRIBUTOS -> coincidenciasAtributos.contiene(ordinal);
+                default -> nombresDifusos != null
+                        ? nombresDifusos.contiene(ordinal) : indiceNombres.nombreContiene(ordinal, nombre);
+            };
+            if (!cumple) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Este método evalúa los mismos criterios sobre un producto que no está en las columnas (capa delta);
+    // sus textos se normalizan al evaluarlo, sin asignar memoria cuando son ASCII.
+    boolean cumple(Producto producto) {
+        if (!igualClave(producto.categoria(), categoria) || !igualClave(producto.marca(), marca)) {
+            return false;
+        }
+        if (!precioEnRango(producto.precio()) || !calificacionEnRango(producto.calificacion())) {
+            return false;
+        }
+        if (terminosTexto != null && !IndiceTextoCompleto.contieneAlguno(producto, terminosTexto)) {
+            return false;
+        }
+        for (FiltroAtributo filtro : filtrosAtributos) {
+            if (!filtro.cumple(ExtractorAtributos.valor(producto.especificaciones(), filtro.nombre()))) {
+                return false;
+            }
+        }
+        if (nombre == null) {
+            return true;
+        }
+        return terminosDifusos != null
+                ? DistanciaEdicion.coincidenTodos(producto.nombre(), terminosDifusos)
+                : ClaveBusqueda.contiene(producto.nombre(), nombre);
+    }
+
+    private static boolean coincide(boolean[] codigos, int codigo) {
+        return codigo != ColumnasCatalogo.SIN_VALOR && codigos[codigo];
+    }
+
+    private static boolean igualClave(String valor, String buscado) {
+        return buscado == null || ClaveBusqueda.igual(valor, buscado);
+    }
+
+    private boolean precioEnRango(double precio) {
+        return !(precio < precioMin || precio > precioMax);
+    }
+
+    private boolean calificacionEnRango(double calificacion) {
+        return !(calificacion < calificacionMin || calificacion > calificacionMax);
+    }
+}
@@ -0,0 +1,102 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.modelo.AcumuladorFacetas;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.Facetas;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.util.Set;
+
+// Conteos de facetas de un recorrido del snapshot. Las filas de la base se cuentan por código de diccionario
+// y tramo de precio en arreglos, sin decodificar cadenas; los conjuntos que resolvieron los mapas de bits se
+// cuentan con la cardinalidad de su intersección con los mapas de cada código, y los productos de la capa
+// delta por sus valores. Al construir, cada código se traduce a su cadena.
+final class ConteoFacetas {
+    private final ColumnasCatalogo columnas;
+    private final EstadisticasCatalogo estadisticas;
+    private final AcumuladorFacetas acumulador;
+    private final long[] porCategoria;
+    private final long[] porMarca;
+    private final long[] porTramoPrecio;
+
+    ConteoFacetas(Set<CampoFaceta> campos, ColumnasCatalogo columnas, EstadisticasCatalogo estadisticas) {
+        this.columnas = columnas;
+        this.estadisticas = estadisticas;
+        this.acumulador = new AcumuladorFacetas(campos);
+        this.porCategoria = campos.contains(CampoFaceta.CATEGORIA)
+                ? new long[columnas.diccionarioCategorias().tamanio()] : null;
+        this.porMarca = campos.contains(CampoFaceta.MARCA) ? new long[columnas.diccionarioMarcas().tamanio()] : null;
+        this.porTramoPrecio = campos.contains(CampoFaceta.PRECIO) ? new long[AcumuladorFacetas.cantidadTramos()] : null;
+    }
+
+    // Este método cuenta una fila de la base leyendo sus columnas.
+    void contar(int ordinal) {
+        if (porCategoria != null) {
+            sumar(porCategoria, columnas.codigoCategoria(ordinal));
+        }
+        if (porMarca != null) {
+            sumar(porMarca, columnas.codigoMarca(ordinal));
+        }
+        if (porTramoPrecio != null) {
+            sumar(porTramoPrecio, AcumuladorFacetas.tramoPrecio(columnas.precio(ordinal)));
+        }
+    }
+
+    // Este método cuenta un producto de la capa delta (reemplazo o agregado) por sus valores.
+    void contar(Producto producto) {
+        acumulador.contar(producto);
+    }
+
+    // Este método cuenta un conjunto de filas de la base (toda la base si es null) con la cardinalidad de su
+    // intersección con los mapas de cada código. Si el conjunto tiene menos filas que mapas por intersectar, es
+    // más barato leer sus columnas fila por fila.
+    void contar(MapaBits filas) {
+        if (filas != null && filas.cardinalidad() < mapasPorIntersectar()) {
+            for (int ordinal : filas.aArreglo()) {
+                contar(ordinal);
+            }
+            return;
+        }
+        if (porCategoria != null) {
+            estadisticas.contarPorCategoria(filas, porCategoria);
+        }
+        if (porMarca != null) {
+            estadisticas.contarPorMarca(filas, porMarca);
+        }
+        if (porTramoPrecio != null) {
+            estadisticas.contarPorTramoPrecio(filas, porTramoPrecio);
+        }
+    }
+
+    Facetas construir() {
+        if (porCategoria != null) {
+            for (int codigo = 0; codigo < porCategoria.length; codigo++) {
+                acumulador.sumarCategoria(columnas.diccionarioCategorias().valor(codigo), porCategoria[codigo]);
+            }
+        }
+        if (porMarca != null) {
+            for (int codigo = 0; codigo < porMarca.length; codigo++) {
+                acumulador.sumarMarca(columnas.diccionarioMarcas().valor(codigo), porMarca[codigo]);
+            }
+        }
+        if (porTramoPrecio != null) {
+            for (int tramo = 0; tramo < porTramoPrecio.length; tramo++) {
+                acumulador.sumarTramoPrecio(tramo, porTramoPrecio[tramo]);
+            }
+        }
+        return acumulador.construir();
+    }
+
+    private int mapasPorIntersectar() {
+        return (porCategoria == null ? 0 : porCategoria.length) + (porMarca == null ? 0 : porMarca.length)
+                + (porTramoPrecio == null ? 0 : porTramoPrecio.length);
+    }
+
+    // Los códigos sin valor (SIN_VALOR, SIN_TRAMO) son negativos y no se cuentan.
+    private static void sumar(long[] conteos, int codigo) {
+        if (codigo >= 0) {
+            conteos[codigo]++;
+        }
+    }
+}
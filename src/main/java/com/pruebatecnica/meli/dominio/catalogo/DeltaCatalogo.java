@@ -0,0 +1,116 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.IndiceIds;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Capa inmutable de cambios aplicados sobre un snapshot base sin reconstruirlo. Los productos de la base
+// que cambian conservan su ordinal (y su posición en el catálogo); los nuevos se agregan al final con
+// ordinales a partir del tamaño de la base. Cada lote de operaciones produce una capa nueva (copia en
+// escritura proporcional al tamaño de la capa), de modo que las peticiones en curso no ven cambios a medias.
+final class DeltaCatalogo {
+    static final DeltaCatalogo VACIO = new DeltaCatalogo(new BitSet(), Map.of(), List.of(), Map.of(), 0, 0);
+
+    private final BitSet modificados;
+    private final Map<Integer, Producto> reemplazos;
+    private final List<Producto> agregados;
+    private final Map<Long, Integer> posicionesAgregados;
+    private final int agregadosVigentes;
+    private final int operaciones;
+
+    private DeltaCatalogo(BitSet modificados, Map<Integer, Producto> reemplazos, List<Producto> agregados,
+                          Map<Long, Integer> posicionesAgregados, int agregadosVigentes, int operaciones) {
+        this.modificados = modificados;
+        this.reemplazos = reemplazos;
+        this.agregados = agregados;
+        this.posicionesAgregados = posicionesAgregados;
+        this.agregadosVigentes = agregadosVigentes;
+        this.operaciones = operaciones;
+    }
+
+    // Este método aplica un lote de operaciones y devuelve una capa nueva; la actual no se modifica.
+    DeltaCatalogo aplicar(List<OperacionDelta> lote, IndiceIds indiceBase) {
+        BitSet nuevosModificados = (BitSet) modificados.clone();
+        Map<Integer, Producto> nuevosReemplazos = new HashMap<>(reemplazos);
+        List<Producto> nuevosAgregados = new ArrayList<>(agregados);
+        Map<Long, Integer> nuevasPosiciones = new HashMap<>(posicionesAgregados);
+        int vigentes = agregadosVigentes;
+
+        for (OperacionDelta operacion : lote) {
+            boolean esUpsert = operacion.tipo() == OperacionDelta.Tipo.UPSERT;
+            int ordinalBase = indiceBase.buscar(operacion.idProducto());
+            if (ordinalBase != IndiceIds.NO_ENCONTRADO) {
+                nuevosModificados.set(ordinalBase);
+                if (esUpsert) {
+                    nuevosReemplazos.put(ordinalBase, operacion.producto());
+                } else {
+                    nuevosReemplazos.remove(ordinalBase);
+                }
+                continue;
+            }
+
+            Integer posicion = nuevasPosiciones.get(operacion.idProducto());
+            if (esUpsert && posicion != null) {
+                nuevosAgregados.set(posicion, operacion.producto());
+            } else if (esUpsert) {
+                nuevasPosiciones.put(operacion.idProducto(), nuevosAgregados.size());
+                nuevosAgregados.add(operacion.producto());
+                vigentes++;
+            } else if (posicion != null) {
+                nuevosAgregados.set(posicion, null);
+                nuevasPosiciones.remove(operacion.idProducto());
+                vigentes--;
+            }
+        }
+        return new DeltaCatalogo(nuevosModificados, nuevosReemplazos, nuevosAgregados, nuevasPosiciones,
+                vigentes, operaciones + lote.size());
+    }
+
+    boolean vacio() {
+        return operaciones == 0;
+    }
+
+    // Cantidad de operaciones acumuladas desde la última compactación.
+    int operaciones() {
+        return operaciones;
+    }
+
+    boolean modificado(int ordinalBase) {
+        return modificados.get(ordinalBase);
+    }
+
+    // Ordinales de la base modificados o eliminados, en orden ascendente.
+    int[] ordinalesModificados() {
+        return modificados.stream().toArray();
+    }
+
+    int cantidadModificados() {
+        return modificados.cardinality();
+    }
+
+    // Versión vigente de un producto modificado de la base, o null si fue eliminado.
+    Producto reemplazo(int ordinalBase) {
+        return reemplazos.get(ordinalBase);
+    }
+
+    // Posición del producto agregado con ese ID, o IndiceIds.NO_ENCONTRADO.
+    int posicionAgregado(long idProducto) {
+        Integer posicion = posicionesAgregados.get(idProducto);
+        return posicion == null ? IndiceIds.NO_ENCONTRADO : posicion;
+    }
+
+    List<Producto> agregados() {
+        return agregados;
+    }
+
+    // Diferencia de tamaño respecto de la base: altas vigentes menos bajas de productos de la base.
+    int variacionTamanio() {
+        int bajasBase = modificados.cardinality() - reemplazos.size();
+        return agregadosVigentes - bajasBase;
+    }
+}
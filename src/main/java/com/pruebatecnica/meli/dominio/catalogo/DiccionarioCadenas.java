@@ -0,0 +1,114 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Diccionario de cadenas de un campo del catálogo: cada valor distinto existe una sola vez y los productos
+// lo referencian por su código entero. Se llena durante la carga y se congela al publicar el snapshot;
+// desde entonces es de solo lectura y puede compartirse entre hilos.
+public final class DiccionarioCadenas {
+    public static final int SIN_VALOR = -1;
+
+    private static final String DICCIONARIO_CONGELADO = "El diccionario ya fue publicado y no admite valores nuevos";
+    private static final int[] SIN_CODIGOS = new int[0];
+    // Tamaño aproximado de una instancia de String y de su byte[] con compressed oops, sin contar el contenido.
+    private static final int SOBRECARGA_CADENA = 40;
+
+    private final Map<String, Integer> codigos = new HashMap<>();
+    private final List<String> valores = new ArrayList<>();
+    private Map<String, int[]> codigosPorClave;
+    private long referencias;
+    private long bytesAhorrados;
+
+    // Este método devuelve el código del valor, registrándolo si es la primera vez que aparece.
+    public int codificar(String valor) {
+        if (valor == null) {
+            return SIN_VALOR;
+        }
+        if (codigosPorClave != null) {
+            throw new IllegalStateException(DICCIONARIO_CONGELADO);
+        }
+        referencias++;
+        Integer existente = codigos.get(valor);
+        if (existente != null) {
+            bytesAhorrados += tamanioEstimado(valor);
+            return existente;
+        }
+        int codigo = valores.size();
+        valores.add(valor);
+        codigos.put(valor, codigo);
+        return codigo;
+    }
+
+    // Este método devuelve la instancia compartida del valor, para que los productos no dupliquen cadenas.
+    public String canonica(String valor) {
+        int codigo = codificar(valor);
+        return codigo == SIN_VALOR ? null : valores.get(codigo);
+    }
+
+    public String valor(int codigo) {
+        return codigo == SIN_VALOR ? null : valores.get(codigo);
+    }
+
+    public int tamanio() {
+        return valores.size();
+    }
+
+    public List<String> valores() {
+        return List.copyOf(valores);
+    }
+
+    // Este método marca los códigos cuyo valor coincide sin distinguir mayúsculas ni tildes; la clave de
+    // búsqueda de cada valor se calcula una sola vez al congelar el diccionario y no en cada petición.
+    public boolean[] codigosIgualesA(String valor) {
+        boolean[] coincidencias = new boolean[valores.size()];
+        for (int codigo : codigosPorClave().getOrDefault(ClaveBusqueda.normalizar(valor), SIN_CODIGOS)) {
+            coincidencias[codigo] = true;
+        }
+        return coincidencias;
+    }
+
+    public EstadisticasDiccionario estadisticas(String campo) {
+        return new EstadisticasDiccionario(campo, valores.size(), referencias, bytesAhorrados);
+    }
+
+    // Este método cierra el diccionario a valores nuevos y precalcula el índice por clave de búsqueda.
+    void congelar() {
+        if (codigosPorClave != null) {
+            return;
+        }
+        Map<String, int[]> indice = new HashMap<>();
+        for (int codigo = 0; codigo < valores.size(); codigo++) {
+            indice.merge(ClaveBusqueda.normalizar(valores.get(codigo)), new int[]{codigo},
+                    DiccionarioCadenas::concatenar);
+        }
+        codigosPorClave = indice;
+    }
+
+    private Map<String, int[]> codigosPorClave() {
+        if (codigosPorClave == null) {
+            congelar();
+        }
+        return codigosPorClave;
+    }
+
+    private static int[] concatenar(int[] previos, int[] nuevos) {
+        int[] resultado = new int[previos.length + nuevos.length];
+        System.arraycopy(previos, 0, resultado, 0, previos.length);
+        System.arraycopy(nuevos, 0, resultado, previos.length, nuevos.length);
+        return resultado;
+    }
+
+    private static long tamanioEstimado(String valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            if (valor.charAt(i) > 0xFF) {
+                return SOBRECARGA_CADENA + 2L * valor.length();
+            }
+        }
+        return SOBRECARGA_CADENA + valor.length();
+    }
+}
@@ -0,0 +1,214 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.IndiceTrigramas;
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.texto.AnalizadorTexto;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Ejecuta el plan de PlanificadorConsultas sobre un snapshot: recorre una sola vez los candidatos del acceso
+// elegido y la capa delta, en orden de catálogo, y entrega cada ordinal que cumple la consulta.
+final class EjecutorConsultas {
+    private final CatalogoSnapshot snapshot;
+    private final DeltaCatalogo delta;
+
+    EjecutorConsultas(CatalogoSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.delta = snapshot.delta();
+    }
+
+    // Este método devuelve el total de coincidencias recorridas; desdeOrdinal salta las anteriores que no
+    // hace falta contar.
+    int recorrer(ProductoCriteriosBusqueda criterios, int desdeOrdinal, Coincidencias coincidencias) {
+        Consulta consulta = preparar(criterios);
+        PlanConsulta plan = planificar(criterios, consulta);
+        return recorrer(criterios, consulta, plan, compilar(criterios, consulta, plan), desdeOrdinal, coincidencias);
+    }
+
+    int recorrer(ProductoCriteriosBusqueda criterios, Consulta consulta, PlanConsulta plan,
+                 ConsultaCompilada compilada, int desdeOrdinal, Coincidencias coincidencias) {
+        boolean conDelta = !delta.vacio();
+        int[] modificados = conDelta ? delta.ordinalesModificados() : new int[0];
+
+        int total;
+        if (plan.acceso() == AccesoConsulta.INDICE_MAPAS_BITS && compilada.sinFiltrosPendientes()) {
+            total = registrarResueltosPorMapas(consulta.candidatosMapas(), modificados, compilada, coincidencias);
+        } else {
+            int[] candidatos = candidatos(criterios, consulta, plan, modificados);
+            total = recorrerBase(candidatos, desdeOrdinal, conDelta, compilada, coincidencias);
+        }
+
+        int tamanioBase = snapshot.tamanioBase();
+        List<Producto> agregados = delta.agregados();
+        int primerAgregado = Math.max(0, desdeOrdinal - tamanioBase);
+        for (int posicion = primerAgregado; posicion < agregados.size() && !coincidencias.completa(); posicion++) {
+            Producto agregado = agregados.get(posicion);
+            if (agregado != null && compilada.cumple(agregado)) {
+                coincidencias.registrar(total++, tamanioBase + posicion);
+            }
+        }
+        return total;
+    }
+
+    // Ordinales de la base que el acceso elegido entrega como candidatos, con los modificados por la capa delta
+    // incluidos, en orden de catálogo; null si el acceso es el recorrido completo.
+    int[] candidatos(ProductoCriteriosBusqueda criterios, Consulta consulta, PlanConsulta plan, int[] modificados) {
+        EstadisticasCatalogo estadisticas = snapshot.estadisticas();
+        return switch (plan.acceso()) {
+            case INDICE_MAPAS_BITS -> consulta.candidatosMapas().o(MapaBits.desde(modificados)).aArreglo();
+            case INDICE_PRECIO -> unir(estadisticas.ordinalesConPrecioEntre(
+                    criterios.precioMin().orElse(Double.NEGATIVE_INFINITY),
+                    criterios.precioMax().orElse(Double.POSITIVE_INFINITY)), modificados);
+            case INDICE_PRECIO_CALIFICACION -> unir(estadisticas.ordinalesConPrecioYCalificacionEntre(
+                    criterios.precioMin().orElse(Double.NEGATIVE_INFINITY),
+                    criterios.precioMax().orElse(Double.POSITIVE_INFINITY),
+                    criterios.calificacionMin().orElse(Double.NEGATIVE_INFINITY),
+                    criterios.calificacionMax().orElse(Double.POSITIVE_INFINITY)), modificados);
+            case INDICE_NOMBRE -> unir(IndiceTrigramas.intersectar(consulta.listasNombre()), modificados);
+            case INDICE_TEXTO -> consulta.coincidenciasTexto().o(MapaBits.desde(modificados)).aArreglo();
+            default -> null;
+        };
+    }
+
+    // Este método evalúa los candidatos de la base (todos si es null) y se detiene si las coincidencias se completan.
+    private int recorrerBase(int[] candidatos, int desdeOrdinal, boolean conDelta, ConsultaCompilada compilada,
+                             Coincidencias coincidencias) {
+        int total = 0;
+        int cantidad = candidatos == null ? snapshot.columnas().tamanio() : candidatos.length;
+        int inicio = candidatos == null ? Math.min(desdeOrdinal, cantidad) : primeraPosicion(candidatos, desdeOrdinal);
+        for (int i = inicio; i < cantidad; i++) {
+            int ordinal = candidatos == null ? i : candidatos[i];
+            if (cumpleEnBase(ordinal, conDelta, compilada)) {
+                coincidencias.registrar(total++, ordinal);
+                if (coincidencias.completa()) {
+                    break;
+                }
+            }
+        }
+        return total;
+    }
+
+    // Los ordinales tocados por la capa delta se evalúan sobre su versión vigente.
+    boolean cumpleEnBase(int ordinal, boolean conDelta, ConsultaCompilada compilada) {
+        if (conDelta && delta.modificado(ordinal)) {
+            Producto vigente = delta.reemplazo(ordinal);
+            return vigente != null && compilada.cumple(vigente);
+        }
+        return compilada.cumple(ordinal);
+    }
+
+    // Con los mapas de bits resolviendo todos los filtros, el total es la cardinalidad del mapa; los modificados
+    // por la capa delta se quitan y vuelven a entrar solo si su versión vigente cumple la consulta.
+    private int registrarResueltosPorMapas(MapaBits candidatos, int[] modificados, ConsultaCompilada compilada,
+                                           Coincidencias coincidencias) {
+        MapaBits coincidentes = candidatos;
+        if (modificados.length > 0) {
+            int[] vigentes = new int[modificados.length];
+            int cumplen = 0;
+            for (int ordinal : modificados) {
+                Producto vigente = delta.reemplazo(ordinal);
+                if (vigente != null && compilada.cumple(vigente)) {
+                    vigentes[cumplen++] = ordinal;
+                }
+            }
+            coincidentes = candidatos.yNo(MapaBits.desde(modificados))
+                    .o(MapaBits.desde(Arrays.copyOf(vigentes, cumplen)));
+        }
+        coincidencias.registrarTodas(coincidentes);
+        return coincidentes.cardinalidad();
+    }
+
+    // Este método resuelve una sola vez los códigos de diccionario y los mapas de bits de la consulta (categoría,
+    // marca, nombre tolerante a errores, texto y atributos, ya intersectados) y las listas de trigramas del nombre.
+    Consulta preparar(ProductoCriteriosBusqueda criterios) {
+        ColumnasCatalogo columnas = snapshot.columnas();
+        EstadisticasCatalogo estadisticas = snapshot.estadisticas();
+        boolean[] codigosCategoria = criterios.categoria().map(columnas::codigosCategoria).orElse(null);
+        boolean[] codigosMarca = criterios.marca().map(columnas::codigosMarca).orElse(null);
+        MapaBits candidatosMapas = null;
+        if (codigosCategoria != null) {
+            candidatosMapas = estadisticas.conCategoria(codigosCategoria);
+        }
+        if (codigosMarca != null) {
+            MapaBits porMarca = estadisticas.conMarca(codigosMarca);
+            candidatosMapas = candidatosMapas == null ? porMarca : candidatosMapas.y(porMarca);
+        }
+        MapaBits coincidenciasTexto = criterios.texto()
+                .map(texto -> snapshot.indiceTexto().coincidencias(AnalizadorTexto.terminosConsulta(texto)))
+                .orElse(null);
+        if (coincidenciasTexto != null) {
+            candidatosMapas = candidatosMapas == null ? coincidenciasTexto : candidatosMapas.y(coincidenciasTexto);
+        }
+        MapaBits coincidenciasAtributos = criterios.atributos().isEmpty()
+                ? null : snapshot.indiceAtributos().coincidencias(criterios.atributos());
+        if (coincidenciasAtributos != null) {
+            candidatosMapas = candidatosMapas == null
+                    ? coincidenciasAtributos : candidatosMapas.y(coincidenciasAtributos);
+        }
+        if (criterios.nombreDifuso() && criterios.nombre().isPresent()) {
+            MapaBits nombresDifusos = snapshot.indiceTerminos()
+                    .coincidencias(ClaveBusqueda.normalizar(criterios.nombre().get()));
+            candidatosMapas = candidatosMapas == null ? nombresDifusos : candidatosMapas.y(nombresDifusos);
+            return new Consulta(codigosCategoria, codigosMarca, nombresDifusos, coincidenciasTexto,
+                    coincidenciasAtributos, candidatosMapas, null);
+        }
+        int[][] listasNombre = criterios.nombre()
+                .map(nombre -> snapshot.indiceNombres().listasPara(ClaveBusqueda.normalizar(nombre)))
+                .orElse(null);
+        return new Consulta(codigosCategoria, codigosMarca, null, coincidenciasTexto, coincidenciasAtributos,
+                candidatosMapas, listasNombre);
+    }
+
+    ConsultaCompilada compilar(ProductoCriteriosBusqueda criterios, Consulta consulta, PlanConsulta plan) {
+        return ConsultaCompilada.compilar(snapshot.columnas(), snapshot.indiceNombres(), criterios,
+                consulta.codigosCategoria(), consulta.codigosMarca(), consulta.nombresDifusos(),
+                consulta.coincidenciasTexto(), consulta.coincidenciasAtributos(), plan);
+    }
+
+    PlanConsulta planificar(ProductoCriteriosBusqueda criterios, Consulta consulta) {
+        return PlanificadorConsultas.planificar(criterios, consulta.codigosCategoria(), consulta.codigosMarca(),
+                consulta.nombresDifusos(), consulta.coincidenciasTexto(), consulta.coincidenciasAtributos(),
+                consulta.candidatosMapas(), consulta.listasNombre(), snapshot.estadisticas(),
+                delta.cantidadModificados(), delta.agregados().size());
+    }
+
+    static boolean sinFiltros(ProductoCriteriosBusqueda criterios) {
+        return criterios.nombre().isEmpty() && criterios.categoria().isEmpty() && criterios.marca().isEmpty()
+                && criterios.precioMin().isEmpty() && criterios.precioMax().isEmpty()
+                && criterios.calificacionMin().isEmpty() && criterios.calificacionMax().isEmpty()
+                && criterios.texto().isEmpty() && criterios.atributos().isEmpty();
+    }
+
+    private static int primeraPosicion(int[] ordenados, int ordinal) {
+        int posicion = Arrays.binarySearch(ordenados, ordinal);
+        return posicion >= 0 ? posicion : -posicion - 1;
+    }
+
+    // Este método une dos listas ordenadas de ordinales sin duplicados.
+    private static int[] unir(int[] primera, int[] segunda) {
+        if (segunda.length == 0) {
+            return primera;
+        }
+        int[] resultado = new int[primera.length + segunda.length];
+        int i = 0;
+        int j = 0;
+        int llenos = 0;
+        while (i < primera.length || j < segunda.length) {
+            int siguiente;
+            if (j == segunda.length || (i < primera.length && primera[i] < segunda[j])) {
+                siguiente = primera[i++];
+            } else if (i == primera.length || segunda[j] < primera[i]) {
+                siguiente = segunda[j++];
+            } else {
+                siguiente = primera[i++];
+                j++;
+            }
+            resultado[llenos++] = siguiente;
+        }
+        return Arrays.copyOf(resultado, llenos);
+    }
+}
@@ -0,0 +1,257 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.IndiceOrdenado;
+import com.pruebatecnica.meli.dominio.indice.IndiceRejilla;
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.modelo.AcumuladorFacetas;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+// Estadísticas por campo que el planificador usa para estimar selectividad y que sirven además de índice
+// de acceso: un mapa de bits comprimido por código de categoría y por código de marca, y los índices
+// ordenados de precio y calificación, cuyas permutaciones dan además el orden del catálogo por esos campos, y
+// la rejilla precio × calificación que resuelve los rangos combinados de los dos campos.
+// Los mapas por tramo de precio permiten contar las facetas de precio por intersección, como las de categoría
+// y marca.
+// Se calculan una vez por base del catálogo; los snapshots con capa delta comparten las de su base.
+final class EstadisticasCatalogo {
+    private final int tamanio;
+    private final MapaBits[] porCategoria;
+    private final MapaBits[] porMarca;
+    private final MapaBits[] porTramoPrecio;
+    private final IndiceOrdenado precios;
+    private final IndiceOrdenado calificaciones;
+    private final IndiceRejilla precioCalificacion;
+    private volatile int[] permutacionNombres;
+
+    private EstadisticasCatalogo(int tamanio, MapaBits[] porCategoria, MapaBits[] porMarca, MapaBits[] porTramoPrecio,
+                                 IndiceOrdenado precios, IndiceOrdenado calificaciones,
+                                 IndiceRejilla precioCalificacion) {
+        this.tamanio = tamanio;
+        this.porCategoria = porCategoria;
+        this.porMarca = porMarca;
+        this.porTramoPrecio = porTramoPrecio;
+        this.precios = precios;
+        this.calificaciones = calificaciones;
+        this.precioCalificacion = precioCalificacion;
+    }
+
+    static EstadisticasCatalogo desde(ColumnasCatalogo columnas) {
+        IndiceOrdenado precios = IndiceOrdenado.desde(columnas.tamanio(), columnas::precio);
+        IndiceOrdenado calificaciones = IndiceOrdenado.desde(columnas.tamanio(), columnas::calificacion);
+        return new EstadisticasCatalogo(columnas.tamanio(),
+                mapasPorCodigo(columnas.tamanio(), columnas.diccionarioCategorias().tamanio(), columnas::codigoCategoria),
+                mapasPorCodigo(columnas.tamanio(), columnas.diccionarioMarcas().tamanio(), columnas::codigoMarca),
+                mapasPorCodigo(columnas.tamanio(), AcumuladorFacetas.cantidadTramos(), ordinal -> {
+                    int tramo = AcumuladorFacetas.tramoPrecio(columnas.precio(ordinal));
+                    return tramo == AcumuladorFacetas.SIN_TRAMO ? ColumnasCatalogo.SIN_VALOR : tramo;
+                }),
+                precios, calificaciones, IndiceRejilla.desde(precios, calificaciones));
+    }
+
+    int tamanio() {
+        return tamanio;
+    }
+
+    // Cantidad de productos cuyo código de categoría está marcado.
+    int productosConCategoria(boolean[] codigos) {
+        return cardinalidad(porCategoria, codigos);
+    }
+
+    // Cantidad de productos cuyo código de marca está marcado.
+    int productosConMarca(boolean[] codigos) {
+        return cardinalidad(porMarca, codigos);
+    }
+
+    // Ordinales de la base con alguna de las categorías marcadas.
+    MapaBits conCategoria(boolean[] codigos) {
+        return union(porCategoria, codigos);
+    }
+
+    // Ordinales de la base con alguna de las marcas marcadas.
+    MapaBits conMarca(boolean[] codigos) {
+        return union(porMarca, codigos);
+    }
+
+    // Este método suma en destino, por código de categoría, cuántos ordinales del conjunto tienen esa categoría:
+    // la cardinalidad de la intersección con el mapa de cada código, o la del mapa si el conjunto es null
+    // (toda la base).
+    void contarPorCategoria(MapaBits coincidentes, long[] destino) {
+        contarInterseccion(porCategoria, coincidentes, destino);
+    }
+
+    // Igual que contarPorCategoria, por código de marca.
+    void contarPorMarca(MapaBits coincidentes, long[] destino) {
+        contarInterseccion(porMarca, coincidentes, destino);
+    }
+
+    // Igual que contarPorCategoria, por tramo de precio (ver AcumuladorFacetas).
+    void contarPorTramoPrecio(MapaBits coincidentes, long[] destino) {
+        contarInterseccion(porTramoPrecio, coincidentes, destino);
+    }
+
+    // Cantidad exacta de productos con precio en [desde, hasta], por dos búsquedas binarias.
+    int productosConPrecioEntre(double desde, double hasta) {
+        return precios.contarEntre(desde, hasta);
+    }
+
+    // Ordinales de la base con precio en [desde, hasta], en orden de catálogo.
+    int[] ordinalesConPrecioEntre(double desde, double hasta) {
+        return precios.ordinalesEntre(desde, hasta);
+    }
+
+    // Cantidad exacta de productos con calificación en [desde, hasta], por dos búsquedas binarias.
+    int productosConCalificacionEntre(double desde, double hasta) {
+        return calificaciones.contarEntre(desde, hasta);
+    }
+
+    // Cantidad exacta de productos con precio y calificación dentro de la caja, recorriendo solo las celdas de la
+    // rejilla que tocan el tramo de precio.
+    int productosConPrecioYCalificacionEntre(double precioDesde, double precioHasta, double calificacionDesde,
+                                             double calificacionHasta) {
+        return precioCalificacion.contarEntre(precioDesde, precioHasta, calificacionDesde, calificacionHasta);
+    }
+
+    // Ordinales de la base con precio y calificación dentro de la caja, en orden de catálogo.
+    int[] ordinalesConPrecioYCalificacionEntre(double precioDesde, double precioHasta, double calificacionDesde,
+                                               double calificacionHasta) {
+        return precioCalificacion.ordinalesEntre(precioDesde, precioHasta, calificacionDesde, calificacionHasta);
+    }
+
+    // Filas que una consulta de caja recorre una por una: las de las dos celdas del borde del tramo de precio.
+    int filasBordeRejilla() {
+        return Math.min(tamanio, 2 * precioCalificacion.tamanioCelda());
+    }
+
+    int celdasRejilla() {
+        return precioCalificacion.celdas();
+    }
+
+    // Este método devuelve la permutación de la base ordenada en forma ascendente por el campo: posición
+    // a ordinal. La de nombres requiere decodificar y comparar cadenas, así que se construye recién la
+    // primera vez que se pide y queda asociada a la base.
+    IntUnaryOperator permutacion(Ordenamiento.Campo campo, List<Producto> productos) {
+        return switch (campo) {
+            case PRECIO -> precios::ordinal;
+            case CALIFICACION -> calificaciones::ordinal;
+            case NOMBRE -> {
+                int[] nombres = permutacionNombres(productos);
+                yield posicion -> nombres[posicion];
+            }
+        };
+    }
+
+    // Bytes ocupados por los mapas de bits de categorías, marcas y tramos de precio, por los índices ordenados y
+    // por la rejilla.
+    long bytesIndices() {
+        long bytes = precios.bytesOcupados() + calificaciones.bytesOcupados() + precioCalificacion.bytesOcupados();
+        for (MapaBits mapa : porCategoria) {
+            bytes += mapa.bytesOcupados();
+        }
+        for (MapaBits mapa : porMarca) {
+            bytes += mapa.bytesOcupados();
+        }
+        for (MapaBits mapa : porTramoPrecio) {
+            bytes += mapa.bytesOcupados();
+        }
+        return bytes;
+    }
+
+    // Este método ordena solo los nombres distintos (los que ORDEN_NOMBRES considera iguales comparten rango) y
+    // reparte los ordinales por rango con un conteo previo, estable como el orden de catálogo, sin encajonarlos.
+    private int[] permutacionNombres(List<Producto> productos) {
+        int[] permutacion = permutacionNombres;
+        if (permutacion == null) {
+            Map<String, Integer> rangos = new HashMap<>();
+            for (int ordinal = 0; ordinal < tamanio; ordinal++) {
+                rangos.put(productos.get(ordinal).nombre(), 0);
+            }
+            String[] distintos = rangos.keySet().toArray(new String[0]);
+            Arrays.sort(distintos, Ordenamiento.ORDEN_NOMBRES);
+            int rango = 0;
+            for (int i = 0; i < distintos.length; i++) {
+                if (i > 0 && Ordenamiento.ORDEN_NOMBRES.compare(distintos[i - 1], distintos[i]) != 0) {
+                    rango++;
+                }
+                rangos.put(distintos[i], rango);
+            }
+
+            int[] rangoDe = new int[tamanio];
+            int[] inicios = new int[rango + 2];
+            for (int ordinal = 0; ordinal < tamanio; ordinal++) {
+                rangoDe[ordinal] = rangos.get(productos.get(ordinal).nombre());
+                inicios[rangoDe[ordinal] + 1]++;
+            }
+            for (int i = 1; i < inicios.length; i++) {
+                inicios[i] += inicios[i - 1];
+            }
+            permutacion = new int[tamanio];
+            for (int ordinal = 0; ordinal < tamanio; ordinal++) {
+                permutacion[inicios[rangoDe[ordinal]]++] = ordinal;
+            }
+            permutacionNombres = permutacion;
+        }
+        return permutacion;
+    }
+
+    // Este método agrupa los ordinales por código con un conteo previo y comprime cada grupo en un mapa de bits.
+    private static MapaBits[] mapasPorCodigo(int tamanio, int codigos, IntUnaryOperator codigoDe) {
+        int[] conteos = new int[codigos];
+        for (int ordinal = 0; ordinal < tamanio; ordinal++) {
+            int codigo = codigoDe.applyAsInt(ordinal);
+            if (codigo != ColumnasCatalogo.SIN_VALOR) {
+                conteos[codigo]++;
+            }
+        }
+        int[][] ordinales = new int[codigos][];
+        for (int codigo = 0; codigo < codigos; codigo++) {
+            ordinales[codigo] = new int[conteos[codigo]];
+        }
+        int[] llenos = new int[codigos];
+        for (int ordinal = 0; ordinal < tamanio; ordinal++) {
+            int codigo = codigoDe.applyAsInt(ordinal);
+            if (codigo != ColumnasCatalogo.SIN_VALOR) {
+                ordinales[codigo][llenos[codigo]++] = ordinal;
+            }
+        }
+        MapaBits[] mapas = new MapaBits[codigos];
+        for (int codigo = 0; codigo < codigos; codigo++) {
+            mapas[codigo] = MapaBits.desde(ordinales[codigo]);
+            ordinales[codigo] = null;
+        }
+        return mapas;
+    }
+
+    private static int cardinalidad(MapaBits[] mapas, boolean[] codigos) {
+        int total = 0;
+        for (int codigo = 0; codigo < codigos.length; codigo++) {
+            if (codigos[codigo]) {
+                total += mapas[codigo].cardinalidad();
+            }
+        }
+        return total;
+    }
+
+    private static void contarInterseccion(MapaBits[] mapas, MapaBits coincidentes, long[] destino) {
+        for (int codigo = 0; codigo < mapas.length; codigo++) {
+            destino[codigo] += coincidentes == null
+                    ? mapas[codigo].cardinalidad() : mapas[codigo].cardinalidadInterseccion(coincidentes);
+        }
+    }
+
+    private static MapaBits union(MapaBits[] mapas, boolean[] codigos) {
+        MapaBits resultado = MapaBits.VACIO;
+        for (int codigo = 0; codigo < codigos.length; codigo++) {
+            if (codigos[codigo]) {
+                resultado = resultado.o(mapas[codigo]);
+            }
+        }
+        return resultado;
+    }
+}
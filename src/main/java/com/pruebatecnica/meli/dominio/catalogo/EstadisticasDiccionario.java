@@ -0,0 +1,4 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+// Tamaño de un diccionario de cadenas y memoria estimada que se evitó al compartir los valores repetidos.
+public record EstadisticasDiccionario(String campo, int valoresDistintos, long referencias, long bytesAhorrados) {}
@@ -0,0 +1,5 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+// Estimación de un filtro dentro del plan: fracción de productos que lo cumplen (null si no hay
+// estadísticas), costo relativo por fila evaluada y si lo resuelve el acceso por índice.
+public record EstimacionFiltro(String campo, Double selectividad, double costoPorFila, boolean resueltoPorIndice) {}
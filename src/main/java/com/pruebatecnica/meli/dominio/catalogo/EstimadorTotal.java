@@ -0,0 +1,85 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+
+// Estima el total de coincidencias para incluirTotal=aproximado sin recorrerlas todas: exacto si los índices
+// resuelven todos los filtros; si no, una muestra sistemática de los candidatos con un intervalo de confianza
+// del 95 % (Agresti-Coull, con corrección por población finita).
+final class EstimadorTotal {
+    // Candidatos evaluados por estimación y valor z del intervalo del 95 %.
+    private static final int TAMANIO_MUESTRA = 1024;
+    private static final double Z_95 = 1.96;
+
+    private final CatalogoSnapshot snapshot;
+    private final EjecutorConsultas ejecutor;
+
+    EstimadorTotal(CatalogoSnapshot snapshot, EjecutorConsultas ejecutor) {
+        this.snapshot = snapshot;
+        this.ejecutor = ejecutor;
+    }
+
+    // Este método estima el total; vistas es una cota inferior ya conocida (las coincidencias de la página).
+    TotalCoincidencias estimar(ProductoCriteriosBusqueda criterios, int vistas) {
+        if (EjecutorConsultas.sinFiltros(criterios)) {
+            return TotalCoincidencias.exacto(snapshot.tamanio());
+        }
+        Consulta consulta = ejecutor.preparar(criterios);
+        PlanConsulta plan = ejecutor.planificar(criterios, consulta);
+        ConsultaCompilada compilada = ejecutor.compilar(criterios, consulta, plan);
+        DeltaCatalogo delta = snapshot.delta();
+        boolean conDelta = !delta.vacio();
+        if (!conDelta && compilada.sinFiltrosPendientes()) {
+            TotalCoincidencias resuelto = resueltoPorIndice(criterios, consulta, plan);
+            if (resuelto != null) {
+                return resuelto;
+            }
+        }
+
+        int[] candidatos = ejecutor.candidatos(criterios, consulta, plan,
+                conDelta ? delta.ordinalesModificados() : new int[0]);
+        int poblacion = candidatos == null ? snapshot.columnas().tamanio() : candidatos.length;
+        int muestra = Math.min(poblacion, TAMANIO_MUESTRA);
+        int aciertos = 0;
+        for (int i = 0; i < muestra; i++) {
+            int posicion = (int) ((long) i * poblacion / muestra);
+            if (ejecutor.cumpleEnBase(candidatos == null ? posicion : candidatos[posicion], conDelta, compilada)) {
+                aciertos++;
+            }
+        }
+        long agregados = delta.agregados().stream()
+                .filter(agregado -> agregado != null && compilada.cumple(agregado))
+                .count();
+        if (muestra == poblacion) {
+            return TotalCoincidencias.exacto(aciertos + agregados);
+        }
+
+        double z2 = Z_95 * Z_95;
+        double proporcion = (aciertos + z2 / 2) / (muestra + z2);
+        double correccion = Math.sqrt((double) (poblacion - muestra) / (poblacion - 1));
+        long margen = (long) Math.ceil(Z_95 * poblacion * Math.sqrt(proporcion * (1 - proporcion) / (muestra + z2))
+                * correccion);
+        long estimado = Math.round((double) aciertos * poblacion / muestra) + agregados;
+        return new TotalCoincidencias(ModoTotal.APROXIMADO, Math.max(estimado, vistas), margen);
+    }
+
+    // Este método devuelve la cardinalidad del mapa de bits, del tramo de precios o de la caja de la rejilla
+    // cuando el acceso elegido resuelve toda la consulta; null en otro caso.
+    private TotalCoincidencias resueltoPorIndice(ProductoCriteriosBusqueda criterios, Consulta consulta,
+                                                 PlanConsulta plan) {
+        EstadisticasCatalogo estadisticas = snapshot.estadisticas();
+        return switch (plan.acceso()) {
+            case INDICE_MAPAS_BITS -> TotalCoincidencias.exacto(consulta.candidatosMapas().cardinalidad());
+            case INDICE_PRECIO -> TotalCoincidencias.exacto(estadisticas.productosConPrecioEntre(
+                    criterios.precioMin().orElse(Double.NEGATIVE_INFINITY),
+                    criterios.precioMax().orElse(Double.POSITIVE_INFINITY)));
+            case INDICE_PRECIO_CALIFICACION -> TotalCoincidencias.exacto(
+                    estadisticas.productosConPrecioYCalificacionEntre(
+                            criterios.precioMin().orElse(Double.NEGATIVE_INFINITY),
+                            criterios.precioMax().orElse(Double.POSITIVE_INFINITY),
+                            criterios.calificacionMin().orElse(Double.NEGATIVE_INFINITY),
+                            criterios.calificacionMax().orElse(Double.POSITIVE_INFINITY)));
+            default -> null;
+        };
+    }
+}
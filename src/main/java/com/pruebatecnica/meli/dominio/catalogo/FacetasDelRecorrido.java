@@ -0,0 +1,42 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+
+// Cuenta las facetas de cada coincidencia antes de entregarla al destino; nunca se completa porque las facetas
+// abarcan todas las coincidencias. Los modificados por la capa delta se cuentan sobre su versión vigente.
+final class FacetasDelRecorrido implements Coincidencias {
+    private final CatalogoSnapshot snapshot;
+    private final ConteoFacetas facetas;
+    private final Coincidencias destino;
+
+    FacetasDelRecorrido(CatalogoSnapshot snapshot, ConteoFacetas facetas, Coincidencias destino) {
+        this.snapshot = snapshot;
+        this.facetas = facetas;
+        this.destino = destino;
+    }
+
+    @Override
+    public void registrar(int numero, int ordinal) {
+        if (snapshot.vigenteEnBase(ordinal)) {
+            facetas.contar(ordinal);
+        } else {
+            facetas.contar(snapshot.producto(ordinal));
+        }
+        destino.registrar(numero, ordinal);
+    }
+
+    @Override
+    public void registrarTodas(MapaBits coincidentes) {
+        DeltaCatalogo delta = snapshot.delta();
+        if (delta.vacio()) {
+            facetas.contar(coincidentes);
+        } else {
+            MapaBits modificados = MapaBits.desde(delta.ordinalesModificados());
+            facetas.contar(coincidentes.yNo(modificados));
+            for (int ordinal : coincidentes.y(modificados).aArreglo()) {
+                facetas.contar(snapshot.producto(ordinal));
+            }
+        }
+        destino.registrarTodas(coincidentes);
+    }
+}
@@ -0,0 +1,36 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+// Índice de una base que se construye la primera vez que una consulta lo necesita y no al cargarla: construirlo
+// exige decodificar todos los productos, lo que en una base mapeada en memoria anularía el arranque sin parseo.
+// Los snapshots que aplican deltas sobre la misma base comparten la instancia, así que se construye una sola vez.
+final class IndiceDiferido<T> {
+    private final Supplier<T> construccion;
+    private volatile T indice;
+
+    IndiceDiferido(Supplier<T> construccion) {
+        this.construccion = construccion;
+    }
+
+    T obtener() {
+        T actual = indice;
+        if (actual == null) {
+            synchronized (this) {
+                actual = indice;
+                if (actual == null) {
+                    actual = construccion.get();
+                    indice = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    // Este método mide el índice solo si ya está construido (cero si no), sin forzar su construcción.
+    long medirSiConstruido(ToLongFunction<T> medida) {
+        T actual = indice;
+        return actual == null ? 0L : medida.applyAsLong(actual);
+    }
+}
@@ -0,0 +1,12 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public record MetadatosCatalogo(
+        long version,
+        Instant cargadoEn,
+        Duration duracionCarga,
+        int totalProductos,
+        int registrosInvalidos
+) {}
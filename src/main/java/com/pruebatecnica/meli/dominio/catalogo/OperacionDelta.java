@@ -0,0 +1,20 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+// Cambio incremental sobre el catálogo identificado por idProducto: alta o reemplazo (upsert) o baja.
+public record OperacionDelta(Tipo tipo, long idProducto, Producto producto) {
+
+    public enum Tipo {
+        UPSERT,
+        ELIMINAR
+    }
+
+    public static OperacionDelta upsert(Producto producto) {
+        return new OperacionDelta(Tipo.UPSERT, producto.idProducto(), producto);
+    }
+
+    public static OperacionDelta eliminar(long idProducto) {
+        return new OperacionDelta(Tipo.ELIMINAR, idProducto, null);
+    }
+}
@@ -0,0 +1,45 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+
+// Guarda los ordinales de las coincidencias numeradas en [desde, desde + capacidad) con ordinal desde
+// ordinalMinimo (posteriores al cursor); puede detener el recorrido al completar la capacidad.
+final class PaginaCatalogo implements Coincidencias {
+    private final int[] ordinales;
+    private final int desde;
+    private final int ordinalMinimo;
+    private final int capacidad;
+    private final boolean detenerAlCompletar;
+    private int guardadas;
+
+    PaginaCatalogo(int[] ordinales, int desde, int ordinalMinimo, int capacidad, boolean detenerAlCompletar) {
+        this.ordinales = ordinales;
+        this.desde = desde;
+        this.ordinalMinimo = ordinalMinimo;
+        this.capacidad = capacidad;
+        this.detenerAlCompletar = detenerAlCompletar;
+    }
+
+    @Override
+    public void registrar(int numero, int ordinal) {
+        if (numero >= desde && ordinal >= ordinalMinimo && guardadas < capacidad) {
+            ordinales[guardadas++] = ordinal;
+        }
+    }
+
+    // Este método guarda en bloque la porción de la página que cae dentro del conjunto.
+    @Override
+    public void registrarTodas(MapaBits coincidentes) {
+        int anteriores = ordinalMinimo == 0 ? 0 : coincidentes.rango(ordinalMinimo);
+        guardadas += coincidentes.seleccionar(anteriores + desde, ordinales, capacidad);
+    }
+
+    @Override
+    public boolean completa() {
+        return detenerAlCompletar && guardadas == capacidad;
+    }
+
+    int guardadas() {
+        return guardadas;
+    }
+}
@@ -0,0 +1,225 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.indice.SeleccionPorPuntaje;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.Facetas;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import com.pruebatecnica.meli.dominio.texto.AnalizadorTexto;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntUnaryOperator;
+
+// Resuelve una página de un snapshot guardando solo sus ordinales más uno (para saber si hay página siguiente):
+// con ordenamiento, de la permutación precalculada o de una selección top-K; con búsqueda de texto, por
+// relevancia; en orden de catálogo, con un recorrido que incluirTotal decide si se detiene al completar la página.
+final class PaginadorCatalogo {
+    private final CatalogoSnapshot snapshot;
+    private final DeltaCatalogo delta;
+    private final EjecutorConsultas ejecutor;
+
+    PaginadorCatalogo(CatalogoSnapshot snapshot) {
+        this.snapshot = snapshot;
+        this.delta = snapshot.delta();
+        this.ejecutor = new EjecutorConsultas(snapshot);
+    }
+
+    ResultadoPaginado<Producto> paginar(ProductoCriteriosBusqueda criterios) {
+        Optional<CursorPaginacion> cursor = criterios.cursor();
+        ModoTotal modo = criterios.incluirTotal();
+        int desde = cursor.isPresent()
+                ? 0 : (int) Math.min((long) criterios.pagina() * criterios.tamanioPagina(), Integer.MAX_VALUE);
+        int capacidad = (int) Math.min(criterios.tamanioPagina() + 1L, Integer.MAX_VALUE);
+        ConteoFacetas facetas = criterios.facetas().isEmpty()
+                ? null : new ConteoFacetas(criterios.facetas(), snapshot.columnas(), snapshot.estadisticas());
+        if (criterios.orden().isPresent()) {
+            PaginaOrdinales pagina = paginarOrdenado(criterios, criterios.orden().get(), desde, capacidad, facetas);
+            return resultado(pagina, criterios, modo == ModoTotal.NINGUNO
+                    ? TotalCoincidencias.DESCONOCIDO : TotalCoincidencias.exacto(pagina.totalElementos()), facetas);
+        }
+        if (criterios.texto().isPresent()) {
+            boolean contarTotal = modo != ModoTotal.NINGUNO;
+            PaginaOrdinales pagina = paginarPorRelevancia(criterios, desde, capacidad, facetas, contarTotal);
+            return resultado(pagina, criterios, contarTotal
+                    ? TotalCoincidencias.exacto(pagina.totalElementos()) : TotalCoincidencias.DESCONOCIDO, facetas);
+        }
+        int[] ordinales = new int[Math.max(0, Math.min(capacidad, snapshot.tamanio()))];
+        int ordinalMinimo = cursor.map(c -> (int) Math.min(c.ordinal() + 1L, Integer.MAX_VALUE)).orElse(0);
+        boolean facetasEnRecorrido = facetas != null && !contarFacetasDeLaBase(criterios, facetas);
+        boolean contarTodas = modo == ModoTotal.EXACTO || facetasEnRecorrido;
+        PaginaCatalogo coincidencias = new PaginaCatalogo(ordinales, desde, ordinalMinimo, ordinales.length,
+                !contarTodas);
+
+        int recorridas = ejecutor.recorrer(criterios, contarTodas ? 0 : ordinalMinimo,
+                facetasEnRecorrido ? new FacetasDelRecorrido(snapshot, facetas, coincidencias) : coincidencias);
+        TotalCoincidencias total = switch (modo) {
+            case EXACTO -> TotalCoincidencias.exacto(recorridas);
+            case NINGUNO -> TotalCoincidencias.DESCONOCIDO;
+            // Un recorrido que no se detuvo ya conoce el total exacto.
+            case APROXIMADO -> contarTodas || (cursor.isEmpty() && !coincidencias.completa())
+                    ? TotalCoincidencias.exacto(recorridas)
+                    : new EstimadorTotal(snapshot, ejecutor).estimar(criterios, cursor.isEmpty() ? recorridas : 0);
+        };
+        return resultado(new PaginaOrdinales(ordinales, coincidencias.guardadas(), recorridas), criterios, total,
+                facetas);
+    }
+
+    // Este método cuenta las facetas con los mapas por código, sin recorrer, si las coincidencias son toda la base.
+    private boolean contarFacetasDeLaBase(ProductoCriteriosBusqueda criterios, ConteoFacetas facetas) {
+        if (!EjecutorConsultas.sinFiltros(criterios) || !delta.vacio()) {
+            return false;
+        }
+        facetas.contar((MapaBits) null);
+        return true;
+    }
+
+    // Este método toma la página de la permutación ordenada si las coincidencias son toda la base; si no, de un
+    // montículo acotado a desde + capacidad que se llena durante el recorrido.
+    private PaginaOrdinales paginarOrdenado(ProductoCriteriosBusqueda criterios, Ordenamiento orden, int desde,
+                                            int capacidad, ConteoFacetas facetas) {
+        CursorPaginacion cursor = criterios.cursor().orElse(null);
+        if (EjecutorConsultas.sinFiltros(criterios) && delta.vacio()) {
+            if (facetas != null) {
+                facetas.contar((MapaBits) null);
+            }
+            int totalElementos = snapshot.tamanioBase();
+            IntUnaryOperator permutacion = snapshot.estadisticas().permutacion(orden.campo(), snapshot.productosBase());
+            int inicio = cursor == null ? desde : posicionTrasCursor(permutacion, cursor, orden);
+            int hasta = (int) Math.min((long) inicio + capacidad, totalElementos);
+            int[] ordinales = new int[Math.max(0, hasta - inicio)];
+            for (int i = 0; i < ordinales.length; i++) {
+                int posicion = inicio + i;
+                ordinales[i] = permutacion.applyAsInt(orden.descendente() ? totalElementos - 1 - posicion : posicion);
+            }
+            return new PaginaOrdinales(ordinales, ordinales.length, totalElementos);
+        }
+        int limite = (int) Math.min((long) desde + capacidad, snapshot.tamanio());
+        SeleccionTopK seleccion = new SeleccionTopK(Math.max(0, limite), comparador(orden));
+        Coincidencias ofrecer = (numero, ordinal) -> {
+            if (cursor == null || despuesDelCursor(cursor, orden, ordinal)) {
+                seleccion.ofrecer(ordinal);
+            }
+        };
+        int totalElementos = ejecutor.recorrer(criterios, 0,
+                facetas == null ? ofrecer : new FacetasDelRecorrido(snapshot, facetas, ofrecer));
+        int[] primeros = seleccion.ordenados();
+        int[] ordinales = desde < primeros.length ? Arrays.copyOfRange(primeros, desde, primeros.length) : new int[0];
+        return new PaginaOrdinales(ordinales, ordinales.length, totalElementos);
+    }
+
+    // Este método toma los desde + capacidad más relevantes según BM25 (WAND sobre el índice invertido, con la
+    // capa delta puntuada aparte); el total y las facetas se cuentan en un recorrido aparte.
+    private PaginaOrdinales paginarPorRelevancia(ProductoCriteriosBusqueda criterios, int desde, int capacidad,
+                                                 ConteoFacetas facetas, boolean contarTotal) {
+        String[] terminos = AnalizadorTexto.terminosConsulta(criterios.texto().get());
+        Consulta consulta = ejecutor.preparar(criterios);
+        PlanConsulta plan = ejecutor.planificar(criterios, consulta);
+        ConsultaCompilada compilada = ejecutor.compilar(criterios, consulta, plan);
+        boolean conDelta = !delta.vacio();
+        int limite = (int) Math.min((long) desde + capacidad, snapshot.tamanio());
+        SeleccionPorPuntaje seleccion = new SeleccionPorPuntaje(Math.max(0, limite));
+        if (conDelta) {
+            for (int ordinal : delta.ordinalesModificados()) {
+                Producto vigente = delta.reemplazo(ordinal);
+                if (vigente != null && compilada.cumple(vigente)) {
+                    seleccion.ofrecer(ordinal, snapshot.indiceTexto().puntuar(vigente, terminos));
+                }
+            }
+            List<Producto> agregados = delta.agregados();
+            for (int posicion = 0; posicion < agregados.size(); posicion++) {
+                Producto agregado = agregados.get(posicion);
+                if (agregado != null && compilada.cumple(agregado)) {
+                    seleccion.ofrecer(snapshot.tamanioBase() + posicion,
+                            snapshot.indiceTexto().puntuar(agregado, terminos));
+                }
+            }
+        }
+        snapshot.indiceTexto().mejores(terminos, seleccion,
+                ordinal -> !(conDelta && delta.modificado(ordinal)) && compilada.cumple(ordinal));
+        int[] primeros = seleccion.ordenados();
+        int[] ordinales = desde < primeros.length ? Arrays.copyOfRange(primeros, desde, primeros.length) : new int[0];
+        int totalElementos = 0;
+        if (contarTotal || facetas != null) {
+            Coincidencias contar = (numero, ordinal) -> {
+            };
+            totalElementos = ejecutor.recorrer(criterios, consulta, plan, compilada, 0,
+                    facetas == null ? contar : new FacetasDelRecorrido(snapshot, facetas, contar));
+        }
+        return new PaginaOrdinales(ordinales, ordinales.length, totalElementos);
+    }
+
+    // Este método ubica con una búsqueda binaria la primera posición posterior al cursor en la permutación.
+    private int posicionTrasCursor(IntUnaryOperator permutacion, CursorPaginacion cursor, Ordenamiento orden) {
+        int limite = orden.descendente() ? 0 : 1;
+        int desde = 0;
+        int hasta = snapshot.tamanioBase();
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (compararConCursor(cursor, orden, permutacion.applyAsInt(medio)) < limite) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return orden.descendente() ? snapshot.tamanioBase() - desde : desde;
+    }
+
+    private boolean despuesDelCursor(CursorPaginacion cursor, Ordenamiento orden, int ordinal) {
+        int comparacion = compararConCursor(cursor, orden, ordinal);
+        return orden.descendente() ? comparacion < 0 : comparacion > 0;
+    }
+
+    private int compararConCursor(CursorPaginacion cursor, Ordenamiento orden, int ordinal) {
+        return switch (orden.campo()) {
+            case PRECIO -> cursor.compararAscendente(snapshot.precio(ordinal), null, ordinal);
+            case CALIFICACION -> cursor.compararAscendente(snapshot.calificacion(ordinal), null, ordinal);
+            case NOMBRE -> cursor.compararAscendente(0.0, snapshot.producto(ordinal).nombre(), ordinal);
+        };
+    }
+
+    // Este método compara por el campo de ordenamiento y desempata por ordinal; en descendente invierte todo.
+    private SeleccionTopK.ComparadorOrdinales comparador(Ordenamiento orden) {
+        SeleccionTopK.ComparadorOrdinales porCampo = switch (orden.campo()) {
+            case PRECIO -> (a, b) -> Double.compare(snapshot.precio(a), snapshot.precio(b));
+            case CALIFICACION -> (a, b) -> Double.compare(snapshot.calificacion(a), snapshot.calificacion(b));
+            case NOMBRE -> (a, b) -> Ordenamiento.ORDEN_NOMBRES.compare(snapshot.producto(a).nombre(),
+                    snapshot.producto(b).nombre());
+        };
+        SeleccionTopK.ComparadorOrdinales ascendente = (a, b) -> {
+            int comparacion = porCampo.comparar(a, b);
+            return comparacion != 0 ? comparacion : Integer.compare(a, b);
+        };
+        return orden.descendente() ? (a, b) -> ascendente.comparar(b, a) : ascendente;
+    }
+
+    // Este método materializa la página y emite el cursor de su última fila si quedan coincidencias; el orden por
+    // relevancia no admite cursor porque depende de las estadísticas del índice.
+    private ResultadoPaginado<Producto> resultado(PaginaOrdinales pagina, ProductoCriteriosBusqueda criterios,
+                                                  TotalCoincidencias total, ConteoFacetas facetas) {
+        int tamanioPagina = criterios.tamanioPagina();
+        int cantidad = Math.min(pagina.cantidad(), tamanioPagina);
+        List<Producto> elementos = snapshot.materializar(pagina.ordinales(), 0, cantidad);
+        boolean porRelevancia = criterios.texto().isPresent() && criterios.orden().isEmpty();
+        String siguienteCursor = pagina.cantidad() > tamanioPagina && cantidad > 0 && !porRelevancia
+                ? CursorPaginacion.despuesDe(elementos.get(cantidad - 1), pagina.ordinales()[cantidad - 1],
+                        snapshot.versionBase(), criterios.orden()).codificar()
+                : null;
+        Facetas conteos = facetas == null ? null : facetas.construir();
+        if (total.precision() == ModoTotal.NINGUNO) {
+            return new ResultadoPaginado<>(elementos, criterios.pagina(), ResultadoPaginado.TOTAL_DESCONOCIDO,
+                    ResultadoPaginado.TOTAL_DESCONOCIDO, siguienteCursor, ModoTotal.NINGUNO, 0, conteos);
+        }
+        int totalPaginas = (int) Math.ceil((double) total.total() / tamanioPagina);
+        return new ResultadoPaginado<>(elementos, criterios.pagina(), totalPaginas, total.total(), siguienteCursor,
+                total.precision(), total.margen(), conteos);
+    }
+
+    private record PaginaOrdinales(int[] ordinales, int cantidad, int totalElementos) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.util.List;
+
+// Plan elegido para una consulta: acceso a los candidatos, filtros en el orden en que se evalúan
+// y las estimaciones que justificaron la elección.
+public record PlanConsulta(
+        AccesoConsulta acceso,
+        long filasTotales,
+        long filasCandidatas,
+        long filasEstimadas,
+        double costoEstimado,
+        List<EstimacionFiltro> filtros
+) {
+}
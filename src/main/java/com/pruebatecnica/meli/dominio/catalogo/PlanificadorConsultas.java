@@ -0,0 +1,238 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.indice.MapaBits;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Planificador basado en costos: estima la selectividad de cada filtro con las estadísticas del catálogo,
+// los ordena para que los más baratos y más selectivos descarten primero y compara el recorrido completo
+// de las columnas contra el acceso por los mapas de bits de categoría, marca y nombre tolerante a errores, por
+// el tramo del índice de precios, por la caja de la rejilla precio × calificación o por los trigramas del nombre.
+// Los filtros por atributos de las especificaciones se resuelven con su índice columnar en un mapa de bits que
+// entra en la misma intersección. La búsqueda de texto sin ordenamiento explícito se ordena por relevancia, así
+// que sus candidatos salen siempre del índice de texto.
+final class PlanificadorConsultas {
+    static final String CAMPO_CATEGORIA = "categoria";
+    static final String CAMPO_MARCA = "marca";
+    static final String CAMPO_PRECIO = "precio";
+    static final String CAMPO_CALIFICACION = "calificacion";
+    static final String CAMPO_NOMBRE = "nombre";
+    static final String CAMPO_TEXTO = "texto";
+    static final String CAMPO_ATRIBUTOS = "atributos";
+
+    // Costos relativos por fila: leer una columna primitiva frente a pasar a minúsculas y buscar una subcadena.
+    private static final double COSTO_CATEGORIA = 1.0;
+    private static final double COSTO_MARCA = 1.0;
+    private static final double COSTO_PRECIO = 1.0;
+    private static final double COSTO_CALIFICACION = 1.0;
+    private static final double COSTO_NOMBRE = 25.0;
+    // El nombre tolerante a errores ya está resuelto en un mapa de bits: por fila solo se consulta un bit.
+    private static final double COSTO_NOMBRE_DIFUSO = 1.0;
+    // Lo mismo para la búsqueda de texto sobre el snapshot.
+    private static final double COSTO_TEXTO = 1.0;
+    // Los atributos también llegan resueltos en un mapa de bits.
+    private static final double COSTO_ATRIBUTOS = 1.0;
+    private static final double COSTO_ACCESO_INDICE = 0.5;
+    private static final double COSTO_INTERSECCION = 0.2;
+    private static final double COSTO_COMPARACION_ORDENAMIENTO = 0.1;
+    // Combinar mapas de bits procesa 64 ordinales por operación de palabra en los bloques densos.
+    private static final double COSTO_COMBINACION_MAPAS = 0.05;
+    private static final double SELECTIVIDAD_NOMBRE_SIN_INDICE = 0.1;
+
+    private PlanificadorConsultas() {
+    }
+
+    // Este método elige el acceso y el orden de los filtros de la consulta sobre un snapshot.
+    // nombresDifusos son los ordinales que resolvió el índice de palabras para la búsqueda por nombre tolerante
+    // a errores (null si la búsqueda es por subcadena); coincidenciasTexto, los que tienen algún término de la
+    // búsqueda de texto (null sin búsqueda de texto); coincidenciasAtributos, los que cumplen todos los filtros
+    // por atributo (null sin esos filtros); candidatosMapas es la intersección ya calculada de los mapas de bits
+    // de categoría, marca, nombre tolerante, texto y atributos (null si la consulta no filtra por ninguno);
+    // listasNombre son las listas de trigramas de la subcadena buscada (de la más corta a la más larga), o null
+    // si no hay filtro por subcadena o es demasiado corta para el índice.
+    static PlanConsulta planificar(ProductoCriteriosBusqueda criterios, boolean[] codigosCategoria,
+                                   boolean[] codigosMarca, MapaBits nombresDifusos, MapaBits coincidenciasTexto,
+                                   MapaBits coincidenciasAtributos, MapaBits candidatosMapas, int[][] listasNombre, EstadisticasCatalogo estadisticas, int filasModificadas,
+                                   int filasAgregadas) {
+        int tamanioBase = estadisticas.tamanio();
+        long filasTotales = (long) tamanioBase + filasAgregadas;
+        int productosCategoria = codigosCategoria == null ? 0 : estadisticas.productosConCategoria(codigosCategoria);
+        int productosMarca = codigosMarca == null ? 0 : estadisticas.productosConMarca(codigosMarca);
+        boolean filtraPrecio = criterios.precioMin().isPresent() || criterios.precioMax().isPresent();
+        int productosPrecio = !filtraPrecio ? 0 : estadisticas.productosConPrecioEntre(
+                criterios.precioMin().orElse(Double.NEGATIVE_INFINITY),
+                criterios.precioMax().orElse(Double.POSITIVE_INFINITY));
+        boolean filtraCalificacion = criterios.calificacionMin().isPresent() || criterios.calificacionMax().isPresent();
+        int productosCalificacion = !filtraCalificacion ? 0 : estadisticas.productosConCalificacionEntre(
+                criterios.calificacionMin().orElse(Double.NEGATIVE_INFINITY),
+                criterios.calificacionMax().orElse(Double.POSITIVE_INFINITY));
+
+        List<EstimacionFiltro> filtros = new ArrayList<>(7);
+        if (codigosCategoria != null) {
+            filtros.add(new EstimacionFiltro(CAMPO_CATEGORIA, fraccion(productosCategoria, tamanioBase), COSTO_CATEGORIA, false));
+        }
+        if (codigosMarca != null) {
+            filtros.add(new EstimacionFiltro(CAMPO_MARCA, fraccion(productosMarca, tamanioBase), COSTO_MARCA, false));
+        }
+        if (filtraPrecio) {
+            filtros.add(new EstimacionFiltro(CAMPO_PRECIO, fraccion(productosPrecio, tamanioBase), COSTO_PRECIO, false));
+        }
+        if (filtraCalificacion) {
+            filtros.add(new EstimacionFiltro(CAMPO_CALIFICACION, fraccion(productosCalificacion, tamanioBase),
+                    COSTO_CALIFICACION, false));
+        }
+        int productosNombreDifuso = nombresDifusos == null ? 0 : nombresDifusos.cardinalidad();
+        if (nombresDifusos != null) {
+            filtros.add(new EstimacionFiltro(CAMPO_NOMBRE, fraccion(productosNombreDifuso, tamanioBase),
+                    COSTO_NOMBRE_DIFUSO, false));
+        } else if (criterios.nombre().isPresent()) {
+            double selectividad = listasNombre == null
+                    ? SELECTIVIDAD_NOMBRE_SIN_INDICE
+                    : fraccion(listasNombre[0].length, tamanioBase);
+            filtros.add(new EstimacionFiltro(CAMPO_NOMBRE, selectividad, COSTO_NOMBRE, false));
+        }
+        int productosTexto = coincidenciasTexto == null ? 0 : coincidenciasTexto.cardinalidad();
+        if (coincidenciasTexto != null) {
+            filtros.add(new EstimacionFiltro(CAMPO_TEXTO, fraccion(productosTexto, tamanioBase), COSTO_TEXTO, false));
+        }
+        int productosAtributos = coincidenciasAtributos == null ? 0 : coincidenciasAtributos.cardinalidad();
+        if (coincidenciasAtributos != null) {
+            filtros.add(new EstimacionFiltro(CAMPO_ATRIBUTOS, fraccion(productosAtributos, tamanioBase),
+                    COSTO_ATRIBUTOS, false));
+        }
+        filtros.sort(Comparator.comparingDouble(PlanificadorConsultas::rango));
+
+        double selectividadTotal = selectividadCadena(filtros);
+        long filasEstimadas = Math.round(filasTotales * selectividadTotal);
+        if (coincidenciasTexto != null && criterios.orden().isEmpty()) {
+            return porIndice(AccesoConsulta.INDICE_TEXTO, Set.of(CAMPO_TEXTO), filtros, productosTexto,
+                    productosTexto * COSTO_COMBINACION_MAPAS, filasTotales, filasEstimadas, filasModificadas,
+                    filasAgregadas);
+        }
+        PlanConsulta elegido = new PlanConsulta(AccesoConsulta.RECORRIDO_COMPLETO, filasTotales, filasTotales,
+                filasEstimadas, filasTotales * costoCadena(filtros), List.copyOf(filtros));
+
+        if (candidatosMapas != null) {
+            double costoCombinacion = ((long) productosCategoria + productosMarca + productosNombreDifuso
+                    + productosTexto + productosAtributos) * COSTO_COMBINACION_MAPAS;
+            Set<String> camposMapas = new HashSet<>(List.of(CAMPO_CATEGORIA, CAMPO_MARCA));
+            if (nombresDifusos != null) {
+                camposMapas.add(CAMPO_NOMBRE);
+            }
+            if (coincidenciasTexto != null) {
+                camposMapas.add(CAMPO_TEXTO);
+            }
+            if (coincidenciasAtributos != null) {
+                camposMapas.add(CAMPO_ATRIBUTOS);
+            }
+            elegido = masBarato(elegido, porIndice(AccesoConsulta.INDICE_MAPAS_BITS, camposMapas, filtros,
+                    candidatosMapas.cardinalidad(), costoCombinacion, filasTotales, filasEstimadas, filasModificadas,
+                    filasAgregadas));
+        }
+        if (filtraPrecio) {
+            // El tramo del índice está ordenado por precio: hay que ordenarlo por ordinal para respetar
+            // el orden de catálogo.
+            double costoOrdenamiento = productosPrecio * log2(productosPrecio) * COSTO_COMPARACION_ORDENAMIENTO;
+            elegido = masBarato(elegido, porIndice(AccesoConsulta.INDICE_PRECIO, Set.of(CAMPO_PRECIO), filtros,
+                    productosPrecio, costoOrdenamiento, filasTotales, filasEstimadas, filasModificadas, filasAgregadas));
+        }
+        if (filtraCalificacion) {
+            // La rejilla cuenta la caja exacta (sin suponer independencia entre precio y calificación): por celda
+            // bastan dos búsquedas binarias y solo las filas de las celdas del borde se revisan una por una.
+            int productosCaja = estadisticas.productosConPrecioYCalificacionEntre(
+                    criterios.precioMin().orElse(Double.NEGATIVE_INFINITY),
+                    criterios.precioMax().orElse(Double.POSITIVE_INFINITY),
+                    criterios.calificacionMin().orElse(Double.NEGATIVE_INFINITY),
+                    criterios.calificacionMax().orElse(Double.POSITIVE_INFINITY));
+            double costoRejilla = 2 * estadisticas.celdasRejilla() * log2(tamanioBase) * COSTO_COMPARACION_ORDENAMIENTO
+                    + estadisticas.filasBordeRejilla() * COSTO_ACCESO_INDICE
+                    + productosCaja * log2(productosCaja) * COSTO_COMPARACION_ORDENAMIENTO;
+            elegido = masBarato(elegido, porIndice(AccesoConsulta.INDICE_PRECIO_CALIFICACION,
+                    Set.of(CAMPO_PRECIO, CAMPO_CALIFICACION), filtros, productosCaja, costoRejilla, filasTotales,
+                    filasEstimadas, filasModificadas, filasAgregadas));
+        }
+        if (listasNombre != null) {
+            long costoInterseccion = 0;
+            for (int i = 1; i < listasNombre.length; i++) {
+                costoInterseccion += listasNombre[0].length;
+            }
+            elegido = masBarato(elegido, porIndice(AccesoConsulta.INDICE_NOMBRE, Set.of(CAMPO_NOMBRE), filtros,
+                    listasNombre[0].length, costoInterseccion * COSTO_INTERSECCION,
+                    filasTotales, filasEstimadas, filasModificadas, filasAgregadas));
+        }
+        return elegido;
+    }
+
+    // Este método arma el plan que parte de los candidatos de un índice. Los mapas de bits, el índice de precios,
+    // la rejilla y el índice de texto resuelven por completo sus filtros; los trigramas solo acotan, así que el
+    // nombre se verifica igual, al final.
+    private static PlanConsulta porIndice(AccesoConsulta acceso, Set<String> camposIndexados,
+                                          List<EstimacionFiltro> filtros, int candidatosIndice,
+                                          double costoPreparacion, long filasTotales, long filasEstimadas,
+                                          int filasModificadas, int filasAgregadas) {
+        boolean resuelve = acceso != AccesoConsulta.INDICE_NOMBRE;
+        List<EstimacionFiltro> indexados = new ArrayList<>(2);
+        List<EstimacionFiltro> cadena = new ArrayList<>(filtros.size());
+        for (EstimacionFiltro filtro : filtros) {
+            if (camposIndexados.contains(filtro.campo())) {
+                indexados.add(new EstimacionFiltro(filtro.campo(), filtro.selectividad(), filtro.costoPorFila(), resuelve));
+            } else {
+                cadena.add(filtro);
+            }
+        }
+
+        long candidatas = (long) candidatosIndice + filasModificadas + filasAgregadas;
+        double costo = costoPreparacion + candidatas * (COSTO_ACCESO_INDICE + costoCadena(cadena));
+        if (!resuelve) {
+            costo += candidatas * selectividadCadena(cadena) * costoCadena(indexados);
+        }
+
+        List<EstimacionFiltro> enOrden = new ArrayList<>(filtros.size());
+        if (resuelve) {
+            enOrden.addAll(indexados);
+            enOrden.addAll(cadena);
+        } else {
+            enOrden.addAll(cadena);
+            enOrden.addAll(indexados);
+        }
+        return new PlanConsulta(acceso, filasTotales, candidatas, filasEstimadas, costo, List.copyOf(enOrden));
+    }
+
+    private static PlanConsulta masBarato(PlanConsulta actual, PlanConsulta alternativa) {
+        return alternativa.costoEstimado() < actual.costoEstimado() ? alternativa : actual;
+    }
+
+    // Orden clásico de predicados: primero los que descartan más filas por unidad de costo.
+    private static double rango(EstimacionFiltro filtro) {
+        double descartadas = 1.0 - filtro.selectividad();
+        return descartadas <= 0 ? Double.POSITIVE_INFINITY : filtro.costoPorFila() / descartadas;
+    }
+
+    private static double selectividadCadena(List<EstimacionFiltro> filtros) {
+        return filtros.stream().mapToDouble(EstimacionFiltro::selectividad).reduce(1.0, (a, b) -> a * b);
+    }
+
+    // Costo esperado por fila de evaluar los filtros en orden, cortando en el primero que no se cumple.
+    private static double costoCadena(List<EstimacionFiltro> filtros) {
+        double costo = 0;
+        double sobrevivientes = 1.0;
+        for (EstimacionFiltro filtro : filtros) {
+            costo += sobrevivientes * filtro.costoPorFila();
+            sobrevivientes *= filtro.selectividad();
+        }
+        return costo;
+    }
+
+    private static double log2(long valor) {
+        return valor <= 1 ? 0 : Math.log(valor) / Math.log(2);
+    }
+
+    private static double fraccion(int parte, int total) {
+        return total == 0 ? 0.0 : (double) parte / total;
+    }
+}
@@ -0,0 +1,17 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Resultado de la última recarga del catálogo: versiones y cantidad de productos antes y después.
+// Si la recarga falla, el snapshot anterior sigue vigente y el error queda registrado.
+public record RecargaCatalogo(
+        Instant instante,
+        boolean exitosa,
+        long versionAnterior,
+        long versionNueva,
+        int productosAnteriores,
+        int productosNuevos,
+        Duration duracion,
+        String error
+) {}
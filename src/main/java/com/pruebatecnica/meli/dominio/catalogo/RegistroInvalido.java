@@ -0,0 +1,9 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+public record RegistroInvalido(
+        int posicion,
+        long offsetBytes,
+        int linea,
+        int columna,
+        String motivo
+) {}
@@ -0,0 +1,80 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import java.util.Arrays;
+
+// Selección parcial de los K primeros ordinales según un comparador, con un montículo acotado: cada
+// ordinal ofrecido cuesta O(log K) y la memoria es O(K), sin ordenar todas las coincidencias de la consulta.
+final class SeleccionTopK {
+
+    // Comparador total entre ordinales (debe desempatar, por ejemplo, por ordinal).
+    @FunctionalInterface
+    interface ComparadorOrdinales {
+        int comparar(int primero, int segundo);
+    }
+
+    private final int[] monticulo;
+    private final ComparadorOrdinales comparador;
+    private int tamanio;
+
+    SeleccionTopK(int capacidad, ComparadorOrdinales comparador) {
+        this.monticulo = new int[capacidad];
+        this.comparador = comparador;
+    }
+
+    // Este método considera un ordinal: entra si todavía hay lugar o si precede al peor de los guardados.
+    void ofrecer(int ordinal) {
+        if (tamanio < monticulo.length) {
+            monticulo[tamanio] = ordinal;
+            subir(tamanio++);
+        } else if (tamanio > 0 && comparador.comparar(ordinal, monticulo[0]) < 0) {
+            monticulo[0] = ordinal;
+            bajar(0, tamanio);
+        }
+    }
+
+    // Este método devuelve los ordinales seleccionados en orden; deja la selección vacía.
+    int[] ordenados() {
+        int cantidad = tamanio;
+        for (int ultimo = tamanio - 1; ultimo > 0; ultimo--) {
+            int mayor = monticulo[0];
+            monticulo[0] = monticulo[ultimo];
+            monticulo[ultimo] = mayor;
+            bajar(0, ultimo);
+        }
+        tamanio = 0;
+        return Arrays.copyOf(monticulo, cantidad);
+    }
+
+    // Montículo de máximos: la raíz es el peor de los K guardados.
+    private void subir(int posicion) {
+        int ordinal = monticulo[posicion];
+        while (posicion > 0) {
+            int padre = (posicion - 1) >>> 1;
+            if (comparador.comparar(ordinal, monticulo[padre]) <= 0) {
+                break;
+            }
+            monticulo[posicion] = monticulo[padre];
+            posicion = padre;
+        }
+        monticulo[posicion] = ordinal;
+    }
+
+    private void bajar(int posicion, int limite) {
+        int ordinal = monticulo[posicion];
+        while (true) {
+            int hijo = 2 * posicion + 1;
+            if (hijo >= limite) {
+                break;
+            }
+            if (hijo + 1 < limite && comparador.comparar(monticulo[hijo + 1], monticulo[hijo]) > 0) {
+                hijo++;
+            }
+            if (comparador.comparar(monticulo[hijo], ordinal) <= 0) {
+                break;
+            }
+            monticulo[posicion] = monticulo[hijo];
+            posicion = hijo;
+        }
+        monticulo[posicion] = ordinal;
+    }
+}
@@ -0,0 +1,12 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+
+// Total informado con la página: exacto, estimado con su margen de error o desconocido.
+record TotalCoincidencias(ModoTotal precision, long total, long margen) {
+    static final TotalCoincidencias DESCONOCIDO = new TotalCoincidencias(ModoTotal.NINGUNO, 0, 0);
+
+    static TotalCoincidencias exacto(long total) {
+        return new TotalCoincidencias(ModoTotal.EXACTO, total, 0);
+    }
+}
@@ -2,4 +2,9 @@ package com.pruebatecnica.meli.dominio.especificacion;
 
 public interface Especificacion<T> {
     boolean esSatisfechoPor(T t);
+
+    // Este método combina dos especificaciones en un único predicado que corta en el primer criterio no cumplido.
+    default Especificacion<T> y(Especificacion<T> otra) {
+        return t -> esSatisfechoPor(t) && otra.esSatisfechoPor(t);
+    }
 }
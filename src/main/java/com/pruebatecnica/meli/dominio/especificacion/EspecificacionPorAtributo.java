@@ -0,0 +1,20 @@
+package com.pruebatecnica.meli.dominio.especificacion;
+
+import com.pruebatecnica.meli.dominio.atributo.ExtractorAtributos;
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+// El atributo numérico extraído de las especificaciones (ver ExtractorAtributos) debe cumplir la condición;
+// los productos sin el atributo no la cumplen.
+public class EspecificacionPorAtributo implements Especificacion<Producto> {
+    private final FiltroAtributo filtro;
+
+    public EspecificacionPorAtributo(FiltroAtributo filtro) {
+        this.filtro = filtro;
+    }
+
+    @Override
+    public boolean esSatisfechoPor(Producto producto) {
+        return filtro.cumple(ExtractorAtributos.valor(producto.especificaciones(), filtro.nombre()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.pruebatecnica.meli.dominio.especificacion;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+public class EspecificacionPorCalificacion implements Especificacion<Producto> {
+    private final Double calificacionMin;
+    private final Double calificacionMax;
+
+    public EspecificacionPorCalificacion(Double calificacionMin, Double calificacionMax) {
+        this.calificacionMin = calificacionMin;
+        this.calificacionMax = calificacionMax;
+    }
+
+    @Override
+    public boolean esSatisfechoPor(Producto producto) {
+        double calificacion = producto.calificacion();
+
+        if (calificacionMin != null && calificacion < calificacionMin) return false;
+        if (calificacionMax != null && calificacion > calificacionMax) return false;
+
+        return true;
+    }
+}
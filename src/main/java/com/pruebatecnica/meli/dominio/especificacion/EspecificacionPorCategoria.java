@@ -1,16 +1,17 @@
 package com.pruebatecnica.meli.dominio.especificacion;
 
 import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
 
 public class EspecificacionPorCategoria implements Especificacion<Producto> {
     private final String categoria;
 
     public EspecificacionPorCategoria(String categoria) {
-        this.categoria = categoria.toLowerCase();
+        this.categoria = ClaveBusqueda.normalizar(categoria);
     }
 
     @Override
     public boolean esSatisfechoPor(Producto producto) {
-        return producto.categoria().toLowerCase().equals(categoria);
+        return ClaveBusqueda.igual(producto.categoria(), categoria);
     }
 }
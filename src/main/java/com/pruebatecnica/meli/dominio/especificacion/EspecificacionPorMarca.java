@@ -0,0 +1,17 @@
+package com.pruebatecnica.meli.dominio.especificacion;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+public class EspecificacionPorMarca implements Especificacion<Producto> {
+    private final String marca;
+
+    public EspecificacionPorMarca(String marca) {
+        this.marca = ClaveBusqueda.normalizar(marca);
+    }
+
+    @Override
+    public boolean esSatisfechoPor(Producto producto) {
+        return ClaveBusqueda.igual(producto.marca(), marca);
+    }
+}
@@ -1,16 +1,17 @@
 package com.pruebatecnica.meli.dominio.especificacion;
 
 import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
 
 public class EspecificacionPorNombre implements Especificacion<Producto> {
     private final String nombre;
 
     public EspecificacionPorNombre(String nombre) {
-        this.nombre = nombre.toLowerCase();
+        this.nombre = ClaveBusqueda.normalizar(nombre);
     }
 
     @Override
     public boolean esSatisfechoPor(Producto producto) {
-        return producto.nombre().toLowerCase().contains(nombre);
+        return ClaveBusqueda.contiene(producto.nombre(), nombre);
     }
 }
\ No newline at end of file
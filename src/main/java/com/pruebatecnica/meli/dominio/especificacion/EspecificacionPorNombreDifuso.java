@@ -0,0 +1,19 @@
+package com.pruebatecnica.meli.dominio.especificacion;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+import com.pruebatecnica.meli.dominio.texto.DistanciaEdicion;
+
+// Cada palabra buscada debe estar en el nombre con la tolerancia a errores de su largo (ver DistanciaEdicion).
+public class EspecificacionPorNombreDifuso implements Especificacion<Producto> {
+    private final String[] terminos;
+
+    public EspecificacionPorNombreDifuso(String nombre) {
+        this.terminos = DistanciaEdicion.terminos(ClaveBusqueda.normalizar(nombre));
+    }
+
+    @Override
+    public boolean esSatisfechoPor(Producto producto) {
+        return DistanciaEdicion.coincidenTodos(producto.nombre(), terminos);
+    }
+}
@@ -0,0 +1,19 @@
+package com.pruebatecnica.meli.dominio.especificacion;
+
+import com.pruebatecnica.meli.dominio.indice.IndiceTextoCompleto;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.AnalizadorTexto;
+
+// Alguno de los términos buscados (ver AnalizadorTexto) debe estar en el nombre, la descripción o las especificaciones.
+public class EspecificacionPorTexto implements Especificacion<Producto> {
+    private final String[] terminos;
+
+    public EspecificacionPorTexto(String texto) {
+        this.terminos = AnalizadorTexto.terminosConsulta(texto);
+    }
+
+    @Override
+    public boolean esSatisfechoPor(Producto producto) {
+        return IndiceTextoCompleto.contieneAlguno(producto, terminos);
+    }
+}
@@ -0,0 +1,151 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.atributo.AtributoNumerico;
+import com.pruebatecnica.meli.dominio.atributo.ExtractorAtributos;
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Índice columnar de los atributos numéricos de las especificaciones (ver ExtractorAtributos), construido una
+// vez con el snapshot. Cada atributo guarda solo los productos que lo tienen: sus valores de menor a mayor y los
+// ordinales en ese mismo orden, de modo que una condición (>=, <=, >, <, =) es un tramo contiguo que se ubica
+// con dos búsquedas binarias y se entrega como mapa de bits (ver IndiceOrdenado.enOrdenDeCatalogo). Las
+// especificaciones se repiten mucho entre productos, así que durante la construcción cada texto distinto se
+// analiza una sola vez.
+public final class IndiceAtributos {
+    private final Map<String, ColumnaAtributo> columnas;
+    private final int tamanioCatalogo;
+
+    private IndiceAtributos(Map<String, ColumnaAtributo> columnas, int tamanioCatalogo) {
+        this.columnas = columnas;
+        this.tamanioCatalogo = tamanioCatalogo;
+    }
+
+    public static IndiceAtributos desde(List<Producto> productos) {
+        Map<String, Optional<AtributoNumerico>> analizadas = new HashMap<>();
+        Map<String, Acumulador> acumuladores = new HashMap<>();
+        for (int ordinal = 0; ordinal < productos.size(); ordinal++) {
+            List<String> especificaciones = productos.get(ordinal).especificaciones();
+            if (especificaciones == null) {
+                continue;
+            }
+            for (String especificacion : especificaciones) {
+                if (especificacion == null) {
+                    continue;
+                }
+                Optional<AtributoNumerico> atributo = analizadas.computeIfAbsent(especificacion,
+                        ExtractorAtributos::extraer);
+                if (atributo.isPresent()) {
+                    acumuladores.computeIfAbsent(atributo.get().nombre(), nombre -> new Acumulador())
+                            .agregar(ordinal, atributo.get().valor());
+                }
+            }
+        }
+        Map<String, ColumnaAtributo> columnas = new HashMap<>(acumuladores.size() * 2);
+        acumuladores.forEach((nombre, acumulador) -> columnas.put(nombre, acumulador.construir()));
+        return new IndiceAtributos(columnas, productos.size());
+    }
+
+    // Este método devuelve los ordinales que cumplen todas las condiciones; un atributo que ningún producto
+    // tiene no deja coincidencias.
+    public MapaBits coincidencias(List<FiltroAtributo> filtros) {
+        MapaBits resultado = null;
+        for (FiltroAtributo filtro : filtros) {
+            MapaBits coincidencias = coincidencias(filtro);
+            resultado = resultado == null ? coincidencias : resultado.y(coincidencias);
+            if (resultado.vacio()) {
+                return MapaBits.VACIO;
+            }
+        }
+        return resultado == null ? MapaBits.VACIO : resultado;
+    }
+
+    public MapaBits coincidencias(FiltroAtributo filtro) {
+        ColumnaAtributo columna = columnas.get(filtro.nombre());
+        return columna == null ? MapaBits.VACIO : columna.coincidencias(filtro, tamanioCatalogo);
+    }
+
+    public int atributosDistintos() {
+        return columnas.size();
+    }
+
+    public long bytesOcupados() {
+        return columnas.values().stream().mapToLong(ColumnaAtributo::bytesOcupados).sum();
+    }
+
+    private record ColumnaAtributo(double[] valores, int[] ordinales) {
+        MapaBits coincidencias(FiltroAtributo filtro, int tamanioCatalogo) {
+            double valor = filtro.valor();
+            int desde = switch (filtro.comparacion()) {
+                case MAYOR_O_IGUAL, IGUAL -> primeraPosicion(valor, false);
+                case MAYOR -> primeraPosicion(valor, true);
+                case MENOR_O_IGUAL, MENOR -> 0;
+            };
+            int hasta = switch (filtro.comparacion()) {
+                case MENOR_O_IGUAL, IGUAL -> primeraPosicion(valor, true);
+                case MENOR -> primeraPosicion(valor, false);
+                case MAYOR_O_IGUAL, MAYOR -> valores.length;
+            };
+            if (desde >= hasta) {
+                return MapaBits.VACIO;
+            }
+            return MapaBits.desde(IndiceOrdenado.enOrdenDeCatalogo(Arrays.copyOfRange(ordinales, desde, hasta),
+                    hasta - desde, tamanioCatalogo));
+        }
+
+        // Primera posición con valor mayor o igual (o estrictamente mayor) que el buscado.
+        private int primeraPosicion(double valor, boolean estricto) {
+            int desde = 0;
+            int hasta = valores.length;
+            while (desde < hasta) {
+                int medio = (desde + hasta) >>> 1;
+                if (valores[medio] < valor || (estricto && valores[medio] == valor)) {
+                    desde = medio + 1;
+                } else {
+                    hasta = medio;
+                }
+            }
+            return desde;
+        }
+
+        long bytesOcupados() {
+            return (long) valores.length * Double.BYTES + (long) ordinales.length * Integer.BYTES;
+        }
+    }
+
+    // Pares (ordinal, valor) de un atributo en orden de catálogo; al construir se ordenan por valor con el
+    // radix sort estable de IndiceOrdenado, así que los empates conservan el orden de catálogo.
+    private static final class Acumulador {
+        private int[] ordinales = new int[16];
+        private double[] valores = new double[16];
+        private int cantidad;
+
+        void agregar(int ordinal, double valor) {
+            if (cantidad > 0 && ordinales[cantidad - 1] == ordinal) {
+                return;
+            }
+            if (cantidad == ordinales.length) {
+                ordinales = Arrays.copyOf(ordinales, cantidad * 2);
+                valores = Arrays.copyOf(valores, cantidad * 2);
+            }
+            ordinales[cantidad] = ordinal;
+            valores[cantidad++] = valor;
+        }
+
+        ColumnaAtributo construir() {
+            IndiceOrdenado orden = IndiceOrdenado.desde(cantidad, posicion -> valores[posicion]);
+            double[] valoresOrdenados = new double[cantidad];
+            int[] ordinalesOrdenados = new int[cantidad];
+            for (int posicion = 0; posicion < cantidad; posicion++) {
+                valoresOrdenados[posicion] = orden.valor(posicion);
+                ordinalesOrdenados[posicion] = ordinales[orden.ordinal(posicion)];
+            }
+            return new ColumnaAtributo(valoresOrdenados, ordinalesOrdenados);
+        }
+    }
+}
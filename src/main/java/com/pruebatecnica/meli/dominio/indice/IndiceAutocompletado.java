@@ -0,0 +1,386 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+// Índice de autocompletado por prefijo: un trie compacto (árbol radix) sobre la clave de búsqueda de los nombres
+// en el que se inserta, por cada palabra del nombre, el resto del nombre desde esa palabra, de modo que "sma"
+// sugiere "Smartphone X" y "gal" sugiere "Samsung Galaxy". Las cadenas de nodos con un único hijo se comprimen en
+// una arista etiquetada con un tramo de caracteres, así que el trie tiene a lo sumo dos nodos por clave insertada.
+// Cada nodo guarda precalculados los SUGERENCIAS_POR_NODO ordinales de mayor calificación de su subárbol (sin
+// repetir productos; los empates favorecen al ordinal menor): una búsqueda baja por el prefijo en O(largo del
+// prefijo) y lee ese tramo sin recorrer ni ordenar candidatos. Además las claves quedan ordenadas en un arreglo
+// de ordinales donde el subárbol de cada nodo es un tramo contiguo, para enumerarlo completo cuando la capa delta
+// invalida las sugerencias precalculadas.
+public final class IndiceAutocompletado {
+    public static final int SUGERENCIAS_POR_NODO = 10;
+    public static final int SIN_NODO = -1;
+
+    private static final int RAIZ = 0;
+    private static final int FIN_DE_CLAVE = -1;
+
+    private final char[] etiquetas;
+    // La arista que llega al nodo n es etiquetas[inicioEtiqueta[n], inicioEtiqueta[n] + largoEtiqueta[n]); sus
+    // hijos son los nodos [primerHijo[n], primerHijo[n] + cantidadHijos[n]), ordenados por su primer carácter.
+    private final int[] inicioEtiqueta;
+    private final int[] largoEtiqueta;
+    private final int[] primerHijo;
+    private final int[] cantidadHijos;
+    // Sugerencias del nodo n: mejores[inicioMejores[n], inicioMejores[n] + cantidadMejores[n]), de mayor a menor
+    // calificación.
+    private final int[] mejores;
+    private final int[] inicioMejores;
+    private final byte[] cantidadMejores;
+    // Ordinales de las claves en orden lexicográfico; el subárbol del nodo n ocupa [desdeClave[n], hastaClave[n]).
+    private final int[] ordinalesClaves;
+    private final int[] desdeClave;
+    private final int[] hastaClave;
+    private final int nodos;
+
+    private IndiceAutocompletado(Construccion construccion) {
+        this.nodos = construccion.nodos;
+        this.etiquetas = Arrays.copyOf(construccion.etiquetas, construccion.largoEtiquetas);
+        this.inicioEtiqueta = Arrays.copyOf(construccion.inicioEtiqueta, nodos);
+        this.largoEtiqueta = Arrays.copyOf(construccion.largoEtiqueta, nodos);
+        this.primerHijo = Arrays.copyOf(construccion.primerHijo, nodos);
+        this.cantidadHijos = Arrays.copyOf(construccion.cantidadHijos, nodos);
+        this.desdeClave = Arrays.copyOf(construccion.desdeClave, nodos);
+        this.hastaClave = Arrays.copyOf(construccion.hastaClave, nodos);
+        this.mejores = Arrays.copyOf(construccion.mejores, construccion.largoMejores);
+        this.inicioMejores = Arrays.copyOf(construccion.inicioMejores, nodos);
+        this.cantidadMejores = new byte[nodos];
+        for (int nodo = 0; nodo < nodos; nodo++) {
+            cantidadMejores[nodo] = (byte) construccion.cantidadMejores[nodo];
+        }
+        this.ordinalesClaves = construccion.ordinalSufijo;
+    }
+
+    // Este método construye el índice con las claves de búsqueda que el índice de trigramas guardó al construir
+    // la base; calificacion devuelve la calificación de cada ordinal (la columna del catálogo).
+    public static IndiceAutocompletado desde(IndiceTrigramas nombres, IntToDoubleFunction calificacion) {
+        return new IndiceAutocompletado(new Construccion(nombres, calificacion).construir());
+    }
+
+    // Este método devuelve el nodo que corresponde al prefijo (ya normalizado con ClaveBusqueda) o SIN_NODO si
+    // ninguna clave empieza con él. Si el prefijo termina a mitad de una arista, el nodo es el de abajo: su
+    // subárbol tiene las mismas claves.
+    public int buscar(String prefijo) {
+        int nodo = RAIZ;
+        int i = 0;
+        while (i < prefijo.length()) {
+            nodo = hijo(nodo, prefijo.charAt(i));
+            if (nodo == SIN_NODO) {
+                return SIN_NODO;
+            }
+            int inicio = inicioEtiqueta[nodo];
+            int largo = largoEtiqueta[nodo];
+            for (int j = 0; j < largo && i < prefijo.length(); j++, i++) {
+                if (etiquetas[inicio + j] != prefijo.charAt(i)) {
+                    return SIN_NODO;
+                }
+            }
+        }
+        return nodo;
+    }
+
+    public int cantidadSugerencias(int nodo) {
+        return cantidadMejores[nodo];
+    }
+
+    // Ordinal de la sugerencia en la posición indicada del nodo (0 es la de mayor calificación).
+    public int sugerencia(int nodo, int posicion) {
+        return mejores[inicioMejores[nodo] + posicion];
+    }
+
+    // Este método copia los ordinales de todas las claves del subárbol del nodo, ordenados y sin repetir.
+    public int[] ordinalesDelSubarbol(int nodo) {
+        int[] ordinales = Arrays.copyOfRange(ordinalesClaves, desdeClave[nodo], hastaClave[nodo]);
+        Arrays.sort(ordinales);
+        int distintos = 0;
+        for (int i = 0; i < ordinales.length; i++) {
+            if (i == 0 || ordinales[i] != ordinales[i - 1]) {
+                ordinales[distintos++] = ordinales[i];
+            }
+        }
+        return distintos == ordinales.length ? ordinales : Arrays.copyOf(ordinales, distintos);
+    }
+
+    // Este método indica si alguna palabra del nombre, seguida del resto del nombre, empieza con el prefijo (ya
+    // normalizado con ClaveBusqueda). Es la misma coincidencia que resuelve el índice, para los productos que
+    // no están indexados.
+    public static boolean coincide(String nombre, String prefijo) {
+        if (nombre == null) {
+            return false;
+        }
+        String clave = ClaveBusqueda.normalizar(nombre);
+        for (int inicio = 0; inicio + prefijo.length() <= clave.length(); inicio++) {
+            if (esInicioDePalabra(clave, inicio) && clave.startsWith(prefijo, inicio)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int nodos() {
+        return nodos;
+    }
+
+    public long bytesOcupados() {
+        return (long) etiquetas.length * Character.BYTES
+                + (long) nodos * (Integer.BYTES * 7 + Byte.BYTES)
+                + (long) (mejores.length + ordinalesClaves.length) * Integer.BYTES;
+    }
+
+    // Este método busca entre los hijos del nodo, por búsqueda binaria, el que empieza con el carácter.
+    private int hijo(int nodo, char caracter) {
+        int desde = primerHijo[nodo];
+        int hasta = desde + cantidadHijos[nodo] - 1;
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            char primero = etiquetas[inicioEtiqueta[medio]];
+            if (primero < caracter) {
+                desde = medio + 1;
+            } else if (primero > caracter) {
+                hasta = medio - 1;
+            } else {
+                return medio;
+            }
+        }
+        return SIN_NODO;
+    }
+
+    private static boolean esInicioDePalabra(CharSequence clave, int posicion) {
+        return Character.isLetterOrDigit(clave.charAt(posicion))
+                && (posicion == 0 || !Character.isLetterOrDigit(clave.charAt(posicion - 1)));
+    }
+
+    // Estado de la construcción: las claves (el resto del nombre desde cada palabra) se ordenan con un quicksort
+    // de tres vías por carácter y el trie se arma recorriendo ese orden, con los hijos de cada nodo numerados
+    // de forma contigua. Las sugerencias de cada nodo salen de las claves que terminan en él y de las sugerencias
+    // de sus hijos, así que cada clave se compara una sola vez por nivel del trie en el que termina.
+    private static final class Construccion {
+        private static final int CAPACIDAD_INICIAL = 64;
+
+        private final IntToDoubleFunction calificacion;
+        private final char[] texto;
+        private final int[] finClave;
+        private final int[] posicionSufijo;
+        private final int[] ordinalSufijo;
+        private final SeleccionPorPuntaje seleccion = new SeleccionPorPuntaje(SUGERENCIAS_POR_NODO);
+        private int[] candidatos = new int[CAPACIDAD_INICIAL];
+
+        private char[] etiquetas = new char[CAPACIDAD_INICIAL];
+        private int largoEtiquetas;
+        private int[] inicioEtiqueta = new int[CAPACIDAD_INICIAL];
+        private int[] largoEtiqueta = new int[CAPACIDAD_INICIAL];
+        private int[] primerHijo = new int[CAPACIDAD_INICIAL];
+        private int[] cantidadHijos = new int[CAPACIDAD_INICIAL];
+        private int[] desdeClave = new int[CAPACIDAD_INICIAL];
+        private int[] hastaClave = new int[CAPACIDAD_INICIAL];
+        private int[] inicioMejores = new int[CAPACIDAD_INICIAL];
+        private int[] cantidadMejores = new int[CAPACIDAD_INICIAL];
+        private int nodos;
+        private int[] mejores = new int[CAPACIDAD_INICIAL];
+        private int largoMejores;
+
+        private Construccion(IndiceTrigramas nombres, IntToDoubleFunction calificacion) {
+            this.calificacion = calificacion;
+            int ordinales = nombres.ordinales();
+            StringBuilder claves = new StringBuilder();
+            int[] inicios = new int[ordinales + 1];
+            int cantidadSufijos = 0;
+            for (int ordinal = 0; ordinal < ordinales; ordinal++) {
+                String clave = nombres.clave(ordinal);
+                inicios[ordinal] = claves.length();
+                claves.append(clave);
+                for (int i = 0; i < clave.length(); i++) {
+                    if (esInicioDePalabra(clave, i)) {
+                        cantidadSufijos++;
+                    }
+                }
+            }
+            inicios[ordinales] = claves.length();
+            this.texto = new char[claves.length()];
+            claves.getChars(0, claves.length(), texto, 0);
+            this.finClave = new int[cantidadSufijos];
+            this.posicionSufijo = new int[cantidadSufijos];
+            this.ordinalSufijo = new int[cantidadSufijos];
+            int sufijo = 0;
+            for (int ordinal = 0; ordinal < ordinales; ordinal++) {
+                for (int posicion = inicios[ordinal]; posicion < inicios[ordinal + 1]; posicion++) {
+                    if (Character.isLetterOrDigit(texto[posicion])
+                            && (posicion == inicios[ordinal] || !Character.isLetterOrDigit(texto[posicion - 1]))) {
+                        posicionSufijo[sufijo] = posicion;
+                        finClave[sufijo] = inicios[ordinal + 1];
+                        ordinalSufijo[sufijo] = ordinal;
+                        sufijo++;
+                    }
+                }
+            }
+        }
+
+        private Construccion construir() {
+            ordenar(0, ordinalSufijo.length, 0);
+            reservarNodos(1);
+            construirNodo(RAIZ, 0, ordinalSufijo.length, 0);
+            return this;
+        }
+
+        // Este método arma el nodo cuyo subárbol son las claves [desde, hasta), que comparten los primeros
+        // 'profundidad' caracteres: su arista llega hasta el prefijo común de todas ellas.
+        private void construirNodo(int nodo, int desde, int hasta, int profundidad) {
+            int comun = nodo == RAIZ || desde == hasta
+                    ? profundidad : prefijoComun(desde, hasta - 1, profundidad);
+            int inicio = desde == hasta ? 0 : posicionSufijo[desde];
+            inicioEtiqueta[nodo] = agregarEtiqueta(inicio + profundidad, comun - profundidad);
+            largoEtiqueta[nodo] = comun - profundidad;
+            desdeClave[nodo] = desde;
+            hastaClave[nodo] = hasta;
+
+            int terminadas = desde;
+            while (terminadas < hasta && caracter(terminadas, comun) == FIN_DE_CLAVE) {
+                terminadas++;
+            }
+            int grupos = 0;
+            for (int i = terminadas; i < hasta; i++) {
+                if (i == terminadas || caracter(i, comun) != caracter(i - 1, comun)) {
+                    grupos++;
+                }
+            }
+            int base = reservarNodos(grupos);
+            primerHijo[nodo] = base;
+            cantidadHijos[nodo] = grupos;
+            int hijo = base;
+            for (int i = terminadas; i < hasta; ) {
+                int fin = i + 1;
+                while (fin < hasta && caracter(fin, comun) == caracter(i, comun)) {
+                    fin++;
+                }
+                construirNodo(hijo++, i, fin, comun);
+                i = fin;
+            }
+            seleccionarMejores(nodo, desde, terminadas);
+        }
+
+        // Este método elige las sugerencias del nodo entre las claves que terminan en él y las de sus hijos.
+        private void seleccionarMejores(int nodo, int desde, int terminadas) {
+            int cantidad = 0;
+            for (int i = desde; i < terminadas; i++) {
+                candidatos = asegurar(candidatos, cantidad + 1);
+                candidatos[cantidad++] = ordinalSufijo[i];
+            }
+            for (int hijo = primerHijo[nodo]; hijo < primerHijo[nodo] + cantidadHijos[nodo]; hijo++) {
+                candidatos = asegurar(candidatos, cantidad + cantidadMejores[hijo]);
+                System.arraycopy(mejores, inicioMejores[hijo], candidatos, cantidad, cantidadMejores[hijo]);
+                cantidad += cantidadMejores[hijo];
+            }
+            inicioMejores[nodo] = largoMejores;
+            if (cantidad == 1) {
+                // Hoja con una sola clave, el caso más común: no hay nada que ordenar.
+                mejores = asegurar(mejores, largoMejores + 1);
+                mejores[largoMejores++] = candidatos[0];
+                cantidadMejores[nodo] = 1;
+                return;
+            }
+            Arrays.sort(candidatos, 0, cantidad);
+            for (int i = 0; i < cantidad; i++) {
+                if (i == 0 || candidatos[i] != candidatos[i - 1]) {
+                    seleccion.ofrecer(candidatos[i], calificacion.applyAsDouble(candidatos[i]));
+                }
+            }
+            int[] elegidos = seleccion.ordenados();
+            mejores = asegurar(mejores, largoMejores + elegidos.length);
+            System.arraycopy(elegidos, 0, mejores, largoMejores, elegidos.length);
+            cantidadMejores[nodo] = elegidos.length;
+            largoMejores += elegidos.length;
+        }
+
+        // Quicksort de tres vías por carácter (Bentley y Sedgewick): separa las claves menores, iguales y mayores
+        // al carácter pivote en la profundidad dada y solo las iguales avanzan al carácter siguiente.
+        private void ordenar(int desde, int hasta, int profundidad) {
+            while (hasta - desde > 1) {
+                int pivote = caracter((desde + hasta) >>> 1, profundidad);
+                int menores = desde;
+                int mayores = hasta;
+                int i = desde;
+                while (i < mayores) {
+                    int actual = caracter(i, profundidad);
+                    if (actual < pivote) {
+                        intercambiar(menores++, i++);
+                    } else if (actual > pivote) {
+                        intercambiar(i, --mayores);
+                    } else {
+                        i++;
+                    }
+                }
+                ordenar(desde, menores, profundidad);
+                ordenar(mayores, hasta, profundidad);
+                if (pivote == FIN_DE_CLAVE) {
+                    return;
+                }
+                desde = menores;
+                hasta = mayores;
+                profundidad++;
+            }
+        }
+
+        // Carácter de la clave en la posición 'sufijo' del orden actual, o FIN_DE_CLAVE si es más corta.
+        private int caracter(int sufijo, int profundidad) {
+            int posicion = posicionSufijo[sufijo] + profundidad;
+            return posicion < finClave[sufijo] ? texto[posicion] : FIN_DE_CLAVE;
+        }
+
+        private int prefijoComun(int primero, int ultimo, int desde) {
+            int largo = desde;
+            while (caracter(primero, largo) != FIN_DE_CLAVE && caracter(primero, largo) == caracter(ultimo, largo)) {
+                largo++;
+            }
+            return largo;
+        }
+
+        // Las claves se ordenan moviendo juntos sus tres atributos, sin un arreglo de índices intermedio.
+        private void intercambiar(int a, int b) {
+            int posicion = posicionSufijo[a];
+            posicionSufijo[a] = posicionSufijo[b];
+            posicionSufijo[b] = posicion;
+            int fin = finClave[a];
+            finClave[a] = finClave[b];
+            finClave[b] = fin;
+            int ordinal = ordinalSufijo[a];
+            ordinalSufijo[a] = ordinalSufijo[b];
+            ordinalSufijo[b] = ordinal;
+        }
+
+        private int agregarEtiqueta(int desde, int largo) {
+            if (etiquetas.length < largoEtiquetas + largo) {
+                etiquetas = Arrays.copyOf(etiquetas, (largoEtiquetas + largo) << 1);
+            }
+            System.arraycopy(texto, desde, etiquetas, largoEtiquetas, largo);
+            int inicio = largoEtiquetas;
+            largoEtiquetas += largo;
+            return inicio;
+        }
+
+        // Este método reserva nodos consecutivos (los hijos de un mismo nodo) y devuelve el primero.
+        private int reservarNodos(int cantidad) {
+            int requeridos = nodos + cantidad;
+            inicioEtiqueta = asegurar(inicioEtiqueta, requeridos);
+            largoEtiqueta = asegurar(largoEtiqueta, requeridos);
+            primerHijo = asegurar(primerHijo, requeridos);
+            cantidadHijos = asegurar(cantidadHijos, requeridos);
+            desdeClave = asegurar(desdeClave, requeridos);
+            hastaClave = asegurar(hastaClave, requeridos);
+            inicioMejores = asegurar(inicioMejores, requeridos);
+            cantidadMejores = asegurar(cantidadMejores, requeridos);
+            int primero = nodos;
+            nodos = requeridos;
+            return primero;
+        }
+
+        private static int[] asegurar(int[] arreglo, int capacidad) {
+            return capacidad <= arreglo.length ? arreglo : Arrays.copyOf(arreglo, Math.max(arreglo.length << 1, capacidad));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import java.util.Arrays;
+
+// Mapa de direccionamiento abierto idProducto -> ordinal sobre arreglos primitivos.
+// Evita el boxing de Long y resuelve cada búsqueda en O(1) con sondeo lineal.
+public final class IndiceIds {
+    public static final int NO_ENCONTRADO = -1;
+
+    private static final long MULTIPLICADOR_FIBONACCI = 0x9E3779B97F4A7C15L;
+    private static final double FACTOR_CARGA = 0.5;
+    private static final int CAPACIDAD_MINIMA = 16;
+
+    private long[] claves;
+    private int[] ordinales;
+    private int mascara;
+    private int desplazamiento;
+    private int tamanio;
+
+    public IndiceIds(int capacidadEsperada) {
+        redimensionar(capacidadPara(capacidadEsperada));
+    }
+
+    // Registra el ordinal de un id; si el id ya existe se conserva la primera aparición.
+    public boolean agregar(long id, int ordinal) {
+        if (tamanio + 1 > (mascara + 1) * FACTOR_CARGA) {
+            crecer();
+        }
+        int posicion = posicionInicial(id);
+        while (ordinales[posicion] != NO_ENCONTRADO) {
+            if (claves[posicion] == id) {
+                return false;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        claves[posicion] = id;
+        ordinales[posicion] = ordinal;
+        tamanio++;
+        return true;
+    }
+
+    // Devuelve el ordinal asociado al id o NO_ENCONTRADO.
+    public int buscar(long id) {
+        int posicion = posicionInicial(id);
+        int ordinal;
+        while ((ordinal = ordinales[posicion]) != NO_ENCONTRADO) {
+            if (claves[posicion] == id) {
+                return ordinal;
+            }
+            posicion = (posicion + 1) & mascara;
+        }
+        return NO_ENCONTRADO;
+    }
+
+    public int tamanio() {
+        return tamanio;
+    }
+
+    public long bytesOcupados() {
+        return (long) claves.length * Long.BYTES + (long) ordinales.length * Integer.BYTES;
+    }
+
+    private int posicionInicial(long id) {
+        return (int) ((id * MULTIPLICADOR_FIBONACCI) >>> desplazamiento);
+    }
+
+    private void crecer() {
+        long[] clavesAnteriores = claves;
+        int[] ordinalesAnteriores = ordinales;
+        redimensionar(claves.length << 1);
+        tamanio = 0;
+        for (int i = 0; i < clavesAnteriores.length; i++) {
+            if (ordinalesAnteriores[i] != NO_ENCONTRADO) {
+                agregar(clavesAnteriores[i], ordinalesAnteriores[i]);
+            }
+        }
+    }
+
+    private void redimensionar(int capacidad) {
+        claves = new long[capacidad];
+        ordinales = new int[capacidad];
+        Arrays.fill(ordinales, NO_ENCONTRADO);
+        mascara = capacidad - 1;
+        desplazamiento = Long.SIZE - Integer.numberOfTrailingZeros(capacidad);
+    }
+
+    private static int capacidadPara(int elementos) {
+        long requerida = (long) Math.ceil(Math.max(elementos, 1) / FACTOR_CARGA);
+        long capacidad = Long.highestOneBit(Math.max(requerida, CAPACIDAD_MINIMA) - 1) << 1;
+        if (capacidad > 1 << 30) {
+            throw new IllegalArgumentException("Capacidad excedida para el índice de IDs: " + elementos);
+        }
+        return (int) capacidad;
+    }
+}
@@ -0,0 +1,173 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+// Índice ordenado de una columna numérica (precio, calificación): un double[] con los valores de menor a
+// mayor y un int[] con la permutación de ordinales correspondiente. Un rango [mínimo, máximo] se resuelve
+// con dos búsquedas binarias en un tramo contiguo de la permutación, cuyo tamaño se conoce sin recorrer el
+// catálogo, y la permutación completa da el orden del catálogo por esa columna. Los valores NaN no son
+// comparables y quedan al final; como en el filtro por columnas, ningún rango los excluye.
+public final class IndiceOrdenado {
+    private static final int BITS_DIGITO = 16;
+    private static final int CUBETAS = 1 << BITS_DIGITO;
+    private static final int PASADAS = Long.SIZE / BITS_DIGITO;
+    // Un tramo de más de 1/64 del catálogo ya cuesta más ordenarlo que recorrer una palabra por cada 64 ordinales.
+    private static final int ORDINALES_POR_PALABRA = Long.SIZE;
+
+    private final double[] valores;
+    private final int[] ordinales;
+    private final int comparables;
+
+    private IndiceOrdenado(double[] valores, int[] ordinales, int comparables) {
+        this.valores = valores;
+        this.ordinales = ordinales;
+        this.comparables = comparables;
+    }
+
+    // Este método ordena los ordinales por valor con un radix sort estable sobre la representación
+    // ordenable de cada double, de modo que los empates conservan el orden de catálogo. El orden resultante
+    // es el de Double.compare.
+    public static IndiceOrdenado desde(int tamanio, IntToDoubleFunction valorDe) {
+        long[] claves = new long[tamanio];
+        int[] ordinales = new int[tamanio];
+        for (int ordinal = 0; ordinal < tamanio; ordinal++) {
+            claves[ordinal] = claveOrdenable(valorDe.applyAsDouble(ordinal));
+            ordinales[ordinal] = ordinal;
+        }
+        ordenarPorRadix(claves, ordinales);
+
+        double[] valores = new double[tamanio];
+        int comparables = 0;
+        for (int posicion = 0; posicion < tamanio; posicion++) {
+            valores[posicion] = valorDe.applyAsDouble(ordinales[posicion]);
+            if (!Double.isNaN(valores[posicion])) {
+                comparables++;
+            }
+        }
+        return new IndiceOrdenado(valores, ordinales, comparables);
+    }
+
+    public int tamanio() {
+        return ordinales.length;
+    }
+
+    // Primera posición cuyo valor no es menor que el mínimo.
+    public int posicionDesde(double minimo) {
+        int desde = 0;
+        int hasta = comparables;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (valores[medio] < minimo) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+
+    // Primera posición cuyo valor supera el máximo.
+    public int posicionHasta(double maximo) {
+        int desde = 0;
+        int hasta = comparables;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (valores[medio] > maximo) {
+                hasta = medio;
+            } else {
+                desde = medio + 1;
+            }
+        }
+        return desde;
+    }
+
+    // Cantidad de productos con valor en [mínimo, máximo], incluidos los que no tienen valor comparable.
+    public int contarEntre(double minimo, double maximo) {
+        return Math.max(0, posicionHasta(maximo) - posicionDesde(minimo)) + (ordinales.length - comparables);
+    }
+
+    // Este método devuelve, en orden de catálogo, los ordinales con valor en [mínimo, máximo]
+    // más los que no tienen valor comparable.
+    public int[] ordinalesEntre(double minimo, double maximo) {
+        int desde = posicionDesde(minimo);
+        int hasta = Math.max(desde, posicionHasta(maximo));
+        int[] resultado = new int[hasta - desde + ordinales.length - comparables];
+        System.arraycopy(ordinales, desde, resultado, 0, hasta - desde);
+        System.arraycopy(ordinales, comparables, resultado, hasta - desde, ordinales.length - comparables);
+        return enOrdenDeCatalogo(resultado, resultado.length, ordinales.length);
+    }
+
+    // Este método devuelve en orden de catálogo los primeros cantidad ordinales (sin repetidos) del arreglo. Los
+    // conjuntos chicos se ordenan por comparación; los grandes se vuelcan a un conjunto de bits del tamaño del
+    // catálogo y se leen en orden, sin comparaciones.
+    public static int[] enOrdenDeCatalogo(int[] ordinales, int cantidad, int tamanioCatalogo) {
+        if ((long) cantidad * ORDINALES_POR_PALABRA < tamanioCatalogo) {
+            int[] resultado = Arrays.copyOf(ordinales, cantidad);
+            Arrays.sort(resultado);
+            return resultado;
+        }
+        long[] palabras = new long[(tamanioCatalogo + ORDINALES_POR_PALABRA - 1) / ORDINALES_POR_PALABRA];
+        for (int i = 0; i < cantidad; i++) {
+            palabras[ordinales[i] >>> 6] |= 1L << ordinales[i];
+        }
+        int[] resultado = new int[cantidad];
+        int llenos = 0;
+        for (int palabra = 0; palabra < palabras.length; palabra++) {
+            long bits = palabras[palabra];
+            while (bits != 0) {
+                resultado[llenos++] = palabra * ORDINALES_POR_PALABRA + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return resultado;
+    }
+
+    public int ordinal(int posicion) {
+        return ordinales[posicion];
+    }
+
+    public double valor(int posicion) {
+        return valores[posicion];
+    }
+
+    public long bytesOcupados() {
+        return (long) valores.length * Double.BYTES + (long) ordinales.length * Integer.BYTES;
+    }
+
+    // Transforma los bits del double para que su orden sin signo coincida con el orden numérico
+    // (negativos invertidos, positivos con el bit de signo encendido; NaN canónico queda al final).
+    private static long claveOrdenable(double valor) {
+        long bits = Double.doubleToLongBits(valor);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    private static void ordenarPorRadix(long[] claves, int[] ordinales) {
+        long[] clavesAuxiliares = new long[claves.length];
+        int[] ordinalesAuxiliares = new int[ordinales.length];
+        int[] conteos = new int[CUBETAS];
+        for (int pasada = 0; pasada < PASADAS; pasada++) {
+            int desplazamiento = pasada * BITS_DIGITO;
+            Arrays.fill(conteos, 0);
+            for (long clave : claves) {
+                conteos[(int) (clave >>> desplazamiento) & (CUBETAS - 1)]++;
+            }
+            if (claves.length == 0 || conteos[(int) (claves[0] >>> desplazamiento) & (CUBETAS - 1)] == claves.length) {
+                continue;
+            }
+            int acumulado = 0;
+            for (int cubeta = 0; cubeta < CUBETAS; cubeta++) {
+                int cantidad = conteos[cubeta];
+                conteos[cubeta] = acumulado;
+                acumulado += cantidad;
+            }
+            for (int i = 0; i < claves.length; i++) {
+                int destino = conteos[(int) (claves[i] >>> desplazamiento) & (CUBETAS - 1)]++;
+                clavesAuxiliares[destino] = claves[i];
+                ordinalesAuxiliares[destino] = ordinales[i];
+            }
+            System.arraycopy(clavesAuxiliares, 0, claves, 0, claves.length);
+            System.arraycopy(ordinalesAuxiliares, 0, ordinales, 0, ordinales.length);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+// Índice espacial de dos columnas numéricas (precio × calificación) en forma de rejilla ordenada: el catálogo
+// ordenado por la primera columna se corta en celdas de igual cantidad de productos (unas √N de √N cada una) y
+// dentro de cada celda los productos quedan ordenados por la segunda columna. Una consulta de caja
+// [xMín, xMáx] × [yMín, yMáx] solo visita las celdas que tocan el tramo de x: en las interiores el rango de y
+// es un tramo contiguo que se ubica con dos búsquedas binarias y se toma sin mirar fila por fila; solo las dos
+// celdas del borde verifican la posición de cada fila en el orden por x. Como en IndiceOrdenado, los valores NaN
+// de cualquiera de las dos columnas no son comparables y ningún rango los excluye.
+public final class IndiceRejilla {
+    private static final int TAMANIO_MINIMO_CELDA = 64;
+
+    private final IndiceOrdenado porX;
+    private final int tamanioCelda;
+    private final int[] ordinales;
+    private final double[] valoresY;
+    private final int[] posicionesX;
+    private final int[] finComparablesY;
+
+    private IndiceRejilla(IndiceOrdenado porX, int tamanioCelda, int[] ordinales, double[] valoresY,
+                          int[] posicionesX, int[] finComparablesY) {
+        this.porX = porX;
+        this.tamanioCelda = tamanioCelda;
+        this.ordinales = ordinales;
+        this.valoresY = valoresY;
+        this.posicionesX = posicionesX;
+        this.finComparablesY = finComparablesY;
+    }
+
+    // Este método arma la rejilla a partir de los índices ordenados de las dos columnas sin volver a ordenar:
+    // recorre el catálogo en orden de y y reparte cada producto en la celda que le toca por su posición en el
+    // orden de x, así que cada celda queda ordenada por y (con los empates en orden de catálogo).
+    public static IndiceRejilla desde(IndiceOrdenado porX, IndiceOrdenado porY) {
+        int tamanio = porX.tamanio();
+        int tamanioCelda = Math.max(TAMANIO_MINIMO_CELDA, (int) Math.ceil(Math.sqrt(tamanio)));
+        int celdas = (tamanio + tamanioCelda - 1) / tamanioCelda;
+
+        int[] posicionX = new int[tamanio];
+        for (int posicion = 0; posicion < tamanio; posicion++) {
+            posicionX[porX.ordinal(posicion)] = posicion;
+        }
+        int[] ordinales = new int[tamanio];
+        double[] valoresY = new double[tamanio];
+        int[] posicionesX = new int[tamanio];
+        int[] siguiente = new int[celdas];
+        for (int celda = 0; celda < celdas; celda++) {
+            siguiente[celda] = celda * tamanioCelda;
+        }
+        for (int posicionY = 0; posicionY < tamanio; posicionY++) {
+            int ordinal = porY.ordinal(posicionY);
+            int destino = siguiente[posicionX[ordinal] / tamanioCelda]++;
+            ordinales[destino] = ordinal;
+            valoresY[destino] = porY.valor(posicionY);
+            posicionesX[destino] = posicionX[ordinal];
+        }
+
+        int[] finComparablesY = new int[celdas];
+        for (int celda = 0; celda < celdas; celda++) {
+            int fin = Math.min(tamanio, (celda + 1) * tamanioCelda);
+            int posicion = celda * tamanioCelda;
+            while (posicion < fin && !Double.isNaN(valoresY[posicion])) {
+                posicion++;
+            }
+            finComparablesY[celda] = posicion;
+        }
+        return new IndiceRejilla(porX, tamanioCelda, ordinales, valoresY, posicionesX, finComparablesY);
+    }
+
+    public int tamanioCelda() {
+        return tamanioCelda;
+    }
+
+    public int celdas() {
+        return finComparablesY.length;
+    }
+
+    // Cantidad de productos dentro de la caja, calculada con el mismo recorrido que ordinalesEntre pero sin
+    // copiar ordinales: las celdas interiores cuestan dos búsquedas binarias y solo las del borde se recorren.
+    public int contarEntre(double xMinimo, double xMaximo, double yMinimo, double yMaximo) {
+        return recorrer(xMinimo, xMaximo, yMinimo, yMaximo, null);
+    }
+
+    // Este método devuelve, en orden de catálogo, los ordinales dentro de la caja más los que no tienen valor
+    // comparable en alguna de las dos columnas.
+    public int[] ordinalesEntre(double xMinimo, double xMaximo, double yMinimo, double yMaximo) {
+        int[] encontrados = new int[contarEntre(xMinimo, xMaximo, yMinimo, yMaximo)];
+        recorrer(xMinimo, xMaximo, yMinimo, yMaximo, encontrados);
+        return IndiceOrdenado.enOrdenDeCatalogo(encontrados, encontrados.length, ordinales.length);
+    }
+
+    public long bytesOcupados() {
+        return (long) ordinales.length * (Integer.BYTES * 2 + Double.BYTES)
+                + (long) finComparablesY.length * Integer.BYTES;
+    }
+
+    // Cantidad de celdas que recorre una consulta con ese tramo de x: las que lo tocan más las del final con x NaN.
+    int celdasVisitadas(double xMinimo, double xMaximo) {
+        int desdeX = porX.posicionDesde(xMinimo);
+        int hastaX = Math.max(desdeX, porX.posicionHasta(xMaximo));
+        int finCeldas = finCeldas(desdeX, hastaX);
+        return finCeldas - desdeX / tamanioCelda + celdas() - primeraCeldaSinValor(finCeldas);
+    }
+
+    // Este método recorre solo las celdas que tocan el tramo de x pedido (como tienen igual cantidad de productos,
+    // la celda de una posición es una división) y las del final con x NaN; devuelve cuántos productos caen dentro
+    // de la caja y, si recibe un destino, además copia ahí sus ordinales.
+    private int recorrer(double xMinimo, double xMaximo, double yMinimo, double yMaximo, int[] destino) {
+        int desdeX = porX.posicionDesde(xMinimo);
+        int hastaX = Math.max(desdeX, porX.posicionHasta(xMaximo));
+        int comparablesX = porX.posicionHasta(Double.POSITIVE_INFINITY);
+        int finCeldas = finCeldas(desdeX, hastaX);
+        int encontrados = 0;
+        for (int celda = desdeX / tamanioCelda; celda < finCeldas; celda++) {
+            encontrados = recorrerCelda(celda, desdeX, hastaX, comparablesX, yMinimo, yMaximo, destino, encontrados);
+        }
+        for (int celda = primeraCeldaSinValor(finCeldas); celda < celdas(); celda++) {
+            encontrados = recorrerCelda(celda, desdeX, hastaX, comparablesX, yMinimo, yMaximo, destino, encontrados);
+        }
+        return encontrados;
+    }
+
+    private int recorrerCelda(int celda, int desdeX, int hastaX, int comparablesX, double yMinimo, double yMaximo,
+                              int[] destino, int encontrados) {
+        int inicio = celda * tamanioCelda;
+        int fin = Math.min(ordinales.length, inicio + tamanioCelda);
+        int finComparables = finComparablesY[celda];
+        int desdeY = primeraPosicion(inicio, finComparables, yMinimo, false);
+        int hastaY = Math.max(desdeY, primeraPosicion(inicio, finComparables, yMaximo, true));
+        if ((desdeX <= inicio && fin <= hastaX) || inicio >= comparablesX) {
+            encontrados = copiar(desdeY, hastaY, destino, encontrados);
+            return copiar(finComparables, fin, destino, encontrados);
+        }
+        for (int posicion = desdeY; posicion < hastaY; posicion++) {
+            encontrados = copiarSiEnRango(posicion, desdeX, hastaX, comparablesX, destino, encontrados);
+        }
+        for (int posicion = finComparables; posicion < fin; posicion++) {
+            encontrados = copiarSiEnRango(posicion, desdeX, hastaX, comparablesX, destino, encontrados);
+        }
+        return encontrados;
+    }
+
+    private int finCeldas(int desdeX, int hastaX) {
+        return hastaX > desdeX ? (hastaX - 1) / tamanioCelda + 1 : desdeX / tamanioCelda;
+    }
+
+    // Primera celda con productos sin x comparable (van al final del orden por x) que no se recorrió ya.
+    private int primeraCeldaSinValor(int finCeldas) {
+        int comparablesX = porX.posicionHasta(Double.POSITIVE_INFINITY);
+        int primera = comparablesX == ordinales.length ? celdas() : comparablesX / tamanioCelda;
+        return Math.max(finCeldas, primera);
+    }
+
+    private int copiar(int desde, int hasta, int[] destino, int encontrados) {
+        if (destino != null) {
+            System.arraycopy(ordinales, desde, destino, encontrados, hasta - desde);
+        }
+        return encontrados + hasta - desde;
+    }
+
+    private int copiarSiEnRango(int posicion, int desdeX, int hastaX, int comparablesX, int[] destino,
+                                int encontrados) {
+        int posicionX = posicionesX[posicion];
+        if ((posicionX < desdeX || posicionX >= hastaX) && posicionX < comparablesX) {
+            return encontrados;
+        }
+        if (destino != null) {
+            destino[encontrados] = ordinales[posicion];
+        }
+        return encontrados + 1;
+    }
+
+    // Primera posición de [desde, hasta) con y mayor o igual (o estrictamente mayor) que el buscado.
+    private int primeraPosicion(int desde, int hasta, double valor, boolean estricto) {
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (valoresY[medio] < valor || (estricto && valoresY[medio] == valor)) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+}
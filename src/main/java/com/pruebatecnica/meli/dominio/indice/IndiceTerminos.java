@@ -0,0 +1,282 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.texto.DistanciaEdicion;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+// Índice de las palabras del nombre para la búsqueda tolerante a errores. Guarda el diccionario ordenado de
+// palabras distintas (contiguas en un único arreglo de caracteres) con la lista de ordinales de cada una, y un
+// árbol BK sobre las palabras con letras: cada nodo es una palabra y sus hijos cuelgan según su distancia de
+// edición a ella, así que por desigualdad triangular una búsqueda con tolerancia k desde un nodo a distancia d
+// solo visita los hijos a distancia entre d - k y d + k, sin comparar contra todo el diccionario. Las palabras
+// sin letras (números, modelos) solo se buscan de forma exacta en el diccionario ordenado.
+public final class IndiceTerminos {
+    private static final int SIN_NODO = -1;
+    private static final int CAPACIDAD_INICIAL_LISTA = 2;
+    private static final int CAPACIDAD_INICIAL_PILA = 64;
+
+    private final char[] caracteres;
+    // La palabra t ocupa caracteres[iniciosTermino[t], iniciosTermino[t + 1]) y sus ordinales
+    // ordinales[iniciosOrdinales[t], iniciosOrdinales[t + 1]).
+    private final int[] iniciosTermino;
+    private final int[] ordinales;
+    private final int[] iniciosOrdinales;
+    private final int[] terminoDelNodo;
+    private final int[] primerHijo;
+    private final int[] siguienteHermano;
+    private final int[] distanciaAlPadre;
+
+    private IndiceTerminos(char[] caracteres, int[] iniciosTermino, int[] ordinales, int[] iniciosOrdinales,
+                           int[] terminoDelNodo) {
+        this.caracteres = caracteres;
+        this.iniciosTermino = iniciosTermino;
+        this.ordinales = ordinales;
+        this.iniciosOrdinales = iniciosOrdinales;
+        this.terminoDelNodo = terminoDelNodo;
+        this.primerHijo = new int[terminoDelNodo.length];
+        this.siguienteHermano = new int[terminoDelNodo.length];
+        this.distanciaAlPadre = new int[terminoDelNodo.length];
+        Arrays.fill(primerHijo, SIN_NODO);
+        Arrays.fill(siguienteHermano, SIN_NODO);
+        for (int nodo = 1; nodo < terminoDelNodo.length; nodo++) {
+            insertar(nodo);
+        }
+    }
+
+    // Este método construye el índice con las claves de búsqueda que el índice de trigramas guardó al construir
+    // la base, sin volver a decodificar ni normalizar los nombres.
+    public static IndiceTerminos desde(IndiceTrigramas nombres) {
+        Map<String, Integer> ids = new HashMap<>();
+        String[] terminos = new String[Math.max(nombres.ordinales(), 1)];
+        int[][] listas = new int[terminos.length][];
+        int[] longitudes = new int[terminos.length];
+        for (int ordinal = 0; ordinal < nombres.ordinales(); ordinal++) {
+            for (String termino : DistanciaEdicion.terminos(nombres.clave(ordinal))) {
+                Integer id = ids.get(termino);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(termino, id);
+                    if (id == terminos.length) {
+                        terminos = Arrays.copyOf(terminos, id << 1);
+                        listas = Arrays.copyOf(listas, id << 1);
+                        longitudes = Arrays.copyOf(longitudes, id << 1);
+                    }
+                    terminos[id] = termino;
+                    listas[id] = new int[CAPACIDAD_INICIAL_LISTA];
+                }
+                agregarOrdinal(listas, longitudes, id, ordinal);
+            }
+        }
+        return ordenar(Arrays.copyOf(terminos, ids.size()), listas, longitudes, ids);
+    }
+
+    // Este método devuelve los ordinales cuyo nombre tiene, para cada término de la consulta, una palabra dentro
+    // de la tolerancia del término (ver DistanciaEdicion). clave es la consulta ya normalizada con ClaveBusqueda.
+    public MapaBits coincidencias(String clave) {
+        String[] terminosConsulta = DistanciaEdicion.terminos(clave);
+        if (terminosConsulta.length == 0) {
+            return MapaBits.VACIO;
+        }
+        MapaBits resultado = null;
+        for (String termino : terminosConsulta) {
+            MapaBits delTermino = ordinalesDe(cercanos(termino));
+            resultado = resultado == null ? delTermino : resultado.y(delTermino);
+            if (resultado.vacio()) {
+                break;
+            }
+        }
+        return resultado;
+    }
+
+    // Este método devuelve las palabras del diccionario que coinciden con el término dentro de su tolerancia.
+    public String[] terminosCercanos(String termino) {
+        int[] cercanos = cercanos(termino);
+        String[] resultado = new String[cercanos.length];
+        for (int i = 0; i < cercanos.length; i++) {
+            resultado[i] = termino(cercanos[i]);
+        }
+        return resultado;
+    }
+
+    public int terminosDistintos() {
+        return iniciosTermino.length - 1;
+    }
+
+    public long bytesOcupados() {
+        return (long) caracteres.length * Character.BYTES
+                + ((long) iniciosTermino.length + ordinales.length + iniciosOrdinales.length
+                + (long) terminoDelNodo.length * 4) * Integer.BYTES;
+    }
+
+    // Este método resuelve los términos cercanos: de forma exacta si el término no tolera errores y, si no,
+    // recorriendo el árbol BK con una pila y descartando las ramas que la desigualdad triangular excluye.
+    private int[] cercanos(String termino) {
+        int tolerancia = DistanciaEdicion.toleranciaPara(termino);
+        if (tolerancia == 0 || terminoDelNodo.length == 0) {
+            int exacto = buscarExacto(termino);
+            return exacto < 0 ? new int[0] : new int[]{exacto};
+        }
+        int[] encontrados = new int[CAPACIDAD_INICIAL_LISTA];
+        int cantidad = 0;
+        int[] pila = new int[CAPACIDAD_INICIAL_PILA];
+        int tope = 0;
+        pila[tope++] = 0;
+        while (tope > 0) {
+            int nodo = pila[--tope];
+            int distancia = distancia(termino, terminoDelNodo[nodo]);
+            if (distancia <= tolerancia) {
+                if (cantidad == encontrados.length) {
+                    encontrados = Arrays.copyOf(encontrados, cantidad << 1);
+                }
+                encontrados[cantidad++] = terminoDelNodo[nodo];
+            }
+            for (int hijo = primerHijo[nodo]; hijo != SIN_NODO; hijo = siguienteHermano[hijo]) {
+                if (Math.abs(distanciaAlPadre[hijo] - distancia) <= tolerancia) {
+                    if (tope == pila.length) {
+                        pila = Arrays.copyOf(pila, tope << 1);
+                    }
+                    pila[tope++] = hijo;
+                }
+            }
+        }
+        return Arrays.copyOf(encontrados, cantidad);
+    }
+
+    // Este método une las listas de ordinales de los términos en un mapa de bits.
+    private MapaBits ordinalesDe(int[] terminos) {
+        if (terminos.length == 1) {
+            return MapaBits.desde(Arrays.copyOfRange(ordinales, iniciosOrdinales[terminos[0]],
+                    iniciosOrdinales[terminos[0] + 1]));
+        }
+        int total = 0;
+        for (int termino : terminos) {
+            total += iniciosOrdinales[termino + 1] - iniciosOrdinales[termino];
+        }
+        int[] union = new int[total];
+        int llenos = 0;
+        for (int termino : terminos) {
+            int largo = iniciosOrdinales[termino + 1] - iniciosOrdinales[termino];
+            System.arraycopy(ordinales, iniciosOrdinales[termino], union, llenos, largo);
+            llenos += largo;
+        }
+        Arrays.sort(union);
+        return MapaBits.desde(union);
+    }
+
+    // Este método cuelga el nodo del árbol BK: baja desde la raíz por el hijo que está a la misma distancia
+    // que el nodo nuevo hasta encontrar un lugar libre.
+    private void insertar(int nodo) {
+        String termino = termino(terminoDelNodo[nodo]);
+        int actual = 0;
+        while (true) {
+            int distancia = distancia(termino, terminoDelNodo[actual]);
+            int hijo = primerHijo[actual];
+            while (hijo != SIN_NODO && distanciaAlPadre[hijo] != distancia) {
+                hijo = siguienteHermano[hijo];
+            }
+            if (hijo == SIN_NODO) {
+                distanciaAlPadre[nodo] = distancia;
+                siguienteHermano[nodo] = primerHijo[actual];
+                primerHijo[actual] = nodo;
+                return;
+            }
+            actual = hijo;
+        }
+    }
+
+    private int distancia(String termino, int otro) {
+        int inicio = iniciosTermino[otro];
+        int fin = iniciosTermino[otro + 1];
+        return DistanciaEdicion.calcular(termino, caracteres, inicio, fin, Math.max(termino.length(), fin - inicio));
+    }
+
+    private int buscarExacto(String termino) {
+        int desde = 0;
+        int hasta = terminosDistintos() - 1;
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            int comparacion = comparar(termino, medio);
+            if (comparacion == 0) {
+                return medio;
+            }
+            if (comparacion > 0) {
+                desde = medio + 1;
+            } else {
+                hasta = medio - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Compara el término con la palabra t con el mismo criterio que String.compareTo.
+    private int comparar(String termino, int t) {
+        int inicio = iniciosTermino[t];
+        int largo = iniciosTermino[t + 1] - inicio;
+        int comunes = Math.min(termino.length(), largo);
+        for (int i = 0; i < comunes; i++) {
+            int diferencia = termino.charAt(i) - caracteres[inicio + i];
+            if (diferencia != 0) {
+                return diferencia;
+            }
+        }
+        return termino.length() - largo;
+    }
+
+    private String termino(int t) {
+        return new String(caracteres, iniciosTermino[t], iniciosTermino[t + 1] - iniciosTermino[t]);
+    }
+
+    private static void agregarOrdinal(int[][] listas, int[] longitudes, int id, int ordinal) {
+        int longitud = longitudes[id];
+        int[] lista = listas[id];
+        if (longitud > 0 && lista[longitud - 1] == ordinal) {
+            return;
+        }
+        if (longitud == lista.length) {
+            lista = Arrays.copyOf(lista, longitud << 1);
+            listas[id] = lista;
+        }
+        lista[longitud] = ordinal;
+        longitudes[id] = longitud + 1;
+    }
+
+    // Este método ordena el diccionario y aplana palabras y listas en arreglos contiguos. Las palabras con letras
+    // entran al árbol BK de la más frecuente a la menos frecuente, para que las comunes queden cerca de la raíz.
+    private static IndiceTerminos ordenar(String[] terminos, int[][] listas, int[] longitudes,
+                                          Map<String, Integer> ids) {
+        Arrays.sort(terminos);
+        int[] iniciosTermino = new int[terminos.length + 1];
+        int[] iniciosOrdinales = new int[terminos.length + 1];
+        for (int t = 0; t < terminos.length; t++) {
+            iniciosTermino[t + 1] = iniciosTermino[t] + terminos[t].length();
+            iniciosOrdinales[t + 1] = iniciosOrdinales[t] + longitudes[ids.get(terminos[t])];
+        }
+        char[] caracteres = new char[iniciosTermino[terminos.length]];
+        int[] ordinales = new int[iniciosOrdinales[terminos.length]];
+        int conLetras = 0;
+        for (int t = 0; t < terminos.length; t++) {
+            terminos[t].getChars(0, terminos[t].length(), caracteres, iniciosTermino[t]);
+            int id = ids.get(terminos[t]);
+            System.arraycopy(listas[id], 0, ordinales, iniciosOrdinales[t], longitudes[id]);
+            if (DistanciaEdicion.tieneLetras(terminos[t])) {
+                conLetras++;
+            }
+        }
+        Integer[] nodos = new Integer[conLetras];
+        for (int t = 0, nodo = 0; t < terminos.length; t++) {
+            if (DistanciaEdicion.tieneLetras(terminos[t])) {
+                nodos[nodo++] = t;
+            }
+        }
+        Arrays.sort(nodos, Comparator.comparingInt((Integer t) -> iniciosOrdinales[t] - iniciosOrdinales[t + 1])
+                .thenComparingInt(t -> t));
+        int[] terminoDelNodo = new int[conLetras];
+        for (int nodo = 0; nodo < conLetras; nodo++) {
+            terminoDelNodo[nodo] = nodos[nodo];
+        }
+        return new IndiceTerminos(caracteres, iniciosTermino, ordinales, iniciosOrdinales, terminoDelNodo);
+    }
+}
@@ -0,0 +1,477 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.AnalizadorTexto;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+// Índice invertido de la búsqueda de texto completo sobre nombre, descripción y especificaciones (términos de
+// AnalizadorTexto). Cada término apunta a la lista ordenada de ordinales que lo contienen junto con su
+// frecuencia, ponderada por campo (el nombre pesa más que las especificaciones y estas más que la descripción),
+// y cada documento guarda su largo ponderado normalizado. La relevancia es BM25 sobre esas frecuencias.
+// Cada término guarda además la mayor contribución que aporta a cualquier documento, y cada bloque de su lista
+// la mayor dentro del bloque: la búsqueda de los K más relevantes (WAND con cotas por bloque) avanza las listas
+// en orden de ordinal y salta, sin puntuarlos, los documentos y bloques cuya suma de cotas no alcanza al K-ésimo
+// puntaje ya encontrado, así que los términos frecuentes no obligan a puntuar todas sus apariciones.
+public final class IndiceTextoCompleto {
+    // Parámetros usuales de BM25: saturación de la frecuencia y peso de la normalización por largo.
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int PESO_NOMBRE = 3;
+    private static final int PESO_ESPECIFICACIONES = 2;
+    private static final int PESO_DESCRIPCION = 1;
+    // Holgura de las cotas para que el redondeo de sumar en otro orden no las deje por debajo del puntaje real.
+    private static final double HOLGURA_COTA = 1e-9;
+    private static final int TAMANIO_BLOQUE = 64;
+    private static final int CAPACIDAD_INICIAL_LISTA = 2;
+    private static final int SIN_POSTING = Integer.MAX_VALUE;
+
+    private final int documentos;
+    private final double largoPromedio;
+    private final char[] caracteres;
+    // El término t ocupa caracteres[iniciosTermino[t], iniciosTermino[t + 1]) y sus apariciones
+    // ordinales[iniciosListas[t], iniciosListas[t + 1]), con la frecuencia ponderada en frecuencias.
+    private final int[] iniciosTermino;
+    private final int[] ordinales;
+    private final short[] frecuencias;
+    private final int[] iniciosListas;
+    private final float[] normas;
+    private final double[] idf;
+    private final double[] cotas;
+    // Las cotas de los bloques del término t ocupan cotasBloque[iniciosBloques[t], iniciosBloques[t + 1]).
+    private final int[] iniciosBloques;
+    private final double[] cotasBloque;
+
+    private IndiceTextoCompleto(int documentos, double largoPromedio, char[] caracteres, int[] iniciosTermino,
+                                int[] ordinales, short[] frecuencias, int[] iniciosListas, float[] normas) {
+        this.documentos = documentos;
+        this.largoPromedio = largoPromedio;
+        this.caracteres = caracteres;
+        this.iniciosTermino = iniciosTermino;
+        this.ordinales = ordinales;
+        this.frecuencias = frecuencias;
+        this.iniciosListas = iniciosListas;
+        this.normas = normas;
+        int terminos = iniciosTermino.length - 1;
+        this.idf = new double[terminos];
+        this.cotas = new double[terminos];
+        this.iniciosBloques = new int[terminos + 1];
+        for (int t = 0; t < terminos; t++) {
+            int largo = iniciosListas[t + 1] - iniciosListas[t];
+            iniciosBloques[t + 1] = iniciosBloques[t] + (largo + TAMANIO_BLOQUE - 1) / TAMANIO_BLOQUE;
+        }
+        this.cotasBloque = new double[iniciosBloques[terminos]];
+        for (int t = 0; t < terminos; t++) {
+            idf[t] = idf(iniciosListas[t + 1] - iniciosListas[t]);
+            double cota = 0;
+            for (int posicion = iniciosListas[t]; posicion < iniciosListas[t + 1]; posicion++) {
+                double contribucion = contribucion(t, posicion);
+                int bloque = iniciosBloques[t] + (posicion - iniciosListas[t]) / TAMANIO_BLOQUE;
+                cotasBloque[bloque] = Math.max(cotasBloque[bloque], contribucion * (1 + HOLGURA_COTA));
+                cota = Math.max(cota, contribucion);
+            }
+            cotas[t] = cota * (1 + HOLGURA_COTA);
+        }
+    }
+
+    // Este método indexa los productos en orden de catálogo: el ordinal de cada uno es su posición en la lista.
+    public static IndiceTextoCompleto desde(List<Producto> productos) {
+        Construccion construccion = new Construccion(productos.size());
+        for (int ordinal = 0; ordinal < productos.size(); ordinal++) {
+            terminosDe(productos.get(ordinal), construccion::agregar);
+            construccion.cerrarDocumento(ordinal);
+        }
+        return construccion.construir();
+    }
+
+    // Este método devuelve los ordinales que contienen alguno de los términos (ya analizados) de la consulta.
+    public MapaBits coincidencias(String[] terminosConsulta) {
+        MapaBits resultado = MapaBits.VACIO;
+        for (String termino : terminosConsulta) {
+            int t = buscar(termino);
+            if (t >= 0) {
+                resultado = resultado.o(MapaBits.desde(Arrays.copyOfRange(ordinales, iniciosListas[t],
+                        iniciosListas[t + 1])));
+            }
+        }
+        return resultado;
+    }
+
+    // Este método ofrece a la selección los ordinales de mayor puntaje BM25 para los términos de la consulta entre
+    // los que admite el predicado (WAND). Los cursores de las listas se mantienen ordenados por su ordinal actual;
+    // el pivote es el primer cursor en el que la suma de cotas alcanza el umbral de la selección. Si el primer
+    // cursor ya está en el ordinal del pivote, ese documento se puntúa, salvo que la suma de las cotas de los
+    // bloques en los que están sus cursores tampoco alcance el umbral: entonces ningún documento anterior al fin
+    // del primero de esos bloques (ni al siguiente cursor) puede entrar, y los cursores saltan hasta allí. Si el
+    // primer cursor no está en el pivote, los anteriores saltan hasta su ordinal sin puntuar lo del medio.
+    public void mejores(String[] terminosConsulta, SeleccionPorPuntaje seleccion, IntPredicate admite) {
+        int[] terminos = idsDe(terminosConsulta);
+        int cantidad = terminos.length;
+        int[] posiciones = new int[cantidad];
+        int[] cursores = new int[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            posiciones[i] = iniciosListas[terminos[i]];
+            cursores[i] = i;
+        }
+        int activos = ordenarCursores(cursores, cantidad, terminos, posiciones);
+        while (activos > 0) {
+            double umbral = seleccion.umbral();
+            double acumulado = 0;
+            int pivote = -1;
+            for (int i = 0; i < activos && pivote < 0; i++) {
+                acumulado += cotas[terminos[cursores[i]]];
+                if (acumulado >= umbral) {
+                    pivote = i;
+                }
+            }
+            if (pivote < 0) {
+                return;
+            }
+            int ordinalPivote = actual(terminos, posiciones, cursores[pivote]);
+            if (actual(terminos, posiciones, cursores[0]) == ordinalPivote) {
+                int enPivote = 0;
+                double cotaBloques = 0;
+                while (enPivote < activos && actual(terminos, posiciones, cursores[enPivote]) == ordinalPivote) {
+                    cotaBloques += cotaBloque(terminos[cursores[enPivote]], posiciones[cursores[enPivote]]);
+                    enPivote++;
+                }
+                if (cotaBloques >= umbral && admite.test(ordinalPivote)) {
+                    // Se suma en el orden de los términos de la consulta, como en puntuar, para que el puntaje
+                    // de un documento no dependa del orden en que quedaron los cursores.
+                    double puntaje = 0;
+                    for (int cursor = 0; cursor < cantidad; cursor++) {
+                        if (actual(terminos, posiciones, cursor) == ordinalPivote) {
+                            puntaje += contribucion(terminos[cursor], posiciones[cursor]);
+                        }
+                    }
+                    seleccion.ofrecer(ordinalPivote, puntaje);
+                }
+                int destino = cotaBloques < umbral
+                        ? finDeLosBloques(cursores, enPivote, activos, terminos, posiciones) : ordinalPivote + 1;
+                for (int i = 0; i < enPivote; i++) {
+                    int cursor = cursores[i];
+                    posiciones[cursor] = avanzar(terminos[cursor], posiciones[cursor], destino);
+                }
+            } else {
+                for (int i = 0; i < pivote; i++) {
+                    int cursor = cursores[i];
+                    posiciones[cursor] = avanzar(terminos[cursor], posiciones[cursor], ordinalPivote);
+                }
+            }
+            activos = ordenarCursores(cursores, activos, terminos, posiciones);
+        }
+    }
+
+    // Este método puntúa con BM25 un producto que no está indexado (capa delta), con las frecuencias de
+    // documento y el largo promedio de la base.
+    public double puntuar(Producto producto, String[] terminosConsulta) {
+        int[] frecuencia = new int[terminosConsulta.length];
+        int[] largo = {0};
+        terminosDe(producto, (termino, peso) -> {
+            for (int i = 0; i < terminosConsulta.length; i++) {
+                if (terminosConsulta[i].equals(termino)) {
+                    frecuencia[i] += peso;
+                }
+            }
+            largo[0] += peso;
+        });
+        // La norma se redondea como las guardadas, para que el producto puntúe igual que si estuviera indexado.
+        double norma = (float) norma(largo[0], largoPromedio);
+        double puntaje = 0;
+        for (int i = 0; i < terminosConsulta.length; i++) {
+            if (frecuencia[i] > 0) {
+                int t = buscar(terminosConsulta[i]);
+                double idfTermino = t >= 0 ? idf[t] : idf(0);
+                puntaje += idfTermino * frecuencia[i] * (K1 + 1) / (frecuencia[i] + norma);
+            }
+        }
+        return puntaje;
+    }
+
+    // Este método indica si alguno de los campos indexados del producto tiene alguno de los términos.
+    public static boolean contieneAlguno(Producto producto, String[] terminosConsulta) {
+        if (AnalizadorTexto.contieneAlguno(producto.nombre(), terminosConsulta)
+                || AnalizadorTexto.contieneAlguno(producto.descripcion(), terminosConsulta)) {
+            return true;
+        }
+        if (producto.especificaciones() != null) {
+            for (String especificacion : producto.especificaciones()) {
+                if (AnalizadorTexto.contieneAlguno(especificacion, terminosConsulta)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int terminosDistintos() {
+        return iniciosTermino.length - 1;
+    }
+
+    public long bytesOcupados() {
+        return (long) caracteres.length * Character.BYTES + (long) frecuencias.length * Short.BYTES
+                + ((long) iniciosTermino.length + ordinales.length + iniciosListas.length + normas.length
+                + iniciosBloques.length) * Integer.BYTES
+                + ((long) idf.length + cotas.length + cotasBloque.length) * Double.BYTES;
+    }
+
+    private double contribucion(int termino, int posicion) {
+        int frecuencia = frecuencias[posicion];
+        return idf[termino] * frecuencia * (K1 + 1) / (frecuencia + (double) normas[ordinales[posicion]]);
+    }
+
+    private double cotaBloque(int termino, int posicion) {
+        return cotasBloque[iniciosBloques[termino] + (posicion - iniciosListas[termino]) / TAMANIO_BLOQUE];
+    }
+
+    // Este método devuelve hasta dónde pueden saltar los primeros enPivote cursores cuando las cotas de sus bloques
+    // no alcanzan el umbral: el ordinal siguiente al fin del primero de esos bloques, sin pasar al siguiente cursor.
+    private int finDeLosBloques(int[] cursores, int enPivote, int activos, int[] terminos, int[] posiciones) {
+        int destino = enPivote < activos ? actual(terminos, posiciones, cursores[enPivote]) : SIN_POSTING;
+        for (int i = 0; i < enPivote; i++) {
+            int cursor = cursores[i];
+            destino = Math.min(destino, ultimoDelBloque(terminos[cursor], posiciones[cursor]) + 1);
+        }
+        return destino;
+    }
+
+    // Este método devuelve el último ordinal del bloque de la lista del término que contiene la posición.
+    private int ultimoDelBloque(int termino, int posicion) {
+        int inicio = iniciosListas[termino];
+        int finBloque = inicio + ((posicion - inicio) / TAMANIO_BLOQUE + 1) * TAMANIO_BLOQUE;
+        return ordinales[Math.min(finBloque, iniciosListas[termino + 1]) - 1];
+    }
+
+    private double idf(int frecuenciaDocumento) {
+        return Math.log(1 + (documentos - frecuenciaDocumento + 0.5) / (frecuenciaDocumento + 0.5));
+    }
+
+    private static double norma(int largo, double largoPromedio) {
+        return K1 * (1 - B + B * largo / largoPromedio);
+    }
+
+    private int actual(int[] terminos, int[] posiciones, int cursor) {
+        int posicion = posiciones[cursor];
+        return posicion < iniciosListas[terminos[cursor] + 1] ? ordinales[posicion] : SIN_POSTING;
+    }
+
+    // Este método ordena los cursores activos por su ordinal actual (son pocos: inserción) y devuelve cuántos
+    // siguen activos; los agotados quedan al final.
+    private int ordenarCursores(int[] cursores, int activos, int[] terminos, int[] posiciones) {
+        for (int i = 1; i < activos; i++) {
+            int cursor = cursores[i];
+            int ordinal = actual(terminos, posiciones, cursor);
+            int j = i - 1;
+            while (j >= 0 && actual(terminos, posiciones, cursores[j]) > ordinal) {
+                cursores[j + 1] = cursores[j];
+                j--;
+            }
+            cursores[j + 1] = cursor;
+        }
+        while (activos > 0 && actual(terminos, posiciones, cursores[activos - 1]) == SIN_POSTING) {
+            activos--;
+        }
+        return activos;
+    }
+
+    // Este método devuelve la primera posición de la lista del término, desde la actual, cuyo ordinal es al
+    // menos el buscado: avanza con saltos que se duplican y termina con una búsqueda binaria.
+    private int avanzar(int termino, int posicion, int ordinal) {
+        int fin = iniciosListas[termino + 1];
+        int salto = 1;
+        int desde = posicion;
+        while (posicion < fin && ordinales[posicion] < ordinal) {
+            desde = posicion + 1;
+            posicion = (int) Math.min((long) posicion + salto, fin);
+            salto <<= 1;
+        }
+        int hasta = Math.min(posicion, fin);
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            if (ordinales[medio] < ordinal) {
+                desde = medio + 1;
+            } else {
+                hasta = medio;
+            }
+        }
+        return desde;
+    }
+
+    private int[] idsDe(String[] terminosConsulta) {
+        int[] ids = new int[terminosConsulta.length];
+        int cantidad = 0;
+        for (String termino : terminosConsulta) {
+            int t = buscar(termino);
+            if (t >= 0) {
+                ids[cantidad++] = t;
+            }
+        }
+        return Arrays.copyOf(ids, cantidad);
+    }
+
+    private int buscar(String termino) {
+        int desde = 0;
+        int hasta = terminosDistintos() - 1;
+        while (desde <= hasta) {
+            int medio = (desde + hasta) >>> 1;
+            int comparacion = comparar(termino, medio);
+            if (comparacion == 0) {
+                return medio;
+            }
+            if (comparacion > 0) {
+                desde = medio + 1;
+            } else {
+                hasta = medio - 1;
+            }
+        }
+        return -1;
+    }
+
+    // Compara el término con el término t con el mismo criterio que String.compareTo.
+    private int comparar(String termino, int t) {
+        int inicio = iniciosTermino[t];
+        int largo = iniciosTermino[t + 1] - inicio;
+        int comunes = Math.min(termino.length(), largo);
+        for (int i = 0; i < comunes; i++) {
+            int diferencia = termino.charAt(i) - caracteres[inicio + i];
+            if (diferencia != 0) {
+                return diferencia;
+            }
+        }
+        return termino.length() - largo;
+    }
+
+    // Receptor de los términos de un producto con el peso del campo en el que aparecen.
+    @FunctionalInterface
+    private interface TerminoPonderado {
+        void recibir(String termino, int peso);
+    }
+
+    private static void terminosDe(Producto producto, TerminoPonderado receptor) {
+        emitir(producto.nombre(), PESO_NOMBRE, receptor);
+        if (producto.especificaciones() != null) {
+            for (String especificacion : producto.especificaciones()) {
+                emitir(especificacion, PESO_ESPECIFICACIONES, receptor);
+            }
+        }
+        emitir(producto.descripcion(), PESO_DESCRIPCION, receptor);
+    }
+
+    private static void emitir(String texto, int peso, TerminoPonderado receptor) {
+        if (texto == null) {
+            return;
+        }
+        for (String termino : AnalizadorTexto.terminos(texto)) {
+            receptor.recibir(termino, peso);
+        }
+    }
+
+    // Estado de la construcción: diccionario provisorio con listas que crecen por término, y la frecuencia
+    // ponderada de cada término del documento en curso, que se vuelca a las listas al cerrarlo.
+    private static final class Construccion {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final int documentos;
+        private final int[] largos;
+        private String[] terminos;
+        private int[][] listas;
+        private int[][] pesos;
+        private int[] longitudes;
+        private int[] frecuenciaActual;
+        private int[] tocados = new int[CAPACIDAD_INICIAL_LISTA];
+        private int cantidadTocados;
+        private int largoActual;
+        private long largoTotal;
+
+        Construccion(int documentos) {
+            this.documentos = documentos;
+            this.largos = new int[documentos];
+            int capacidad = Math.max(documentos, 1);
+            this.terminos = new String[capacidad];
+            this.listas = new int[capacidad][];
+            this.pesos = new int[capacidad][];
+            this.longitudes = new int[capacidad];
+            this.frecuenciaActual = new int[capacidad];
+        }
+
+        void agregar(String termino, int peso) {
+            Integer id = ids.get(termino);
+            if (id == null) {
+                id = ids.size();
+                ids.put(termino, id);
+                if (id == terminos.length) {
+                    terminos = Arrays.copyOf(terminos, id << 1);
+                    listas = Arrays.copyOf(listas, id << 1);
+                    pesos = Arrays.copyOf(pesos, id << 1);
+                    longitudes = Arrays.copyOf(longitudes, id << 1);
+                    frecuenciaActual = Arrays.copyOf(frecuenciaActual, id << 1);
+                }
+                terminos[id] = termino;
+                listas[id] = new int[CAPACIDAD_INICIAL_LISTA];
+                pesos[id] = new int[CAPACIDAD_INICIAL_LISTA];
+            }
+            if (frecuenciaActual[id] == 0) {
+                if (cantidadTocados == tocados.length) {
+                    tocados = Arrays.copyOf(tocados, cantidadTocados << 1);
+                }
+                tocados[cantidadTocados++] = id;
+            }
+            frecuenciaActual[id] += peso;
+            largoActual += peso;
+        }
+
+        void cerrarDocumento(int ordinal) {
+            for (int i = 0; i < cantidadTocados; i++) {
+                int id = tocados[i];
+                int longitud = longitudes[id];
+                if (longitud == listas[id].length) {
+                    listas[id] = Arrays.copyOf(listas[id], longitud << 1);
+                    pesos[id] = Arrays.copyOf(pesos[id], longitud << 1);
+                }
+                listas[id][longitud] = ordinal;
+                pesos[id][longitud] = frecuenciaActual[id];
+                longitudes[id] = longitud + 1;
+                frecuenciaActual[id] = 0;
+            }
+            cantidadTocados = 0;
+            largos[ordinal] = largoActual;
+            largoTotal += largoActual;
+            largoActual = 0;
+        }
+
+        // Este método ordena el diccionario y aplana términos y listas en arreglos contiguos.
+        IndiceTextoCompleto construir() {
+            double largoPromedio = documentos == 0 ? 1.0 : Math.max(1.0, (double) largoTotal / documentos);
+            float[] normas = new float[documentos];
+            for (int ordinal = 0; ordinal < documentos; ordinal++) {
+                normas[ordinal] = (float) norma(largos[ordinal], largoPromedio);
+            }
+            String[] ordenados = Arrays.copyOf(terminos, ids.size());
+            Arrays.sort(ordenados);
+            int[] iniciosTermino = new int[ordenados.length + 1];
+            int[] iniciosListas = new int[ordenados.length + 1];
+            for (int t = 0; t < ordenados.length; t++) {
+                iniciosTermino[t + 1] = iniciosTermino[t] + ordenados[t].length();
+                iniciosListas[t + 1] = iniciosListas[t] + longitudes[ids.get(ordenados[t])];
+            }
+            char[] caracteres = new char[iniciosTermino[ordenados.length]];
+            int[] ordinales = new int[iniciosListas[ordenados.length]];
+            short[] frecuencias = new short[ordinales.length];
+            for (int t = 0; t < ordenados.length; t++) {
+                ordenados[t].getChars(0, ordenados[t].length(), caracteres, iniciosTermino[t]);
+                int id = ids.get(ordenados[t]);
+                System.arraycopy(listas[id], 0, ordinales, iniciosListas[t], longitudes[id]);
+                for (int i = 0; i < longitudes[id]; i++) {
+                    frecuencias[iniciosListas[t] + i] = (short) Math.min(pesos[id][i], Short.MAX_VALUE);
+                }
+                listas[id] = null;
+                pesos[id] = null;
+            }
+            return new IndiceTextoCompleto(documentos, largoPromedio, caracteres, iniciosTermino, ordinales,
+                    frecuencias, iniciosListas, normas);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.texto.ClaveBusqueda;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+// Índice invertido de trigramas sobre la clave de búsqueda de los nombres (minúsculas sin tildes): cada
+// secuencia de tres caracteres apunta a la lista ordenada de ordinales cuyo nombre la contiene. Todo nombre
+// que contiene una subcadena contiene también todos sus trigramas, así que la intersección de esas listas es
+// un superconjunto exacto de las coincidencias y solo esos candidatos necesitan verificarse. Las claves se
+// calculan una vez al construir y se guardan contiguas en un único arreglo de caracteres, para verificar
+// candidatos sin decodificar el producto ni normalizar su nombre en cada petición.
+public final class IndiceTrigramas {
+    public static final int LONGITUD_MINIMA = 3;
+
+    private static final int CAPACIDAD_INICIAL_LISTA = 4;
+    private static final int CARACTERES_ESTIMADOS_POR_NOMBRE = 24;
+    private static final int[] SIN_ORDINALES = new int[0];
+
+    private final IndiceIds posiciones;
+    private int[][] listas;
+    private int[] longitudes;
+    private int trigramas;
+    private char[] claves;
+    private int longitudClaves;
+    // La clave del ordinal o ocupa claves[inicios[o], inicios[o + 1]).
+    private int[] inicios;
+    private int ordinales;
+    private boolean congelado;
+
+    public IndiceTrigramas(int capacidadEsperada) {
+        this.posiciones = new IndiceIds(Math.max(capacidadEsperada, 1));
+        this.listas = new int[Math.max(capacidadEsperada, 1)][];
+        this.longitudes = new int[listas.length];
+        this.claves = new char[Math.max(capacidadEsperada, 1) * CARACTERES_ESTIMADOS_POR_NOMBRE];
+        this.inicios = new int[Math.max(capacidadEsperada, 1) + 1];
+    }
+
+    // Registra la clave de búsqueda del nombre y sus trigramas; los ordinales deben agregarse en orden creciente.
+    public void agregar(int ordinal, String nombre) {
+        if (congelado) {
+            throw new IllegalStateException("El índice de trigramas ya fue congelado");
+        }
+        String normalizado = nombre == null ? "" : ClaveBusqueda.normalizar(nombre);
+        registrarClave(ordinal, normalizado);
+        if (normalizado.length() < LONGITUD_MINIMA) {
+            return;
+        }
+        for (int i = 0; i + LONGITUD_MINIMA <= normalizado.length(); i++) {
+            int posicion = posicionDe(clave(normalizado, i));
+            int longitud = longitudes[posicion];
+            int[] lista = listas[posicion];
+            if (longitud > 0 && lista[longitud - 1] == ordinal) {
+                continue;
+            }
+            if (longitud == lista.length) {
+                lista = Arrays.copyOf(lista, longitud << 1);
+                listas[posicion] = lista;
+            }
+            lista[longitud] = ordinal;
+            longitudes[posicion] = longitud + 1;
+        }
+    }
+
+    // Este método recorta las listas a su tamaño final; después el índice es de solo lectura.
+    public void congelar() {
+        for (int posicion = 0; posicion < trigramas; posicion++) {
+            if (listas[posicion].length != longitudes[posicion]) {
+                listas[posicion] = Arrays.copyOf(listas[posicion], longitudes[posicion]);
+            }
+        }
+        listas = Arrays.copyOf(listas, trigramas);
+        longitudes = null;
+        claves = Arrays.copyOf(claves, longitudClaves);
+        inicios = Arrays.copyOf(inicios, ordinales + 1);
+        congelado = true;
+    }
+
+    // Este método verifica si la clave del nombre del ordinal contiene la subcadena (ya normalizada con
+    // ClaveBusqueda), comparando directamente sobre el arreglo de claves.
+    public boolean nombreContiene(int ordinal, String subcadena) {
+        if (ordinal >= ordinales) {
+            return false;
+        }
+        int longitud = subcadena.length();
+        if (longitud == 0) {
+            return true;
+        }
+        char primero = subcadena.charAt(0);
+        int ultimoInicio = inicios[ordinal + 1] - longitud;
+        for (int inicio = inicios[ordinal]; inicio <= ultimoInicio; inicio++) {
+            if (claves[inicio] != primero) {
+                continue;
+            }
+            int i = 1;
+            while (i < longitud && claves[inicio + i] == subcadena.charAt(i)) {
+                i++;
+            }
+            if (i == longitud) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Devuelve las listas de los trigramas de la subcadena (ya normalizada con ClaveBusqueda), de la más corta a la más larga,
+    // o null si la subcadena es demasiado corta para usar el índice. Si falta algún trigrama no hay candidatos.
+    public int[][] listasPara(String subcadena) {
+        if (subcadena.length() < LONGITUD_MINIMA) {
+            return null;
+        }
+        int cantidad = subcadena.length() - LONGITUD_MINIMA + 1;
+        int[][] resultado = new int[cantidad][];
+        for (int i = 0; i < cantidad; i++) {
+            int posicion = posiciones.buscar(clave(subcadena, i));
+            if (posicion == IndiceIds.NO_ENCONTRADO) {
+                return new int[][]{SIN_ORDINALES};
+            }
+            resultado[i] = listas[posicion];
+        }
+        Arrays.sort(resultado, Comparator.comparingInt(lista -> lista.length));
+        return resultado;
+    }
+
+    // Este método intersecta las listas (ordenadas de la más corta a la más larga) partiendo de la menor;
+    // cada lista siguiente se recorre con búsqueda exponencial, sin leerla completa.
+    public static int[] intersectar(int[][] listas) {
+        int[] candidatos = listas[0];
+        int cantidad = candidatos.length;
+        if (listas.length > 1) {
+            candidatos = candidatos.clone();
+        }
+        for (int i = 1; i < listas.length && cantidad > 0; i++) {
+            int[] lista = listas[i];
+            if (lista == listas[i - 1]) {
+                continue;
+            }
+            int conservados = 0;
+            int desde = 0;
+            for (int j = 0; j < cantidad && desde < lista.length; j++) {
+                desde = buscarDesde(lista, desde, candidatos[j]);
+                if (desde < lista.length && lista[desde] == candidatos[j]) {
+                    candidatos[conservados++] = candidatos[j];
+                }
+            }
+            cantidad = conservados;
+        }
+        return cantidad == candidatos.length ? candidatos : Arrays.copyOf(candidatos, cantidad);
+    }
+
+    // Cantidad de ordinales registrados; después de congelar, la de la base.
+    public int ordinales() {
+        return ordinales;
+    }
+
+    // Clave de búsqueda del nombre del ordinal, tal como se indexó.
+    public String clave(int ordinal) {
+        return new String(claves, inicios[ordinal], inicios[ordinal + 1] - inicios[ordinal]);
+    }
+
+    public int trigramasDistintos() {
+        return trigramas;
+    }
+
+    public long bytesOcupados() {
+        long bytes = posiciones.bytesOcupados();
+        for (int posicion = 0; posicion < trigramas; posicion++) {
+            bytes += (long) listas[posicion].length * Integer.BYTES;
+        }
+        return bytes + (long) claves.length * Character.BYTES + (long) inicios.length * Integer.BYTES;
+    }
+
+    // Este método agrega la clave al final del arreglo; los ordinales salteados quedan con clave vacía.
+    private void registrarClave(int ordinal, String clave) {
+        if (ordinal + 2 > inicios.length) {
+            inicios = Arrays.copyOf(inicios, Math.max(inicios.length << 1, ordinal + 2));
+        }
+        if (longitudClaves + clave.length() > claves.length) {
+            claves = Arrays.copyOf(claves, Math.max(claves.length << 1, longitudClaves + clave.length()));
+        }
+        for (int salteado = ordinales; salteado < ordinal; salteado++) {
+            inicios[salteado + 1] = longitudClaves;
+        }
+        clave.getChars(0, clave.length(), claves, longitudClaves);
+        longitudClaves += clave.length();
+        inicios[ordinal + 1] = longitudClaves;
+        ordinales = ordinal + 1;
+    }
+
+    private int posicionDe(long clave) {
+        int posicion = posiciones.buscar(clave);
+        if (posicion != IndiceIds.NO_ENCONTRADO) {
+            return posicion;
+        }
+        if (trigramas == listas.length) {
+            listas = Arrays.copyOf(listas, trigramas << 1);
+            longitudes = Arrays.copyOf(longitudes, trigramas << 1);
+        }
+        posicion = trigramas++;
+        posiciones.agregar(clave, posicion);
+        listas[posicion] = new int[CAPACIDAD_INICIAL_LISTA];
+        return posicion;
+    }
+
+    // Este método devuelve la primera posición desde 'desde' cuyo valor es >= objetivo (búsqueda exponencial).
+    private static int buscarDesde(int[] lista, int desde, int objetivo) {
+        int salto = 1;
+        int hasta = desde;
+        while (hasta < lista.length && lista[hasta] < objetivo) {
+            desde = hasta + 1;
+            hasta += salto;
+            salto <<= 1;
+        }
+        int posicion = Arrays.binarySearch(lista, desde, Math.min(hasta + 1, lista.length), objetivo);
+        return posicion >= 0 ? posicion : -posicion - 1;
+    }
+
+    private static long clave(String texto, int inicio) {
+        return ((long) texto.charAt(inicio) << 32) | ((long) texto.charAt(inicio + 1) << 16) | texto.charAt(inicio + 2);
+    }
+}
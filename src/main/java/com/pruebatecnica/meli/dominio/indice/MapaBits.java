@@ -0,0 +1,450 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import java.util.Arrays;
+
+// Conjunto inmutable de ordinales comprimido al estilo Roaring: el espacio de 32 bits se parte en bloques
+// de 65536 valores según los 16 bits altos y cada bloque no vacío guarda sus 16 bits bajos en un arreglo
+// ordenado (hasta 4096 valores) o en un mapa de 1024 palabras de 64 bits (más de 4096). Así un conjunto
+// disperso ocupa 2 bytes por valor, uno denso 1 bit por ordinal posible, y las operaciones y/o/yNo
+// avanzan bloque a bloque con comparaciones de arreglos o con operaciones de palabra completa.
+public final class MapaBits {
+    public static final MapaBits VACIO = new MapaBits(new char[0], new Contenedor[0], 0);
+
+    private static final int LIMITE_ARREGLO = 4096;
+    private static final int PALABRAS_POR_BLOQUE = 1 << 10;
+    private static final int BITS_BLOQUE = 16;
+
+    private final char[] claves;
+    private final Contenedor[] contenedores;
+    private final int cardinalidad;
+
+    private MapaBits(char[] claves, Contenedor[] contenedores, int cardinalidad) {
+        this.claves = claves;
+        this.contenedores = contenedores;
+        this.cardinalidad = cardinalidad;
+    }
+
+    // Este método construye el conjunto a partir de ordinales no negativos en orden ascendente.
+    public static MapaBits desde(int[] ordenados) {
+        if (ordenados.length == 0) {
+            return VACIO;
+        }
+        char[] claves = new char[ordenados.length];
+        Contenedor[] contenedores = new Contenedor[ordenados.length];
+        int bloques = 0;
+        int inicio = 0;
+        while (inicio < ordenados.length) {
+            int clave = ordenados[inicio] >>> BITS_BLOQUE;
+            int fin = inicio;
+            while (fin < ordenados.length && ordenados[fin] >>> BITS_BLOQUE == clave) {
+                fin++;
+            }
+            char[] valores = new char[fin - inicio];
+            int distintos = 0;
+            for (int i = inicio; i < fin; i++) {
+                char valor = (char) ordenados[i];
+                if (distintos == 0 || valores[distintos - 1] != valor) {
+                    valores[distintos++] = valor;
+                }
+            }
+            claves[bloques] = (char) clave;
+            contenedores[bloques++] = Contenedor.deArreglo(Arrays.copyOf(valores, distintos));
+            inicio = fin;
+        }
+        return crear(claves, contenedores, bloques);
+    }
+
+    public int cardinalidad() {
+        return cardinalidad;
+    }
+
+    public boolean vacio() {
+        return cardinalidad == 0;
+    }
+
+    public boolean contiene(int ordinal) {
+        int posicion = Arrays.binarySearch(claves, (char) (ordinal >>> BITS_BLOQUE));
+        return posicion >= 0 && contenedores[posicion].contiene((char) ordinal);
+    }
+
+    // Este método devuelve cuántos ordinales del conjunto son menores que el valor (su posición si se
+    // insertara), sumando la cardinalidad de los bloques anteriores sin recorrerlos.
+    public int rango(int valor) {
+        char clave = (char) (valor >>> BITS_BLOQUE);
+        int menores = 0;
+        for (int i = 0; i < claves.length && claves[i] <= clave; i++) {
+            menores += claves[i] < clave ? contenedores[i].cardinalidad : contenedores[i].rango((char) valor);
+        }
+        return menores;
+    }
+
+    // Intersección: ordinales presentes en ambos conjuntos.
+    public MapaBits y(MapaBits otro) {
+        int maximo = Math.min(claves.length, otro.claves.length);
+        char[] nuevasClaves = new char[maximo];
+        Contenedor[] nuevos = new Contenedor[maximo];
+        int bloques = 0;
+        int i = 0;
+        int j = 0;
+        while (i < claves.length && j < otro.claves.length) {
+            if (claves[i] < otro.claves[j]) {
+                i++;
+            } else if (claves[i] > otro.claves[j]) {
+                j++;
+            } else {
+                Contenedor resultado = contenedores[i].y(otro.contenedores[j]);
+                if (resultado != null) {
+                    nuevasClaves[bloques] = claves[i];
+                    nuevos[bloques++] = resultado;
+                }
+                i++;
+                j++;
+            }
+        }
+        return crear(nuevasClaves, nuevos, bloques);
+    }
+
+    // Este método cuenta los ordinales comunes a ambos conjuntos sin construir la intersección.
+    public int cardinalidadInterseccion(MapaBits otro) {
+        int comunes = 0;
+        int i = 0;
+        int j = 0;
+        while (i < claves.length && j < otro.claves.length) {
+            if (claves[i] < otro.claves[j]) {
+                i++;
+            } else if (claves[i] > otro.claves[j]) {
+                j++;
+            } else {
+                comunes += contenedores[i++].comunes(otro.contenedores[j++]);
+            }
+        }
+        return comunes;
+    }
+
+    // Unión: ordinales presentes en alguno de los conjuntos.
+    public MapaBits o(MapaBits otro) {
+        if (otro.vacio()) {
+            return this;
+        }
+        if (vacio()) {
+            return otro;
+        }
+        int maximo = claves.length + otro.claves.length;
+        char[] nuevasClaves = new char[maximo];
+        Contenedor[] nuevos = new Contenedor[maximo];
+        int bloques = 0;
+        int i = 0;
+        int j = 0;
+        while (i < claves.length || j < otro.claves.length) {
+            if (j == otro.claves.length || (i < claves.length && claves[i] < otro.claves[j])) {
+                nuevasClaves[bloques] = claves[i];
+                nuevos[bloques++] = contenedores[i++];
+            } else if (i == claves.length || otro.claves[j] < claves[i]) {
+                nuevasClaves[bloques] = otro.claves[j];
+                nuevos[bloques++] = otro.contenedores[j++];
+            } else {
+                nuevasClaves[bloques] = claves[i];
+                nuevos[bloques++] = contenedores[i++].o(otro.contenedores[j++]);
+            }
+        }
+        return crear(nuevasClaves, nuevos, bloques);
+    }
+
+    // Diferencia: ordinales de este conjunto que no están en el otro.
+    public MapaBits yNo(MapaBits otro) {
+        if (vacio() || otro.vacio()) {
+            return this;
+        }
+        char[] nuevasClaves = new char[claves.length];
+        Contenedor[] nuevos = new Contenedor[claves.length];
+        int bloques = 0;
+        int j = 0;
+        for (int i = 0; i < claves.length; i++) {
+            while (j < otro.claves.length && otro.claves[j] < claves[i]) {
+                j++;
+            }
+            Contenedor resultado = j < otro.claves.length && otro.claves[j] == claves[i]
+                    ? contenedores[i].yNo(otro.contenedores[j])
+                    : contenedores[i];
+            if (resultado != null) {
+                nuevasClaves[bloques] = claves[i];
+                nuevos[bloques++] = resultado;
+            }
+        }
+        return crear(nuevasClaves, nuevos, bloques);
+    }
+
+    // Este método devuelve todos los ordinales en orden ascendente.
+    public int[] aArreglo() {
+        int[] destino = new int[cardinalidad];
+        seleccionar(0, destino, cardinalidad);
+        return destino;
+    }
+
+    // Este método copia en destino hasta 'cantidad' ordinales a partir del de posición 'desde' (en orden
+    // ascendente), saltando bloques completos por su cardinalidad; devuelve cuántos copió.
+    public int seleccionar(int desde, int[] destino, int cantidad) {
+        int copiados = 0;
+        int saltar = desde;
+        for (int i = 0; i < claves.length && copiados < cantidad; i++) {
+            Contenedor contenedor = contenedores[i];
+            if (saltar >= contenedor.cardinalidad) {
+                saltar -= contenedor.cardinalidad;
+                continue;
+            }
+            copiados = contenedor.copiar(claves[i] << BITS_BLOQUE, saltar, destino, copiados, cantidad);
+            saltar = 0;
+        }
+        return copiados;
+    }
+
+    public long bytesOcupados() {
+        long bytes = (long) claves.length * Character.BYTES;
+        for (Contenedor contenedor : contenedores) {
+            bytes += contenedor.bits != null
+                    ? (long) contenedor.bits.length * Long.BYTES
+                    : (long) contenedor.arreglo.length * Character.BYTES;
+        }
+        return bytes;
+    }
+
+    private static MapaBits crear(char[] claves, Contenedor[] contenedores, int bloques) {
+        if (bloques == 0) {
+            return VACIO;
+        }
+        int cardinalidad = 0;
+        for (int i = 0; i < bloques; i++) {
+            cardinalidad += contenedores[i].cardinalidad;
+        }
+        return new MapaBits(Arrays.copyOf(claves, bloques), Arrays.copyOf(contenedores, bloques), cardinalidad);
+    }
+
+    // Bloque de 65536 valores: exactamente uno de arreglo (ordenado, sin repetidos) o bits es no nulo.
+    private record Contenedor(char[] arreglo, long[] bits, int cardinalidad) {
+
+        static Contenedor deArreglo(char[] valores) {
+            if (valores.length > LIMITE_ARREGLO) {
+                long[] bits = new long[PALABRAS_POR_BLOQUE];
+                for (char valor : valores) {
+                    bits[valor >>> 6] |= 1L << valor;
+                }
+                return new Contenedor(null, bits, valores.length);
+            }
+            return new Contenedor(valores, null, valores.length);
+        }
+
+        // Este método normaliza un mapa de palabras: null si quedó vacío y arreglo si es disperso.
+        static Contenedor deBits(long[] bits, int cardinalidad) {
+            if (cardinalidad == 0) {
+                return null;
+            }
+            if (cardinalidad > LIMITE_ARREGLO) {
+                return new Contenedor(null, bits, cardinalidad);
+            }
+            char[] valores = new char[cardinalidad];
+            int llenos = 0;
+            for (int palabra = 0; palabra < bits.length; palabra++) {
+                long resto = bits[palabra];
+                while (resto != 0) {
+                    valores[llenos++] = (char) ((palabra << 6) + Long.numberOfTrailingZeros(resto));
+                    resto &= resto - 1;
+                }
+            }
+            return new Contenedor(valores, null, cardinalidad);
+        }
+
+        boolean contiene(char valor) {
+            return bits != null
+                    ? (bits[valor >>> 6] & (1L << valor)) != 0
+                    : Arrays.binarySearch(arreglo, valor) >= 0;
+        }
+
+        int rango(char valor) {
+            if (bits == null) {
+                int posicion = Arrays.binarySearch(arreglo, valor);
+                return posicion >= 0 ? posicion : -posicion - 1;
+            }
+            int palabra = valor >>> 6;
+            int menores = Long.bitCount(bits[palabra] & ((1L << valor) - 1));
+            for (int i = 0; i < palabra; i++) {
+                menores += Long.bitCount(bits[i]);
+            }
+            return menores;
+        }
+
+        Contenedor y(Contenedor otro) {
+            if (bits != null && otro.bits != null) {
+                long[] resultado = new long[PALABRAS_POR_BLOQUE];
+                int cantidad = 0;
+                for (int palabra = 0; palabra < PALABRAS_POR_BLOQUE; palabra++) {
+                    resultado[palabra] = bits[palabra] & otro.bits[palabra];
+                    cantidad += Long.bitCount(resultado[palabra]);
+                }
+                return deBits(resultado, cantidad);
+            }
+            if (bits != null) {
+                return otro.filtrar(this, true);
+            }
+            if (otro.bits != null) {
+                return filtrar(otro, true);
+            }
+            char[] resultado = new char[Math.min(arreglo.length, otro.arreglo.length)];
+            int cantidad = 0;
+            int i = 0;
+            int j = 0;
+            while (i < arreglo.length && j < otro.arreglo.length) {
+                if (arreglo[i] < otro.arreglo[j]) {
+                    i++;
+                } else if (arreglo[i] > otro.arreglo[j]) {
+                    j++;
+                } else {
+                    resultado[cantidad++] = arreglo[i];
+                    i++;
+                    j++;
+                }
+            }
+            return cantidad == 0 ? null : new Contenedor(Arrays.copyOf(resultado, cantidad), null, cantidad);
+        }
+
+        int comunes(Contenedor otro) {
+            if (bits != null && otro.bits != null) {
+                int cantidad = 0;
+                for (int palabra = 0; palabra < PALABRAS_POR_BLOQUE; palabra++) {
+                    cantidad += Long.bitCount(bits[palabra] & otro.bits[palabra]);
+                }
+                return cantidad;
+            }
+            if (bits != null) {
+                return otro.comunes(this);
+            }
+            int cantidad = 0;
+            if (otro.bits != null) {
+                long[] palabras = otro.bits;
+                for (char valor : arreglo) {
+                    cantidad += (int) (palabras[valor >>> 6] >>> valor) & 1;
+                }
+                return cantidad;
+            }
+            int i = 0;
+            int j = 0;
+            while (i < arreglo.length && j < otro.arreglo.length) {
+                if (arreglo[i] < otro.arreglo[j]) {
+                    i++;
+                } else if (arreglo[i] > otro.arreglo[j]) {
+                    j++;
+                } else {
+                    cantidad++;
+                    i++;
+                    j++;
+                }
+            }
+            return cantidad;
+        }
+
+        Contenedor o(Contenedor otro) {
+            if (bits == null && otro.bits == null && arreglo.length + otro.arreglo.length <= LIMITE_ARREGLO) {
+                char[] resultado = new char[arreglo.length + otro.arreglo.length];
+                int cantidad = 0;
+                int i = 0;
+                int j = 0;
+                while (i < arreglo.length || j < otro.arreglo.length) {
+                    if (j == otro.arreglo.length || (i < arreglo.length && arreglo[i] < otro.arreglo[j])) {
+                        resultado[cantidad++] = arreglo[i++];
+                    } else if (i == arreglo.length || otro.arreglo[j] < arreglo[i]) {
+                        resultado[cantidad++] = otro.arreglo[j++];
+                    } else {
+                        resultado[cantidad++] = arreglo[i++];
+                        j++;
+                    }
+                }
+                return new Contenedor(Arrays.copyOf(resultado, cantidad), null, cantidad);
+            }
+            long[] resultado = comoBits();
+            if (otro.bits != null) {
+                for (int palabra = 0; palabra < PALABRAS_POR_BLOQUE; palabra++) {
+                    resultado[palabra] |= otro.bits[palabra];
+                }
+            } else {
+                for (char valor : otro.arreglo) {
+                    resultado[valor >>> 6] |= 1L << valor;
+                }
+            }
+            return deBits(resultado, contar(resultado));
+        }
+
+        Contenedor yNo(Contenedor otro) {
+            if (bits == null) {
+                return filtrar(otro, false);
+            }
+            long[] resultado = bits.clone();
+            if (otro.bits != null) {
+                for (int palabra = 0; palabra < PALABRAS_POR_BLOQUE; palabra++) {
+                    resultado[palabra] &= ~otro.bits[palabra];
+                }
+            } else {
+                for (char valor : otro.arreglo) {
+                    resultado[valor >>> 6] &= ~(1L << valor);
+                }
+            }
+            return deBits(resultado, contar(resultado));
+        }
+
+        // Este método conserva los valores del arreglo que están (o no están) en el otro contenedor.
+        private Contenedor filtrar(Contenedor otro, boolean presentes) {
+            char[] resultado = new char[arreglo.length];
+            int cantidad = 0;
+            for (char valor : arreglo) {
+                if (otro.contiene(valor) == presentes) {
+                    resultado[cantidad++] = valor;
+                }
+            }
+            return cantidad == 0 ? null : new Contenedor(Arrays.copyOf(resultado, cantidad), null, cantidad);
+        }
+
+        private long[] comoBits() {
+            if (bits != null) {
+                return bits.clone();
+            }
+            long[] resultado = new long[PALABRAS_POR_BLOQUE];
+            for (char valor : arreglo) {
+                resultado[valor >>> 6] |= 1L << valor;
+            }
+            return resultado;
+        }
+
+        // Este método copia valores desde la posición 'saltar' del bloque hasta completar 'cantidad' en destino.
+        int copiar(int base, int saltar, int[] destino, int copiados, int cantidad) {
+            if (bits == null) {
+                for (int i = saltar; i < arreglo.length && copiados < cantidad; i++) {
+                    destino[copiados++] = base | arreglo[i];
+                }
+                return copiados;
+            }
+            for (int palabra = 0; palabra < PALABRAS_POR_BLOQUE && copiados < cantidad; palabra++) {
+                long resto = bits[palabra];
+                int enPalabra = Long.bitCount(resto);
+                if (saltar >= enPalabra) {
+                    saltar -= enPalabra;
+                    continue;
+                }
+                while (resto != 0 && copiados < cantidad) {
+                    if (saltar > 0) {
+                        saltar--;
+                    } else {
+                        destino[copiados++] = base | ((palabra << 6) + Long.numberOfTrailingZeros(resto));
+                    }
+                    resto &= resto - 1;
+                }
+            }
+            return copiados;
+        }
+
+        private static int contar(long[] bits) {
+            int cantidad = 0;
+            for (long palabra : bits) {
+                cantidad += Long.bitCount(palabra);
+            }
+            return cantidad;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import java.util.Arrays;
+
+// Selección de los K ordinales de mayor puntaje con un montículo de mínimos acotado: la raíz es el peor de los
+// guardados. Los empates de puntaje favorecen al ordinal menor (orden de catálogo). umbral() es el puntaje que
+// un ordinal debe alcanzar para poder entrar, lo que permite a la búsqueda por relevancia descartar documentos
+// sin puntuarlos.
+public final class SeleccionPorPuntaje {
+    private final int[] ordinales;
+    private final double[] puntajes;
+    private int tamanio;
+
+    public SeleccionPorPuntaje(int capacidad) {
+        this.ordinales = new int[capacidad];
+        this.puntajes = new double[capacidad];
+    }
+
+    // Puntaje mínimo para entrar: sin lugar disponible es el del peor guardado; sin capacidad, ninguno alcanza.
+    public double umbral() {
+        if (ordinales.length == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return tamanio < ordinales.length ? Double.NEGATIVE_INFINITY : puntajes[0];
+    }
+
+    // Este método considera un ordinal: entra si todavía hay lugar o si supera al peor de los guardados.
+    public void ofrecer(int ordinal, double puntaje) {
+        if (tamanio < ordinales.length) {
+            ordinales[tamanio] = ordinal;
+            puntajes[tamanio] = puntaje;
+            subir(tamanio++);
+        } else if (tamanio > 0 && peor(ordinales[0], puntajes[0], ordinal, puntaje)) {
+            ordinales[0] = ordinal;
+            puntajes[0] = puntaje;
+            bajar(0, tamanio);
+        }
+    }
+
+    public int cantidad() {
+        return tamanio;
+    }
+
+    // Este método devuelve los ordinales seleccionados del de mayor al de menor puntaje; deja la selección vacía.
+    public int[] ordenados() {
+        int cantidad = tamanio;
+        for (int ultimo = tamanio - 1; ultimo > 0; ultimo--) {
+            intercambiar(0, ultimo);
+            bajar(0, ultimo);
+        }
+        tamanio = 0;
+        return Arrays.copyOf(ordinales, cantidad);
+    }
+
+    // Indica si (ordinalA, puntajeA) queda después de (ordinalB, puntajeB) en el orden por relevancia.
+    private static boolean peor(int ordinalA, double puntajeA, int ordinalB, double puntajeB) {
+        int comparacion = Double.compare(puntajeA, puntajeB);
+        return comparacion != 0 ? comparacion < 0 : ordinalA > ordinalB;
+    }
+
+    private void subir(int posicion) {
+        while (posicion > 0) {
+            int padre = (posicion - 1) >>> 1;
+            if (!peor(ordinales[posicion], puntajes[posicion], ordinales[padre], puntajes[padre])) {
+                return;
+            }
+            intercambiar(posicion, padre);
+            posicion = padre;
+        }
+    }
+
+    private void bajar(int posicion, int limite) {
+        while (true) {
+            int izquierdo = 2 * posicion + 1;
+            if (izquierdo >= limite) {
+                return;
+            }
+            int hijo = izquierdo + 1 < limite
+                    && peor(ordinales[izquierdo + 1], puntajes[izquierdo + 1], ordinales[izquierdo], puntajes[izquierdo])
+                    ? izquierdo + 1 : izquierdo;
+            if (!peor(ordinales[hijo], puntajes[hijo], ordinales[posicion], puntajes[posicion])) {
+                return;
+            }
+            intercambiar(posicion, hijo);
+            posicion = hijo;
+        }
+    }
+
+    private void intercambiar(int a, int b) {
+        int ordinal = ordinales[a];
+        ordinales[a] = ordinales[b];
+        ordinales[b] = ordinal;
+        double puntaje = puntajes[a];
+        puntajes[a] = puntajes[b];
+        puntajes[b] = puntaje;
+    }
+}
@@ -0,0 +1,103 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Acumula los conteos de facetas de un listado a medida que se recorren las coincidencias (o se suman en
+// bloque desde los índices) y arma la respuesta. Los precios se agrupan en tramos fijos con límites 1-2-5
+// (10, 20, 50, 100, ...), iguales para cualquier consulta; los precios NaN no caen en ningún tramo.
+public final class AcumuladorFacetas {
+    public static final int SIN_TRAMO = -1;
+
+    private static final double[] LIMITES_PRECIO = {
+            10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 20_000, 50_000, 100_000, 200_000, 500_000, 1_000_000
+    };
+    private static final Comparator<ConteoFaceta> MAYOR_CANTIDAD = Comparator
+            .comparingLong(ConteoFaceta::cantidad).reversed()
+            .thenComparing(ConteoFaceta::valor);
+
+    private final Map<String, Long> categorias;
+    private final Map<String, Long> marcas;
+    private final long[] tramosPrecio;
+
+    public AcumuladorFacetas(Set<CampoFaceta> campos) {
+        this.categorias = campos.contains(CampoFaceta.CATEGORIA) ? new HashMap<>() : null;
+        this.marcas = campos.contains(CampoFaceta.MARCA) ? new HashMap<>() : null;
+        this.tramosPrecio = campos.contains(CampoFaceta.PRECIO) ? new long[cantidadTramos()] : null;
+    }
+
+    // Cantidad de tramos de precio: uno antes del primer límite y uno a partir de cada límite.
+    public static int cantidadTramos() {
+        return LIMITES_PRECIO.length + 1;
+    }
+
+    // Este método devuelve el tramo del precio (la cantidad de límites menores o iguales) o SIN_TRAMO si es NaN.
+    public static int tramoPrecio(double precio) {
+        if (Double.isNaN(precio)) {
+            return SIN_TRAMO;
+        }
+        int posicion = Arrays.binarySearch(LIMITES_PRECIO, precio);
+        return posicion >= 0 ? posicion + 1 : -posicion - 1;
+    }
+
+    // Este método cuenta una coincidencia en cada faceta pedida.
+    public void contar(Producto producto) {
+        sumarCategoria(producto.categoria(), 1);
+        sumarMarca(producto.marca(), 1);
+        sumarTramoPrecio(tramoPrecio(producto.precio()), 1);
+    }
+
+    public void sumarCategoria(String categoria, long cantidad) {
+        sumar(categorias, categoria, cantidad);
+    }
+
+    public void sumarMarca(String marca, long cantidad) {
+        sumar(marcas, marca, cantidad);
+    }
+
+    public void sumarTramoPrecio(int tramo, long cantidad) {
+        if (tramosPrecio != null && tramo != SIN_TRAMO) {
+            tramosPrecio[tramo] += cantidad;
+        }
+    }
+
+    // Este método arma las facetas pedidas sin los valores ni los tramos que quedaron en cero.
+    public Facetas construir() {
+        return new Facetas(ordenar(categorias), ordenar(marcas), rangos());
+    }
+
+    private static void sumar(Map<String, Long> conteos, String valor, long cantidad) {
+        if (conteos != null && valor != null && cantidad > 0) {
+            conteos.merge(valor, cantidad, Long::sum);
+        }
+    }
+
+    private static List<ConteoFaceta> ordenar(Map<String, Long> conteos) {
+        if (conteos == null) {
+            return null;
+        }
+        List<ConteoFaceta> resultado = new ArrayList<>(conteos.size());
+        conteos.forEach((valor, cantidad) -> resultado.add(new ConteoFaceta(valor, cantidad)));
+        resultado.sort(MAYOR_CANTIDAD);
+        return resultado;
+    }
+
+    private List<RangoPrecio> rangos() {
+        if (tramosPrecio == null) {
+            return null;
+        }
+        List<RangoPrecio> resultado = new ArrayList<>();
+        for (int tramo = 0; tramo < tramosPrecio.length; tramo++) {
+            if (tramosPrecio[tramo] > 0) {
+                resultado.add(new RangoPrecio(tramo == 0 ? null : LIMITES_PRECIO[tramo - 1],
+                        tramo == LIMITES_PRECIO.length ? null : LIMITES_PRECIO[tramo], tramosPrecio[tramo]));
+            }
+        }
+        return resultado;
+    }
+}
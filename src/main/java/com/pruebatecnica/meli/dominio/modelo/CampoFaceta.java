@@ -0,0 +1,4 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+// Campos por los que el listado puede devolver conteos de facetas junto con la página.
+public enum CampoFaceta { CATEGORIA, MARCA, PRECIO }
@@ -0,0 +1,4 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+// Cantidad de coincidencias del listado con un valor de categoría o de marca.
+public record ConteoFaceta(String valor, long cantidad) {}
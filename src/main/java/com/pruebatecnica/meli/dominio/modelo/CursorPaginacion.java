@@ -0,0 +1,97 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+
+// Posición de la última fila entregada en una página: la clave de ordenamiento (valor numérico o nombre)
+// y el ordinal que desempata. La página siguiente continúa con las filas estrictamente posteriores a esa
+// posición en el mismo orden, sin contar ni descartar las anteriores. Sin ordenamiento (orden de catálogo)
+// la posición es solo el ordinal. El ordinal vale en la base con la versión versionBase, que la capa delta
+// conserva; en otra base (tras una recarga o compactación) la fila se vuelve a ubicar por idProducto.
+public record CursorPaginacion(Optional<Ordenamiento> orden, double valor, String nombre, long idProducto,
+                               int ordinal, long versionBase) {
+
+    // ID de las filas sin idProducto, que no pueden volver a ubicarse en otra base.
+    public static final long SIN_ID = Long.MIN_VALUE;
+
+    private static final String SEPARADOR = "|";
+    private static final String ORDEN_CATALOGO = "catalogo";
+    private static final String ASCENDENTE = "asc";
+    private static final String DESCENDENTE = "desc";
+    private static final String SIN_NOMBRE = "-";
+    private static final String CON_NOMBRE = "+";
+    private static final String ERROR_CURSOR = "Cursor de paginación inválido";
+
+    // Este método construye el cursor que apunta a la fila (producto y su ordinal en la base) en el orden dado.
+    public static CursorPaginacion despuesDe(Producto producto, int ordinal, long versionBase,
+                                             Optional<Ordenamiento> orden) {
+        double valor = orden.map(o -> switch (o.campo()) {
+            case PRECIO -> producto.precio();
+            case CALIFICACION -> producto.calificacion();
+            case NOMBRE -> 0.0;
+        }).orElse(0.0);
+        String nombre = orden.filter(o -> o.campo() == Ordenamiento.Campo.NOMBRE).map(o -> producto.nombre()).orElse(null);
+        long idProducto = producto.idProducto() == null ? SIN_ID : producto.idProducto();
+        return new CursorPaginacion(orden, valor, nombre, idProducto, ordinal, versionBase);
+    }
+
+    // Este método devuelve el mismo cursor con la fila ubicada en el ordinal de otra base.
+    public CursorPaginacion enBase(int ordinalEnBase, long versionDeLaBase) {
+        return new CursorPaginacion(orden, valor, nombre, idProducto, ordinalEnBase, versionDeLaBase);
+    }
+
+    // Este método compara una fila con el cursor en el orden ascendente del campo, desempatando por ordinal.
+    public int compararAscendente(double valorFila, String nombreFila, int ordinalFila) {
+        int comparacion = orden.map(o -> switch (o.campo()) {
+            case PRECIO, CALIFICACION -> Double.compare(valorFila, valor);
+            case NOMBRE -> Ordenamiento.ORDEN_NOMBRES.compare(nombreFila, nombre);
+        }).orElse(0);
+        return comparacion != 0 ? comparacion : Integer.compare(ordinalFila, ordinal);
+    }
+
+    // Este método serializa el cursor como un token opaco (Base64 apto para URL).
+    public String codificar() {
+        String clave = orden.map(o -> o.campo().name() + SEPARADOR + (o.descendente() ? DESCENDENTE : ASCENDENTE))
+                .orElse(ORDEN_CATALOGO);
+        String texto = clave + SEPARADOR + ordinal + SEPARADOR + idProducto + SEPARADOR + versionBase + SEPARADOR
+                + Long.toHexString(Double.doubleToLongBits(valor)) + SEPARADOR
+                + (nombre == null ? SIN_NOMBRE : CON_NOMBRE + nombre);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Este método reconstruye un cursor emitido por codificar; ante un token mal formado lanza
+    // IllegalArgumentException.
+    public static CursorPaginacion decodificar(String token) {
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            boolean catalogo = texto.startsWith(ORDEN_CATALOGO + SEPARADOR);
+            String[] partes = texto.split("\\" + SEPARADOR, catalogo ? 6 : 7);
+            int inicio = catalogo ? 1 : 2;
+            if (partes.length != inicio + 5) {
+                throw new IllegalArgumentException(ERROR_CURSOR);
+            }
+            Optional<Ordenamiento> orden = catalogo ? Optional.empty() : Optional.of(new Ordenamiento(
+                    Ordenamiento.Campo.valueOf(partes[0]), direccionDescendente(partes[1])));
+            int ordinal = Integer.parseInt(partes[inicio]);
+            long idProducto = Long.parseLong(partes[inicio + 1]);
+            long versionBase = Long.parseLong(partes[inicio + 2]);
+            double valor = Double.longBitsToDouble(Long.parseUnsignedLong(partes[inicio + 3], 16));
+            String nombre = partes[inicio + 4];
+            if (ordinal < 0 || !(nombre.equals(SIN_NOMBRE) || nombre.startsWith(CON_NOMBRE))) {
+                throw new IllegalArgumentException(ERROR_CURSOR);
+            }
+            return new CursorPaginacion(orden, valor, nombre.equals(SIN_NOMBRE) ? null : nombre.substring(1),
+                    idProducto, ordinal, versionBase);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(ERROR_CURSOR, e);
+        }
+    }
+
+    private static boolean direccionDescendente(String direccion) {
+        if (!direccion.equals(ASCENDENTE) && !direccion.equals(DESCENDENTE)) {
+            throw new IllegalArgumentException(ERROR_CURSOR);
+        }
+        return direccion.equals(DESCENDENTE);
+    }
+}
@@ -0,0 +1,7 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+import java.util.List;
+
+// Conteos de facetas sobre todas las coincidencias del listado (no solo la página). Cada lista es null si
+// su campo no se pidió; las de categoría y marca van de mayor a menor cantidad y los tramos de precio en orden.
+public record Facetas(List<ConteoFaceta> categorias, List<ConteoFaceta> marcas, List<RangoPrecio> precios) {}
@@ -0,0 +1,6 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+// Cómo se informa el total de coincidencias de un listado. EXACTO recorre todas las coincidencias;
+// APROXIMADO lo estima con los índices o con una muestra de los candidatos e informa el margen de error;
+// NINGUNO no lo calcula, de modo que el recorrido termina al completar la página.
+public enum ModoTotal { EXACTO, APROXIMADO, NINGUNO }
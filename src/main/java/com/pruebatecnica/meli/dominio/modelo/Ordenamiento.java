@@ -0,0 +1,13 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+import java.util.Comparator;
+
+// Orden solicitado para el listado. El descendente es exactamente el ascendente invertido, incluidos los
+// empates, que en ascendente conservan el orden de catálogo.
+public record Ordenamiento(Campo campo, boolean descendente) {
+
+    public enum Campo { PRECIO, CALIFICACION, NOMBRE }
+
+    // Nombres sin distinguir mayúsculas; los productos sin nombre van primero.
+    public static final Comparator<String> ORDEN_NOMBRES = Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER);
+}
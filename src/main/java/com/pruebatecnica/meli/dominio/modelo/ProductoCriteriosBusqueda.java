@@ -1,12 +1,106 @@
 package com.pruebatecnica.meli.dominio.modelo;
 
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public record ProductoCriteriosBusqueda(
     Optional<String> nombre,
     Optional<String> categoria,
+    Optional<String> marca,
     Optional<Double> precioMin,
     Optional<Double> precioMax,
+    Optional<Double> calificacionMin,
+    Optional<Double> calificacionMax,
+    Optional<Ordenamiento> orden,
+    Optional<CursorPaginacion> cursor,
+    ModoTotal incluirTotal,
+    Set<CampoFaceta> facetas,
+    boolean nombreDifuso,
+    Optional<String> texto,
+    List<FiltroAtributo> atributos,
     int pagina,
     int tamanioPagina
-) {}
+) {
+    // Criterios sin filtros, en orden de catálogo y con total exacto; el resto se agrega con los métodos con*.
+    public static ProductoCriteriosBusqueda sinFiltros(int pagina, int tamanioPagina) {
+        return new ProductoCriteriosBusqueda(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                ModoTotal.EXACTO, Set.of(), false, Optional.empty(), List.of(), pagina, tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conNombre(Optional<String> nombre) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conCategoria(Optional<String> categoria) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conMarca(Optional<String> marca) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conRangoPrecio(Optional<Double> precioMin, Optional<Double> precioMax) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conRangoCalificacion(Optional<Double> calificacionMin,
+                                                          Optional<Double> calificacionMax) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conOrden(Optional<Ordenamiento> orden) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conCursor(Optional<CursorPaginacion> cursor) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conIncluirTotal(ModoTotal incluirTotal) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conFacetas(Set<CampoFaceta> facetas) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conNombreDifuso(boolean nombreDifuso) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conTexto(Optional<String> texto) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+
+    public ProductoCriteriosBusqueda conAtributos(List<FiltroAtributo> atributos) {
+        return new ProductoCriteriosBusqueda(nombre, categoria, marca, precioMin, precioMax, calificacionMin,
+                calificacionMax, orden, cursor, incluirTotal, facetas, nombreDifuso, texto, atributos, pagina,
+                tamanioPagina);
+    }
+}
@@ -0,0 +1,4 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+// Cantidad de coincidencias con precio en [desde, hasta). desde es null en el primer tramo y hasta en el último.
+public record RangoPrecio(Double desde, Double hasta, long cantidad) {}
@@ -2,4 +2,21 @@ package com.pruebatecnica.meli.dominio.modelo;
 
 import java.util.List;
 
-public record ResultadoPaginado<T>(List<T> elementos, int paginaActual, int totalPaginas, long totalElementos) {}
+// siguienteCursor es null cuando no hay más resultados. precisionTotal indica cómo se obtuvo el total:
+// con APROXIMADO, el total real está en totalElementos ± margenErrorTotal (intervalo de confianza del 95 %);
+// con NINGUNO, totalPaginas y totalElementos valen TOTAL_DESCONOCIDO. facetas es null si no se pidieron.
+public record ResultadoPaginado<T>(List<T> elementos, int paginaActual, int totalPaginas, long totalElementos,
+                                   String siguienteCursor, ModoTotal precisionTotal, long margenErrorTotal,
+                                   Facetas facetas) {
+    public static final int TOTAL_DESCONOCIDO = -1;
+
+    public ResultadoPaginado(List<T> elementos, int paginaActual, int totalPaginas, long totalElementos) {
+        this(elementos, paginaActual, totalPaginas, totalElementos, null, ModoTotal.EXACTO, 0, null);
+    }
+
+    public ResultadoPaginado(List<T> elementos, int paginaActual, int totalPaginas, long totalElementos,
+                             String siguienteCursor, ModoTotal precisionTotal, long margenErrorTotal) {
+        this(elementos, paginaActual, totalPaginas, totalElementos, siguienteCursor, precisionTotal, margenErrorTotal,
+                null);
+    }
+}
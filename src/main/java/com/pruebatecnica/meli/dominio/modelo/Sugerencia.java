@@ -0,0 +1,9 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+// Sugerencia del autocompletado: lo mínimo para mostrarla y abrir el producto elegido.
+public record Sugerencia(Long idProducto, String nombre, double calificacion) {
+
+    public static Sugerencia de(Producto producto) {
+        return new Sugerencia(producto.idProducto(), producto.nombre(), producto.calificacion());
+    }
+}
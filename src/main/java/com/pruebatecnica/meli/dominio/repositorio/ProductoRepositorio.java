@@ -1,5 +1,7 @@
 package com.pruebatecnica.meli.dominio.repositorio;
 
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.RecargaCatalogo;
 import com.pruebatecnica.meli.dominio.modelo.Producto;
 import java.util.List;
 import java.util.Optional;
@@ -8,4 +10,19 @@ public interface ProductoRepositorio {
     List<Producto> listarProductos();
     Optional<Producto> obtenerProductoPorId(Long idProducto);
     List<Producto> obtenerProductosPorIds(List<Long> ids);
+
+    // Los repositorios que mantienen el catálogo en memoria exponen su snapshot vigente.
+    default Optional<CatalogoSnapshot> obtenerSnapshot() {
+        return Optional.empty();
+    }
+
+    // Cantidad de productos vigentes; con snapshot no materializa la lista de productos.
+    default int contarProductos() {
+        return obtenerSnapshot().map(CatalogoSnapshot::tamanio).orElseGet(() -> listarProductos().size());
+    }
+
+    // Los repositorios que recargan el catálogo en caliente informan el resultado de la última recarga.
+    default Optional<RecargaCatalogo> obtenerUltimaRecarga() {
+        return Optional.empty();
+    }
 }
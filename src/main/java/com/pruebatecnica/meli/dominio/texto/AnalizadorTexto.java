@@ -0,0 +1,90 @@
+package com.pruebatecnica.meli.dominio.texto;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Analizador de la búsqueda de texto completo: parte la clave de búsqueda del texto (ver ClaveBusqueda) en
+// palabras, descarta las palabras vacías del español y reduce cada palabra a su raíz con un stemmer liviano
+// (plurales y vocal final), de modo que "Celulares" y "celular", o "luces" y "luz", comparten término. Las
+// palabras con dígitos (modelos, capacidades) se conservan enteras.
+public final class AnalizadorTexto {
+    private static final int LARGO_MINIMO_RAIZ = 3;
+    private static final String[] SIN_TERMINOS = new String[0];
+    private static final Set<String> PALABRAS_VACIAS = Set.of(
+            "a", "al", "con", "de", "del", "e", "el", "en", "es", "la", "las", "lo", "los", "o", "para", "por",
+            "que", "se", "sin", "su", "sus", "u", "un", "una", "unas", "unos", "y");
+
+    private AnalizadorTexto() {
+    }
+
+    // Este método devuelve los términos del texto en orden de aparición, con repeticiones.
+    public static String[] terminos(String texto) {
+        String[] palabras = DistanciaEdicion.terminos(ClaveBusqueda.normalizar(texto));
+        int cantidad = 0;
+        for (String palabra : palabras) {
+            if (!PALABRAS_VACIAS.contains(palabra)) {
+                palabras[cantidad++] = raiz(palabra);
+            }
+        }
+        return cantidad == palabras.length ? palabras : Arrays.copyOf(palabras, cantidad);
+    }
+
+    // Este método devuelve los términos distintos de una consulta, en orden de aparición.
+    public static String[] terminosConsulta(String texto) {
+        Set<String> distintos = new LinkedHashSet<>(Arrays.asList(terminos(texto)));
+        return distintos.toArray(SIN_TERMINOS);
+    }
+
+    // Este método indica si el texto tiene alguno de los términos de la consulta.
+    public static boolean contieneAlguno(String texto, String[] terminosConsulta) {
+        if (texto == null || terminosConsulta.length == 0) {
+            return false;
+        }
+        for (String termino : terminos(texto)) {
+            for (String buscado : terminosConsulta) {
+                if (termino.equals(buscado)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // Este método reduce una palabra ya normalizada a su raíz: pasa el plural a singular (ces pasa a z; si no,
+    // quita la s final salvo tras i, u o s) y luego quita la vocal final (o, a, e). Ningún paso deja una raíz de
+    // menos de tres letras y las palabras con dígitos no se modifican.
+    public static String raiz(String palabra) {
+        if (tieneDigitos(palabra)) {
+            return palabra;
+        }
+        String singular = singular(palabra);
+        int largo = singular.length();
+        char ultimo = singular.charAt(largo - 1);
+        if ((ultimo == 'o' || ultimo == 'a' || ultimo == 'e') && largo - 1 >= LARGO_MINIMO_RAIZ) {
+            return singular.substring(0, largo - 1);
+        }
+        return singular;
+    }
+
+    private static String singular(String palabra) {
+        int largo = palabra.length();
+        if (largo - 1 < LARGO_MINIMO_RAIZ || palabra.charAt(largo - 1) != 's') {
+            return palabra;
+        }
+        if (palabra.endsWith("ces") && largo - 2 >= LARGO_MINIMO_RAIZ) {
+            return palabra.substring(0, largo - 3) + 'z';
+        }
+        char penultimo = palabra.charAt(largo - 2);
+        return penultimo == 'i' || penultimo == 'u' || penultimo == 's' ? palabra : palabra.substring(0, largo - 1);
+    }
+
+    private static boolean tieneDigitos(String palabra) {
+        for (int i = 0; i < palabra.length(); i++) {
+            if (Character.isDigit(palabra.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
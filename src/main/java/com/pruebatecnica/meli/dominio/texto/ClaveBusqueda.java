@@ -0,0 +1,103 @@
+package com.pruebatecnica.meli.dominio.texto;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// Clave de búsqueda de un texto: en minúsculas independientes de la configuración regional y sin tildes
+// ni diacríticos (descomposición NFD sin las marcas combinantes), de modo que "Electrónica", "ELECTRONICA"
+// y "electronica" comparten clave. Los textos ASCII, que son la mayoría, se resuelven carácter a carácter
+// sin pasar por el normalizador, y comparar contra una clave ya calculada no asigna memoria.
+public final class ClaveBusqueda {
+    private static final char ULTIMO_ASCII = 0x7F;
+
+    private ClaveBusqueda() {
+    }
+
+    // Este método devuelve la clave del texto; si el texto ya es su propia clave se devuelve la misma instancia.
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        if (esAscii(texto)) {
+            return esClaveAscii(texto) ? texto : texto.toLowerCase(Locale.ROOT);
+        }
+        String descompuesto = Normalizer.normalize(texto.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        StringBuilder clave = new StringBuilder(descompuesto.length());
+        for (int i = 0; i < descompuesto.length(); i++) {
+            char caracter = descompuesto.charAt(i);
+            if (!esMarcaCombinante(caracter)) {
+                clave.append(caracter);
+            }
+        }
+        return clave.toString();
+    }
+
+    // Este método indica si la clave del texto es igual a una clave ya normalizada.
+    public static boolean igual(String texto, String clave) {
+        if (texto == null) {
+            return false;
+        }
+        if (!esAscii(texto)) {
+            return normalizar(texto).equals(clave);
+        }
+        if (texto.length() != clave.length()) {
+            return false;
+        }
+        for (int i = 0; i < texto.length(); i++) {
+            if (minusculaAscii(texto.charAt(i)) != clave.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Este método indica si la clave del texto contiene una clave ya normalizada.
+    public static boolean contiene(String texto, String clave) {
+        if (texto == null) {
+            return false;
+        }
+        if (!esAscii(texto)) {
+            return normalizar(texto).contains(clave);
+        }
+        int ultimoInicio = texto.length() - clave.length();
+        for (int inicio = 0; inicio <= ultimoInicio; inicio++) {
+            int i = 0;
+            while (i < clave.length() && minusculaAscii(texto.charAt(inicio + i)) == clave.charAt(i)) {
+                i++;
+            }
+            if (i == clave.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean esAscii(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            if (texto.charAt(i) > ULTIMO_ASCII) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esClaveAscii(String texto) {
+        for (int i = 0; i < texto.length(); i++) {
+            char caracter = texto.charAt(i);
+            if (caracter >= 'A' && caracter <= 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char minusculaAscii(char caracter) {
+        return caracter >= 'A' && caracter <= 'Z' ? (char) (caracter + ('a' - 'A')) : caracter;
+    }
+
+    private static boolean esMarcaCombinante(char caracter) {
+        int tipo = Character.getType(caracter);
+        return tipo == Character.NON_SPACING_MARK || tipo == Character.ENCLOSING_MARK
+                || tipo == Character.COMBINING_SPACING_MARK;
+    }
+}
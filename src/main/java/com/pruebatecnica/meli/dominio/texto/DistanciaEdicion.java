@@ -0,0 +1,120 @@
+package com.pruebatecnica.meli.dominio.texto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Distancia de Levenshtein entre términos de búsqueda (claves de ClaveBusqueda partidas en palabras) y la
+// tolerancia a errores que admite cada término según su largo: ninguna hasta 2 caracteres, una hasta 5 y
+// dos desde 6. Los términos sin letras (números, modelos) solo coinciden de forma exacta.
+public final class DistanciaEdicion {
+    public static final int DISTANCIA_MAXIMA = 2;
+
+    private static final int LARGO_MAXIMO_SIN_ERRORES = 2;
+    private static final int LARGO_MAXIMO_UN_ERROR = 5;
+    private static final String[] SIN_TERMINOS = new String[0];
+
+    private DistanciaEdicion() {
+    }
+
+    // Este método parte una clave de búsqueda en sus palabras: secuencias de letras y dígitos.
+    public static String[] terminos(String clave) {
+        if (clave == null || clave.isEmpty()) {
+            return SIN_TERMINOS;
+        }
+        List<String> terminos = new ArrayList<>();
+        int inicio = -1;
+        for (int i = 0; i <= clave.length(); i++) {
+            boolean enPalabra = i < clave.length() && Character.isLetterOrDigit(clave.charAt(i));
+            if (enPalabra && inicio < 0) {
+                inicio = i;
+            } else if (!enPalabra && inicio >= 0) {
+                terminos.add(clave.substring(inicio, i));
+                inicio = -1;
+            }
+        }
+        return terminos.toArray(SIN_TERMINOS);
+    }
+
+    // Errores de edición que se toleran al buscar el término.
+    public static int toleranciaPara(String termino) {
+        if (termino.length() <= LARGO_MAXIMO_SIN_ERRORES || !tieneLetras(termino)) {
+            return 0;
+        }
+        return termino.length() <= LARGO_MAXIMO_UN_ERROR ? 1 : DISTANCIA_MAXIMA;
+    }
+
+    public static boolean tieneLetras(String termino) {
+        for (int i = 0; i < termino.length(); i++) {
+            if (Character.isLetter(termino.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static int calcular(String a, String b, int cota) {
+        return calcular(a, b.toCharArray(), 0, b.length(), cota);
+    }
+
+    // Este método calcula la distancia de Levenshtein entre a y b[desde, hasta) con dos filas de la matriz. Si la
+    // distancia supera la cota, corta en cuanto toda una fila la supera y devuelve cota + 1.
+    public static int calcular(String a, char[] b, int desde, int hasta, int cota) {
+        int largoB = hasta - desde;
+        if (Math.abs(a.length() - largoB) > cota) {
+            return cota + 1;
+        }
+        int[] anterior = new int[largoB + 1];
+        int[] actual = new int[largoB + 1];
+        for (int j = 0; j <= largoB; j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            actual[0] = i;
+            int minimoFila = i;
+            char caracter = a.charAt(i - 1);
+            for (int j = 1; j <= largoB; j++) {
+                int sustitucion = anterior[j - 1] + (caracter == b[desde + j - 1] ? 0 : 1);
+                int valor = Math.min(sustitucion, Math.min(anterior[j], actual[j - 1]) + 1);
+                actual[j] = valor;
+                minimoFila = Math.min(minimoFila, valor);
+            }
+            if (minimoFila > cota) {
+                return cota + 1;
+            }
+            int[] intercambio = anterior;
+            anterior = actual;
+            actual = intercambio;
+        }
+        return Math.min(anterior[largoB], cota + 1);
+    }
+
+    // Este método indica si la palabra coincide con el término dentro de su tolerancia. Las palabras sin letras
+    // solo coinciden de forma exacta, igual que en el índice de términos.
+    public static boolean coincide(String termino, String palabra) {
+        int tolerancia = toleranciaPara(termino);
+        if (tolerancia == 0 || !tieneLetras(palabra)) {
+            return termino.equals(palabra);
+        }
+        return calcular(termino, palabra, tolerancia) <= tolerancia;
+    }
+
+    // Este método indica si cada término de la consulta coincide con alguna palabra del texto. Se usa para los
+    // productos que no están en el índice de términos (los de la capa delta). Sin términos no hay
+    // coincidencias.
+    public static boolean coincidenTodos(String texto, String[] terminosConsulta) {
+        if (texto == null || terminosConsulta.length == 0) {
+            return false;
+        }
+        String[] palabras = terminos(ClaveBusqueda.normalizar(texto));
+        for (String termino : terminosConsulta) {
+            boolean encontrado = false;
+            for (int i = 0; i < palabras.length && !encontrado; i++) {
+                encontrado = coincide(termino, palabras[i]);
+            }
+            if (!encontrado) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -2,6 +2,7 @@ package com.pruebatecnica.meli.infraestructura.configuracion;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.pruebatecnica.meli.compartido.excepciones.CantidadIdsInvalidaException;
+import com.pruebatecnica.meli.compartido.excepciones.CursorVencidoException;
 import com.pruebatecnica.meli.compartido.excepciones.ErrorLecturaJsonException;
 import com.pruebatecnica.meli.compartido.excepciones.ParametrosInvalidosException;
 import com.pruebatecnica.meli.compartido.excepciones.ProductoNoEncontradoException;
@@ -28,6 +29,7 @@ public class ManejadorGlobalExcepciones {
     private static final String DATOS_DE_PRODUCTOS_INVALIDOS = "Datos de productos inválidos";
     private static final String ERROR_AL_LEER_DATOS_DE_PRODUCTOS = "Error al leer datos de productos";
     private static final String ERROR_INTERNO_DEL_SERVIDOR = "Error interno del servidor";
+    private static final String CURSOR_VENCIDO = "Cursor vencido";
 
     private static final String LOG_PRODUCTO_NO_ENCONTRADO = "Producto no encontrado: {}";
     private static final String LOG_RUTA_NO_ENCONTRADA = "Ruta no encontrada: {}";
@@ -89,6 +91,13 @@ public class ManejadorGlobalExcepciones {
         return respuesta(HttpStatus.BAD_REQUEST, "Cantidad de IDs inválida", ex, request);
     }
 
+    // Cuando el cursor apunta a una fila que ya no existe en el catálogo vigente
+    @ExceptionHandler(CursorVencidoException.class)
+    public ResponseEntity<ErrorRespuesta> manejarCursorVencido(CursorVencidoException ex, WebRequest request) {
+        log.warn("Cursor vencido: {}", ex.getMessage());
+        return respuesta(HttpStatus.GONE, CURSOR_VENCIDO, ex, request);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorRespuesta> manejarExcepcionGeneral(Exception ex, WebRequest request) {
         log.error(LOG_ERROR_NO_CONTROLADO, ex);
@@ -1,13 +1,22 @@
 package com.pruebatecnica.meli.infraestructura.controlador;
 
+import com.pruebatecnica.meli.aplicacion.casodeuso.AutocompletarProductosCasoUso;
 import com.pruebatecnica.meli.aplicacion.casodeuso.ListarProductosCasoUso;
 import com.pruebatecnica.meli.aplicacion.casodeuso.ObtenerProductoPorIdCasoUso;
 import com.pruebatecnica.meli.aplicacion.casodeuso.ObtenerProductosPorIdsCasoUso;
+import com.pruebatecnica.meli.compartido.excepciones.ParametrosInvalidosException;
 import com.pruebatecnica.meli.compartido.utilidad.ErrorRespuesta;
 import com.pruebatecnica.meli.compartido.utilidad.ProductoConstantes;
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.catalogo.PlanConsulta;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
 import com.pruebatecnica.meli.dominio.modelo.Producto;
 import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
 import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import com.pruebatecnica.meli.dominio.modelo.Sugerencia;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -23,8 +32,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 @Tag(name = "Producto", description = "Operaciones sobre productos: listado con filtros y paginación, obtención por ID y comparación por múltiples IDs.")
 @RestController
@@ -33,13 +46,16 @@ public class ProductoControlador {
     private final ListarProductosCasoUso listarProductosCasoUso;
     private final ObtenerProductoPorIdCasoUso obtenerProductoPorIdCasoUso;
     private final ObtenerProductosPorIdsCasoUso obtenerProductosPorIdsCasoUso;
+    private final AutocompletarProductosCasoUso autocompletarProductosCasoUso;
 
     public ProductoControlador(ListarProductosCasoUso listarProductosCasoUso,
                                ObtenerProductoPorIdCasoUso obtenerProductoPorIdCasoUso,
-                               ObtenerProductosPorIdsCasoUso obtenerProductosPorIdsCasoUso) {
+                               ObtenerProductosPorIdsCasoUso obtenerProductosPorIdsCasoUso,
+                               AutocompletarProductosCasoUso autocompletarProductosCasoUso) {
         this.listarProductosCasoUso = listarProductosCasoUso;
         this.obtenerProductoPorIdCasoUso = obtenerProductoPorIdCasoUso;
         this.obtenerProductosPorIdsCasoUso = obtenerProductosPorIdsCasoUso;
+        this.autocompletarProductosCasoUso = autocompletarProductosCasoUso;
     }
 
     @Operation(
@@ -49,13 +65,50 @@ public class ProductoControlador {
             Devuelve una lista paginada de productos.
         
             Filtros opcionales:
-            - nombre: coincidencia parcial, sin distinción de mayúsculas/minúsculas.
-            - categoria: coincidencia exacta, sin distinción de mayúsculas/minúsculas.
+            - nombre: coincidencia parcial, sin distinción de mayúsculas/minúsculas ni tildes.
+            - difuso: con true (o 1), nombre tolera errores de tipeo: cada palabra buscada debe estar en el
+              nombre con hasta 1 error de edición si tiene de 3 a 5 letras y hasta 2 si es más larga (las
+              palabras de hasta 2 caracteres y los números se buscan exactos). Se resuelve con un índice de
+              palabras construido con el catálogo, sin recorrer los productos.
+            - q: búsqueda de texto completo en nombre, descripción y especificaciones. Las palabras se comparan
+              sin mayúsculas ni tildes, sin palabras vacías (de, la, para, ...) y reducidas a su raíz (plurales
+              y vocal final), y basta con que aparezca una. Sin ordenarPor, los resultados se ordenan por
+              relevancia (BM25, con más peso para el nombre) y se paginan por número de página.
+            - categoria: coincidencia exacta, sin distinción de mayúsculas/minúsculas ni tildes.
+            - marca: coincidencia exacta, sin distinción de mayúsculas/minúsculas ni tildes.
             - precioMinimo / precioMaximo: rangos inclusivos. Si ambos se especifican, se aplican de forma conjunta.
+            - calificacionMinima / calificacionMaxima: rangos inclusivos (de 0 a 5). Combinados con el rango de
+              precio se resuelven con un índice de rejilla precio × calificación que solo visita las celdas del
+              tramo de precio pedido.
+            - atributo: condición sobre un atributo numérico de las especificaciones, con la forma
+              nombre:comparación valor (>=, <=, >, < o =; sin comparación, igualdad). Por ejemplo ram:>=16,
+              almacenamiento:>=1TB o camara:>48. Los atributos se extraen al cargar el catálogo ("16GB RAM" es
+              ram = 16, "128GB" es almacenamiento = 128, "4 puertos" es puertos = 4) y los valores se comparan en
+              la unidad canónica (TB y MB se convierten a GB). Se puede repetir para combinar condiciones; los
+              productos sin el atributo no las cumplen.
+        
+            Ordenamiento opcional:
+            - ordenarPor: precio, calificacion o nombre. Sin este parámetro se conserva el orden del catálogo
+              (o el de relevancia, con q).
+            - direccion: asc (por defecto) o desc. Los empates conservan el orden del catálogo en asc.
         
             Paginación:
             - pagina: índice base 0.
             - tamañoPagina: tamaño de página (> 0).
+            - cursor: valor de siguienteCursor de la respuesta anterior (con los mismos filtros y ordenamiento).
+              Continúa después de la última fila entregada sin recorrer las anteriores. siguienteCursor es null
+              cuando no hay más resultados o cuando la página está ordenada por relevancia. Si el catálogo se
+              recargó o compactó, esa fila se ubica por su ID; si ya no existe, el cursor venció (410).
+            - incluirTotal: exacto (por defecto sin cursor) cuenta todas las coincidencias; aproximado lo estima
+              con los índices o con una muestra e informa margenErrorTotal (intervalo del 95 %); ninguno (por
+              defecto con cursor) termina al completar la página e informa totalPaginas y totalElementos como -1.
+              precisionTotal indica cómo se obtuvo el total de la respuesta.
+        
+            Facetas opcionales:
+            - facetas: lista separada por comas de categoria, marca y precio. La respuesta incluye en facetas la
+              cantidad de coincidencias (de todas, no solo de la página) por categoría, por marca y por tramo de
+              precio (límites 10, 20, 50, 100, ...), calculadas en el mismo recorrido que la página o con los
+              mapas de bits cuando resuelven la consulta. Los valores sin coincidencias se omiten.
             """
     )
     @ApiResponses(value = {
@@ -67,6 +120,27 @@ public class ProductoControlador {
                         array = @ArraySchema(schema = @Schema(implementation = ResultadoPaginado.class))
                     )
             ),
+            @ApiResponse(
+                    responseCode = "410",
+                    description = "Cursor vencido (su última fila ya no existe en el catálogo vigente)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorRespuesta.class),
+                            examples = {
+                                    @ExampleObject(
+                                            name = "Cursor vencido",
+                                            value = """
+                                            {
+                                              "status": 410,
+                                              "titulo": "Cursor vencido",
+                                              "mensaje": "El cursor de paginación corresponde a una versión anterior del catálogo cuya última fila ya no existe: vuelva a la primera página",
+                                              "ruta": "uri=/productos"
+                                            }
+                                            """
+                                    )
+                            }
+                    )
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Error interno al leer datos de productos (JSON inválido o lectura fallida)",
@@ -125,27 +199,273 @@ public class ProductoControlador {
     public ResultadoPaginado<Producto> listarProductos(
             @Parameter(description = "Filtro por nombre (contains, case-insensitive)", example = "Smartphone")
             @RequestParam(required = false) String nombre,
+            @Parameter(description = "Búsqueda por nombre tolerante a errores de tipeo", example = "true")
+            @RequestParam(defaultValue = "false") boolean difuso,
+            @Parameter(description = "Búsqueda de texto completo en nombre, descripción y especificaciones",
+                    example = "celular samsung")
+            @RequestParam(required = false) String q,
             @Parameter(description = "Filtro por categoría (igualdad exacta, case-insensitive)", example = "Electrónica")
             @RequestParam(required = false) String categoria,
+            @Parameter(description = "Filtro por marca (igualdad exacta, case-insensitive)", example = "Samsung")
+            @RequestParam(required = false) String marca,
             @Parameter(description = "Precio mínimo (>= 0)", schema = @Schema(minimum = "0"), example = "100")
             @RequestParam(required = false) Double precioMinimo,
             @Parameter(description = "Precio máximo (>= 0)", schema = @Schema(minimum = "0"), example = "1000")
             @RequestParam(required = false) Double precioMaximo,
+            @Parameter(description = "Calificación mínima (de 0 a 5)", schema = @Schema(minimum = "0", maximum = "5"),
+                    example = "4")
+            @RequestParam(required = false) Double calificacionMinima,
+            @Parameter(description = "Calificación máxima (de 0 a 5)", schema = @Schema(minimum = "0", maximum = "5"),
+                    example = "5")
+            @RequestParam(required = false) Double calificacionMaxima,
+            @Parameter(description = "Condiciones sobre atributos de las especificaciones (nombre:comparación valor)",
+                    example = "ram:>=16")
+            @RequestParam(required = false) List<String> atributo,
+            @Parameter(description = "Campo de ordenamiento: precio, calificacion o nombre", example = "precio")
+            @RequestParam(required = false) String ordenarPor,
+            @Parameter(description = "Dirección del ordenamiento: asc o desc", schema = @Schema(defaultValue = "asc"), example = "desc")
+            @RequestParam(defaultValue = ProductoConstantes.DIRECCION_ASCENDENTE) String direccion,
             @Parameter(description = "Número de página (base 0)", schema = @Schema(minimum = "0", defaultValue = "0"), example = "0")
             @RequestParam(defaultValue = "0") int pagina,
             @Parameter(description = "Tamaño de página (> 0)", schema = @Schema(minimum = "1", defaultValue = "10"), example = "10")
-            @RequestParam(defaultValue = "10") int tamanioPagina) {
+            @RequestParam(defaultValue = "10") int tamanioPagina,
+            @Parameter(description = "Cursor opaco devuelto en siguienteCursor; reemplaza a pagina")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Cálculo del total: exacto, aproximado o ninguno (por defecto exacto, o ninguno con cursor)",
+                    example = "aproximado")
+            @RequestParam(required = false) String incluirTotal,
+            @Parameter(description = "Facetas a contar, separadas por comas: categoria, marca, precio",
+                    example = "categoria,marca,precio")
+            @RequestParam(required = false) String facetas) {
+        Optional<Ordenamiento> orden = construirOrden(ordenarPor, direccion);
+        if (cursor != null && q != null && orden.isEmpty()) {
+            throw new ParametrosInvalidosException(ProductoConstantes.ERROR_CURSOR_RELEVANCIA);
+        }
         ProductoCriteriosBusqueda criterios = new ProductoCriteriosBusqueda(
-            Optional.ofNullable(nombre),
-            Optional.ofNullable(categoria),
+            recortar(nombre),
+            recortar(categoria),
+            recortar(marca),
             Optional.ofNullable(precioMinimo),
             Optional.ofNullable(precioMaximo),
+            Optional.ofNullable(calificacionMinima),
+            Optional.ofNullable(calificacionMaxima),
+            orden,
+            construirCursor(cursor, orden),
+            construirModoTotal(incluirTotal, cursor != null),
+            construirFacetas(facetas),
+            difuso,
+            recortar(q),
+            construirAtributos(atributo),
             pagina,
             tamanioPagina
         );
         return listarProductosCasoUso.listarProductos(criterios);
     }
 
+    // Este método quita los espacios de los extremos de un filtro de texto, igual en todos los caminos de la
+    // consulta (con o sin caché).
+    private static Optional<String> recortar(String texto) {
+        return Optional.ofNullable(texto).map(String::trim);
+    }
+
+    // Este método interpreta los parámetros de ordenamiento; valores desconocidos responden 400.
+    private static Optional<Ordenamiento> construirOrden(String ordenarPor, String direccion) {
+        boolean descendente;
+        if (ProductoConstantes.DIRECCION_ASCENDENTE.equalsIgnoreCase(direccion)) {
+            descendente = false;
+        } else if (ProductoConstantes.DIRECCION_DESCENDENTE.equalsIgnoreCase(direccion)) {
+            descendente = true;
+        } else {
+            throw new ParametrosInvalidosException(String.format(ProductoConstantes.ERROR_DIRECCION, direccion));
+        }
+        if (ordenarPor == null) {
+            return Optional.empty();
+        }
+        try {
+            Ordenamiento.Campo campo = Ordenamiento.Campo.valueOf(ordenarPor.toUpperCase(Locale.ROOT));
+            return Optional.of(new Ordenamiento(campo, descendente));
+        } catch (IllegalArgumentException e) {
+            throw new ParametrosInvalidosException(String.format(ProductoConstantes.ERROR_ORDENAR_POR, ordenarPor));
+        }
+    }
+
+    // Este método interpreta incluirTotal; sin el parámetro, el total se cuenta salvo al paginar por cursor.
+    private static ModoTotal construirModoTotal(String incluirTotal, boolean conCursor) {
+        if (incluirTotal == null) {
+            return conCursor ? ModoTotal.NINGUNO : ModoTotal.EXACTO;
+        }
+        try {
+            return ModoTotal.valueOf(incluirTotal.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ParametrosInvalidosException(String.format(ProductoConstantes.ERROR_INCLUIR_TOTAL, incluirTotal));
+        }
+    }
+
+    // Este método interpreta la lista de facetas; sin el parámetro no se cuenta ninguna.
+    private static Set<CampoFaceta> construirFacetas(String facetas) {
+        if (facetas == null) {
+            return Set.of();
+        }
+        Set<CampoFaceta> campos = EnumSet.noneOf(CampoFaceta.class);
+        for (String campo : facetas.split(",")) {
+            try {
+                campos.add(CampoFaceta.valueOf(campo.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ParametrosInvalidosException(String.format(ProductoConstantes.ERROR_FACETAS, facetas));
+            }
+        }
+        return campos;
+    }
+
+    // Este método interpreta las condiciones sobre atributos; sin el parámetro no se filtra por ninguno.
+    private static List<FiltroAtributo> construirAtributos(List<String> atributos) {
+        if (atributos == null) {
+            return List.of();
+        }
+        List<FiltroAtributo> filtros = new ArrayList<>(atributos.size());
+        for (String atributo : atributos) {
+            try {
+                filtros.add(FiltroAtributo.interpretar(atributo));
+            } catch (IllegalArgumentException e) {
+                throw new ParametrosInvalidosException(String.format(ProductoConstantes.ERROR_ATRIBUTO, atributo));
+            }
+        }
+        return List.copyOf(filtros);
+    }
+
+    // Este método decodifica el cursor y verifica que se haya emitido para el mismo ordenamiento.
+    private static Optional<CursorPaginacion> construirCursor(String cursor, Optional<Ordenamiento> orden) {
+        if (cursor == null) {
+            return Optional.empty();
+        }
+        CursorPaginacion decodificado;
+        try {
+            decodificado = CursorPaginacion.decodificar(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ParametrosInvalidosException(ProductoConstantes.ERROR_CURSOR);
+        }
+        if (!decodificado.orden().equals(orden)) {
+            throw new ParametrosInvalidosException(ProductoConstantes.ERROR_CURSOR_ORDENAMIENTO);
+        }
+        return Optional.of(decodificado);
+    }
+
+    @Operation(
+            summary = "Explicar el plan de una consulta",
+            description =
+            """
+            Devuelve, sin ejecutar la consulta, el plan con el que se resolvería el listado con los mismos filtros:
+            acceso a los candidatos (recorrido completo, mapas de bits de categoría, marca y atributos, índice de
+            precios, rejilla precio × calificación, trigramas del nombre o índice de texto), filtros en el orden en
+            que se evalúan y las estimaciones de selectividad y costo calculadas con las estadísticas del catálogo.
+            """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Plan elegido para la consulta",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = PlanConsulta.class)
+                    )
+            )
+    })
+    @GetMapping("/plan")
+    public PlanConsulta explicarConsulta(
+            @Parameter(description = "Filtro por nombre (contains, case-insensitive)", example = "Smartphone")
+            @RequestParam(required = false) String nombre,
+            @Parameter(description = "Búsqueda por nombre tolerante a errores de tipeo", example = "true")
+            @RequestParam(defaultValue = "false") boolean difuso,
+            @Parameter(description = "Búsqueda de texto completo en nombre, descripción y especificaciones",
+                    example = "celular samsung")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Filtro por categoría (igualdad exacta, case-insensitive)", example = "Electrónica")
+            @RequestParam(required = false) String categoria,
+            @Parameter(description = "Filtro por marca (igualdad exacta, case-insensitive)", example = "Samsung")
+            @RequestParam(required = false) String marca,
+            @Parameter(description = "Precio mínimo (>= 0)", schema = @Schema(minimum = "0"), example = "100")
+            @RequestParam(required = false) Double precioMinimo,
+            @Parameter(description = "Precio máximo (>= 0)", schema = @Schema(minimum = "0"), example = "1000")
+            @RequestParam(required = false) Double precioMaximo,
+            @Parameter(description = "Calificación mínima (de 0 a 5)", schema = @Schema(minimum = "0", maximum = "5"),
+                    example = "4")
+            @RequestParam(required = false) Double calificacionMinima,
+            @Parameter(description = "Calificación máxima (de 0 a 5)", schema = @Schema(minimum = "0", maximum = "5"),
+                    example = "5")
+            @RequestParam(required = false) Double calificacionMaxima,
+            @Parameter(description = "Condiciones sobre atributos de las especificaciones (nombre:comparación valor)",
+                    example = "ram:>=16")
+            @RequestParam(required = false) List<String> atributo) {
+        ProductoCriteriosBusqueda criterios = new ProductoCriteriosBusqueda(
+            recortar(nombre),
+            recortar(categoria),
+            recortar(marca),
+            Optional.ofNullable(precioMinimo),
+            Optional.ofNullable(precioMaximo),
+            Optional.ofNullable(calificacionMinima),
+            Optional.ofNullable(calificacionMaxima),
+            Optional.empty(),
+            Optional.empty(),
+            ModoTotal.EXACTO,
+            Set.of(),
+            difuso,
+            recortar(q),
+            construirAtributos(atributo),
+            0,
+            1
+        );
+        return listarProductosCasoUso.explicarConsulta(criterios);
+    }
+
+    @Operation(
+            summary = "Autocompletar nombres de productos",
+            description =
+            """
+            Devuelve hasta limite productos con alguna palabra del nombre que empieza con el prefijo (sin
+            distinción de mayúsculas ni tildes; el prefijo puede abarcar varias palabras), de mayor a menor
+            calificación. Se resuelve con un trie construido con el catálogo que guarda en cada nodo las mejores
+            sugerencias, así que el costo depende del largo del prefijo y no del tamaño del catálogo.
+            """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Sugerencias ordenadas por calificación",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = Sugerencia.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Solicitud inválida: prefijo vacío o limite fuera de rango",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorRespuesta.class),
+                            examples = {
+                                    @ExampleObject(name = "Límite fuera de rango",
+                                            value = """
+                                            {
+                                              "status": 400,
+                                              "titulo": "Parámetros inválidos",
+                                              "mensaje": "El parámetro limite debe estar entre 1 y 10, pero se recibió 50",
+                                              "ruta": "uri=/productos/autocompletar"
+                                            }
+                                            """
+                                    )
+                            }
+                    )
+            )
+    })
+    @GetMapping("/autocompletar")
+    public List<Sugerencia> autocompletar(
+            @Parameter(description = "Comienzo de alguna palabra del nombre", example = "sma")
+            @RequestParam String prefijo,
+            @Parameter(description = "Cantidad máxima de sugerencias (1 a " + ProductoConstantes.MAXIMO_LIMITE_AUTOCOMPLETADO + ")",
+                    schema = @Schema(minimum = "1", maximum = "10", defaultValue = "8"), example = "8")
+            @RequestParam(defaultValue = "" + ProductoConstantes.LIMITE_AUTOCOMPLETADO_POR_DEFECTO) int limite) {
+        return autocompletarProductosCasoUso.autocompletar(prefijo, limite);
+    }
+
     @Operation(
             summary = "Obtener producto por ID",
             description = "Devuelve un producto dado su identificador. Si el ID no existe, retorna 404."
@@ -0,0 +1,123 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import com.pruebatecnica.meli.dominio.catalogo.RegistroInvalido;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Carga paralela del catálogo: divide el arreglo raíz en fragmentos por límites de objeto,
+// parsea cada fragmento en un ForkJoinPool y fusiona los resultados en el orden original del archivo.
+final class CargadorParaleloCatalogo {
+    private static final int FRAGMENTOS_POR_HILO = 4;
+    private static final String CARGA_INTERRUMPIDA = "Carga paralela del catálogo interrumpida";
+
+    private final JsonFactory fabricaJson;
+    private final LectorCatalogoJson lector;
+    private final int hilos;
+
+    CargadorParaleloCatalogo(JsonFactory fabricaJson, LectorCatalogoJson lector, int hilos) {
+        this.fabricaJson = fabricaJson;
+        this.lector = lector;
+        this.hilos = hilos;
+    }
+
+    // Este método parsea los fragmentos en paralelo y los entrega al constructor en orden determinista.
+    void cargar(byte[] datos, ConstructorCatalogo destino) throws IOException {
+        List<FragmentoJson> fragmentos = dividir(datos, hilos * FRAGMENTOS_POR_HILO);
+        ForkJoinPool pool = new ForkJoinPool(hilos);
+        try {
+            List<Callable<ResultadoFragmento>> tareas = new ArrayList<>(fragmentos.size());
+            for (FragmentoJson fragmento : fragmentos) {
+                tareas.add(() -> parsearFragmento(datos, fragmento));
+            }
+            for (Future<ResultadoFragmento> resultado : pool.invokeAll(tareas)) {
+                fusionar(obtener(resultado), destino);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(CARGA_INTERRUMPIDA);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // Este método recorre el documento una vez para cortar fragmentos de tamaño similar en límites de elemento.
+    static List<FragmentoJson> dividir(byte[] datos, int fragmentosDeseados) throws IOException {
+        int tamanioObjetivo = Math.max(1, datos.length / Math.max(1, fragmentosDeseados));
+        ExploradorArregloJson explorador = ExploradorArregloJson.sobreDocumento(datos);
+        List<FragmentoJson> fragmentos = new ArrayList<>(fragmentosDeseados);
+
+        int inicio = -1;
+        int primeraPosicion = 0;
+        int linea = 0;
+        int inicioLinea = 0;
+        int fin = 0;
+        while (explorador.siguiente()) {
+            if (inicio < 0) {
+                inicio = explorador.inicioElemento();
+                primeraPosicion = explorador.posicion();
+                linea = explorador.lineaElemento();
+                inicioLinea = explorador.inicioLineaElemento();
+            }
+            fin = explorador.finElemento();
+            if (fin - inicio >= tamanioObjetivo) {
+                fragmentos.add(new FragmentoJson(inicio, fin, primeraPosicion, linea, inicioLinea));
+                inicio = -1;
+            }
+        }
+        if (inicio >= 0) {
+            fragmentos.add(new FragmentoJson(inicio, fin, primeraPosicion, linea, inicioLinea));
+        }
+        return fragmentos;
+    }
+
+    private ResultadoFragmento parsearFragmento(byte[] datos, FragmentoJson fragmento) throws IOException {
+        ResultadoFragmento resultado = new ResultadoFragmento();
+        ExploradorArregloJson explorador = ExploradorArregloJson.sobreFragmento(datos, fragmento);
+        while (explorador.siguiente()) {
+            int inicio = explorador.inicioElemento();
+            try (JsonParser parser = fabricaJson.createParser(datos, inicio, explorador.finElemento() - inicio)) {
+                parser.nextToken();
+                lector.leerRegistro(parser, explorador.posicion(), inicio,
+                        explorador.lineaElemento(), explorador.columnaElemento(),
+                        resultado.productos::add, resultado.invalidos::add);
+            }
+        }
+        return resultado;
+    }
+
+    private static ResultadoFragmento obtener(Future<ResultadoFragmento> resultado) throws IOException, InterruptedException {
+        try {
+            return resultado.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private static void fusionar(ResultadoFragmento resultado, ConstructorCatalogo destino) {
+        resultado.productos.forEach(destino::agregar);
+        resultado.invalidos.forEach(destino::registrarInvalido);
+    }
+
+    // Productos y registros inválidos de un fragmento, en el orden en que aparecen en el archivo.
+    private static final class ResultadoFragmento {
+        private final List<Producto> productos = new ArrayList<>();
+        private final List<RegistroInvalido> invalidos = new ArrayList<>();
+    }
+}
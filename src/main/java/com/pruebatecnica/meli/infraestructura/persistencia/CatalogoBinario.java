@@ -0,0 +1,183 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.pruebatecnica.meli.dominio.catalogo.ColumnasCatalogo;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorColumnas;
+import com.pruebatecnica.meli.dominio.indice.IndiceIds;
+import com.pruebatecnica.meli.dominio.indice.IndiceTrigramas;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.pruebatecnica.meli.infraestructura.persistencia.FormatoCatalogoBinario.*;
+
+// Catálogo binario mapeado en memoria de solo lectura. Los registros se decodifican bajo demanda
+// con lecturas absolutas sobre el buffer, por lo que una instancia puede compartirse entre hilos.
+final class CatalogoBinario {
+    private static final String FORMATO_NO_RECONOCIDO = "El archivo no es un catálogo binario de productos";
+    private static final String VERSION_NO_SOPORTADA = "Versión de catálogo binario no soportada: %d";
+    private static final String CATALOGO_TRUNCADO = "El catálogo binario está truncado o corrupto";
+    private static final String CATALOGO_DEMASIADO_GRANDE = "El catálogo binario supera el máximo de 2 GB mapeables";
+
+    private final ByteBuffer datos;
+    private final int cantidad;
+    private final int registrosInvalidos;
+    private final int offsetTabla;
+    private final int offsetCadenas;
+    private final int offsetListas;
+
+    private CatalogoBinario(ByteBuffer datos) throws IOException {
+        this.datos = datos.order(ORDEN_BYTES);
+        if (datos.capacity() < TAMANIO_CABECERA || datos.getInt(CAB_MAGICO) != MAGICO) {
+            throw new IOException(FORMATO_NO_RECONOCIDO);
+        }
+        int version = datos.getInt(CAB_VERSION);
+        if (version != VERSION_FORMATO) {
+            throw new IOException(String.format(VERSION_NO_SOPORTADA, version));
+        }
+        this.cantidad = datos.getInt(CAB_CANTIDAD);
+        this.registrosInvalidos = datos.getInt(CAB_REGISTROS_INVALIDOS);
+        this.offsetTabla = (int) datos.getLong(CAB_OFFSET_TABLA);
+        this.offsetCadenas = (int) datos.getLong(CAB_OFFSET_CADENAS);
+        this.offsetListas = (int) datos.getLong(CAB_OFFSET_LISTAS);
+        long tamanioTotal = datos.getLong(CAB_TAMANIO_TOTAL);
+        boolean coherente = datos.getInt(CAB_TAMANIO_REGISTRO) == TAMANIO_REGISTRO
+                && cantidad >= 0
+                && tamanioTotal == datos.capacity()
+                && offsetTabla + (long) cantidad * TAMANIO_REGISTRO == offsetCadenas
+                && offsetCadenas <= offsetListas
+                && offsetListas <= tamanioTotal;
+        if (!coherente) {
+            throw new IOException(CATALOGO_TRUNCADO);
+        }
+    }
+
+    // Este método mapea el archivo completo; el mapeo sigue vigente después de cerrar el canal
+    // y sus páginas se comparten en la caché del sistema operativo entre todas las JVM del host.
+    static CatalogoBinario mapear(Path ruta) throws IOException {
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            long tamanio = canal.size();
+            if (tamanio > Integer.MAX_VALUE) {
+                throw new IOException(CATALOGO_DEMASIADO_GRANDE);
+            }
+            return new CatalogoBinario(canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanio));
+        }
+    }
+
+    // Este método abre un catálogo ya cargado en un buffer (útil para pruebas y fuentes no mapeadas).
+    static CatalogoBinario sobre(ByteBuffer datos) throws IOException {
+        return new CatalogoBinario(datos);
+    }
+
+    int tamanio() {
+        return cantidad;
+    }
+
+    int registrosInvalidos() {
+        return registrosInvalidos;
+    }
+
+    long bytesMapeados() {
+        return datos.capacity();
+    }
+
+    long idProducto(int ordinal) {
+        return datos.getLong(registro(ordinal) + REG_ID);
+    }
+
+    // Este método construye el índice de IDs leyendo solo la columna de IDs de la tabla.
+    IndiceIds construirIndiceIds() {
+        IndiceIds indice = new IndiceIds(cantidad);
+        for (int ordinal = 0; ordinal < cantidad; ordinal++) {
+            indice.agregar(idProducto(ordinal), ordinal);
+        }
+        return indice;
+    }
+
+    // Este método construye el índice de trigramas decodificando solo los nombres de la tabla.
+    IndiceTrigramas construirIndiceNombres() {
+        IndiceTrigramas indice = new IndiceTrigramas(cantidad);
+        for (int ordinal = 0; ordinal < cantidad; ordinal++) {
+            indice.agregar(ordinal, cadena(datos.getInt(registro(ordinal) + REG_NOMBRE)));
+        }
+        indice.congelar();
+        return indice;
+    }
+
+    // Este método copia las columnas de filtrado fuera del heap. Como el compilador escribe cada cadena
+    // una sola vez, categoría y marca se decodifican una vez por desplazamiento y no por registro.
+    ColumnasCatalogo construirColumnas() {
+        ConstructorColumnas columnas = new ConstructorColumnas(cantidad);
+        Map<Integer, String> cadenasDecodificadas = new HashMap<>();
+        for (int ordinal = 0; ordinal < cantidad; ordinal++) {
+            int registro = registro(ordinal);
+            columnas.agregar(
+                    datos.getLong(registro + REG_ID),
+                    datos.getDouble(registro + REG_PRECIO),
+                    datos.getDouble(registro + REG_CALIFICACION),
+                    columnas.diccionarioCategorias().codificar(
+                            cadenaCompartida(datos.getInt(registro + REG_CATEGORIA), cadenasDecodificadas)),
+                    columnas.diccionarioMarcas().codificar(
+                            cadenaCompartida(datos.getInt(registro + REG_MARCA), cadenasDecodificadas)));
+        }
+        return columnas.construir();
+    }
+
+    // Este método decodifica un producto completo desde el buffer mapeado.
+    Producto producto(int ordinal) {
+        int registro = registro(ordinal);
+        return new Producto(
+                datos.getLong(registro + REG_ID),
+                cadena(datos.getInt(registro + REG_NOMBRE)),
+                cadena(datos.getInt(registro + REG_IMAGEN_URL)),
+                cadena(datos.getInt(registro + REG_DESCRIPCION)),
+                datos.getDouble(registro + REG_PRECIO),
+                datos.getDouble(registro + REG_CALIFICACION),
+                cadena(datos.getInt(registro + REG_CATEGORIA)),
+                cadena(datos.getInt(registro + REG_MARCA)),
+                lista(datos.getInt(registro + REG_ESPECIFICACIONES)));
+    }
+
+    private int registro(int ordinal) {
+        if (ordinal < 0 || ordinal >= cantidad) {
+            throw new IndexOutOfBoundsException(ordinal);
+        }
+        return offsetTabla + ordinal * TAMANIO_REGISTRO;
+    }
+
+    private String cadena(int offset) {
+        if (offset == SIN_VALOR) {
+            return null;
+        }
+        int inicio = offsetCadenas + offset;
+        byte[] bytes = new byte[datos.getInt(inicio)];
+        datos.get(inicio + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private String cadenaCompartida(int offset, Map<Integer, String> cadenasDecodificadas) {
+        return offset == SIN_VALOR ? null : cadenasDecodificadas.computeIfAbsent(offset, this::cadena);
+    }
+
+    private List<String> lista(int offset) {
+        if (offset == SIN_VALOR) {
+            return null;
+        }
+        int inicio = offsetListas + offset;
+        int elementos = datos.getInt(inicio);
+        List<String> valores = new ArrayList<>(elementos);
+        for (int i = 0; i < elementos; i++) {
+            valores.add(cadena(datos.getInt(inicio + Integer.BYTES * (i + 1))));
+        }
+        return Collections.unmodifiableList(valores);
+    }
+}
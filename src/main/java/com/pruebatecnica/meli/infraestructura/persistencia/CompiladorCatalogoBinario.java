@@ -0,0 +1,175 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.pruebatecnica.meli.infraestructura.persistencia.FormatoCatalogoBinario.*;
+
+// Paso de compilación (CLI o tarea de Gradle) que convierte el catálogo JSON al formato binario
+// que ProductoRepositorioBinario mapea en memoria. Las cadenas repetidas se escriben una sola vez.
+public final class CompiladorCatalogoBinario {
+    private static final String USO = "Uso: CompiladorCatalogoBinario <productos.json> <productos.bin>";
+    private static final String CATALOGO_DEMASIADO_GRANDE = "El catálogo binario supera el máximo de 2 GB mapeables";
+    private static final String EXTENSION_TEMPORAL = ".tmp";
+
+    private final LectorCatalogoJson lector;
+
+    public CompiladorCatalogoBinario(JsonFactory fabricaJson) {
+        this.lector = new LectorCatalogoJson(fabricaJson);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println(USO);
+            System.exit(2);
+        }
+        Path origen = Path.of(args[0]);
+        Path destino = Path.of(args[1]);
+        try (InputStream in = Files.newInputStream(origen)) {
+            int productos = new CompiladorCatalogoBinario(new JsonFactory()).compilar(in, destino);
+            System.out.printf("Catálogo binario generado en %s con %d productos (%d bytes)%n",
+                    destino, productos, Files.size(destino));
+        }
+    }
+
+    // Este método lee el JSON en streaming y escribe el catálogo binario de forma atómica en el destino.
+    public int compilar(InputStream json, Path destino) throws IOException {
+        ConstructorCatalogo constructor = new ConstructorCatalogo();
+        lector.leer(json, constructor);
+        CatalogoSnapshot snapshot = constructor.construir(0L, Instant.now(), Duration.ZERO);
+
+        List<Producto> productos = snapshot.productos();
+        Monticulo cadenas = new Monticulo();
+        Monticulo listas = new Monticulo();
+        Map<String, Integer> cadenasEscritas = new HashMap<>();
+
+        ByteBuffer tabla = ByteBuffer.allocate(Math.multiplyExact(productos.size(), TAMANIO_REGISTRO)).order(ORDEN_BYTES);
+        for (Producto producto : productos) {
+            tabla.putLong(producto.idProducto())
+                    .putDouble(producto.precio())
+                    .putDouble(producto.calificacion())
+                    .putInt(escribirCadena(producto.nombre(), cadenas, cadenasEscritas))
+                    .putInt(escribirCadena(producto.imagenUrl(), cadenas, cadenasEscritas))
+                    .putInt(escribirCadena(producto.descripcion(), cadenas, cadenasEscritas))
+                    .putInt(escribirCadena(producto.categoria(), cadenas, cadenasEscritas))
+                    .putInt(escribirCadena(producto.marca(), cadenas, cadenasEscritas))
+                    .putInt(escribirLista(producto.especificaciones(), cadenas, listas, cadenasEscritas));
+        }
+        tabla.flip();
+
+        long offsetCadenas = TAMANIO_CABECERA + (long) tabla.remaining();
+        long offsetListas = offsetCadenas + cadenas.tamanio();
+        long tamanioTotal = offsetListas + listas.tamanio();
+        if (tamanioTotal > Integer.MAX_VALUE) {
+            throw new IOException(CATALOGO_DEMASIADO_GRANDE);
+        }
+
+        ByteBuffer cabecera = ByteBuffer.allocate(TAMANIO_CABECERA).order(ORDEN_BYTES);
+        cabecera.putInt(CAB_MAGICO, MAGICO)
+                .putInt(CAB_VERSION, VERSION_FORMATO)
+                .putInt(CAB_CANTIDAD, productos.size())
+                .putInt(CAB_REGISTROS_INVALIDOS, snapshot.metadatos().registrosInvalidos())
+                .putInt(CAB_TAMANIO_REGISTRO, TAMANIO_REGISTRO)
+                .putLong(CAB_OFFSET_TABLA, TAMANIO_CABECERA)
+                .putLong(CAB_OFFSET_CADENAS, offsetCadenas)
+                .putLong(CAB_OFFSET_LISTAS, offsetListas)
+                .putLong(CAB_TAMANIO_TOTAL, tamanioTotal);
+
+        escribirAtomicamente(destino, cabecera, tabla, cadenas.comoBuffer(), listas.comoBuffer());
+        return productos.size();
+    }
+
+    private static int escribirCadena(String valor, Monticulo cadenas, Map<String, Integer> cadenasEscritas) {
+        if (valor == null) {
+            return SIN_VALOR;
+        }
+        return cadenasEscritas.computeIfAbsent(valor, nueva -> {
+            byte[] bytes = nueva.getBytes(StandardCharsets.UTF_8);
+            int offset = cadenas.agregarEntero(bytes.length);
+            cadenas.agregarBytes(bytes);
+            return offset;
+        });
+    }
+
+    private static int escribirLista(List<String> valores, Monticulo cadenas, Monticulo listas,
+                                     Map<String, Integer> cadenasEscritas) {
+        if (valores == null) {
+            return SIN_VALOR;
+        }
+        int offset = listas.agregarEntero(valores.size());
+        for (String valor : valores) {
+            listas.agregarEntero(escribirCadena(valor, cadenas, cadenasEscritas));
+        }
+        return offset;
+    }
+
+    // Este método escribe en un archivo temporal y lo renombra, para que un lector nunca vea un archivo a medias.
+    private static void escribirAtomicamente(Path destino, ByteBuffer... secciones) throws IOException {
+        Path absoluto = destino.toAbsolutePath();
+        Files.createDirectories(absoluto.getParent());
+        Path temporal = absoluto.resolveSibling(absoluto.getFileName() + EXTENSION_TEMPORAL);
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (ByteBuffer seccion : secciones) {
+                while (seccion.hasRemaining()) {
+                    canal.write(seccion);
+                }
+            }
+            canal.force(true);
+        }
+        Files.move(temporal, absoluto, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Región de bytes que crece a demanda; devuelve el desplazamiento de cada entrada agregada.
+    private static final class Monticulo {
+        private byte[] datos = new byte[4096];
+        private int tamanio;
+
+        private int agregarEntero(int valor) {
+            int offset = reservar(Integer.BYTES);
+            ByteBuffer.wrap(datos, offset, Integer.BYTES).order(ORDEN_BYTES).putInt(valor);
+            return offset;
+        }
+
+        private void agregarBytes(byte[] bytes) {
+            int offset = reservar(bytes.length);
+            System.arraycopy(bytes, 0, datos, offset, bytes.length);
+        }
+
+        private int reservar(int cantidad) {
+            int offset = tamanio;
+            int requerido = Math.addExact(tamanio, cantidad);
+            if (requerido > datos.length) {
+                datos = Arrays.copyOf(datos, Math.max(requerido, datos.length * 2));
+            }
+            tamanio = requerido;
+            return offset;
+        }
+
+        private int tamanio() {
+            return tamanio;
+        }
+
+        private ByteBuffer comoBuffer() {
+            return ByteBuffer.wrap(datos, 0, tamanio);
+        }
+    }
+}
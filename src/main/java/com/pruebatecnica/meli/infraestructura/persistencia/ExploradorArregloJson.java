@@ -0,0 +1,176 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+
+// Recorre los elementos de un arreglo JSON a nivel de bytes, sin parsearlos, para ubicar sus límites.
+// Solo interpreta la estructura (profundidad, cadenas y escapes) y lleva la cuenta de líneas.
+final class ExploradorArregloJson {
+    private static final String SE_ESPERABA_UN_ARREGLO_DE_PRODUCTOS = "Se esperaba un arreglo JSON de productos";
+    private static final String FIN_INESPERADO_DEL_ARCHIVO = "Fin inesperado del archivo de productos";
+
+    private final byte[] datos;
+    private final int limite;
+    private final boolean documentoCompleto;
+    private int cursor;
+    private int linea;
+    private int inicioLinea;
+    private int posicion;
+
+    private int inicioElemento;
+    private int finElemento;
+    private int lineaElemento;
+    private int columnaElemento;
+
+    private ExploradorArregloJson(byte[] datos, int desde, int hasta, int primeraPosicion,
+                                  int linea, int inicioLinea, boolean documentoCompleto) {
+        this.datos = datos;
+        this.cursor = desde;
+        this.limite = hasta;
+        this.posicion = primeraPosicion - 1;
+        this.linea = linea;
+        this.inicioLinea = inicioLinea;
+        this.documentoCompleto = documentoCompleto;
+    }
+
+    // Este método posiciona el explorador justo después del corchete de apertura del arreglo raíz.
+    static ExploradorArregloJson sobreDocumento(byte[] datos) throws JsonParseException {
+        ExploradorArregloJson explorador = new ExploradorArregloJson(datos, 0, datos.length, 0, 1, 0, true);
+        explorador.saltarEspacios();
+        if (explorador.cursor >= datos.length || datos[explorador.cursor] != '[') {
+            throw new JsonParseException((JsonParser) null, SE_ESPERABA_UN_ARREGLO_DE_PRODUCTOS);
+        }
+        explorador.cursor++;
+        return explorador;
+    }
+
+    // Este método recorre un fragmento que comienza en el inicio de un elemento y contiene elementos completos.
+    static ExploradorArregloJson sobreFragmento(byte[] datos, FragmentoJson fragmento) {
+        return new ExploradorArregloJson(datos, fragmento.inicio(), fragmento.fin(), fragmento.primeraPosicion(),
+                fragmento.linea(), fragmento.inicioLinea(), false);
+    }
+
+    // Este método avanza al siguiente elemento; devuelve false al llegar al cierre del arreglo o del fragmento.
+    boolean siguiente() throws JsonParseException {
+        saltarEspacios();
+        if (cursor < limite && datos[cursor] == ',') {
+            cursor++;
+            saltarEspacios();
+        }
+        if (cursor >= limite) {
+            if (documentoCompleto) {
+                throw new JsonParseException((JsonParser) null, FIN_INESPERADO_DEL_ARCHIVO);
+            }
+            return false;
+        }
+        if (datos[cursor] == ']') {
+            return false;
+        }
+
+        posicion++;
+        inicioElemento = cursor;
+        lineaElemento = linea;
+        columnaElemento = cursor - inicioLinea + 1;
+        finElemento = finDeValor(cursor);
+        cursor = finElemento;
+        return true;
+    }
+
+    int inicioElemento() {
+        return inicioElemento;
+    }
+
+    int finElemento() {
+        return finElemento;
+    }
+
+    int posicion() {
+        return posicion;
+    }
+
+    int lineaElemento() {
+        return lineaElemento;
+    }
+
+    int columnaElemento() {
+        return columnaElemento;
+    }
+
+    // Línea y desplazamiento del inicio de línea del elemento actual, para abrir un fragmento en él.
+    int inicioLineaElemento() {
+        return inicioElemento - columnaElemento + 1;
+    }
+
+    private void saltarEspacios() {
+        while (cursor < limite) {
+            byte actual = datos[cursor];
+            if (actual == '\n') {
+                linea++;
+                inicioLinea = cursor + 1;
+            } else if (actual != ' ' && actual != '\t' && actual != '\r') {
+                return;
+            }
+            cursor++;
+        }
+    }
+
+    private int finDeValor(int desde) throws JsonParseException {
+        int profundidad = 0;
+        int i = desde;
+        while (i < limite) {
+            byte actual = datos[i];
+            switch (actual) {
+                case '"' -> {
+                    i = finDeCadena(i + 1);
+                    if (profundidad == 0) {
+                        return i;
+                    }
+                    continue;
+                }
+                case '{', '[' -> profundidad++;
+                case '}', ']' -> {
+                    profundidad--;
+                    if (profundidad <= 0) {
+                        return profundidad == 0 ? i + 1 : i;
+                    }
+                }
+                case ',', ' ', '\t', '\r' -> {
+                    if (profundidad == 0) {
+                        return i;
+                    }
+                }
+                case '\n' -> {
+                    if (profundidad == 0) {
+                        return i;
+                    }
+                    linea++;
+                    inicioLinea = i + 1;
+                }
+                default -> {
+                    // Bytes de valores escalares o de contenido de objetos: no alteran la estructura.
+                }
+            }
+            i++;
+        }
+        if (profundidad == 0 && !documentoCompleto) {
+            return limite;
+        }
+        throw new JsonParseException((JsonParser) null, FIN_INESPERADO_DEL_ARCHIVO);
+    }
+
+    private int finDeCadena(int desde) throws JsonParseException {
+        int i = desde;
+        while (i < limite) {
+            byte actual = datos[i];
+            if (actual == '\\') {
+                i += 2;
+                continue;
+            }
+            if (actual == '"') {
+                return i + 1;
+            }
+            i++;
+        }
+        throw new JsonParseException((JsonParser) null, FIN_INESPERADO_DEL_ARCHIVO);
+    }
+}
@@ -0,0 +1,40 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import java.nio.ByteOrder;
+
+// Disposición del catálogo binario compilado: cabecera fija, tabla de registros de ancho fijo
+// y dos montículos (cadenas UTF-8 con prefijo de longitud y listas de referencias a cadenas).
+// Todas las referencias son desplazamientos relativos al inicio de su montículo; SIN_VALOR representa null.
+final class FormatoCatalogoBinario {
+    static final int MAGICO = 0x494C454D; // "MELI" en little-endian
+    static final int VERSION_FORMATO = 1;
+    static final ByteOrder ORDEN_BYTES = ByteOrder.LITTLE_ENDIAN;
+    static final int SIN_VALOR = -1;
+
+    // Cabecera
+    static final int TAMANIO_CABECERA = 64;
+    static final int CAB_MAGICO = 0;
+    static final int CAB_VERSION = 4;
+    static final int CAB_CANTIDAD = 8;
+    static final int CAB_REGISTROS_INVALIDOS = 12;
+    static final int CAB_TAMANIO_REGISTRO = 16;
+    static final int CAB_OFFSET_TABLA = 24;
+    static final int CAB_OFFSET_CADENAS = 32;
+    static final int CAB_OFFSET_LISTAS = 40;
+    static final int CAB_TAMANIO_TOTAL = 48;
+
+    // Registro de producto
+    static final int TAMANIO_REGISTRO = 48;
+    static final int REG_ID = 0;
+    static final int REG_PRECIO = 8;
+    static final int REG_CALIFICACION = 16;
+    static final int REG_NOMBRE = 24;
+    static final int REG_IMAGEN_URL = 28;
+    static final int REG_DESCRIPCION = 32;
+    static final int REG_CATEGORIA = 36;
+    static final int REG_MARCA = 40;
+    static final int REG_ESPECIFICACIONES = 44;
+
+    private FormatoCatalogoBinario() {
+    }
+}
@@ -0,0 +1,10 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+// Rango de bytes [inicio, fin) que contiene elementos completos del arreglo raíz.
+record FragmentoJson(
+        int inicio,
+        int fin,
+        int primeraPosicion,
+        int linea,
+        int inicioLinea
+) {}
@@ -0,0 +1,224 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.InputCoercionException;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import com.pruebatecnica.meli.dominio.catalogo.RegistroInvalido;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Lector en streaming del arreglo de productos: procesa un objeto a la vez a nivel de tokens,
+// entrega cada producto al constructor del catálogo y descarta los registros mal formados sin abortar la carga.
+final class LectorCatalogoJson {
+    private static final Logger log = LoggerFactory.getLogger(LectorCatalogoJson.class);
+
+    private static final String SE_ESPERABA_UN_ARREGLO_DE_PRODUCTOS = "Se esperaba un arreglo JSON de productos";
+    private static final String FIN_INESPERADO_DEL_ARCHIVO = "Fin inesperado del archivo de productos";
+    private static final String EL_REGISTRO_NO_ES_UN_OBJETO = "El registro no es un objeto JSON";
+    private static final String FALTA_EL_CAMPO_ID_PRODUCTO = "Falta el campo idProducto";
+    private static final String CAMPO_NUMERICO_INVALIDO = "El campo %s no contiene un número válido";
+    private static final String CAMPO_TEXTO_INVALIDO = "El campo %s no contiene un texto válido";
+    private static final String CAMPO_LISTA_INVALIDO = "El campo %s no contiene una lista de textos";
+
+    private static final String ID_PRODUCTO = "idProducto";
+    private static final String NOMBRE = "nombre";
+    private static final String IMAGEN_URL = "imagenUrl";
+    private static final String DESCRIPCION = "descripcion";
+    private static final String PRECIO = "precio";
+    private static final String CALIFICACION = "calificacion";
+    private static final String CATEGORIA = "categoria";
+    private static final String MARCA = "marca";
+    private static final String ESPECIFICACIONES = "especificaciones";
+
+    private final JsonFactory fabricaJson;
+
+    LectorCatalogoJson(JsonFactory fabricaJson) {
+        this.fabricaJson = fabricaJson;
+    }
+
+    // Este método recorre el arreglo raíz y entrega cada producto válido al constructor del catálogo.
+    void leer(InputStream in, ConstructorCatalogo destino) throws IOException {
+        try (JsonParser parser = fabricaJson.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, SE_ESPERABA_UN_ARREGLO_DE_PRODUCTOS);
+            }
+            int posicion = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new JsonParseException(parser, FIN_INESPERADO_DEL_ARCHIVO);
+                }
+                leerRegistro(parser, posicion++, destino);
+            }
+        }
+    }
+
+    // Este método lee el registro sobre el que está posicionado el parser y lo deja en su último token.
+    void leerRegistro(JsonParser parser, int posicion, ConstructorCatalogo destino) throws IOException {
+        JsonLocation ubicacion = parser.currentTokenLocation();
+        leerRegistro(parser, posicion, ubicacion.getByteOffset(), ubicacion.getLineNr(), ubicacion.getColumnNr(),
+                destino::agregar, destino::registrarInvalido);
+    }
+
+    // Este método lee un registro cuya ubicación en el archivo original es conocida por el llamador.
+    void leerRegistro(JsonParser parser, int posicion, long offsetBytes, int linea, int columna,
+                      Consumer<Producto> productos, Consumer<RegistroInvalido> invalidos) throws IOException {
+        CamposProducto campos = leerCampos(parser);
+
+        if (campos.error == null) {
+            productos.accept(campos.aProducto());
+            return;
+        }
+
+        RegistroInvalido registro = new RegistroInvalido(posicion, offsetBytes, linea, columna, campos.error);
+        log.warn("Registro de producto descartado en la posición {} (byte {}, línea {}, columna {}): {}",
+                registro.posicion(), registro.offsetBytes(), registro.linea(), registro.columna(), registro.motivo());
+        invalidos.accept(registro);
+    }
+
+    // Este método consume el objeto completo aunque encuentre errores, para no perder la sincronía del parser.
+    private CamposProducto leerCampos(JsonParser parser) throws IOException {
+        CamposProducto campos = new CamposProducto();
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            campos.registrarError(EL_REGISTRO_NO_ES_UN_OBJETO);
+            parser.skipChildren();
+            return campos;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = parser.currentName();
+            parser.nextToken();
+            switch (campo) {
+                case ID_PRODUCTO -> campos.idProducto = leerLong(parser, campos, campo);
+                case NOMBRE -> campos.nombre = leerTexto(parser, campos, campo);
+                case IMAGEN_URL -> campos.imagenUrl = leerTexto(parser, campos, campo);
+                case DESCRIPCION -> campos.descripcion = leerTexto(parser, campos, campo);
+                case PRECIO -> campos.precio = leerDouble(parser, campos, campo);
+                case CALIFICACION -> campos.calificacion = leerDouble(parser, campos, campo);
+                case CATEGORIA -> campos.categoria = leerTexto(parser, campos, campo);
+                case MARCA -> campos.marca = leerTexto(parser, campos, campo);
+                case ESPECIFICACIONES -> campos.especificaciones = leerListaTextos(parser, campos, campo);
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (parser.currentToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, FIN_INESPERADO_DEL_ARCHIVO);
+        }
+        if (campos.idProducto == null) {
+            campos.registrarError(FALTA_EL_CAMPO_ID_PRODUCTO);
+        }
+        return campos;
+    }
+
+    private static Long leerLong(JsonParser parser, CamposProducto campos, String campo) throws IOException {
+        try {
+            return switch (parser.currentToken()) {
+                case VALUE_NUMBER_INT -> parser.getLongValue();
+                case VALUE_STRING -> Long.parseLong(parser.getText().trim());
+                case VALUE_NULL -> null;
+                default -> {
+                    campos.registrarError(String.format(CAMPO_NUMERICO_INVALIDO, campo));
+                    parser.skipChildren();
+                    yield null;
+                }
+            };
+        } catch (InputCoercionException | NumberFormatException e) {
+            campos.registrarError(String.format(CAMPO_NUMERICO_INVALIDO, campo));
+            return null;
+        }
+    }
+
+    private static double leerDouble(JsonParser parser, CamposProducto campos, String campo) throws IOException {
+        try {
+            return switch (parser.currentToken()) {
+                case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+                case VALUE_STRING -> Double.parseDouble(parser.getText().trim());
+                case VALUE_NULL -> 0.0;
+                default -> {
+                    campos.registrarError(String.format(CAMPO_NUMERICO_INVALIDO, campo));
+                    parser.skipChildren();
+                    yield 0.0;
+                }
+            };
+        } catch (NumberFormatException e) {
+            campos.registrarError(String.format(CAMPO_NUMERICO_INVALIDO, campo));
+            return 0.0;
+        }
+    }
+
+    private static String leerTexto(JsonParser parser, CamposProducto campos, String campo) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        campos.registrarError(String.format(CAMPO_TEXTO_INVALIDO, campo));
+        parser.skipChildren();
+        return null;
+    }
+
+    private static List<String> leerListaTextos(JsonParser parser, CamposProducto campos, String campo) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            campos.registrarError(String.format(CAMPO_LISTA_INVALIDO, campo));
+            parser.skipChildren();
+            return null;
+        }
+
+        List<String> valores = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, FIN_INESPERADO_DEL_ARCHIVO);
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                valores.add(parser.getText());
+            } else if (token != JsonToken.VALUE_NULL) {
+                campos.registrarError(String.format(CAMPO_LISTA_INVALIDO, campo));
+                parser.skipChildren();
+            }
+        }
+        return List.copyOf(valores);
+    }
+
+    // Valores leídos de un objeto; conserva solo el primer error encontrado.
+    private static final class CamposProducto {
+        private Long idProducto;
+        private String nombre;
+        private String imagenUrl;
+        private String descripcion;
+        private double precio;
+        private double calificacion;
+        private String categoria;
+        private String marca;
+        private List<String> especificaciones;
+        private String error;
+
+        private void registrarError(String motivo) {
+            if (error == null) {
+                error = motivo;
+            }
+        }
+
+        private Producto aProducto() {
+            return new Producto(idProducto, nombre, imagenUrl, descripcion, precio, calificacion,
+                    categoria, marca, especificaciones);
+        }
+    }
+}
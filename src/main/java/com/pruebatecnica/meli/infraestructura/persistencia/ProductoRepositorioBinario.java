@@ -0,0 +1,121 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.pruebatecnica.meli.compartido.excepciones.ErrorLecturaJsonException;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.ColumnasCatalogo;
+import com.pruebatecnica.meli.dominio.catalogo.MetadatosCatalogo;
+import com.pruebatecnica.meli.dominio.indice.IndiceIds;
+import com.pruebatecnica.meli.dominio.indice.IndiceTrigramas;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Repositorio sobre el catálogo binario compilado: el arranque solo mapea el archivo y arma el índice de IDs
+// y las columnas de filtrado, sin parsear JSON; los productos se decodifican desde el mapeo cuando se acceden.
+@Repository
+@ConditionalOnProperty(name = "productos.catalogo.fuente", havingValue = "binario")
+public class ProductoRepositorioBinario implements ProductoRepositorio {
+    private static final Logger log = LoggerFactory.getLogger(ProductoRepositorioBinario.class);
+    private static final String NO_SE_ENCONTRO_EL_CATALOGO_BINARIO = "No se encontró el catálogo binario: ";
+    private static final String ERROR_AL_LEER_EL_CATALOGO_BINARIO = "Error al leer el catálogo binario: ";
+
+    private final Path rutaCatalogo;
+    private final AtomicLong versiones = new AtomicLong();
+    private volatile CatalogoSnapshot snapshot;
+
+    public ProductoRepositorioBinario(@Value("${productos.catalogo.ruta-binario:build/catalogo/productos.bin}") String rutaCatalogo) {
+        this.rutaCatalogo = Path.of(rutaCatalogo);
+    }
+
+    // Este método mapea el catálogo al arrancar para que la primera petición no pague la apertura del archivo.
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargarCatalogo() {
+        try {
+            snapshotVigente();
+        } catch (ErrorLecturaJsonException e) {
+            log.error("No fue posible mapear el catálogo binario; se reintentará en el primer acceso", e);
+        }
+    }
+
+    // Este método devuelve la vista perezosa de productos respaldada por el archivo mapeado.
+    @Override
+    public List<Producto> listarProductos() {
+        return snapshotVigente().productos();
+    }
+
+    // Este método busca un producto por su ID y decodifica únicamente ese registro.
+    @Override
+    public Optional<Producto> obtenerProductoPorId(Long idProducto) {
+        log.info("Obteniendo producto por ID: {}", idProducto);
+        return snapshotVigente().buscarPorId(idProducto);
+    }
+
+    // Este método devuelve los productos cuyos IDs están en la lista proporcionada, en orden de catálogo.
+    @Override
+    public List<Producto> obtenerProductosPorIds(List<Long> ids) {
+        log.info("Obteniendo productos por IDs: {}", ids);
+        return snapshotVigente().buscarPorIds(ids);
+    }
+
+    @Override
+    public Optional<CatalogoSnapshot> obtenerSnapshot() {
+        return Optional.of(snapshotVigente());
+    }
+
+    // Este método mapea el catálogo una única vez; si falla se reintenta en el siguiente acceso.
+    private CatalogoSnapshot snapshotVigente() {
+        CatalogoSnapshot actual = snapshot;
+        if (actual == null) {
+            synchronized (this) {
+                actual = snapshot;
+                if (actual == null) {
+                    actual = cargarSnapshot();
+                    snapshot = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    // Este método mapea el archivo binario y publica un snapshot cuya lista decodifica bajo demanda.
+    private CatalogoSnapshot cargarSnapshot() {
+        log.info("Mapeando el catálogo binario: {}", rutaCatalogo);
+        long inicio = System.nanoTime();
+        try {
+            CatalogoBinario catalogo = CatalogoBinario.mapear(rutaCatalogo);
+            IndiceIds indiceIds = catalogo.construirIndiceIds();
+            IndiceTrigramas indiceNombres = catalogo.construirIndiceNombres();
+            ColumnasCatalogo columnas = catalogo.construirColumnas();
+            Duration duracion = Duration.ofNanos(System.nanoTime() - inicio);
+            MetadatosCatalogo metadatos = new MetadatosCatalogo(versiones.incrementAndGet(), Instant.now(), duracion,
+                    catalogo.tamanio(), catalogo.registrosInvalidos());
+            CatalogoSnapshot nuevo = CatalogoSnapshot.sobre(new ProductosMapeados(catalogo), indiceIds, indiceNombres,
+                    columnas, metadatos);
+            log.info("Catálogo binario mapeado correctamente. {} productos ({} bytes mapeados) en {} ms (versión {}).",
+                    nuevo.tamanio(), catalogo.bytesMapeados(), duracion.toMillis(), nuevo.version());
+            return nuevo;
+        } catch (NoSuchFileException e) {
+            throw new ErrorLecturaJsonException(NO_SE_ENCONTRO_EL_CATALOGO_BINARIO + rutaCatalogo,
+                    new FileNotFoundException(e.getMessage()));
+        } catch (IOException e) {
+            throw new ErrorLecturaJsonException(ERROR_AL_LEER_EL_CATALOGO_BINARIO + rutaCatalogo, e);
+        }
+    }
+}
@@ -1,47 +1,354 @@
 package com.pruebatecnica.meli.infraestructura.persistencia;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import com.pruebatecnica.meli.dominio.catalogo.OperacionDelta;
+import com.pruebatecnica.meli.dominio.catalogo.RecargaCatalogo;
 import com.pruebatecnica.meli.dominio.modelo.Producto;
 import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
 import com.pruebatecnica.meli.compartido.excepciones.ErrorLecturaJsonException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.core.type.TypeReference;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Repository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @Repository
+@ConditionalOnProperty(name = "productos.catalogo.fuente", havingValue = "json", matchIfMissing = true)
 public class ProductoRepositorioJson implements ProductoRepositorio {
     private static final Logger log = LoggerFactory.getLogger(ProductoRepositorioJson.class);
     private static final String PRODUCTOS_JSON = "json/productos.json";
     private static final String NO_SE_ENCONTRO_EL_ARCHIVO_DE_PRODUCTOS = "No se encontró el archivo de productos: ";
     private static final String ERROR_AL_PARSEAR_EL_JSON_DE_PRODUCTOS = "Error al parsear el JSON de productos";
     private static final String ERROR_AL_LEER_PRODUCTOS_DESDE_JSON = "Error al leer productos desde JSON";
+    private static final String NO_SE_PUEDE_VIGILAR_EL_CLASSPATH = "La vigilancia del catálogo requiere productos.catalogo.ruta";
+    private static final String NOMBRE_HILO_DELTAS = "seguidor-deltas";
 
-    private final ObjectMapper objectMapper;
+    private final LectorCatalogoJson lectorCatalogo;
+    private final CargadorParaleloCatalogo cargadorParalelo;
+    private final ModoCarga modoCarga;
+    private final Path rutaCatalogo;
+    private final boolean vigilarCatalogo;
+    private final Duration esperaRecarga;
+    private final AtomicLong versiones = new AtomicLong();
+    // Serializa las recargas entre sí sin bloquear la aplicación de deltas mientras se construye la base.
+    private final Object candadoRecarga = new Object();
+    private volatile CatalogoSnapshot snapshot;
+    private volatile RecargaCatalogo ultimaRecarga;
+    private final SeguidorDeltas seguidorDeltas;
+    private final Duration intervaloDeltas;
+    private final int umbralCompactacion;
+    private VigilanteArchivo vigilante;
+    private ScheduledExecutorService ejecutorDeltas;
 
-    public ProductoRepositorioJson(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public ProductoRepositorioJson(ObjectMapper objectMapper,
+                                   @Value("${productos.catalogo.carga:streaming}") String modoCarga,
+                                   @Value("${productos.catalogo.hilos-carga:0}") int hilosCarga,
+                                   @Value("${productos.catalogo.ruta:}") String rutaCatalogo,
+                                   @Value("${productos.catalogo.vigilar:false}") boolean vigilarCatalogo,
+                                   @Value("${productos.catalogo.espera-recarga-ms:500}") long esperaRecargaMs,
+                                   @Value("${productos.catalogo.deltas.ruta:}") String rutaDeltas,
+                                   @Value("${productos.catalogo.deltas.intervalo-ms:1000}") long intervaloDeltasMs,
+                                   @Value("${productos.catalogo.deltas.umbral-compactacion:10000}") int umbralCompactacion) {
+        int hilos = hilosCarga > 0 ? hilosCarga : Runtime.getRuntime().availableProcessors();
+        this.lectorCatalogo = new LectorCatalogoJson(objectMapper.getFactory());
+        this.cargadorParalelo = new CargadorParaleloCatalogo(objectMapper.getFactory(), lectorCatalogo, hilos);
+        this.modoCarga = ModoCarga.valueOf(modoCarga.trim().toUpperCase(Locale.ROOT));
+        this.rutaCatalogo = rutaCatalogo == null || rutaCatalogo.isBlank() ? null : Path.of(rutaCatalogo.trim());
+        this.vigilarCatalogo = vigilarCatalogo;
+        this.esperaRecarga = Duration.ofMillis(esperaRecargaMs);
+        if (vigilarCatalogo && this.rutaCatalogo == null) {
+            throw new IllegalStateException(NO_SE_PUEDE_VIGILAR_EL_CLASSPATH);
+        }
+        this.seguidorDeltas = rutaDeltas == null || rutaDeltas.isBlank() ? null
+                : new SeguidorDeltas(Path.of(rutaDeltas.trim()), objectMapper.getFactory(), lectorCatalogo);
+        this.intervaloDeltas = Duration.ofMillis(intervaloDeltasMs);
+        this.umbralCompactacion = umbralCompactacion;
+    }
+
+    // Este método precarga el catálogo al arrancar para que la primera petición no pague el parseo
+    // y, si está configurado, empieza a vigilar el archivo para recargarlo cuando cambie.
+    @EventListener(ApplicationReadyEvent.class)
+    public void precargarCatalogo() {
+        try {
+            snapshotVigente();
+        } catch (ErrorLecturaJsonException e) {
+            log.error("No fue posible precargar el catálogo; se reintentará en el primer acceso", e);
+        }
+        if (vigilarCatalogo) {
+            iniciarVigilancia();
+        }
+        if (seguidorDeltas != null) {
+            iniciarSeguimientoDeltas();
+        }
+    }
+
+    // Este método arranca la vigilancia del archivo del catálogo en un hilo en segundo plano.
+    synchronized void iniciarVigilancia() {
+        if (vigilante != null) {
+            return;
+        }
+        VigilanteArchivo nuevo = new VigilanteArchivo(rutaCatalogo, esperaRecarga, this::recargarCatalogo);
+        try {
+            nuevo.iniciar();
+            vigilante = nuevo;
+        } catch (IOException e) {
+            log.error("No fue posible vigilar el archivo de productos {}", rutaCatalogo, e);
+        }
+    }
+
+    // Este método revisa periódicamente el archivo de deltas y aplica las operaciones nuevas.
+    synchronized void iniciarSeguimientoDeltas() {
+        if (ejecutorDeltas != null) {
+            return;
+        }
+        ejecutorDeltas = Executors.newSingleThreadScheduledExecutor(
+                tarea -> Thread.ofPlatform().name(NOMBRE_HILO_DELTAS).daemon(true).unstarted(tarea));
+        ejecutorDeltas.scheduleWithFixedDelay(() -> {
+            try {
+                procesarDeltas();
+            } catch (RuntimeException e) {
+                log.error("Error al aplicar los deltas del catálogo", e);
+            }
+        }, intervaloDeltas.toMillis(), intervaloDeltas.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("Siguiendo deltas del catálogo cada {} ms", intervaloDeltas.toMillis());
+    }
+
+    @PreDestroy
+    public synchronized void detenerVigilancia() {
+        if (vigilante != null) {
+            vigilante.close();
+            vigilante = null;
+        }
+        if (ejecutorDeltas != null) {
+            ejecutorDeltas.shutdownNow();
+            ejecutorDeltas = null;
+        }
     }
 
-    // Este método lee el archivo JSON y convierte su contenido en una lista de objetos Producto.
+    // Este método aplica sobre el snapshot vigente las operaciones agregadas al archivo de deltas
+    // desde la última lectura y publica el resultado. Si el archivo se truncó, ya no es posible
+    // saber qué cambios siguen vigentes y se reconstruye todo desde la base, fuera del candado.
+    void procesarDeltas() {
+        synchronized (this) {
+            CatalogoSnapshot actual = snapshot;
+            if (actual == null || seguidorDeltas == null) {
+                return;
+            }
+            try {
+                if (!seguidorDeltas.fueTruncado()) {
+                    snapshot = aplicarDeltas(actual);
+                    return;
+                }
+            } catch (IOException e) {
+                log.error("No fue posible consultar el archivo de deltas", e);
+                return;
+            }
+            log.warn("El archivo de deltas se truncó; se recarga el catálogo completo");
+            seguidorDeltas.reiniciar();
+        }
+        recargarCatalogo();
+    }
+
+    // Este método construye la base nueva (índices incluidos) y le reaplica lo ya consumido del archivo de deltas
+    // sin tomar el candado de los deltas; solo lo toma para aplicarle lo leído mientras tanto y publicarla con una
+    // única escritura volátil: las peticiones en curso terminan con el snapshot anterior y las siguientes ven el
+    // nuevo. Si la lectura falla, se conserva el vigente.
+    public void recargarCatalogo() {
+        synchronized (candadoRecarga) {
+            CatalogoSnapshot vigente = snapshot;
+            long versionAnterior = vigente == null ? 0L : vigente.version();
+            int productosAnteriores = vigente == null ? 0 : vigente.tamanio();
+            long inicio = System.nanoTime();
+            try {
+                SeguidorDeltas.Marca consumido = marcaDeltas();
+                CatalogoSnapshot base = reaplicarDeltas(cargarSnapshot(), SeguidorDeltas.Marca.INICIO, consumido);
+                CatalogoSnapshot anterior;
+                CatalogoSnapshot nuevo;
+                synchronized (this) {
+                    anterior = snapshot;
+                    nuevo = ponerAlDia(base, consumido);
+                    snapshot = nuevo;
+                }
+                versionAnterior = anterior == null ? 0L : anterior.version();
+                productosAnteriores = anterior == null ? 0 : anterior.tamanio();
+                Duration duracion = Duration.ofNanos(System.nanoTime() - inicio);
+                ultimaRecarga = new RecargaCatalogo(Instant.now(), true, versionAnterior, nuevo.version(),
+                        productosAnteriores, nuevo.tamanio(), duracion, null);
+                log.info("Catálogo recargado: versión {} -> {}, productos {} -> {}, en {} ms.",
+                        versionAnterior, nuevo.version(), productosAnteriores, nuevo.tamanio(), duracion.toMillis());
+            } catch (ErrorLecturaJsonException e) {
+                ultimaRecarga = new RecargaCatalogo(Instant.now(), false, versionAnterior, versionAnterior,
+                        productosAnteriores, productosAnteriores, Duration.ofNanos(System.nanoTime() - inicio),
+                        e.getMessage());
+                log.error("No fue posible recargar el catálogo; se conserva la versión {}", versionAnterior, e);
+            }
+        }
+    }
+
+    // Este método devuelve la lista inmutable de productos del snapshot vigente.
     @Override
     public List<Producto> listarProductos() {
-        log.info("Intentando leer el archivo de productos: {}", PRODUCTOS_JSON);
-        try (InputStream in = new ClassPathResource(PRODUCTOS_JSON).getInputStream()) {
-            List<Producto> productos = objectMapper.readValue(in, new TypeReference<List<Producto>>() {});
-            log.info("Archivo de productos leído correctamente. Se encontraron {} productos.", productos.size());
-            return productos;
+        return snapshotVigente().productos();
+    }
+
+    // Este método busca un producto por su ID usando el índice primitivo del snapshot.
+    @Override
+    public Optional<Producto> obtenerProductoPorId(Long idProducto) {
+        log.info("Obteniendo producto por ID: {}", idProducto);
+        return snapshotVigente().buscarPorId(idProducto);
+    }
+
+    // Este método devuelve los productos cuyos IDs están en la lista proporcionada, en orden de catálogo.
+    @Override
+    public List<Producto> obtenerProductosPorIds(List<Long> ids) {
+        log.info("Obteniendo productos por IDs: {}", ids);
+        return snapshotVigente().buscarPorIds(ids);
+    }
+
+    @Override
+    public Optional<CatalogoSnapshot> obtenerSnapshot() {
+        return Optional.of(snapshotVigente());
+    }
+
+    @Override
+    public Optional<RecargaCatalogo> obtenerUltimaRecarga() {
+        return Optional.ofNullable(ultimaRecarga);
+    }
+
+    // Este método devuelve el snapshot publicado sin bloquear; solo la primera carga toma el candado.
+    // Si la carga falla se reintenta en el siguiente acceso.
+    private CatalogoSnapshot snapshotVigente() {
+        CatalogoSnapshot actual = snapshot;
+        if (actual == null) {
+            synchronized (this) {
+                actual = snapshot;
+                if (actual == null) {
+                    actual = cargarConDeltas();
+                    snapshot = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    // Este método carga la base y la pone al día con todo el archivo de deltas.
+    private CatalogoSnapshot cargarConDeltas() {
+        return ponerAlDia(cargarSnapshot(), SeguidorDeltas.Marca.INICIO);
+    }
+
+    // El archivo de deltas nunca se modifica y ninguna base incluye sus operaciones, así que una base recién
+    // cargada se pone al día reaplicándolo desde el inicio: en orden, un upsert o una eliminación repetidos dejan
+    // el mismo resultado. Lo ya aplicado hasta la marca se relee sin mover el seguimiento; la cola, con él.
+    private CatalogoSnapshot ponerAlDia(CatalogoSnapshot base, SeguidorDeltas.Marca aplicado) {
+        if (seguidorDeltas == null) {
+            return base;
+        }
+        return aplicarDeltas(reaplicarDeltas(base, aplicado, seguidorDeltas.marca()));
+    }
+
+    private SeguidorDeltas.Marca marcaDeltas() {
+        return seguidorDeltas == null ? SeguidorDeltas.Marca.INICIO : seguidorDeltas.marca();
+    }
+
+    // Este método reaplica sobre la base las operaciones del archivo entre dos marcas ya leídas por el seguimiento.
+    private CatalogoSnapshot reaplicarDeltas(CatalogoSnapshot base, SeguidorDeltas.Marca desde,
+                                             SeguidorDeltas.Marca hasta) {
+        if (seguidorDeltas == null || desde.posicion() >= hasta.posicion()) {
+            return base;
+        }
+        long inicio = System.nanoTime();
+        List<OperacionDelta> operaciones;
+        try {
+            operaciones = seguidorDeltas.releer(desde, hasta);
+        } catch (IOException e) {
+            log.error("No fue posible releer el archivo de deltas sobre la versión {}", base.version(), e);
+            return base;
+        }
+        return aplicar(base, operaciones, inicio);
+    }
+
+    // Este método aplica las operaciones nuevas como capa delta (sin reconstruir la base) y compacta
+    // cuando la capa acumula demasiados cambios.
+    private CatalogoSnapshot aplicarDeltas(CatalogoSnapshot actual) {
+        long inicio = System.nanoTime();
+        List<OperacionDelta> operaciones;
+        try {
+            operaciones = seguidorDeltas.leerNuevas();
+        } catch (IOException e) {
+            log.error("No fue posible leer el archivo de deltas; se conserva la versión {}", actual.version(), e);
+            return actual;
+        }
+        return aplicar(actual, operaciones, inicio);
+    }
+
+    private CatalogoSnapshot aplicar(CatalogoSnapshot actual, List<OperacionDelta> operaciones, long inicio) {
+        if (operaciones.isEmpty()) {
+            return actual;
+        }
+        CatalogoSnapshot nuevo = actual.aplicar(operaciones, versiones.incrementAndGet(), Instant.now(),
+                Duration.ofNanos(System.nanoTime() - inicio));
+        log.info("Deltas aplicados: {} operaciones, versión {} -> {}, productos {} -> {}, en {} µs.",
+                operaciones.size(), actual.version(), nuevo.version(), actual.tamanio(), nuevo.tamanio(),
+                nuevo.metadatos().duracionCarga().toNanos() / 1000);
+        if (nuevo.operacionesPendientes() >= umbralCompactacion) {
+            nuevo = compactar(nuevo);
+        }
+        return nuevo;
+    }
+
+    private CatalogoSnapshot compactar(CatalogoSnapshot actual) {
+        CatalogoSnapshot compactado = actual.compactar(versiones.incrementAndGet(), Instant.now());
+        log.info("Catálogo compactado: {} operaciones integradas en la base, versión {} -> {}, en {} ms.",
+                actual.operacionesPendientes(), actual.version(), compactado.version(),
+                compactado.metadatos().duracionCarga().toMillis());
+        return compactado;
+    }
+
+    // Este método lee el archivo JSON (en streaming o en paralelo) y construye el snapshot inmutable del catálogo.
+    private CatalogoSnapshot cargarSnapshot() {
+        log.info("Intentando leer el archivo de productos: {} (modo de carga {})", descripcionFuente(), modoCarga);
+        long inicio = System.nanoTime();
+        try (InputStream in = abrirCatalogo()) {
+            ConstructorCatalogo constructor = new ConstructorCatalogo();
+            if (modoCarga == ModoCarga.PARALELA) {
+                cargadorParalelo.cargar(in.readAllBytes(), constructor);
+            } else {
+                lectorCatalogo.leer(in, constructor);
+            }
+            Duration duracion = Duration.ofNanos(System.nanoTime() - inicio);
+            CatalogoSnapshot nuevo = constructor.construir(versiones.incrementAndGet(), Instant.now(), duracion);
+            log.info("Archivo de productos leído correctamente. Se encontraron {} productos y {} registros inválidos en {} ms (versión {}).",
+                    nuevo.tamanio(), nuevo.metadatos().registrosInvalidos(), duracion.toMillis(), nuevo.version());
+            return nuevo;
         } catch (FileNotFoundException e) {
-            throw new ErrorLecturaJsonException(NO_SE_ENCONTRO_EL_ARCHIVO_DE_PRODUCTOS + PRODUCTOS_JSON, e);
+            throw new ErrorLecturaJsonException(NO_SE_ENCONTRO_EL_ARCHIVO_DE_PRODUCTOS + descripcionFuente(), e);
+        } catch (NoSuchFileException e) {
+            throw new ErrorLecturaJsonException(NO_SE_ENCONTRO_EL_ARCHIVO_DE_PRODUCTOS + descripcionFuente(),
+                    new FileNotFoundException(e.getMessage()));
         } catch (JsonProcessingException e) {
             throw new ErrorLecturaJsonException(ERROR_AL_PARSEAR_EL_JSON_DE_PRODUCTOS, e);
         } catch (IOException e) {
@@ -49,25 +356,21 @@ public class ProductoRepositorioJson implements ProductoRepositorio {
         }
     }
 
-    // Este método busca un producto por su ID en la lista de productos.
-    @Override
-    public Optional<Producto> obtenerProductoPorId(Long idProducto) {
-        try {
-            log.info("Obteniendo producto por ID: {}", idProducto);
-            return listarProductos().stream()
-                    .filter(producto -> producto.idProducto().equals(idProducto))
-                    .findFirst();
-        } catch (NumberFormatException e) {
-            return Optional.empty();
+    // Este método abre el archivo configurado en el sistema de archivos o, si no hay ruta, el recurso del classpath.
+    private InputStream abrirCatalogo() throws IOException {
+        if (rutaCatalogo != null) {
+            return Files.newInputStream(rutaCatalogo);
         }
+        return new ClassPathResource(PRODUCTOS_JSON).getInputStream();
     }
 
-    // Este método filtra y devuelve una lista de productos cuyos IDs están en la lista proporcionada.
-    @Override
-    public List<Producto> obtenerProductosPorIds(List<Long> ids) {
-        log.info("Obteniendo productos por IDs: {}", ids);
-        return listarProductos().stream()
-                .filter(producto -> ids.contains(producto.idProducto()))
-                .toList();
+    private String descripcionFuente() {
+        return rutaCatalogo != null ? rutaCatalogo.toString() : PRODUCTOS_JSON;
+    }
+
+    // Estrategias de lectura del archivo: streaming en un hilo o fragmentos parseados en paralelo.
+    enum ModoCarga {
+        STREAMING,
+        PARALELA
     }
-}
\ No newline at end of file
+}
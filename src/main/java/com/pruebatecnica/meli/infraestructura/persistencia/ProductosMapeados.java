@@ -0,0 +1,26 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Lista inmutable respaldada por el catálogo binario: cada producto se decodifica solo cuando se accede
+// a él (al serializar una página o una búsqueda por ID), sin copia del catálogo en el heap.
+final class ProductosMapeados extends AbstractList<Producto> implements RandomAccess {
+    private final CatalogoBinario catalogo;
+
+    ProductosMapeados(CatalogoBinario catalogo) {
+        this.catalogo = catalogo;
+    }
+
+    @Override
+    public Producto get(int indice) {
+        return catalogo.producto(indice);
+    }
+
+    @Override
+    public int size() {
+        return catalogo.tamanio();
+    }
+}
@@ -0,0 +1,219 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.pruebatecnica.meli.dominio.catalogo.OperacionDelta;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Sigue un archivo JSON Lines de solo-agregado con operaciones sobre el catálogo, una por línea:
+//   {"operacion":"upsert","producto":{...}}
+//   {"operacion":"eliminar","idProducto":42}
+// Recuerda el offset ya consumido y en cada lectura procesa solo las líneas completas nuevas;
+// una línea a medio escribir queda para la siguiente. Las líneas inválidas se descartan con un aviso.
+// El archivo solo se lee: lo comparten el productor y otros consumidores, y es lo único que conserva los cambios
+// hasta que se publique una base que los incluya. Una base recién cargada se pone al día releyéndolo completo.
+final class SeguidorDeltas {
+    private static final Logger log = LoggerFactory.getLogger(SeguidorDeltas.class);
+
+    private static final int MAXIMO_BYTES_POR_LECTURA = 16 * 1024 * 1024;
+    private static final byte FIN_DE_LINEA = '\n';
+
+    private static final String OPERACION = "operacion";
+    private static final String PRODUCTO = "producto";
+    private static final String ID_PRODUCTO = "idProducto";
+    private static final String OPERACION_UPSERT = "upsert";
+    private static final String OPERACION_ELIMINAR = "eliminar";
+
+    private static final String LA_LINEA_NO_ES_UN_OBJETO = "La línea no es un objeto JSON";
+    private static final String OPERACION_DESCONOCIDA = "Operación desconocida: %s";
+    private static final String FALTA_EL_PRODUCTO = "La operación upsert requiere el campo producto";
+    private static final String FALTA_EL_ID_PRODUCTO = "La operación eliminar requiere el campo idProducto";
+
+    private final Path archivo;
+    private final JsonFactory fabricaJson;
+    private final LectorCatalogoJson lectorCatalogo;
+    private final Recorrido seguimiento = new Recorrido(Marca.INICIO);
+
+    SeguidorDeltas(Path archivo, JsonFactory fabricaJson, LectorCatalogoJson lectorCatalogo) {
+        this.archivo = archivo;
+        this.fabricaJson = fabricaJson;
+        this.lectorCatalogo = lectorCatalogo;
+    }
+
+    // Este método vuelve al inicio del archivo, por ejemplo, cuando se truncó y hay que leerlo desde cero.
+    synchronized void reiniciar() {
+        seguimiento.reiniciar(Marca.INICIO);
+    }
+
+    // Este método indica si el archivo se truncó o se reemplazó por uno más corto que lo ya consumido.
+    synchronized boolean fueTruncado() throws IOException {
+        return Files.exists(archivo) && Files.size(archivo) < seguimiento.posicion;
+    }
+
+    // Este método devuelve hasta dónde llegó el seguimiento.
+    synchronized Marca marca() {
+        return seguimiento.marca();
+    }
+
+    // Este método devuelve las operaciones de las líneas completas agregadas desde la última lectura.
+    synchronized List<OperacionDelta> leerNuevas() throws IOException {
+        return leer(seguimiento, Long.MAX_VALUE);
+    }
+
+    // Este método relee las operaciones entre dos marcas sin mover el seguimiento, por lo que puede
+    // llamarse sin el candado del seguidor mientras se siguen leyendo líneas nuevas.
+    List<OperacionDelta> releer(Marca desde, Marca hasta) throws IOException {
+        return leer(new Recorrido(desde), hasta.posicion());
+    }
+
+    private List<OperacionDelta> leer(Recorrido recorrido, long limite) throws IOException {
+        if (!Files.exists(archivo)) {
+            return List.of();
+        }
+        List<OperacionDelta> operaciones = new ArrayList<>();
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ)) {
+            long tamanio = Math.min(canal.size(), limite);
+            while (recorrido.posicion < tamanio) {
+                int consumidos = leerBloque(canal, recorrido,
+                        (int) Math.min(tamanio - recorrido.posicion, MAXIMO_BYTES_POR_LECTURA), operaciones);
+                if (consumidos == 0) {
+                    break;
+                }
+                recorrido.posicion += consumidos;
+            }
+        }
+        return operaciones;
+    }
+
+    // Este método lee un bloque desde la posición del recorrido y procesa sus líneas completas;
+    // devuelve los bytes consumidos (cero si aún no hay una línea terminada).
+    private int leerBloque(FileChannel canal, Recorrido recorrido, int longitud, List<OperacionDelta> operaciones)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(longitud);
+        while (buffer.hasRemaining() && canal.read(buffer, recorrido.posicion + buffer.position()) > 0) {
+            // Se repite hasta completar el bloque.
+        }
+        byte[] datos = buffer.array();
+        int leidos = buffer.position();
+
+        int inicioLinea = 0;
+        for (int i = 0; i < leidos; i++) {
+            if (datos[i] == FIN_DE_LINEA) {
+                recorrido.lineas++;
+                leerLinea(datos, inicioLinea, i - inicioLinea, recorrido, operaciones);
+                inicioLinea = i + 1;
+            }
+        }
+        return inicioLinea;
+    }
+
+    private void leerLinea(byte[] datos, int inicio, int longitud, Recorrido recorrido,
+                           List<OperacionDelta> operaciones) throws IOException {
+        if (esBlanca(datos, inicio, longitud)) {
+            return;
+        }
+        long offsetLinea = recorrido.posicion + inicio;
+        try (JsonParser parser = fabricaJson.createParser(datos, inicio, longitud)) {
+            String error = leerOperacion(parser, recorrido.lineas, offsetLinea, operaciones);
+            if (error != null) {
+                descartar(recorrido.lineas, error);
+            }
+        } catch (JsonProcessingException e) {
+            descartar(recorrido.lineas, e.getOriginalMessage());
+        }
+    }
+
+    // Este método interpreta una línea y agrega su operación; devuelve el motivo si la línea no es válida.
+    private String leerOperacion(JsonParser parser, int linea, long offsetLinea, List<OperacionDelta> operaciones)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return LA_LINEA_NO_ES_UN_OBJETO;
+        }
+        String operacion = null;
+        Long idProducto = null;
+        List<Producto> producto = new ArrayList<>(1);
+        List<String> errores = new ArrayList<>(1);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String campo = parser.currentName();
+            JsonToken valor = parser.nextToken();
+            switch (campo) {
+                case OPERACION -> operacion = valor == JsonToken.VALUE_STRING ? parser.getText() : null;
+                case ID_PRODUCTO -> idProducto = valor == JsonToken.VALUE_NUMBER_INT ? parser.getLongValue() : null;
+                case PRODUCTO -> lectorCatalogo.leerRegistro(parser, linea - 1, offsetLinea, linea,
+                        parser.currentTokenLocation().getColumnNr(), producto::add,
+                        registro -> errores.add(registro.motivo()));
+                default -> parser.skipChildren();
+            }
+        }
+
+        if (OPERACION_UPSERT.equals(operacion)) {
+            if (!errores.isEmpty()) {
+                return errores.getFirst();
+            }
+            if (producto.isEmpty()) {
+                return FALTA_EL_PRODUCTO;
+            }
+            operaciones.add(OperacionDelta.upsert(producto.getFirst()));
+            return null;
+        }
+        if (OPERACION_ELIMINAR.equals(operacion)) {
+            if (idProducto == null) {
+                return FALTA_EL_ID_PRODUCTO;
+            }
+            operaciones.add(OperacionDelta.eliminar(idProducto));
+            return null;
+        }
+        return OPERACION_DESCONOCIDA.formatted(operacion);
+    }
+
+    private void descartar(int linea, String motivo) {
+        log.warn("Línea {} de {} descartada: {}", linea, archivo, motivo);
+    }
+
+    private static boolean esBlanca(byte[] datos, int inicio, int longitud) {
+        for (int i = inicio; i < inicio + longitud; i++) {
+            if (!Character.isWhitespace(datos[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Posición en el archivo, siempre al final de una línea completa, y líneas leídas hasta ella.
+    record Marca(long posicion, int lineas) {
+        static final Marca INICIO = new Marca(0, 0);
+    }
+
+    // Estado de una lectura en curso: el seguimiento guarda el suyo y cada relectura usa uno propio.
+    private static final class Recorrido {
+        private long posicion;
+        private int lineas;
+
+        private Recorrido(Marca desde) {
+            reiniciar(desde);
+        }
+
+        private void reiniciar(Marca desde) {
+            posicion = desde.posicion();
+            lineas = desde.lineas();
+        }
+
+        private Marca marca() {
+            return new Marca(posicion, lineas);
+        }
+    }
+}
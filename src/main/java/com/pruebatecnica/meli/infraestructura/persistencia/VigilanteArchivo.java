@@ -0,0 +1,103 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// Vigila un archivo con WatchService (sobre su directorio) y ejecuta una acción en un hilo propio
+// cuando cambia. Los eventos consecutivos se agrupan hasta que pasa un intervalo de espera sin cambios,
+// para no reaccionar a escrituras a medias ni a las ráfagas que generan los editores.
+final class VigilanteArchivo implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(VigilanteArchivo.class);
+    private static final String NOMBRE_HILO = "vigilante-catalogo";
+
+    private final Path archivo;
+    private final Duration espera;
+    private final Runnable alCambiar;
+    private WatchService servicio;
+    private Thread hilo;
+
+    VigilanteArchivo(Path archivo, Duration espera, Runnable alCambiar) {
+        this.archivo = archivo.toAbsolutePath().normalize();
+        this.espera = espera;
+        this.alCambiar = alCambiar;
+    }
+
+    // Este método registra el directorio del archivo y arranca el hilo de vigilancia.
+    synchronized void iniciar() throws IOException {
+        if (hilo != null) {
+            return;
+        }
+        servicio = archivo.getFileSystem().newWatchService();
+        archivo.getParent().register(servicio,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        hilo = Thread.ofPlatform().name(NOMBRE_HILO).daemon(true).start(this::vigilar);
+        log.info("Vigilando cambios en {}", archivo);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (servicio == null) {
+            return;
+        }
+        try {
+            servicio.close();
+        } catch (IOException e) {
+            log.warn("No fue posible cerrar la vigilancia de {}", archivo, e);
+        }
+        hilo.interrupt();
+        servicio = null;
+        hilo = null;
+    }
+
+    private void vigilar() {
+        WatchService actual = servicio;
+        try {
+            while (true) {
+                if (afectaAlArchivo(actual.take())) {
+                    esperarQuietud(actual);
+                    notificarCambio();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.info("Vigilancia de {} detenida", archivo);
+        }
+    }
+
+    // Este método descarta los eventos que siguen llegando hasta que el archivo deja de cambiar.
+    private void esperarQuietud(WatchService actual) throws InterruptedException {
+        WatchKey siguiente;
+        while ((siguiente = actual.poll(espera.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+            afectaAlArchivo(siguiente);
+        }
+    }
+
+    private boolean afectaAlArchivo(WatchKey clave) {
+        boolean afecta = false;
+        for (WatchEvent<?> evento : clave.pollEvents()) {
+            if (evento.kind() == StandardWatchEventKinds.OVERFLOW
+                    || archivo.getFileName().equals(evento.context())) {
+                afecta = true;
+            }
+        }
+        clave.reset();
+        return afecta;
+    }
+
+    private void notificarCambio() {
+        try {
+            alCambiar.run();
+        } catch (RuntimeException e) {
+            log.error("Error al procesar el cambio de {}", archivo, e);
+        }
+    }
+}
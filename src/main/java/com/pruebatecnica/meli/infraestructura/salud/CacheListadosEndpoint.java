@@ -0,0 +1,48 @@
+package com.pruebatecnica.meli.infraestructura.salud;
+
+import com.pruebatecnica.meli.aplicacion.cache.CacheResultadosListado;
+import com.pruebatecnica.meli.aplicacion.cache.EstadisticasCache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "cachelistados")
+public class CacheListadosEndpoint {
+
+    private static final String HABILITADA = "habilitada";
+    private static final String CAPACIDAD = "capacidad";
+    private static final String ENTRADAS = "entradas";
+    private static final String ACIERTOS = "aciertos";
+    private static final String FALLOS = "fallos";
+    private static final String TASA_ACIERTOS = "tasaAciertos";
+    private static final String DESALOJOS = "desalojos";
+    private static final String INVALIDACIONES = "invalidaciones";
+    private static final String VERSION_CATALOGO = "versionCatalogo";
+
+    private final CacheResultadosListado cacheResultados;
+
+    public CacheListadosEndpoint(CacheResultadosListado cacheResultados) {
+        this.cacheResultados = cacheResultados;
+    }
+
+    // Expone los aciertos, fallos y desalojos de la caché de listados en /actuator/cachelistados.
+    @ReadOperation
+    public Map<String, Object> cacheListados() {
+        EstadisticasCache estadisticas = cacheResultados.estadisticas();
+        Map<String, Object> detalle = new LinkedHashMap<>();
+        detalle.put(HABILITADA, estadisticas.habilitada());
+        detalle.put(CAPACIDAD, estadisticas.capacidad());
+        detalle.put(ENTRADAS, estadisticas.entradas());
+        detalle.put(ACIERTOS, estadisticas.aciertos());
+        detalle.put(FALLOS, estadisticas.fallos());
+        detalle.put(TASA_ACIERTOS, estadisticas.tasaAciertos());
+        detalle.put(DESALOJOS, estadisticas.desalojos());
+        detalle.put(INVALIDACIONES, estadisticas.invalidaciones());
+        detalle.put(VERSION_CATALOGO, estadisticas.versionCatalogo());
+        return detalle;
+    }
+}
@@ -0,0 +1,74 @@
+package com.pruebatecnica.meli.infraestructura.salud;
+
+import com.pruebatecnica.meli.dominio.catalogo.MetadatosCatalogo;
+import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "catalogo")
+public class CatalogoEndpoint {
+
+    private static final String DISPONIBLE = "disponible";
+    private static final String REPOSITORIO_TIPO = "repositorioTipo";
+    private static final String VERSION = "version";
+    private static final String CARGADO_EN = "cargadoEn";
+    private static final String DURACION_CARGA_MS = "duracionCargaMs";
+    private static final String TOTAL_PRODUCTOS = "totalProductos";
+    private static final String REGISTROS_INVALIDOS = "registrosInvalidos";
+    private static final String DETALLE_REGISTROS_INVALIDOS = "detalleRegistrosInvalidos";
+    private static final String DICCIONARIOS = "diccionarios";
+    private static final String OPERACIONES_DELTA_PENDIENTES = "operacionesDeltaPendientes";
+    private static final String BYTES_INDICES = "bytesIndices";
+    private static final String TERMINOS_INDICE_DIFUSO = "terminosIndiceDifuso";
+    private static final String BYTES_INDICE_DIFUSO = "bytesIndiceDifuso";
+    private static final String TERMINOS_INDICE_TEXTO = "terminosIndiceTexto";
+    private static final String BYTES_INDICE_TEXTO = "bytesIndiceTexto";
+    private static final String NODOS_INDICE_AUTOCOMPLETADO = "nodosIndiceAutocompletado";
+    private static final String BYTES_INDICE_AUTOCOMPLETADO = "bytesIndiceAutocompletado";
+    private static final String ATRIBUTOS_INDEXADOS = "atributosIndexados";
+    private static final String BYTES_INDICE_ATRIBUTOS = "bytesIndiceAtributos";
+    private static final String ULTIMA_RECARGA = "ultimaRecarga";
+
+    private final ProductoRepositorio productoRepositorio;
+
+    public CatalogoEndpoint(ProductoRepositorio productoRepositorio) {
+        this.productoRepositorio = productoRepositorio;
+    }
+
+    // Expone los metadatos del snapshot vigente en /actuator/catalogo.
+    @ReadOperation
+    public Map<String, Object> catalogo() {
+        Map<String, Object> detalle = new LinkedHashMap<>();
+        detalle.put(REPOSITORIO_TIPO, productoRepositorio.getClass().getSimpleName());
+
+        productoRepositorio.obtenerSnapshot().ifPresentOrElse(snapshot -> {
+            MetadatosCatalogo metadatos = snapshot.metadatos();
+            detalle.put(DISPONIBLE, true);
+            detalle.put(VERSION, metadatos.version());
+            detalle.put(CARGADO_EN, metadatos.cargadoEn().toString());
+            detalle.put(DURACION_CARGA_MS, metadatos.duracionCarga().toMillis());
+            detalle.put(TOTAL_PRODUCTOS, metadatos.totalProductos());
+            detalle.put(REGISTROS_INVALIDOS, metadatos.registrosInvalidos());
+            detalle.put(DETALLE_REGISTROS_INVALIDOS, snapshot.registrosInvalidos());
+            detalle.put(DICCIONARIOS, snapshot.diccionarios());
+            detalle.put(OPERACIONES_DELTA_PENDIENTES, snapshot.operacionesPendientes());
+            detalle.put(BYTES_INDICES, snapshot.bytesIndices());
+            detalle.put(TERMINOS_INDICE_DIFUSO, snapshot.terminosIndiceDifuso());
+            detalle.put(BYTES_INDICE_DIFUSO, snapshot.bytesIndiceDifuso());
+            detalle.put(TERMINOS_INDICE_TEXTO, snapshot.terminosIndiceTexto());
+            detalle.put(BYTES_INDICE_TEXTO, snapshot.bytesIndiceTexto());
+            detalle.put(NODOS_INDICE_AUTOCOMPLETADO, snapshot.nodosIndiceAutocompletado());
+            detalle.put(BYTES_INDICE_AUTOCOMPLETADO, snapshot.bytesIndiceAutocompletado());
+            detalle.put(ATRIBUTOS_INDEXADOS, snapshot.atributosIndexados());
+            detalle.put(BYTES_INDICE_ATRIBUTOS, snapshot.bytesIndiceAtributos());
+        }, () -> detalle.put(DISPONIBLE, false));
+        productoRepositorio.obtenerUltimaRecarga().ifPresent(recarga -> detalle.put(ULTIMA_RECARGA, recarga));
+
+        return detalle;
+    }
+}
@@ -24,13 +24,14 @@ public class ProductoHealthIndicator implements HealthIndicator {
         this.productoRepositorio = productoRepositorio;
     }
 
-    // Indicador de salud personalizado para el servicio de productos.
+    // Indicador de salud personalizado para el servicio de productos. Se consulta en cada sondeo, así que
+    // solo cuenta los productos del snapshot vigente sin materializar la lista.
     @Override
     public Health health() {
         try {
-            var productos = productoRepositorio.listarProductos();
+            int totalProductos = productoRepositorio.contarProductos();
 
-            if (productos.isEmpty()) {
+            if (totalProductos == 0) {
                 return Health.down()
                         .withDetail(ERROR, NO_SE_ENCONTRARON_PRODUCTOS_EN_EL_REPOSITORIO)
                         .withDetail(TOTAL_PRODUCTOS, 0)
@@ -40,7 +41,7 @@ public class ProductoHealthIndicator implements HealthIndicator {
 
             return Health.up()
                     .withDetail(STATUS, SERVICIO_DE_PRODUCTOS_OPERATIVO)
-                    .withDetail(TOTAL_PRODUCTOS, productos.size())
+                    .withDetail(TOTAL_PRODUCTOS, totalProductos)
                     .withDetail(REPOSITORIO_TIPO, productoRepositorio.getClass().getSimpleName())
                     .withDetail(SIMULADO, false)
                     .build();
@@ -0,0 +1,111 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+import com.pruebatecnica.meli.dominio.modelo.ConteoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.Facetas;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheResultadosListadoTest {
+
+    private static final long VERSION_1 = 1L;
+    private static final long VERSION_2 = 2L;
+
+    private final List<ProductoCriteriosBusqueda> calculados = new ArrayList<>();
+    private final Function<ProductoCriteriosBusqueda, ResultadoPaginado<Producto>> calcular = criterios -> {
+        calculados.add(criterios);
+        return new ResultadoPaginado<>(List.of(), criterios.pagina(), 0, calculados.size());
+    };
+
+    private ProductoCriteriosBusqueda criterios(String categoria) {
+        return ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(Optional.of(categoria))
+                .conRangoPrecio(Optional.empty(), Optional.of(100.0));
+    }
+
+    @Test
+    @DisplayName("Debe resolver desde la caché los criterios que solo difieren en mayúsculas y tildes")
+    void obtener_debeCompartirEntradaEntreCriteriosEquivalentes() {
+        CacheResultadosListado cache = new CacheResultadosListado(10);
+
+        ResultadoPaginado<Producto> primero = cache.obtener(VERSION_1, criterios("Electrónica"), calcular);
+        ResultadoPaginado<Producto> segundo = cache.obtener(VERSION_1, criterios("ELECTRONICA"), calcular);
+        EstadisticasCache estadisticas = cache.estadisticas();
+
+        assertAll("Verificar acierto por clave normalizada",
+            () -> assertSame(primero, segundo),
+            () -> assertEquals(List.of(criterios("Electrónica")), calculados),
+            () -> assertEquals(1, estadisticas.aciertos()),
+            () -> assertEquals(1, estadisticas.fallos()),
+            () -> assertEquals(0.5, estadisticas.tasaAciertos())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe descartar las entradas al cambiar la versión del catálogo y no guardar las de versiones viejas")
+    void obtener_debeInvalidarAlCambiarLaVersion() {
+        CacheResultadosListado cache = new CacheResultadosListado(10);
+
+        cache.obtener(VERSION_1, criterios("hogar"), calcular);
+        cache.obtener(VERSION_2, criterios("hogar"), calcular);
+        cache.obtener(VERSION_1, criterios("libros"), calcular);
+        cache.obtener(VERSION_2, criterios("hogar"), calcular);
+        EstadisticasCache estadisticas = cache.estadisticas();
+
+        assertAll("Verificar invalidación por versión",
+            () -> assertEquals(3, calculados.size()),
+            () -> assertEquals(1, estadisticas.invalidaciones()),
+            () -> assertEquals(1, estadisticas.entradas()),
+            () -> assertEquals(VERSION_2, estadisticas.versionCatalogo())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe guardar y devolver copias no modificables de la página y sus listas")
+    void obtener_debeDevolverCopiasNoModificables() {
+        CacheResultadosListado cache = new CacheResultadosListado(10);
+        List<Producto> elementos = new ArrayList<>(List.of(
+                new Producto(1L, "Celular", "url", "desc", 100.0, 4.5, "Hogar", "Marca", List.of())));
+        List<ConteoFaceta> categorias = new ArrayList<>(List.of(new ConteoFaceta("hogar", 1)));
+        ResultadoPaginado<Producto> calculado = new ResultadoPaginado<>(elementos, 0, 1, 1, null, ModoTotal.EXACTO,
+                0, new Facetas(categorias, null, null));
+
+        ResultadoPaginado<Producto> primero = cache.obtener(VERSION_1, criterios("hogar"), criterios -> calculado);
+        elementos.clear();
+        categorias.clear();
+        ResultadoPaginado<Producto> segundo = cache.obtener(VERSION_1, criterios("hogar"), calcular);
+
+        assertAll("Verificar copias no modificables",
+            () -> assertSame(primero, segundo),
+            () -> assertEquals(1, segundo.elementos().size()),
+            () -> assertEquals(1, segundo.facetas().categorias().size()),
+            () -> assertNull(segundo.facetas().marcas()),
+            () -> assertThrows(UnsupportedOperationException.class, () -> segundo.elementos().clear()),
+            () -> assertThrows(UnsupportedOperationException.class, () -> segundo.facetas().categorias().clear())
+        );
+    }
+
+    @Test
+    @DisplayName("Con capacidad 0 debe calcular siempre con los mismos criterios que con la caché habilitada")
+    void obtener_deshabilitadaDebeCalcularSiempre() {
+        CacheResultadosListado cache = new CacheResultadosListado(0);
+
+        cache.obtener(VERSION_1, criterios(" Hogar "), calcular);
+        cache.obtener(VERSION_1, criterios(" Hogar "), calcular);
+
+        assertAll("Verificar caché deshabilitada",
+            () -> assertEquals(List.of(criterios(" Hogar "), criterios(" Hogar ")), calculados),
+            () -> assertFalse(cache.estadisticas().habilitada())
+        );
+    }
+}
@@ -0,0 +1,84 @@
+package com.pruebatecnica.meli.aplicacion.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheTinyLfuTest {
+
+    private static final int CAPACIDAD = 100;
+
+    @Test
+    @DisplayName("Una ráfaga de claves que se piden una sola vez no debe desplazar a las claves populares")
+    void guardar_debeConservarLasClavesFrecuentesAnteUnRecorrido() {
+        CacheTinyLfu<String, Integer> cache = new CacheTinyLfu<>(CAPACIDAD);
+        for (int popular = 0; popular < 10; popular++) {
+            cache.guardar("popular-" + popular, popular);
+            for (int pedido = 0; pedido < 5; pedido++) {
+                cache.obtener("popular-" + popular);
+            }
+        }
+
+        for (int unica = 0; unica < 10 * CAPACIDAD; unica++) {
+            cache.obtener("unica-" + unica);
+            cache.guardar("unica-" + unica, unica);
+        }
+
+        assertAll("Verificar admisión por frecuencia",
+            () -> assertEquals(CAPACIDAD, cache.tamanio()),
+            () -> assertEquals(10 * CAPACIDAD + 10 - CAPACIDAD, cache.desalojos()),
+            () -> {
+                for (int popular = 0; popular < 10; popular++) {
+                    assertEquals(popular, cache.obtener("popular-" + popular));
+                }
+            }
+        );
+    }
+
+    @Test
+    @DisplayName("La candidata debe competir con la entrada más antigua del período de prueba")
+    void guardar_debeCompararLaCandidataConLaMasAntiguaDePrueba() {
+        CacheTinyLfu<String, Integer> cache = new CacheTinyLfu<>(3);
+        cache.guardar("a", 1);
+        cache.guardar("b", 2);
+        cache.guardar("c", 3);
+        for (int pedido = 0; pedido < 3; pedido++) {
+            cache.obtener("a");
+        }
+        cache.obtener("b");
+        cache.guardar("d", 4);
+        boolean conservaDegradada = cache.obtener("a") != null && cache.obtener("c") == null;
+
+        for (int pedido = 0; pedido < 10; pedido++) {
+            cache.obtener("e");
+        }
+        cache.guardar("e", 5);
+        cache.guardar("f", 6);
+
+        assertAll("Verificar la víctima de la admisión",
+            () -> assertTrue(conservaDegradada),
+            () -> assertEquals(5, cache.obtener("e")),
+            () -> assertEquals(3, cache.tamanio())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar el valor de una clave existente y vaciarse al limpiar")
+    void guardar_debeReemplazarYLimpiar() {
+        CacheTinyLfu<String, Integer> cache = new CacheTinyLfu<>(1);
+        cache.guardar("a", 1);
+        cache.guardar("a", 2);
+        Integer reemplazado = cache.obtener("a");
+        cache.guardar("b", 3);
+        int tamanioConOtraClave = cache.tamanio();
+        cache.limpiar();
+
+        assertAll("Verificar reemplazo y limpieza",
+            () -> assertEquals(2, reemplazado),
+            () -> assertEquals(1, tamanioConOtraClave),
+            () -> assertEquals(0, cache.tamanio()),
+            () -> assertNull(cache.obtener("a"))
+        );
+    }
+}
@@ -0,0 +1,72 @@
+package com.pruebatecnica.meli.aplicacion.casodeuso;
+
+import com.pruebatecnica.meli.compartido.excepciones.ParametrosInvalidosException;
+import com.pruebatecnica.meli.compartido.utilidad.ProductoConstantes;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.Sugerencia;
+import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AutocompletarProductosCasoUsoTest {
+    private static final List<Producto> PRODUCTOS = List.of(
+            new Producto(1L, "Smartphone Samsung", "url1", "desc1", 100.0, 4.5, "Electrónica", "Samsung", List.of()),
+            new Producto(2L, "Cámara Sony", "url2", "desc2", 200.0, 4.9, "Electrónica", "Sony", List.of()),
+            new Producto(3L, "Smartwatch", "url3", "desc3", 300.0, 4.8, "Electrónica", "Acme", List.of()),
+            new Producto(4L, "Samsung Galaxy", "url4", "desc4", 400.0, 4.5, "Electrónica", "Samsung", List.of()));
+    private static final List<Sugerencia> SUGERENCIAS_SMA = List.of(
+            new Sugerencia(3L, "Smartwatch", 4.8), new Sugerencia(1L, "Smartphone Samsung", 4.5));
+
+    private ProductoRepositorio productoRepositorio;
+    private AutocompletarProductosCasoUso autocompletarProductosCasoUso;
+
+    @BeforeEach
+    void setUp() {
+        productoRepositorio = mock(ProductoRepositorio.class);
+        autocompletarProductosCasoUso = new AutocompletarProductosCasoUso(productoRepositorio);
+    }
+
+    @Test
+    void debeSugerirConElIndiceDelSnapshot() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(PRODUCTOS, 1L, Instant.now(), Duration.ZERO);
+        when(productoRepositorio.obtenerSnapshot()).thenReturn(Optional.of(snapshot));
+
+        assertEquals(SUGERENCIAS_SMA, autocompletarProductosCasoUso.autocompletar(" SMA ", 8));
+        assertEquals(List.of(new Sugerencia(1L, "Smartphone Samsung", 4.5)),
+                autocompletarProductosCasoUso.autocompletar("sam", 1));
+        verify(productoRepositorio, never()).listarProductos();
+    }
+
+    @Test
+    void debeRecorrerElCatalogoSinSnapshot() {
+        when(productoRepositorio.obtenerSnapshot()).thenReturn(Optional.empty());
+        when(productoRepositorio.listarProductos()).thenReturn(PRODUCTOS);
+
+        assertEquals(SUGERENCIAS_SMA, autocompletarProductosCasoUso.autocompletar("sma", 8));
+        assertEquals(List.of(new Sugerencia(2L, "Cámara Sony", 4.9)),
+                autocompletarProductosCasoUso.autocompletar("camara", 8));
+    }
+
+    @Test
+    void debeLanzarExcepcionSiLosParametrosSonInvalidos() {
+        ParametrosInvalidosException prefijoVacio = assertThrows(ParametrosInvalidosException.class,
+                () -> autocompletarProductosCasoUso.autocompletar("  ", 8));
+        ParametrosInvalidosException limiteExcedido = assertThrows(ParametrosInvalidosException.class,
+                () -> autocompletarProductosCasoUso.autocompletar("sma", ProductoConstantes.MAXIMO_LIMITE_AUTOCOMPLETADO + 1));
+
+        assertEquals(ProductoConstantes.ERROR_PREFIJO_VACIO, prefijoVacio.getMessage());
+        assertEquals(String.format(ProductoConstantes.ERROR_LIMITE_AUTOCOMPLETADO,
+                ProductoConstantes.MAXIMO_LIMITE_AUTOCOMPLETADO, 11), limiteExcedido.getMessage());
+        assertThrows(ParametrosInvalidosException.class, () -> autocompletarProductosCasoUso.autocompletar("sma", 0));
+        verifyNoInteractions(productoRepositorio);
+    }
+}
@@ -1,22 +1,38 @@
 package com.pruebatecnica.meli.aplicacion.casodeuso;
 
+import com.pruebatecnica.meli.compartido.excepciones.CursorVencidoException;
+import com.pruebatecnica.meli.compartido.utilidad.ProductoConstantes;
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.ConteoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
 import com.pruebatecnica.meli.dominio.modelo.Producto;
 import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.RangoPrecio;
 import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
 import com.pruebatecnica.meli.dominio.repositorio.ProductoRepositorio;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ListarProductosCasoUsoTest {
@@ -55,7 +71,10 @@ class ListarProductosCasoUsoTest {
     }
 
     private ProductoCriteriosBusqueda criteriosBusqueda(Optional<String> nombre, Optional<String> categoria, Optional<Double> precioMin, Optional<Double> precioMax, int pagina, int tamanioPagina) {
-        return new ProductoCriteriosBusqueda(nombre, categoria, precioMin, precioMax, pagina, tamanioPagina);
+        return ProductoCriteriosBusqueda.sinFiltros(pagina, tamanioPagina)
+                .conNombre(nombre)
+                .conCategoria(categoria)
+                .conRangoPrecio(precioMin, precioMax);
     }
 
     @BeforeEach
@@ -124,4 +143,151 @@ class ListarProductosCasoUsoTest {
         assertEquals(1, resultado.elementos().size());
         assertEquals(NOMBRE_CELULAR_PRO, resultado.elementos().getFirst().nombre());
     }
+
+    @Test
+    void listarProductos_filtradoPorCategoriaYMarca() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, "Samsung", ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, "Apple", ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, "Samsung", ESPECIFICACIONES_3);
+        when(productoRepositorio.listarProductos()).thenReturn(Arrays.asList(producto1, producto2, producto3));
+
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(Optional.of(CATEGORIA_ELECTRONICA))
+                .conMarca(Optional.of("SAMSUNG"));
+        ResultadoPaginado<Producto> resultado = listarProductosCasoUso.listarProductos(criterios);
+
+        assertEquals(List.of(producto1), resultado.elementos());
+        assertEquals(1, resultado.totalElementos());
+    }
+
+    @Test
+    void listarProductos_filtradoPorAtributoDeLasEspecificaciones() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, MARCA, List.of("8GB RAM", "128GB"));
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, List.of("16GB RAM", "1TB"));
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, MARCA, List.of("Bluetooth"));
+        when(productoRepositorio.listarProductos()).thenReturn(Arrays.asList(producto1, producto2, producto3));
+
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conAtributos(List.of(FiltroAtributo.interpretar("ram:>=8"),
+                        FiltroAtributo.interpretar("almacenamiento:>=512gb")));
+        ResultadoPaginado<Producto> resultado = listarProductosCasoUso.listarProductos(criterios);
+
+        assertEquals(List.of(producto2), resultado.elementos());
+        assertEquals(1, resultado.totalElementos());
+    }
+
+    @Test
+    void listarProductos_filtradoPorRangoDePrecioYCalificacion() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, MARCA, ESPECIFICACIONES_3);
+        when(productoRepositorio.listarProductos()).thenReturn(Arrays.asList(producto1, producto2, producto3));
+
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conRangoPrecio(Optional.of(150.0), Optional.of(350.0))
+                .conRangoCalificacion(Optional.empty(), Optional.of(CALIFICACION_2));
+        ResultadoPaginado<Producto> resultado = listarProductosCasoUso.listarProductos(criterios);
+
+        assertEquals(List.of(producto2), resultado.elementos());
+        assertEquals(1, resultado.totalElementos());
+    }
+
+    @Test
+    void listarProductos_ordenadoPorCalificacionDescendente() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_3, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_3);
+        when(productoRepositorio.listarProductos()).thenReturn(Arrays.asList(producto1, producto2, producto3));
+
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 2)
+                .conOrden(Optional.of(new Ordenamiento(Ordenamiento.Campo.CALIFICACION, true)));
+        ResultadoPaginado<Producto> resultado = listarProductosCasoUso.listarProductos(criterios);
+
+        assertEquals(List.of(producto2, producto3), resultado.elementos());
+        assertEquals(3, resultado.totalElementos());
+        assertEquals(2, resultado.totalPaginas());
+    }
+
+    @Test
+    void listarProductos_sinSnapshotDebeInformarElTotalAproximadoComoExacto() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, MARCA, ESPECIFICACIONES_3);
+        when(productoRepositorio.listarProductos()).thenReturn(Arrays.asList(producto1, producto2, producto3));
+
+        ResultadoPaginado<Producto> aproximado = listarProductosCasoUso.listarProductos(criteriosConTotal(ModoTotal.APROXIMADO));
+        ResultadoPaginado<Producto> sinTotal = listarProductosCasoUso.listarProductos(criteriosConTotal(ModoTotal.NINGUNO));
+
+        assertEquals(ModoTotal.EXACTO, aproximado.precisionTotal());
+        assertEquals(2, aproximado.totalElementos());
+        assertEquals(List.of(producto1), sinTotal.elementos());
+        assertEquals(ResultadoPaginado.TOTAL_DESCONOCIDO, sinTotal.totalElementos());
+        assertNotNull(sinTotal.siguienteCursor());
+    }
+
+    @Test
+    void listarProductos_sinSnapshotDebeContarLasFacetasDeTodasLasCoincidencias() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, MARCA, ESPECIFICACIONES_3);
+        when(productoRepositorio.listarProductos()).thenReturn(Arrays.asList(producto1, producto2, producto3));
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 1)
+                .conIncluirTotal(ModoTotal.NINGUNO)
+                .conFacetas(EnumSet.of(CampoFaceta.CATEGORIA, CampoFaceta.PRECIO));
+
+        ResultadoPaginado<Producto> resultado = listarProductosCasoUso.listarProductos(criterios);
+
+        assertEquals(List.of(producto1), resultado.elementos());
+        assertEquals(List.of(new ConteoFaceta(CATEGORIA_ELECTRONICA, 2), new ConteoFaceta(CATEGORIA_HOGAR, 1)),
+                resultado.facetas().categorias());
+        assertEquals(List.of(new RangoPrecio(100.0, 200.0, 1), new RangoPrecio(200.0, 500.0, 2)),
+                resultado.facetas().precios());
+        assertNull(resultado.facetas().marcas());
+    }
+
+    private ProductoCriteriosBusqueda criteriosConTotal(ModoTotal incluirTotal) {
+        return ProductoCriteriosBusqueda.sinFiltros(0, 1)
+                .conCategoria(Optional.of(CATEGORIA_ELECTRONICA))
+                .conIncluirTotal(incluirTotal);
+    }
+
+    @Test
+    void listarProductos_conSnapshotDebeFiltrarSobreColumnasYMaterializarSoloLaPagina() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, MARCA, ESPECIFICACIONES_3);
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(List.of(producto1, producto2, producto3), 1L, Instant.now(), Duration.ZERO);
+        when(productoRepositorio.obtenerSnapshot()).thenReturn(Optional.of(snapshot));
+
+        ProductoCriteriosBusqueda criterios = criteriosBusqueda(Optional.of("celular"), Optional.of(CATEGORIA_ELECTRONICA), Optional.empty(), Optional.of(250.0), 1, 1);
+        ResultadoPaginado<Producto> resultado = listarProductosCasoUso.listarProductos(criterios);
+
+        assertEquals(List.of(producto2), resultado.elementos());
+        assertEquals(2, resultado.totalElementos());
+        assertEquals(2, resultado.totalPaginas());
+        verify(productoRepositorio, never()).listarProductos();
+    }
+
+    @Test
+    void listarProductos_conCursorDeOtraBaseDebeUbicarloPorIdOFallarSiSuFilaYaNoExiste() {
+        Producto producto1 = crearProducto(1L, NOMBRE_CELULAR, URL_1, DESC_1, PRECIO_1, CALIFICACION_1, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_1);
+        Producto producto2 = crearProducto(2L, NOMBRE_CELULAR_PRO, URL_2, DESC_2, PRECIO_2, CALIFICACION_2, CATEGORIA_ELECTRONICA, MARCA, ESPECIFICACIONES_2);
+        Producto producto3 = crearProducto(3L, NOMBRE_TABLET, URL_3, DESC_3, PRECIO_3, CALIFICACION_3, CATEGORIA_HOGAR, MARCA, ESPECIFICACIONES_3);
+        when(productoRepositorio.obtenerSnapshot()).thenReturn(Optional.of(
+                CatalogoSnapshot.desde(List.of(producto1, producto2, producto3), 1L, Instant.now(), Duration.ZERO)));
+        ProductoCriteriosBusqueda primeraPagina = ProductoCriteriosBusqueda.sinFiltros(0, 1).conIncluirTotal(ModoTotal.NINGUNO);
+        CursorPaginacion cursor = CursorPaginacion.decodificar(listarProductosCasoUso.listarProductos(primeraPagina).siguienteCursor());
+        ProductoCriteriosBusqueda siguientePagina = primeraPagina.conCursor(Optional.of(cursor));
+
+        when(productoRepositorio.obtenerSnapshot()).thenReturn(Optional.of(
+                CatalogoSnapshot.desde(List.of(producto3, producto1, producto2), 2L, Instant.now(), Duration.ZERO)));
+        ResultadoPaginado<Producto> recargado = listarProductosCasoUso.listarProductos(siguientePagina);
+        when(productoRepositorio.obtenerSnapshot()).thenReturn(Optional.of(
+                CatalogoSnapshot.desde(List.of(producto2, producto3), 3L, Instant.now(), Duration.ZERO)));
+
+        assertEquals(List.of(producto2), recargado.elementos());
+        CursorVencidoException ex = assertThrows(CursorVencidoException.class,
+                () -> listarProductosCasoUso.listarProductos(siguientePagina));
+        assertEquals(ProductoConstantes.ERROR_CURSOR_VENCIDO, ex.getMessage());
+    }
 }
@@ -0,0 +1,78 @@
+package com.pruebatecnica.meli.dominio.atributo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtractorAtributosTest {
+
+    @Test
+    @DisplayName("Debe extraer nombre, valor y unidad canónica de las especificaciones con una cantidad")
+    void extraer_debeTiparLasEspecificacionesConCantidad() {
+        assertAll("Verificar atributos",
+            () -> assertEquals(Optional.of(new AtributoNumerico("ram", 16, "GB")), ExtractorAtributos.extraer("16GB RAM")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("ssd", 512, "GB")), ExtractorAtributos.extraer("512GB SSD")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("almacenamiento", 1024, "GB")), ExtractorAtributos.extraer("1TB")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("camara", 48, "MP")), ExtractorAtributos.extraer("cámara 48MP")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("bateria", 8000, "mAh")), ExtractorAtributos.extraer("batería 8000mAh")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("dpi", 8000, "DPI")), ExtractorAtributos.extraer("8000 DPI")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("autonomia", 20, "h")), ExtractorAtributos.extraer("20h autonomía")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("puertos", 4, null)), ExtractorAtributos.extraer("4 puertos")),
+            () -> assertEquals(Optional.of(new AtributoNumerico("bluetooth", 5.0, null)), ExtractorAtributos.extraer("Bluetooth 5.0"))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe ignorar las especificaciones sin cantidad, ambiguas o con unidades desconocidas")
+    void extraer_debeIgnorarLasEspecificacionesNoNumericas() {
+        assertAll("Verificar descartes",
+            () -> assertTrue(ExtractorAtributos.extraer("Resistente al agua").isEmpty()),
+            () -> assertTrue(ExtractorAtributos.extraer("4K UHD").isEmpty()),
+            () -> assertTrue(ExtractorAtributos.extraer("Intel i7").isEmpty()),
+            () -> assertTrue(ExtractorAtributos.extraer("USB-C").isEmpty()),
+            () -> assertTrue(ExtractorAtributos.extraer("30m").isEmpty()),
+            () -> assertTrue(ExtractorAtributos.extraer("2 x 8GB").isEmpty()),
+            () -> assertTrue(ExtractorAtributos.extraer((String) null).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe quedarse con la primera especificación de cada atributo")
+    void valor_debeDevolverElPrimerValorDelAtributo() {
+        List<String> especificaciones = List.of("4GB RAM", "8GB RAM", "64GB");
+
+        assertAll("Verificar valores",
+            () -> assertEquals(4.0, ExtractorAtributos.valor(especificaciones, "ram")),
+            () -> assertEquals(64.0, ExtractorAtributos.valor(especificaciones, "almacenamiento")),
+            () -> assertTrue(Double.isNaN(ExtractorAtributos.valor(especificaciones, "camara"))),
+            () -> assertEquals(2, ExtractorAtributos.extraer(especificaciones).size())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe interpretar las condiciones con comparación y unidad opcionales")
+    void interpretar_debeLeerComparacionYUnidad() {
+        FiltroAtributo almacenamiento = FiltroAtributo.interpretar(" Almacenamiento : >= 1TB ");
+
+        assertAll("Verificar filtros",
+            () -> assertEquals(new FiltroAtributo("ram", FiltroAtributo.Comparacion.MAYOR_O_IGUAL, 16),
+                    FiltroAtributo.interpretar("RAM:>=16")),
+            () -> assertEquals(new FiltroAtributo("almacenamiento", FiltroAtributo.Comparacion.MAYOR_O_IGUAL, 1024),
+                    almacenamiento),
+            () -> assertEquals(new FiltroAtributo("camara", FiltroAtributo.Comparacion.IGUAL, 48),
+                    FiltroAtributo.interpretar("cámara:48mp")),
+            () -> assertEquals(FiltroAtributo.Comparacion.MENOR, FiltroAtributo.interpretar("peso:<2").comparacion()),
+            () -> assertTrue(almacenamiento.cumple(1024)),
+            () -> assertFalse(almacenamiento.cumple(512)),
+            () -> assertFalse(almacenamiento.cumple(Double.NaN)),
+            () -> assertThrows(IllegalArgumentException.class, () -> FiltroAtributo.interpretar("ram>=16")),
+            () -> assertThrows(IllegalArgumentException.class, () -> FiltroAtributo.interpretar(":>=16")),
+            () -> assertThrows(IllegalArgumentException.class, () -> FiltroAtributo.interpretar("ram:>=mucho")),
+            () -> assertThrows(IllegalArgumentException.class, () -> FiltroAtributo.interpretar("ram:>=16xb"))
+        );
+    }
+}
@@ -0,0 +1,830 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.ConteoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.RangoPrecio;
+import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogoSnapshotTest {
+
+    private static final long VERSION_1 = 1L;
+    private static final Instant CARGADO_EN = Instant.parse("2025-09-07T00:00:00Z");
+    private static final Duration DURACION_CARGA = Duration.ofMillis(25);
+    private static final List<String> ESPECIFICACIONES_DEFAULT = List.of("spec1", "spec2");
+
+    private Producto crearProducto(Long id, String nombre) {
+        return new Producto(id, nombre, "url", "desc", 100.0, 4.5, "Electrónica", "Marca", ESPECIFICACIONES_DEFAULT);
+    }
+
+    @Test
+    @DisplayName("Debe exponer los metadatos de la carga")
+    void crearSnapshot_debeExponerMetadatos() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(
+                List.of(crearProducto(1L, "Celular"), crearProducto(2L, "Tablet")),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        MetadatosCatalogo metadatos = snapshot.metadatos();
+
+        assertAll("Verificar metadatos del snapshot",
+            () -> assertEquals(VERSION_1, metadatos.version()),
+            () -> assertEquals(CARGADO_EN, metadatos.cargadoEn()),
+            () -> assertEquals(DURACION_CARGA, metadatos.duracionCarga()),
+            () -> assertEquals(2, metadatos.totalProductos()),
+            () -> assertEquals(2, snapshot.tamanio()),
+            () -> assertEquals(VERSION_1, snapshot.version())
+        );
+    }
+
+    @Test
+    @DisplayName("El snapshot no debe verse afectado por cambios en la lista de origen")
+    void crearSnapshot_debeSerInmutable() {
+        List<Producto> origen = new ArrayList<>(List.of(crearProducto(1L, "Celular")));
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(origen, VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        origen.add(crearProducto(2L, "Tablet"));
+
+        assertEquals(1, snapshot.tamanio());
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.productos().add(crearProducto(3L, "Laptop")));
+    }
+
+    @Test
+    @DisplayName("Debe buscar un producto por su ID")
+    void buscarPorId_debeUsarElIndice() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(
+                List.of(crearProducto(10L, "Celular"), crearProducto(20L, "Tablet")),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        assertAll("Verificar búsqueda por ID",
+            () -> assertEquals("Tablet", snapshot.buscarPorId(20L).orElseThrow().nombre()),
+            () -> assertTrue(snapshot.buscarPorId(30L).isEmpty()),
+            () -> assertTrue(snapshot.buscarPorId(null).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe buscar varios IDs respetando el orden del catálogo y sin duplicados")
+    void buscarPorIds_debeRespetarOrdenDelCatalogo() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(
+                List.of(crearProducto(1L, "Celular"), crearProducto(2L, "Tablet"), crearProducto(3L, "Laptop")),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        List<Producto> resultado = snapshot.buscarPorIds(List.of(3L, 99L, 1L, 3L));
+
+        assertEquals(2, resultado.size());
+        assertEquals(1L, resultado.get(0).idProducto());
+        assertEquals(3L, resultado.get(1).idProducto());
+    }
+
+    @Test
+    @DisplayName("Debe exponer columnas fuera del heap con categoría y marca codificadas")
+    void columnas_debenReflejarLosProductos() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(List.of(
+                new Producto(1L, "Celular", "url", "desc", 100.0, 4.5, "Electrónica", "XYZ", ESPECIFICACIONES_DEFAULT),
+                new Producto(2L, "Tablet", "url", "desc", 250.0, 4.0, "Electrónica", null, ESPECIFICACIONES_DEFAULT)),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        ColumnasCatalogo columnas = snapshot.columnas();
+
+        assertAll("Verificar columnas del snapshot",
+            () -> assertEquals(2, columnas.tamanio()),
+            () -> assertEquals(2L, columnas.idProducto(1)),
+            () -> assertEquals(250.0, columnas.precio(1)),
+            () -> assertEquals(4.0, columnas.calificacion(1)),
+            () -> assertEquals(columnas.codigoCategoria(0), columnas.codigoCategoria(1)),
+            () -> assertEquals(List.of("Electrónica"), columnas.diccionarioCategorias().valores()),
+            () -> assertEquals(ColumnasCatalogo.SIN_VALOR, columnas.codigoMarca(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe filtrar sobre las columnas y materializar solo el rango solicitado")
+    void filtrar_debeAplicarCriteriosSobreColumnas() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(List.of(
+                new Producto(1L, "Celular", "url", "desc", 100.0, 4.5, "Electrónica", "XYZ", ESPECIFICACIONES_DEFAULT),
+                new Producto(2L, "Celular Pro", "url", "desc", 300.0, 4.8, "electrónica", "XYZ", ESPECIFICACIONES_DEFAULT),
+                new Producto(3L, "Lámpara", "url", "desc", 50.0, 4.0, "Hogar", "ABC", ESPECIFICACIONES_DEFAULT),
+                new Producto(4L, "Celular Lite", "url", "desc", 80.0, 3.9, null, "XYZ", ESPECIFICACIONES_DEFAULT)),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        int[] porCategoria = snapshot.filtrar(ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(Optional.of("ELECTRÓNICA")));
+        int[] porNombreYPrecio = snapshot.filtrar(ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("celular"))
+                .conRangoPrecio(Optional.of(90.0), Optional.of(300.0)));
+
+        assertAll("Verificar filtrado columnar",
+            () -> assertArrayEquals(new int[]{0, 1}, porCategoria),
+            () -> assertArrayEquals(new int[]{0, 1}, porNombreYPrecio),
+            () -> assertEquals(List.of(2L), snapshot.materializar(porCategoria, 1, 2).stream()
+                    .map(Producto::idProducto).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por nombre, categoría y marca sin distinguir tildes, en la base y en la capa delta")
+    void filtrar_debeIgnorarTildes() {
+        CatalogoSnapshot base = CatalogoSnapshot.desde(List.of(
+                new Producto(1L, "Cámara Fotográfica", "url", "desc", 100.0, 4.5, "Electrónica", "Nestlé",
+                        ESPECIFICACIONES_DEFAULT),
+                new Producto(2L, "Camara de seguridad", "url", "desc", 200.0, 4.0, "Electronica", "Nestle",
+                        ESPECIFICACIONES_DEFAULT),
+                new Producto(3L, "Lámpara", "url", "desc", 50.0, 4.0, "Hogar", "Nestlé", ESPECIFICACIONES_DEFAULT)),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(OperacionDelta.upsert(new Producto(4L, "CÁMARA instantánea",
+                "url", "desc", 80.0, 4.2, "ELECTRÓNICA", "NESTLÉ", ESPECIFICACIONES_DEFAULT))), 2L, CARGADO_EN,
+                Duration.ZERO);
+        ProductoCriteriosBusqueda camaras = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("camara"))
+                .conCategoria(Optional.of("Electronica"));
+        ProductoCriteriosBusqueda porMarca = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conMarca(Optional.of("nestle"));
+
+        assertAll("Verificar claves de búsqueda sin tildes",
+            () -> assertArrayEquals(new int[]{0, 1}, base.filtrar(camaras)),
+            () -> assertArrayEquals(new int[]{0, 1, 2}, base.filtrar(porMarca)),
+            () -> assertEquals(List.of(1L, 2L, 4L), conDelta.paginar(camaras).elementos().stream()
+                    .map(Producto::idProducto).toList()),
+            () -> assertEquals(4, conDelta.paginar(porMarca).totalElementos())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe aplicar upserts y bajas como capa delta sin alterar el snapshot anterior")
+    void aplicar_debePublicarCambiosIncrementales() {
+        CatalogoSnapshot base = CatalogoSnapshot.desde(
+                List.of(crearProducto(1L, "Celular"), crearProducto(2L, "Tablet"), crearProducto(3L, "Laptop")),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+        Producto celularRebajado = new Producto(1L, "Celular", "url", "desc", 50.0, 4.5, "Electrónica", "Marca",
+                ESPECIFICACIONES_DEFAULT);
+
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(celularRebajado),
+                OperacionDelta.eliminar(2L),
+                OperacionDelta.upsert(crearProducto(4L, "Monitor")),
+                OperacionDelta.eliminar(99L)), 2L, CARGADO_EN, Duration.ZERO);
+        int[] baratos = conDelta.filtrar(ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conRangoPrecio(Optional.empty(), Optional.of(60.0)));
+        int[] electronica = conDelta.filtrar(ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(Optional.of("ELECTRÓNICA")));
+
+        assertAll("Verificar capa delta",
+            () -> assertEquals(3, base.tamanio()),
+            () -> assertEquals(100.0, base.buscarPorId(1L).orElseThrow().precio()),
+            () -> assertEquals(3, conDelta.tamanio()),
+            () -> assertEquals(3, conDelta.metadatos().totalProductos()),
+            () -> assertEquals(4, conDelta.operacionesPendientes()),
+            () -> assertEquals(50.0, conDelta.buscarPorId(1L).orElseThrow().precio()),
+            () -> assertTrue(conDelta.buscarPorId(2L).isEmpty()),
+            () -> assertEquals("Monitor", conDelta.buscarPorId(4L).orElseThrow().nombre()),
+            () -> assertEquals(List.of(1L, 3L, 4L), conDelta.productos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(List.of(1L, 4L), conDelta.buscarPorIds(List.of(4L, 2L, 1L)).stream()
+                    .map(Producto::idProducto).toList()),
+            () -> assertEquals(List.of(celularRebajado), conDelta.materializar(baratos, 0, baratos.length)),
+            () -> assertEquals(List.of(1L, 3L, 4L), conDelta.materializar(electronica, 0, electronica.length)
+                    .stream().map(Producto::idProducto).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("La compactación debe integrar la capa delta en una base nueva")
+    void compactar_debeIntegrarLaCapaDelta() {
+        CatalogoSnapshot base = CatalogoSnapshot.desde(
+                List.of(crearProducto(1L, "Celular"), crearProducto(2L, "Tablet")),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.eliminar(1L), OperacionDelta.upsert(crearProducto(3L, "Laptop"))),
+                2L, CARGADO_EN, Duration.ZERO);
+
+        CatalogoSnapshot compactado = conDelta.compactar(3L, CARGADO_EN);
+
+        assertAll("Verificar compactación",
+            () -> assertEquals(0, compactado.operacionesPendientes()),
+            () -> assertEquals(3L, compactado.version()),
+            () -> assertEquals(conDelta.productos(), compactado.productos()),
+            () -> assertEquals(2, compactado.columnas().tamanio()),
+            () -> assertEquals(3L, compactado.columnas().idProducto(1))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe paginar en un solo recorrido contando todas las coincidencias")
+    void paginar_debeContarTodoYGuardarSoloLaPagina() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 25; id++) {
+            productos.add(crearProducto(id, id % 2 == 0 ? "Celular " + id : "Tablet " + id));
+        }
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        ResultadoPaginado<Producto> segunda = snapshot.paginar(ProductoCriteriosBusqueda.sinFiltros(1, 5)
+                .conNombre(Optional.of("celular")));
+        ResultadoPaginado<Producto> fueraDeRango = snapshot.paginar(ProductoCriteriosBusqueda.sinFiltros(9, 5));
+
+        assertAll("Verificar paginación fusionada",
+            () -> assertEquals(List.of(12L, 14L, 16L, 18L, 20L),
+                    segunda.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(12, segunda.totalElementos()),
+            () -> assertEquals(3, segunda.totalPaginas()),
+            () -> assertTrue(fueraDeRango.elementos().isEmpty()),
+            () -> assertEquals(25, fueraDeRango.totalElementos())
+        );
+    }
+
+    @Test
+    @DisplayName("El plan debe usar el índice de categorías si es selectiva y ordenar los filtros por costo y selectividad")
+    void planificar_debeElegirAccesoYOrdenPorSelectividad() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            String categoria = id % 100 == 0 ? "Libros" : "Hogar";
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id, 4.5, categoria, "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        ProductoCriteriosBusqueda porLibros = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("producto"))
+                .conCategoria(Optional.of("libros"))
+                .conRangoPrecio(Optional.of(500.0), Optional.empty());
+        ProductoCriteriosBusqueda porHogar = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("producto"))
+                .conCategoria(Optional.of("hogar"))
+                .conRangoPrecio(Optional.of(990.0), Optional.empty());
+
+        PlanConsulta planLibros = snapshot.planificar(porLibros);
+        PlanConsulta planHogar = snapshot.planificar(porHogar);
+
+        assertAll("Verificar plan elegido",
+            () -> assertEquals(AccesoConsulta.INDICE_MAPAS_BITS, planLibros.acceso()),
+            () -> assertEquals(10, planLibros.filasCandidatas()),
+            () -> assertEquals(List.of("categoria", "precio", "nombre"),
+                    planLibros.filtros().stream().map(EstimacionFiltro::campo).toList()),
+            () -> assertEquals(AccesoConsulta.INDICE_PRECIO, planHogar.acceso()),
+            () -> assertEquals(11, planHogar.filasCandidatas()),
+            () -> assertEquals(List.of("precio", "categoria", "nombre"),
+                    planHogar.filtros().stream().map(EstimacionFiltro::campo).toList()),
+            () -> assertEquals(6, snapshot.paginar(porLibros).totalElementos()),
+            () -> assertEquals(10, snapshot.paginar(porHogar).totalElementos())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe resolver el filtro por nombre con el índice de trigramas cuando es selectivo")
+    void planificar_debeUsarElIndiceDeNombresCuandoEsSelectivo() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            String nombre = id % 50 == 0 ? "Celular " + id : "Producto " + id;
+            productos.add(new Producto(id, nombre, "url", "desc", id, 4.5, "Hogar", "Marca", ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA)
+                .aplicar(List.of(OperacionDelta.upsert(new Producto(7L, "Celular rebajado", "url", "desc", 7.0, 4.5,
+                        "Hogar", "Marca", ESPECIFICACIONES_DEFAULT))), 2L, CARGADO_EN, Duration.ZERO);
+        ProductoCriteriosBusqueda porCelular = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("CELULAR"));
+        ProductoCriteriosBusqueda porSubcadenaCorta = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("ce"));
+
+        PlanConsulta plan = snapshot.planificar(porCelular);
+        ResultadoPaginado<Producto> resultado = snapshot.paginar(porCelular);
+
+        assertAll("Verificar acceso por trigramas",
+            () -> assertEquals(AccesoConsulta.INDICE_NOMBRE, plan.acceso()),
+            () -> assertEquals(21, plan.filasCandidatas()),
+            () -> assertFalse(plan.filtros().getFirst().resueltoPorIndice()),
+            () -> assertEquals(21, resultado.totalElementos()),
+            () -> assertEquals(7L, resultado.elementos().getFirst().idProducto()),
+            () -> assertEquals(AccesoConsulta.RECORRIDO_COMPLETO, snapshot.planificar(porSubcadenaCorta).acceso())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe tolerar errores de tipeo en el nombre y combinar el resultado con los mapas de bits")
+    void paginar_debeBuscarPorNombreConToleranciaAErrores() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            String nombre = id % 50 == 0 ? "Smartphone Samsung " + id : "Producto " + id;
+            String categoria = id % 2 == 0 ? "Hogar" : "Libros";
+            productos.add(new Producto(id, nombre, "url", "desc", id, 4.5, categoria, "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(new Producto(7L, "Smartfone rebajado", "url", "desc", 7.0, 4.5, "Hogar",
+                        "Marca", ESPECIFICACIONES_DEFAULT)),
+                OperacionDelta.eliminar(50L)), 2L, CARGADO_EN, Duration.ZERO);
+        ProductoCriteriosBusqueda difusa = ProductoCriteriosBusqueda.sinFiltros(0, 3)
+                .conNombre(Optional.of("smarphone"))
+                .conCategoria(Optional.of("hogar"))
+                .conNombreDifuso(true);
+        ProductoCriteriosBusqueda exacta = ProductoCriteriosBusqueda.sinFiltros(0, 3)
+                .conNombre(Optional.of("smarphone"))
+                .conCategoria(Optional.of("hogar"));
+
+        PlanConsulta plan = base.planificar(difusa);
+        ResultadoPaginado<Producto> pagina = base.paginar(difusa);
+        ResultadoPaginado<Producto> paginaConDelta = conDelta.paginar(difusa);
+
+        assertAll("Verificar búsqueda tolerante a errores",
+            () -> assertEquals(AccesoConsulta.INDICE_MAPAS_BITS, plan.acceso()),
+            () -> assertEquals(20, plan.filasCandidatas()),
+            () -> assertTrue(plan.filtros().stream().allMatch(EstimacionFiltro::resueltoPorIndice)),
+            () -> assertEquals(20, pagina.totalElementos()),
+            () -> assertEquals(List.of(50L, 100L, 150L),
+                    pagina.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(20, paginaConDelta.totalElementos()),
+            () -> assertEquals(List.of(7L, 100L, 150L),
+                    paginaConDelta.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(0, base.paginar(exacta).totalElementos()),
+            () -> assertTrue(base.terminosIndiceDifuso() > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe ordenar la búsqueda de texto por relevancia y filtrar con ella cuando hay ordenamiento")
+    void paginar_debeOrdenarLaBusquedaDeTextoPorRelevancia() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            String nombre = id % 100 == 0 ? "Celular Samsung " + id : id % 100 == 50 ? "Funda " + id : "Producto " + id;
+            String descripcion = id % 100 == 50 ? "Funda de silicona para celulares" : "desc";
+            String marca = id % 200 == 0 ? "Acme" : "Marca";
+            productos.add(new Producto(id, nombre, "url", descripcion, id, 4.5, "Hogar", marca,
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(new Producto(7L, "Celular Samsung rebajado", "url", "desc", 7.0, 4.5, "Hogar",
+                        "Marca", ESPECIFICACIONES_DEFAULT)),
+                OperacionDelta.eliminar(100L)), 2L, CARGADO_EN, Duration.ZERO);
+        int terminosAntesDeBuscar = base.terminosIndiceTexto();
+
+        PlanConsulta plan = base.planificar(porTexto(Optional.empty(), Optional.empty(), ModoTotal.EXACTO, 0));
+        ResultadoPaginado<Producto> primera = base.paginar(
+                porTexto(Optional.empty(), Optional.empty(), ModoTotal.EXACTO, 0));
+        ResultadoPaginado<Producto> cuarta = base.paginar(
+                porTexto(Optional.empty(), Optional.empty(), ModoTotal.NINGUNO, 3));
+        ResultadoPaginado<Producto> porMarca = base.paginar(
+                porTexto(Optional.of("acme"), Optional.empty(), ModoTotal.EXACTO, 0));
+        ResultadoPaginado<Producto> porPrecio = base.paginar(porTexto(Optional.empty(),
+                Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, true)), ModoTotal.EXACTO, 0));
+        ResultadoPaginado<Producto> paginaConDelta = conDelta.paginar(
+                porTexto(Optional.empty(), Optional.empty(), ModoTotal.EXACTO, 0));
+
+        assertAll("Verificar búsqueda de texto",
+            () -> assertEquals(AccesoConsulta.INDICE_TEXTO, plan.acceso()),
+            () -> assertEquals(20, plan.filasCandidatas()),
+            () -> assertEquals(List.of(100L, 200L, 300L),
+                    primera.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(20, primera.totalElementos()),
+            () -> assertNull(primera.siguienteCursor()),
+            () -> assertEquals(List.of(1000L, 50L, 150L),
+                    cuarta.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(ResultadoPaginado.TOTAL_DESCONOCIDO, cuarta.totalElementos()),
+            () -> assertEquals(List.of(200L, 400L, 600L),
+                    porMarca.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(5, porMarca.totalElementos()),
+            () -> assertEquals(List.of(1000L, 950L, 900L),
+                    porPrecio.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(20, porPrecio.totalElementos()),
+            () -> assertEquals(List.of(7L, 200L, 300L),
+                    paginaConDelta.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(20, paginaConDelta.totalElementos()),
+            () -> assertEquals(0, terminosAntesDeBuscar),
+            () -> assertTrue(base.terminosIndiceTexto() > 0),
+            () -> assertEquals(base.terminosIndiceTexto(), conDelta.terminosIndiceTexto())
+        );
+    }
+
+    private static ProductoCriteriosBusqueda porTexto(Optional<String> marca, Optional<Ordenamiento> orden,
+                                                      ModoTotal modo, int pagina) {
+        return ProductoCriteriosBusqueda.sinFiltros(pagina, 3)
+                .conMarca(marca)
+                .conOrden(orden)
+                .conIncluirTotal(modo)
+                .conTexto(Optional.of("celular"));
+    }
+
+    @Test
+    @DisplayName("Debe combinar los mapas de bits de categoría y marca y contar sin recorrer las columnas")
+    void paginar_debeResolverCategoriaYMarcaConMapasDeBits() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            String categoria = id % 2 == 0 ? "Hogar" : "Libros";
+            String marca = id % 5 == 0 ? "Acme" : "Otra";
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id, 4.5, categoria, marca,
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.eliminar(10L),
+                OperacionDelta.upsert(new Producto(2L, "Producto 2", "url", "desc", 2.0, 4.5, "Hogar", "ACME",
+                        ESPECIFICACIONES_DEFAULT))), 2L, CARGADO_EN, Duration.ZERO);
+        ProductoCriteriosBusqueda hogarAcme = ProductoCriteriosBusqueda.sinFiltros(1, 3)
+                .conCategoria(Optional.of("hogar"))
+                .conMarca(Optional.of("acme"));
+
+        PlanConsulta plan = base.planificar(hogarAcme);
+        ResultadoPaginado<Producto> pagina = base.paginar(hogarAcme);
+        ResultadoPaginado<Producto> paginaConDelta = conDelta.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 3)
+                .conCategoria(Optional.of("hogar"))
+                .conMarca(Optional.of("acme")));
+
+        assertAll("Verificar acceso por mapas de bits",
+            () -> assertEquals(AccesoConsulta.INDICE_MAPAS_BITS, plan.acceso()),
+            () -> assertEquals(100, plan.filasCandidatas()),
+            () -> assertTrue(plan.filtros().stream().allMatch(EstimacionFiltro::resueltoPorIndice)),
+            () -> assertEquals(100, pagina.totalElementos()),
+            () -> assertEquals(List.of(40L, 50L, 60L),
+                    pagina.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(100, paginaConDelta.totalElementos()),
+            () -> assertEquals(List.of(2L, 20L, 30L),
+                    paginaConDelta.elementos().stream().map(Producto::idProducto).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe ordenar en el servidor con la permutación precalculada o con una selección top-K")
+    void paginar_debeOrdenarPorElCampoSolicitado() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            String categoria = id % 2 == 0 ? "Hogar" : "Libros";
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id % 10, 4.5, categoria, "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(new Producto(4L, "Producto 4", "url", "desc", 99.0, 4.5, "Hogar", "Marca",
+                        ESPECIFICACIONES_DEFAULT))), 2L, CARGADO_EN, Duration.ZERO);
+        Ordenamiento precioAscendente = new Ordenamiento(Ordenamiento.Campo.PRECIO, false);
+        Ordenamiento precioDescendente = new Ordenamiento(Ordenamiento.Campo.PRECIO, true);
+
+        ResultadoPaginado<Producto> profunda = base.paginar(ProductoCriteriosBusqueda.sinFiltros(9, 5)
+                .conOrden(Optional.of(precioAscendente)));
+        ResultadoPaginado<Producto> ultima = base.paginar(ProductoCriteriosBusqueda.sinFiltros(19, 5)
+                .conOrden(Optional.of(precioDescendente)));
+        ResultadoPaginado<Producto> hogar = conDelta.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 4)
+                .conCategoria(Optional.of("hogar"))
+                .conOrden(Optional.of(precioDescendente)));
+        ResultadoPaginado<Producto> porNombre = base.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 3)
+                .conOrden(Optional.of(new Ordenamiento(Ordenamiento.Campo.NOMBRE, false))));
+
+        assertAll("Verificar ordenamiento",
+            () -> assertEquals(List.of(54L, 64L, 74L, 84L, 94L),
+                    profunda.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(100, profunda.totalElementos()),
+            () -> assertEquals(List.of(50L, 40L, 30L, 20L, 10L),
+                    ultima.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(List.of(4L, 98L, 88L, 78L),
+                    hogar.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(50, hogar.totalElementos()),
+            () -> assertEquals(List.of(1L, 10L, 100L),
+                    porNombre.elementos().stream().map(Producto::idProducto).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("El orden por nombre debe ignorar mayúsculas y desempatar por orden de catálogo")
+    void paginar_porNombreDebeDesempatarPorOrdenDeCatalogo() {
+        CatalogoSnapshot base = CatalogoSnapshot.desde(List.of(crearProducto(1L, "beta"), crearProducto(2L, "Alfa"),
+                crearProducto(3L, "BETA"), crearProducto(4L, "alfa"), crearProducto(5L, "Gama")),
+                VERSION_1, CARGADO_EN, DURACION_CARGA);
+
+        ResultadoPaginado<Producto> ascendente = base.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 5)
+                .conOrden(Optional.of(new Ordenamiento(Ordenamiento.Campo.NOMBRE, false))));
+        ResultadoPaginado<Producto> descendente = base.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 5)
+                .conOrden(Optional.of(new Ordenamiento(Ordenamiento.Campo.NOMBRE, true))));
+
+        assertAll("Verificar empates en el orden por nombre",
+            () -> assertEquals(List.of(2L, 4L, 1L, 3L, 5L),
+                    ascendente.elementos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(List.of(5L, 3L, 1L, 4L, 2L),
+                    descendente.elementos().stream().map(Producto::idProducto).toList())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las coincidencias siguiendo los cursores, sin contar el total")
+    void paginar_debeContinuarDesdeElCursor() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 50; id++) {
+            String categoria = id % 2 == 0 ? "Hogar" : "Libros";
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id % 4, 4.5, categoria, "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        Optional<Ordenamiento> porPrecio = Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, true));
+
+        List<Long> hogar = recorrerConCursores(snapshot, Optional.of("hogar"), Optional.empty());
+        List<Long> porPrecioDescendente = recorrerConCursores(snapshot, Optional.empty(), porPrecio);
+        ResultadoPaginado<Producto> primera = snapshot.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 7)
+                .conCategoria(Optional.of("hogar")));
+        ResultadoPaginado<Producto> siguiente = snapshot.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 7)
+                .conCategoria(Optional.of("hogar"))
+                .conCursor(Optional.of(CursorPaginacion.decodificar(primera.siguienteCursor())))
+                .conIncluirTotal(ModoTotal.NINGUNO));
+
+        List<Long> esperadoPorPrecio = productos.stream()
+                .sorted((a, b) -> Double.compare(b.precio(), a.precio()) != 0
+                        ? Double.compare(b.precio(), a.precio()) : Long.compare(b.idProducto(), a.idProducto()))
+                .map(Producto::idProducto).toList();
+        assertAll("Verificar paginación por cursor",
+            () -> assertEquals(25, hogar.size()),
+            () -> assertEquals(2L, hogar.getFirst()),
+            () -> assertEquals(50L, hogar.getLast()),
+            () -> assertEquals(esperadoPorPrecio, porPrecioDescendente),
+            () -> assertEquals(16L, siguiente.elementos().getFirst().idProducto()),
+            () -> assertEquals(ResultadoPaginado.TOTAL_DESCONOCIDO, siguiente.totalElementos()),
+            () -> assertNotNull(siguiente.siguienteCursor())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe continuar la paginación por cursor después de compactar la capa delta")
+    void ubicarCursor_debeSobrevivirALaCompactacion() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id % 5, 4.5, "Hogar", "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        Optional<Ordenamiento> porPrecio = Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, true));
+        ProductoCriteriosBusqueda porCatalogo = ProductoCriteriosBusqueda.sinFiltros(0, 7);
+        ProductoCriteriosBusqueda porPrecioDescendente = ProductoCriteriosBusqueda.sinFiltros(0, 7).conOrden(porPrecio);
+        ResultadoPaginado<Producto> primeraPorCatalogo = base.paginar(porCatalogo);
+        ResultadoPaginado<Producto> primeraPorPrecio = base.paginar(porPrecioDescendente);
+        CursorPaginacion cursorCatalogo = CursorPaginacion.decodificar(primeraPorCatalogo.siguienteCursor());
+        CursorPaginacion cursorPrecio = CursorPaginacion.decodificar(primeraPorPrecio.siguienteCursor());
+        long ultimoPorPrecio = primeraPorPrecio.elementos().getLast().idProducto();
+
+        CatalogoSnapshot conDelta = base.aplicar(List.of(OperacionDelta.eliminar(2L), OperacionDelta.eliminar(3L)),
+                2L, CARGADO_EN, Duration.ZERO);
+        CatalogoSnapshot compactado = conDelta.compactar(3L, CARGADO_EN);
+        CatalogoSnapshot sinUltimaFila = base.aplicar(List.of(OperacionDelta.eliminar(ultimoPorPrecio)),
+                2L, CARGADO_EN, Duration.ZERO).compactar(3L, CARGADO_EN);
+
+        List<Long> restantesPorPrecio = productos.stream()
+                .filter(producto -> producto.idProducto() != 2L && producto.idProducto() != 3L)
+                .filter(producto -> !ids(primeraPorPrecio.elementos()).contains(producto.idProducto()))
+                .sorted((a, b) -> Double.compare(b.precio(), a.precio()) != 0
+                        ? Double.compare(b.precio(), a.precio()) : Long.compare(b.idProducto(), a.idProducto()))
+                .map(Producto::idProducto).limit(7).toList();
+        assertAll("Verificar la ubicación del cursor en otra base",
+            () -> assertEquals(cursorCatalogo, conDelta.ubicarCursor(cursorCatalogo).orElseThrow()),
+            () -> assertEquals(List.of(8L, 9L, 10L, 11L, 12L, 13L, 14L), ids(conDelta.paginar(porCatalogo
+                    .conCursor(conDelta.ubicarCursor(cursorCatalogo))).elementos())),
+            () -> assertEquals(List.of(8L, 9L, 10L, 11L, 12L, 13L, 14L), ids(compactado.paginar(porCatalogo
+                    .conCursor(compactado.ubicarCursor(cursorCatalogo))).elementos())),
+            () -> assertEquals(restantesPorPrecio, ids(compactado.paginar(porPrecioDescendente
+                    .conCursor(compactado.ubicarCursor(cursorPrecio))).elementos())),
+            () -> assertTrue(sinUltimaFila.ubicarCursor(cursorPrecio).isEmpty())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe calcular, estimar u omitir el total según el modo pedido")
+    void paginar_debeRespetarElModoDeTotal() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            String nombre = (id % 4 == 0 ? "Oferta " : "Producto ") + id;
+            String categoria = id % 2 == 0 ? "Hogar" : "Libros";
+            productos.add(new Producto(id, nombre, "url", "desc", id % 10, 4.5, categoria, "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        long ofertasBaratas = productos.stream()
+                .filter(producto -> producto.nombre().startsWith("Oferta") && producto.precio() <= 4.0)
+                .count();
+
+        ResultadoPaginado<Producto> aproximado = snapshot.paginar(criteriosOfertas(ModoTotal.APROXIMADO, Optional.empty()));
+        ResultadoPaginado<Producto> porCategoria = snapshot.paginar(ProductoCriteriosBusqueda.sinFiltros(3, 10)
+                .conCategoria(Optional.of("hogar"))
+                .conIncluirTotal(ModoTotal.APROXIMADO));
+        ResultadoPaginado<Producto> sinTotal = snapshot.paginar(criteriosOfertas(ModoTotal.NINGUNO, Optional.empty()));
+        ResultadoPaginado<Producto> exactoConCursor = snapshot.paginar(criteriosOfertas(ModoTotal.EXACTO,
+                Optional.of(CursorPaginacion.decodificar(sinTotal.siguienteCursor()))));
+
+        assertAll("Verificar el total de cada modo",
+            () -> assertEquals(ModoTotal.APROXIMADO, aproximado.precisionTotal()),
+            () -> assertTrue(aproximado.margenErrorTotal() > 0),
+            () -> assertTrue(Math.abs(aproximado.totalElementos() - ofertasBaratas) <= aproximado.margenErrorTotal()),
+            () -> assertEquals(ModoTotal.EXACTO, porCategoria.precisionTotal()),
+            () -> assertEquals(2500, porCategoria.totalElementos()),
+            () -> assertEquals(62L, porCategoria.elementos().getFirst().idProducto()),
+            () -> assertEquals(ModoTotal.NINGUNO, sinTotal.precisionTotal()),
+            () -> assertEquals(ResultadoPaginado.TOTAL_DESCONOCIDO, sinTotal.totalElementos()),
+            () -> assertEquals(10, sinTotal.elementos().size()),
+            () -> assertEquals(ofertasBaratas, exactoConCursor.totalElementos()),
+            () -> assertEquals(72L, exactoConCursor.elementos().getFirst().idProducto())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe contar las facetas de todas las coincidencias junto con la página")
+    void paginar_debeContarFacetasDeTodasLasCoincidencias() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            String categoria = id % 2 == 0 ? "Hogar" : "Libros";
+            String marca = id % 5 == 0 ? "Acme" : "Marca";
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id, 4.5, categoria, marca,
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(OperacionDelta.upsert(new Producto(2L, "Producto 2", "url",
+                "desc", 1500.0, 4.5, "Hogar", "Nueva", ESPECIFICACIONES_DEFAULT))), 2L, CARGADO_EN, Duration.ZERO);
+        ProductoCriteriosBusqueda hogar = ProductoCriteriosBusqueda.sinFiltros(0, 5)
+                .conCategoria(Optional.of("hogar"))
+                .conIncluirTotal(ModoTotal.NINGUNO)
+                .conFacetas(EnumSet.allOf(CampoFaceta.class));
+
+        ResultadoPaginado<Producto> pagina = base.paginar(hogar);
+        ResultadoPaginado<Producto> paginaConDelta = conDelta.paginar(hogar);
+        ResultadoPaginado<Producto> sinFacetas = base.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 5)
+                .conCategoria(Optional.of("hogar")));
+
+        assertAll("Verificar conteos por categoría, marca y tramo de precio",
+            () -> assertEquals(5, pagina.elementos().size()),
+            () -> assertEquals(List.of(new ConteoFaceta("Hogar", 50)), pagina.facetas().categorias()),
+            () -> assertEquals(List.of(new ConteoFaceta("Marca", 40), new ConteoFaceta("Acme", 10)),
+                    pagina.facetas().marcas()),
+            () -> assertEquals(List.of(new RangoPrecio(null, 10.0, 4), new RangoPrecio(10.0, 20.0, 5),
+                    new RangoPrecio(20.0, 50.0, 15), new RangoPrecio(50.0, 100.0, 25),
+                    new RangoPrecio(100.0, 200.0, 1)), pagina.facetas().precios()),
+            () -> assertEquals(List.of(new ConteoFaceta("Marca", 39), new ConteoFaceta("Acme", 10),
+                    new ConteoFaceta("Nueva", 1)), paginaConDelta.facetas().marcas()),
+            () -> assertEquals(new RangoPrecio(1000.0, 2000.0, 1), paginaConDelta.facetas().precios().getLast()),
+            () -> assertNull(sinFacetas.facetas())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe autocompletar por el comienzo de las palabras del nombre ordenando por calificación")
+    void autocompletar_debeSugerirLosMejorCalificadosConCapaDelta() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            String nombre = id % 3 == 0 ? "Smartphone Samsung " + id : "Tablet " + id;
+            productos.add(new Producto(id, nombre, "url", "desc", id, id / 10.0, "Hogar", "Marca",
+                    ESPECIFICACIONES_DEFAULT));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(new Producto(30L, "Tablet 30", "url", "desc", 30.0, 3.0, "Hogar", "Marca",
+                        ESPECIFICACIONES_DEFAULT)),
+                OperacionDelta.eliminar(27L),
+                OperacionDelta.upsert(new Producto(2L, "Smartphone rebajado", "url", "desc", 2.0, 5.0, "Hogar",
+                        "Marca", ESPECIFICACIONES_DEFAULT)),
+                OperacionDelta.upsert(new Producto(31L, "Smártwatch", "url", "desc", 31.0, 0.5, "Hogar", "Marca",
+                        ESPECIFICACIONES_DEFAULT))), 2L, CARGADO_EN, Duration.ZERO);
+
+        assertAll("Verificar autocompletado",
+            () -> assertEquals(List.of(30L, 27L, 24L), ids(base.autocompletar("SMA", 3))),
+            () -> assertEquals(List.of(30L, 27L), ids(base.autocompletar("sams", 2))),
+            () -> assertEquals(List.of(29L, 28L), ids(base.autocompletar("tab", 2))),
+            () -> assertEquals(List.of(), ids(base.autocompletar("gal", 5))),
+            () -> assertEquals(List.of(2L, 24L, 21L, 18L, 15L, 12L, 9L, 6L, 31L, 3L),
+                    ids(conDelta.autocompletar("sma", 10))),
+            () -> assertEquals(List.of(30L, 29L), ids(conDelta.autocompletar("tablet", 2))),
+            () -> assertTrue(base.nodosIndiceAutocompletado() > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por atributos de las especificaciones con su índice columnar y la capa delta")
+    void paginar_debeFiltrarPorAtributosDeLasEspecificaciones() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            String ram = switch ((int) (id % 4)) {
+                case 1 -> "4GB RAM";
+                case 2 -> "8GB RAM";
+                case 3 -> "16GB RAM";
+                default -> "Bluetooth";
+            };
+            String almacenamiento = id % 5 == 0 ? "1TB" : "512GB";
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id, 4.5, id % 2 == 0 ? "Hogar" : "Libros",
+                    "Marca", List.of(ram, almacenamiento)));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(new Producto(1L, "Producto 1", "url", "desc", 1.0, 4.5, "Hogar", "Marca",
+                        List.of("32GB RAM", "1TB"))),
+                OperacionDelta.eliminar(10L),
+                OperacionDelta.upsert(new Producto(101L, "Producto 101", "url", "desc", 101.0, 4.5, "Hogar", "Marca",
+                        List.of("16 GB RAM", "2TB")))), 2L, CARGADO_EN, Duration.ZERO);
+
+        int atributosAntesDeFiltrar = base.atributosIndexados();
+        ProductoCriteriosBusqueda ramAlta = porAtributos(Optional.empty(), "ram:>=8");
+        ProductoCriteriosBusqueda combinada = porAtributos(Optional.of("hogar"), "RAM:>=8", "almacenamiento:>=1tb");
+        PlanConsulta plan = base.planificar(combinada);
+
+        assertAll("Verificar filtros por atributo",
+            () -> assertEquals(AccesoConsulta.INDICE_MAPAS_BITS, plan.acceso()),
+            () -> assertEquals(5, plan.filasCandidatas()),
+            () -> assertEquals(50, base.paginar(ramAlta).totalElementos()),
+            () -> assertEquals(25, base.paginar(porAtributos(Optional.empty(), "ram:16")).totalElementos()),
+            () -> assertEquals(0, base.paginar(porAtributos(Optional.empty(), "camara:>0")).totalElementos()),
+            () -> assertEquals(List.of(10L, 30L, 50L, 70L, 90L), ids(base.paginar(combinada).elementos())),
+            () -> assertEquals(List.of(1L, 30L, 50L, 70L, 90L, 101L), ids(conDelta.paginar(combinada).elementos())),
+            () -> assertEquals(6, conDelta.paginar(combinada).totalElementos()),
+            () -> assertEquals(base.productos().stream()
+                    .filter(producto -> Stream.of("8GB RAM", "16GB RAM").anyMatch(producto.especificaciones()::contains))
+                    .count(), base.filtrar(ramAlta).length),
+            () -> assertEquals(0, atributosAntesDeFiltrar),
+            () -> assertEquals(2, base.atributosIndexados()),
+            () -> assertEquals(2, conDelta.atributosIndexados())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe resolver el rango combinado de precio y calificación con la rejilla, incluida la capa delta")
+    void paginar_debeFiltrarPorPrecioYCalificacionConLaRejilla() {
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            productos.add(new Producto(id, "Producto " + id, "url", "desc", id, id % 5 + 1.0, "Hogar", "Marca",
+                    List.of()));
+        }
+        CatalogoSnapshot base = CatalogoSnapshot.desde(productos, VERSION_1, CARGADO_EN, DURACION_CARGA);
+        CatalogoSnapshot conDelta = base.aplicar(List.of(
+                OperacionDelta.upsert(new Producto(1L, "Producto 1", "url", "desc", 30.0, 5.0, "Hogar", "Marca",
+                        List.of())),
+                OperacionDelta.eliminar(23L),
+                OperacionDelta.upsert(new Producto(101L, "Producto 101", "url", "desc", 40.0, 4.5, "Hogar", "Marca",
+                        List.of()))), 2L, CARGADO_EN, Duration.ZERO);
+
+        ProductoCriteriosBusqueda caja = porPrecioYCalificacion(Optional.of(20.0), Optional.of(60.0), Optional.of(4.0),
+                Optional.empty());
+        List<Long> esperados = LongStream.rangeClosed(20, 60).filter(id -> id % 5 >= 3).boxed().toList();
+        PlanConsulta plan = base.planificar(caja);
+
+        assertAll("Verificar rango combinado",
+            () -> assertEquals(AccesoConsulta.INDICE_PRECIO_CALIFICACION, plan.acceso()),
+            () -> assertEquals(16, plan.filasCandidatas()),
+            () -> assertEquals(esperados, ids(base.paginar(caja).elementos())),
+            () -> assertEquals(16, base.paginar(caja).totalElementos()),
+            () -> assertEquals(17, conDelta.paginar(caja).totalElementos()),
+            () -> assertEquals(1L, conDelta.paginar(caja).elementos().get(0).idProducto()),
+            () -> assertEquals(40, base.paginar(porPrecioYCalificacion(Optional.empty(), Optional.empty(),
+                    Optional.of(4.0), Optional.of(5.0))).totalElementos()),
+            () -> assertEquals(20, base.paginar(porPrecioYCalificacion(Optional.empty(), Optional.empty(),
+                    Optional.empty(), Optional.of(1.0))).totalElementos())
+        );
+    }
+
+    private static ProductoCriteriosBusqueda porPrecioYCalificacion(Optional<Double> precioMin,
+                                                                    Optional<Double> precioMax,
+                                                                    Optional<Double> calificacionMin,
+                                                                    Optional<Double> calificacionMax) {
+        return ProductoCriteriosBusqueda.sinFiltros(0, 20)
+                .conRangoPrecio(precioMin, precioMax)
+                .conRangoCalificacion(calificacionMin, calificacionMax);
+    }
+
+    private static ProductoCriteriosBusqueda porAtributos(Optional<String> categoria, String... atributos) {
+        return ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(categoria)
+                .conAtributos(Stream.of(atributos).map(FiltroAtributo::interpretar).toList());
+    }
+
+    private static List<Long> ids(List<Producto> productos) {
+        return productos.stream().map(Producto::idProducto).toList();
+    }
+
+    private ProductoCriteriosBusqueda criteriosOfertas(ModoTotal incluirTotal, Optional<CursorPaginacion> cursor) {
+        return ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("oferta"))
+                .conRangoPrecio(Optional.empty(), Optional.of(4.0))
+                .conCursor(cursor)
+                .conIncluirTotal(incluirTotal);
+    }
+
+    // Pide la primera página por número y sigue los cursores hasta que no quedan resultados.
+    private List<Long> recorrerConCursores(CatalogoSnapshot snapshot, Optional<String> categoria,
+                                           Optional<Ordenamiento> orden) {
+        List<Long> ids = new ArrayList<>();
+        Optional<CursorPaginacion> cursor = Optional.empty();
+        do {
+            ResultadoPaginado<Producto> pagina = snapshot.paginar(ProductoCriteriosBusqueda.sinFiltros(0, 7)
+                    .conCategoria(categoria)
+                    .conOrden(orden)
+                    .conCursor(cursor)
+                    .conIncluirTotal(cursor.isPresent() ? ModoTotal.NINGUNO : ModoTotal.EXACTO));
+            pagina.elementos().forEach(producto -> ids.add(producto.idProducto()));
+            cursor = Optional.ofNullable(pagina.siguienteCursor()).map(CursorPaginacion::decodificar);
+        } while (cursor.isPresent());
+        return ids;
+    }
+}
@@ -0,0 +1,77 @@
+package com.pruebatecnica.meli.dominio.catalogo;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiccionarioCadenasTest {
+
+    @Test
+    @DisplayName("Debe asignar un código por valor distinto y contabilizar las repeticiones")
+    void codificar_debeReutilizarCodigos() {
+        DiccionarioCadenas diccionario = new DiccionarioCadenas();
+
+        int primero = diccionario.codificar("Electrónica");
+        int repetido = diccionario.codificar(new String("Electrónica"));
+        int otro = diccionario.codificar("Hogar");
+        EstadisticasDiccionario estadisticas = diccionario.estadisticas("categoria");
+
+        assertAll("Verificar diccionario",
+            () -> assertEquals(primero, repetido),
+            () -> assertNotEquals(primero, otro),
+            () -> assertEquals(DiccionarioCadenas.SIN_VALOR, diccionario.codificar(null)),
+            () -> assertEquals(2, estadisticas.valoresDistintos()),
+            () -> assertEquals(3, estadisticas.referencias()),
+            () -> assertTrue(estadisticas.bytesAhorrados() > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe resolver códigos sin distinguir mayúsculas y rechazar valores nuevos al congelarse")
+    void codigosIgualesA_debeIgnorarMayusculas() {
+        DiccionarioCadenas diccionario = new DiccionarioCadenas();
+        int mayuscula = diccionario.codificar("Electrónica");
+        int minuscula = diccionario.codificar("electrónica");
+        int hogar = diccionario.codificar("Hogar");
+        diccionario.congelar();
+
+        boolean[] coincidencias = diccionario.codigosIgualesA("ELECTRÓNICA");
+
+        assertAll("Verificar búsqueda sin mayúsculas",
+            () -> assertTrue(coincidencias[mayuscula]),
+            () -> assertTrue(coincidencias[minuscula]),
+            () -> assertFalse(coincidencias[hogar]),
+            () -> assertThrows(IllegalStateException.class, () -> diccionario.codificar("Deportes"))
+        );
+    }
+
+    @Test
+    @DisplayName("Los productos del snapshot deben compartir las cadenas repetidas")
+    void snapshot_debeCompartirCadenasRepetidas() {
+        CatalogoSnapshot snapshot = CatalogoSnapshot.desde(List.of(
+                new Producto(1L, "Celular", "url", "desc", 100.0, 4.5, new String("Electrónica"), new String("XYZ"),
+                        List.of(new String("128GB"), "6GB RAM")),
+                new Producto(2L, "Tablet", "url", "desc", 200.0, 4.0, new String("Electrónica"), new String("XYZ"),
+                        List.of(new String("128GB")))),
+                1L, Instant.now(), Duration.ZERO);
+
+        Producto primero = snapshot.productos().get(0);
+        Producto segundo = snapshot.productos().get(1);
+
+        assertAll("Verificar instancias compartidas",
+            () -> assertSame(primero.categoria(), segundo.categoria()),
+            () -> assertSame(primero.marca(), segundo.marca()),
+            () -> assertSame(primero.especificaciones().getFirst(), segundo.especificaciones().getFirst()),
+            () -> assertEquals(List.of("128GB"), segundo.especificaciones()),
+            () -> assertEquals(List.of("categoria", "marca", "especificaciones"),
+                    snapshot.diccionarios().stream().map(EstadisticasDiccionario::campo).toList()),
+            () -> assertEquals(2, snapshot.diccionarios().get(2).valoresDistintos())
+        );
+    }
+}
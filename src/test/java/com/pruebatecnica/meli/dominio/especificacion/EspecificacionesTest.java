@@ -93,6 +93,48 @@ class EspecificacionesTest {
         );
     }
 
+    @Test
+    @DisplayName("Especificaciones por texto deben ignorar las tildes")
+    void especificacionesPorTexto_debenIgnorarTildes() {
+        Producto camara = crearProducto(PRODUCTO_ID_1, "Cámara Fotográfica", CATEGORIA_ELECTRONICA, PRECIO_500_00);
+
+        assertAll("Verificar comparación sin tildes",
+            () -> assertTrue(new EspecificacionPorNombre("camara foto").esSatisfechoPor(camara)),
+            () -> assertTrue(new EspecificacionPorCategoria("Electronica").esSatisfechoPor(camara)),
+            () -> assertTrue(new EspecificacionPorMarca("SAMSÚNG").esSatisfechoPor(camara)),
+            () -> assertFalse(new EspecificacionPorCategoria(CATEGORIA_INFORMATICA).esSatisfechoPor(camara))
+        );
+    }
+
+    @Test
+    @DisplayName("Especificación por nombre difuso debe tolerar errores de tipeo en cada palabra")
+    void especificacionPorNombreDifuso_debeTolerarErroresDeTipeo() {
+        Producto celular = crearProducto(PRODUCTO_ID_1, NOMBRE_CELULAR, CATEGORIA_ELECTRONICA, PRECIO_500_00);
+        Producto tablet = crearProducto(PRODUCTO_ID_2, NOMBRE_TABLET, CATEGORIA_ELECTRONICA, PRECIO_1200_00);
+
+        assertAll("Verificar nombre con errores de tipeo",
+            () -> assertTrue(new EspecificacionPorNombreDifuso("celulr samsnug").esSatisfechoPor(celular)),
+            () -> assertTrue(new EspecificacionPorNombreDifuso("TABLT").esSatisfechoPor(tablet)),
+            () -> assertFalse(new EspecificacionPorNombreDifuso("celulr").esSatisfechoPor(tablet)),
+            () -> assertFalse(new EspecificacionPorNombreDifuso("celu").esSatisfechoPor(celular))
+        );
+    }
+
+    @Test
+    @DisplayName("Especificación por texto debe buscar cualquiera de las palabras en nombre, descripción y especificaciones")
+    void especificacionPorTexto_debeBuscarEnTodosLosCampos() {
+        Producto celular = crearProducto(PRODUCTO_ID_1, NOMBRE_CELULAR, CATEGORIA_ELECTRONICA, PRECIO_500_00);
+        Producto tablet = crearProducto(PRODUCTO_ID_2, NOMBRE_TABLET, CATEGORIA_ELECTRONICA, PRECIO_1200_00);
+
+        assertAll("Verificar búsqueda de texto",
+            () -> assertTrue(new EspecificacionPorTexto("celulares baratos").esSatisfechoPor(celular)),
+            () -> assertTrue(new EspecificacionPorTexto("productos").esSatisfechoPor(tablet)),
+            () -> assertTrue(new EspecificacionPorTexto("SPEC2").esSatisfechoPor(tablet)),
+            () -> assertFalse(new EspecificacionPorTexto("celular").esSatisfechoPor(tablet)),
+            () -> assertFalse(new EspecificacionPorTexto("de la").esSatisfechoPor(celular))
+        );
+    }
+
     @Test
     @DisplayName("Especificación por precio debe filtrar por rango mínimo y máximo")
     void especificacionPorPrecio_debeFiltrarPorRangoMinimoYMaximo() {
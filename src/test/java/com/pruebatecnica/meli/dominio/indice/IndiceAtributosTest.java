@@ -0,0 +1,49 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.atributo.FiltroAtributo;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceAtributosTest {
+
+    @Test
+    @DisplayName("Debe resolver cada comparación como la evaluación producto por producto")
+    void coincidencias_debeCoincidirConLaEvaluacionExhaustiva() {
+        Random aleatorio = new Random(24);
+        int[] ram = new int[2000];
+        List<Producto> productos = new ArrayList<>();
+        for (int ordinal = 0; ordinal < ram.length; ordinal++) {
+            ram[ordinal] = aleatorio.nextInt(5) == 0 ? -1 : 2 << aleatorio.nextInt(5);
+            List<String> especificaciones = ram[ordinal] < 0
+                    ? List.of("Bluetooth") : List.of(ram[ordinal] + "GB RAM", "4 puertos");
+            productos.add(new Producto((long) ordinal, "Producto", "url", "desc", 1.0, 4.0, "Hogar", "Marca",
+                    especificaciones));
+        }
+        IndiceAtributos indice = IndiceAtributos.desde(productos);
+
+        for (FiltroAtributo.Comparacion comparacion : FiltroAtributo.Comparacion.values()) {
+            for (double valor : new double[]{0, 4, 5, 16, 32, 64}) {
+                FiltroAtributo filtro = new FiltroAtributo("ram", comparacion, valor);
+                int[] esperados = IntStream.range(0, ram.length)
+                        .filter(ordinal -> filtro.cumple(ram[ordinal] < 0 ? Double.NaN : ram[ordinal]))
+                        .toArray();
+                assertArrayEquals(esperados, indice.coincidencias(filtro).aArreglo(), filtro.toString());
+            }
+        }
+        assertAll("Verificar combinaciones",
+            () -> assertEquals(2, indice.atributosDistintos()),
+            () -> assertTrue(indice.coincidencias(new FiltroAtributo("camara", FiltroAtributo.Comparacion.MAYOR, 0)).vacio()),
+            () -> assertArrayEquals(indice.coincidencias(new FiltroAtributo("ram", FiltroAtributo.Comparacion.IGUAL, 8)).aArreglo(),
+                    indice.coincidencias(List.of(FiltroAtributo.interpretar("ram:>=8"), FiltroAtributo.interpretar("ram:<16"),
+                            FiltroAtributo.interpretar("puertos:4"))).aArreglo())
+        );
+    }
+}
@@ -0,0 +1,93 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceAutocompletadoTest {
+
+    private static final List<String> NOMBRES = List.of(
+            "Smartphone Samsung A52", "Smartwatch Samsung", "Funda para smartphone", "Cámara Sony", "Smart TV",
+            "Samsung Galaxy S23");
+    private static final double[] CALIFICACIONES = {4.1, 4.8, 3.9, 4.5, 4.1, 4.9};
+
+    private static IndiceAutocompletado construir(List<String> nombres, double[] calificaciones) {
+        IndiceTrigramas indiceNombres = new IndiceTrigramas(nombres.size());
+        for (int ordinal = 0; ordinal < nombres.size(); ordinal++) {
+            indiceNombres.agregar(ordinal, nombres.get(ordinal));
+        }
+        indiceNombres.congelar();
+        return IndiceAutocompletado.desde(indiceNombres, ordinal -> calificaciones[ordinal]);
+    }
+
+    private static int[] sugerencias(IndiceAutocompletado indice, String prefijo) {
+        int nodo = indice.buscar(prefijo);
+        if (nodo == IndiceAutocompletado.SIN_NODO) {
+            return new int[0];
+        }
+        return IntStream.range(0, indice.cantidadSugerencias(nodo)).map(i -> indice.sugerencia(nodo, i)).toArray();
+    }
+
+    @Test
+    @DisplayName("Debe sugerir por el comienzo de cualquier palabra del nombre, de mayor a menor calificación")
+    void buscar_debeOrdenarLasSugerenciasPorCalificacion() {
+        IndiceAutocompletado indice = construir(NOMBRES, CALIFICACIONES);
+
+        assertAll("Verificar sugerencias",
+            () -> assertArrayEquals(new int[]{1, 0, 4, 2}, sugerencias(indice, "sma")),
+            () -> assertArrayEquals(new int[]{5, 1, 0}, sugerencias(indice, "sams")),
+            () -> assertArrayEquals(new int[]{5}, sugerencias(indice, "galaxy s2")),
+            () -> assertArrayEquals(new int[]{0, 2}, sugerencias(indice, "smartp")),
+            () -> assertArrayEquals(new int[]{3}, sugerencias(indice, "camara")),
+            () -> assertArrayEquals(new int[]{0}, sugerencias(indice, "a5")),
+            () -> assertArrayEquals(new int[0], sugerencias(indice, "amsung")),
+            () -> assertArrayEquals(new int[0], sugerencias(indice, "smartphone x")),
+            () -> assertArrayEquals(new int[0], sugerencias(indice, "tablet")),
+            () -> assertTrue(IndiceAutocompletado.coincide("Samsung Galaxy", "gal")),
+            () -> assertFalse(IndiceAutocompletado.coincide("Samsung Galaxy", "alax")),
+            () -> assertTrue(indice.bytesOcupados() > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe coincidir con la búsqueda exhaustiva y enumerar el subárbol completo de cada prefijo")
+    void buscar_debeCoincidirConLaBusquedaExhaustiva() {
+        Random aleatorio = new Random(7);
+        String[] palabras = {"sam", "samsung", "smart", "smartphone", "tv", "tv4k", "cámara", "camara", "a", "a52"};
+        List<String> nombres = new ArrayList<>();
+        double[] calificaciones = new double[500];
+        for (int ordinal = 0; ordinal < calificaciones.length; ordinal++) {
+            StringBuilder nombre = new StringBuilder();
+            for (int palabra = 0; palabra < 1 + aleatorio.nextInt(4); palabra++) {
+                nombre.append(palabras[aleatorio.nextInt(palabras.length)]).append(' ');
+            }
+            nombres.add(nombre.toString().strip());
+            calificaciones[ordinal] = aleatorio.nextInt(11) / 2.0;
+        }
+        IndiceAutocompletado indice = construir(nombres, calificaciones);
+
+        for (String prefijo : List.of("s", "sa", "sam", "samsung s", "smartphone", "t", "tv4", "cam", "a", "a5", "x")) {
+            List<Integer> esperados = IntStream.range(0, nombres.size())
+                    .filter(ordinal -> IndiceAutocompletado.coincide(nombres.get(ordinal), prefijo))
+                    .boxed()
+                    .toList();
+            int[] mejores = esperados.stream()
+                    .sorted(Comparator.comparingDouble((Integer ordinal) -> -calificaciones[ordinal]))
+                    .limit(IndiceAutocompletado.SUGERENCIAS_POR_NODO)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            int nodo = indice.buscar(prefijo);
+            int[] subarbol = nodo == IndiceAutocompletado.SIN_NODO ? new int[0] : indice.ordinalesDelSubarbol(nodo);
+
+            assertArrayEquals(mejores, sugerencias(indice, prefijo), prefijo);
+            assertArrayEquals(esperados.stream().mapToInt(Integer::intValue).toArray(), subarbol, prefijo);
+        }
+    }
+}
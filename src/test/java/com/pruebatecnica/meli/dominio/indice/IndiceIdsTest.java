@@ -0,0 +1,52 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceIdsTest {
+
+    private static final int CANTIDAD_IDS = 10_000;
+
+    @Test
+    @DisplayName("Debe resolver cada id registrado a su ordinal")
+    void buscar_debeResolverIdsRegistrados() {
+        IndiceIds indice = new IndiceIds(4);
+
+        for (int ordinal = 0; ordinal < CANTIDAD_IDS; ordinal++) {
+            indice.agregar(ordinal * 7L + 1, ordinal);
+        }
+
+        assertEquals(CANTIDAD_IDS, indice.tamanio());
+        for (int ordinal = 0; ordinal < CANTIDAD_IDS; ordinal++) {
+            assertEquals(ordinal, indice.buscar(ordinal * 7L + 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe devolver NO_ENCONTRADO para ids ausentes")
+    void buscar_debeDevolverNoEncontradoParaIdsAusentes() {
+        IndiceIds indice = new IndiceIds(2);
+        indice.agregar(1L, 0);
+        indice.agregar(Long.MAX_VALUE, 1);
+
+        assertAll("Verificar ids ausentes",
+            () -> assertEquals(IndiceIds.NO_ENCONTRADO, indice.buscar(2L)),
+            () -> assertEquals(IndiceIds.NO_ENCONTRADO, indice.buscar(0L)),
+            () -> assertEquals(IndiceIds.NO_ENCONTRADO, indice.buscar(-1L)),
+            () -> assertEquals(1, indice.buscar(Long.MAX_VALUE))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe conservar la primera aparición de un id duplicado")
+    void agregar_debeConservarPrimeraAparicion() {
+        IndiceIds indice = new IndiceIds(2);
+
+        assertTrue(indice.agregar(5L, 0));
+        assertFalse(indice.agregar(5L, 3));
+        assertEquals(0, indice.buscar(5L));
+        assertEquals(1, indice.tamanio());
+    }
+}
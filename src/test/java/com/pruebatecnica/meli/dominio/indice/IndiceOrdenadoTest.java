@@ -0,0 +1,45 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceOrdenadoTest {
+
+    private static final double[] PRECIOS = {500.0, -3.0, 120.5, Double.NaN, 0.0, 500.0, 99.99, -0.0};
+
+    private static IndiceOrdenado construir() {
+        return IndiceOrdenado.desde(PRECIOS.length, ordinal -> PRECIOS[ordinal]);
+    }
+
+    @Test
+    @DisplayName("Debe ordenar los valores conservando el orden de catálogo en los empates")
+    void desde_debeOrdenarPorPrecioDeFormaEstable() {
+        IndiceOrdenado indice = construir();
+
+        assertAll("Verificar orden",
+            () -> assertEquals(1, indice.ordinal(0)),
+            () -> assertEquals(-3.0, indice.valor(0)),
+            () -> assertEquals(0, indice.ordinal(5)),
+            () -> assertEquals(5, indice.ordinal(6)),
+            () -> assertEquals(3, indice.ordinal(7)),
+            () -> assertTrue(Double.isNaN(indice.valor(7)))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe resolver un rango con búsquedas binarias en un tramo contiguo")
+    void ordinalesEntre_debeDevolverElRangoEnOrdenDeCatalogo() {
+        IndiceOrdenado indice = construir();
+
+        assertAll("Verificar rangos",
+            () -> assertArrayEquals(new int[]{2, 3, 4, 6, 7}, indice.ordinalesEntre(0.0, 200.0)),
+            () -> assertEquals(5, indice.contarEntre(0.0, 200.0)),
+            () -> assertArrayEquals(new int[]{0, 3, 5}, indice.ordinalesEntre(500.0, 500.0)),
+            () -> assertArrayEquals(new int[]{3}, indice.ordinalesEntre(600.0, 100.0)),
+            () -> assertEquals(PRECIOS.length,
+                    indice.contarEntre(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY))
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceRejillaTest {
+
+    @Test
+    @DisplayName("Debe resolver cada caja como el filtro producto por producto, sin excluir valores NaN")
+    void ordinalesEntre_debeCoincidirConLaEvaluacionExhaustiva() {
+        Random aleatorio = new Random(25);
+        double[] precios = new double[5000];
+        double[] calificaciones = new double[precios.length];
+        for (int ordinal = 0; ordinal < precios.length; ordinal++) {
+            precios[ordinal] = aleatorio.nextInt(200) == 0 ? Double.NaN : aleatorio.nextInt(1000);
+            calificaciones[ordinal] = aleatorio.nextInt(200) == 0 ? Double.NaN : aleatorio.nextInt(51) / 10.0;
+        }
+        IndiceRejilla rejilla = IndiceRejilla.desde(IndiceOrdenado.desde(precios.length, ordinal -> precios[ordinal]),
+                IndiceOrdenado.desde(calificaciones.length, ordinal -> calificaciones[ordinal]));
+
+        double[][] cajas = {
+            {100, 300, 4.0, 5.0}, {0, 999, 0, 5}, {250, 250, 3.5, 3.5}, {500, 100, 0, 5},
+            {Double.NEGATIVE_INFINITY, 50, 4.5, Double.POSITIVE_INFINITY}, {990, 2000, 0, 0.5}
+        };
+        for (double[] caja : cajas) {
+            int[] esperados = IntStream.range(0, precios.length)
+                    .filter(ordinal -> !(precios[ordinal] < caja[0] || precios[ordinal] > caja[1])
+                            && !(calificaciones[ordinal] < caja[2] || calificaciones[ordinal] > caja[3]))
+                    .toArray();
+            assertArrayEquals(esperados, rejilla.ordinalesEntre(caja[0], caja[1], caja[2], caja[3]));
+            assertEquals(esperados.length, rejilla.contarEntre(caja[0], caja[1], caja[2], caja[3]));
+        }
+        assertAll("Verificar celdas",
+            () -> assertEquals(71, rejilla.tamanioCelda()),
+            () -> assertEquals(71, rejilla.celdas())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe recorrer solo las celdas del tramo de precio y las de precio NaN")
+    void celdasVisitadas_debeOmitirLasCeldasFueraDelTramo() {
+        Random aleatorio = new Random(7);
+        double[] precios = new double[5000];
+        double[] calificaciones = new double[precios.length];
+        for (int ordinal = 0; ordinal < precios.length; ordinal++) {
+            precios[ordinal] = ordinal < 4990 ? ordinal : Double.NaN;
+            calificaciones[ordinal] = aleatorio.nextInt(51) / 10.0;
+        }
+        IndiceRejilla rejilla = IndiceRejilla.desde(IndiceOrdenado.desde(precios.length, ordinal -> precios[ordinal]),
+                IndiceOrdenado.desde(calificaciones.length, ordinal -> calificaciones[ordinal]));
+        int[] esperados = IntStream.range(0, precios.length)
+                .filter(ordinal -> Double.isNaN(precios[ordinal])
+                        || (precios[ordinal] >= 100 && precios[ordinal] <= 150))
+                .filter(ordinal -> calificaciones[ordinal] >= 4.0)
+                .toArray();
+
+        assertAll("Verificar celdas recorridas",
+            () -> assertEquals(3, rejilla.celdasVisitadas(100, 150)),
+            () -> assertEquals(1, rejilla.celdasVisitadas(6000, 7000)),
+            () -> assertEquals(71, rejilla.celdasVisitadas(0, 5000)),
+            () -> assertArrayEquals(esperados, rejilla.ordinalesEntre(100, 150, 4.0, 5.0))
+        );
+    }
+}
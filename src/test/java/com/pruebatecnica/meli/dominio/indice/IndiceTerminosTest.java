@@ -0,0 +1,55 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTerminosTest {
+
+    private static final List<String> NOMBRES = List.of(
+            "Smartphone Samsung A52", "Laptop Gamer", "Smartwatch Samsung", "Funda para smartphone", "Laptop 2024",
+            "Cámara Sony");
+
+    private static IndiceTerminos construir() {
+        IndiceTrigramas nombres = new IndiceTrigramas(NOMBRES.size());
+        for (int ordinal = 0; ordinal < NOMBRES.size(); ordinal++) {
+            nombres.agregar(ordinal, NOMBRES.get(ordinal));
+        }
+        nombres.congelar();
+        return IndiceTerminos.desde(nombres);
+    }
+
+    @Test
+    @DisplayName("Debe encontrar las palabras dentro de la tolerancia de errores del término")
+    void terminosCercanos_debeTolerarErroresSegunElLargo() {
+        IndiceTerminos indice = construir();
+
+        assertAll("Verificar términos cercanos",
+            () -> assertArrayEquals(new String[]{"smartphone"}, indice.terminosCercanos("smarphone")),
+            () -> assertArrayEquals(new String[]{"laptop"}, indice.terminosCercanos("laptp")),
+            () -> assertArrayEquals(new String[]{"camara"}, indice.terminosCercanos("camra")),
+            () -> assertArrayEquals(new String[0], indice.terminosCercanos("a5")),
+            () -> assertArrayEquals(new String[0], indice.terminosCercanos("2025")),
+            () -> assertArrayEquals(new String[]{"2024"}, indice.terminosCercanos("2024"))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe exigir que cada término de la consulta coincida con alguna palabra del nombre")
+    void coincidencias_debeIntersectarLosTerminos() {
+        IndiceTerminos indice = construir();
+
+        assertAll("Verificar coincidencias",
+            () -> assertArrayEquals(new int[]{0, 3}, indice.coincidencias("smarphone").aArreglo()),
+            () -> assertArrayEquals(new int[]{0}, indice.coincidencias("smarphone samsug").aArreglo()),
+            () -> assertArrayEquals(new int[]{1, 4}, indice.coincidencias("laptp").aArreglo()),
+            () -> assertTrue(indice.coincidencias("laptp sony").vacio()),
+            () -> assertTrue(indice.coincidencias("  ").vacio()),
+            () -> assertEquals(11, indice.terminosDistintos()),
+            () -> assertTrue(indice.bytesOcupados() > 0)
+        );
+    }
+}
@@ -0,0 +1,107 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import com.pruebatecnica.meli.dominio.texto.AnalizadorTexto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTextoCompletoTest {
+
+    private static final List<Producto> PRODUCTOS = List.of(
+            producto(1L, "Celular Samsung A52", "Pantalla grande y batería duradera", List.of("RAM 8GB")),
+            producto(2L, "Funda para celulares", "Funda de silicona", List.of()),
+            producto(3L, "Laptop Gamer", "Ideal para juegos, compatible con celular por bluetooth", null),
+            producto(4L, "Lámpara LED", "Luces cálidas para el hogar", List.of("Color blanco")),
+            producto(5L, "Auriculares Bluetooth", null, List.of("Bluetooth 5.0", "Batería 20 horas")));
+
+    private static Producto producto(Long id, String nombre, String descripcion, List<String> especificaciones) {
+        return new Producto(id, nombre, "https://example.com/" + id + ".jpg", descripcion, 100.0, 4.0,
+                "Electrónica", "Acme", especificaciones);
+    }
+
+    @Test
+    @DisplayName("Debe encontrar los productos con alguno de los términos en cualquiera de los campos")
+    void coincidencias_debeUnirLosTerminosDeTodosLosCampos() {
+        IndiceTextoCompleto indice = IndiceTextoCompleto.desde(PRODUCTOS);
+
+        assertAll("Verificar coincidencias",
+            () -> assertArrayEquals(new int[]{0, 1, 2},
+                    indice.coincidencias(AnalizadorTexto.terminosConsulta("celulares")).aArreglo()),
+            () -> assertArrayEquals(new int[]{2, 4},
+                    indice.coincidencias(AnalizadorTexto.terminosConsulta("bluetooth")).aArreglo()),
+            () -> assertArrayEquals(new int[]{0, 3, 4},
+                    indice.coincidencias(AnalizadorTexto.terminosConsulta("luz batería")).aArreglo()),
+            () -> assertTrue(indice.coincidencias(AnalizadorTexto.terminosConsulta("heladera")).vacio()),
+            () -> assertTrue(indice.terminosDistintos() > 0),
+            () -> assertTrue(indice.bytesOcupados() > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por BM25 con más peso para el nombre que para la descripción")
+    void mejores_debeOrdenarPorRelevancia() {
+        IndiceTextoCompleto indice = IndiceTextoCompleto.desde(PRODUCTOS);
+        String[] celular = AnalizadorTexto.terminosConsulta("celular");
+        SeleccionPorPuntaje seleccion = new SeleccionPorPuntaje(3);
+
+        indice.mejores(celular, seleccion, ordinal -> true);
+        int[] porRelevancia = seleccion.ordenados();
+        SeleccionPorPuntaje sinLaFunda = new SeleccionPorPuntaje(3);
+        indice.mejores(celular, sinLaFunda, ordinal -> ordinal != 1);
+
+        assertAll("Verificar orden por relevancia",
+            () -> assertEquals(3, porRelevancia.length),
+            () -> assertEquals(2, porRelevancia[2]),
+            () -> assertArrayEquals(new int[]{0, 2}, sinLaFunda.ordenados()),
+            () -> assertTrue(indice.puntuar(PRODUCTOS.get(0), celular) > indice.puntuar(PRODUCTOS.get(2), celular))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe devolver con la poda los mismos K mejores que puntuando todos los documentos")
+    void mejores_debeCoincidirConLaBusquedaExhaustiva() {
+        String[] palabras = {"celular", "funda", "pantalla", "batería", "negro", "blanco", "hogar", "luz", "gamer",
+                "bluetooth", "carga", "rápida", "oferta", "de", "para"};
+        Random aleatorio = new Random(42);
+        List<Producto> productos = new ArrayList<>();
+        for (long id = 1; id <= 2_000; id++) {
+            productos.add(producto(id, palabras[aleatorio.nextInt(palabras.length)] + " " + id,
+                    frase(palabras, aleatorio), List.of(frase(palabras, aleatorio))));
+        }
+        IndiceTextoCompleto indice = IndiceTextoCompleto.desde(productos);
+
+        for (String consulta : List.of("celular", "funda negro", "pantalla batería carga rápida", "luz de hogar")) {
+            String[] terminos = AnalizadorTexto.terminosConsulta(consulta);
+            double[] puntajes = productos.stream().mapToDouble(producto -> indice.puntuar(producto, terminos))
+                    .toArray();
+            int[] esperados = IntStream.range(0, productos.size())
+                    .filter(ordinal -> puntajes[ordinal] > 0)
+                    .boxed()
+                    .sorted(Comparator.comparingDouble((Integer ordinal) -> -puntajes[ordinal])
+                            .thenComparingInt(ordinal -> ordinal))
+                    .limit(25)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            SeleccionPorPuntaje seleccion = new SeleccionPorPuntaje(25);
+
+            indice.mejores(terminos, seleccion, ordinal -> true);
+
+            assertArrayEquals(esperados, seleccion.ordenados(), consulta);
+        }
+    }
+
+    private static String frase(String[] palabras, Random aleatorio) {
+        String[] frase = new String[1 + aleatorio.nextInt(12)];
+        Arrays.setAll(frase, i -> palabras[aleatorio.nextInt(palabras.length)]);
+        return String.join(" ", frase);
+    }
+}
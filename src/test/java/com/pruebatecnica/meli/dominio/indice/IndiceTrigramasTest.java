@@ -0,0 +1,68 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTrigramasTest {
+
+    private static final List<String> NOMBRES = List.of(
+            "Celular Samsung", "Funda para celular", "Televisor", "Cel", "Parlante Celeste", "Cámara Fotográfica");
+
+    private static IndiceTrigramas construir() {
+        IndiceTrigramas indice = new IndiceTrigramas(2);
+        for (int ordinal = 0; ordinal < NOMBRES.size(); ordinal++) {
+            indice.agregar(ordinal, NOMBRES.get(ordinal));
+        }
+        indice.congelar();
+        return indice;
+    }
+
+    @Test
+    @DisplayName("Debe devolver como candidatos los ordinales que contienen todos los trigramas")
+    void intersectar_debeDevolverCandidatosConTodosLosTrigramas() {
+        IndiceTrigramas indice = construir();
+
+        assertAll("Verificar candidatos",
+            () -> assertArrayEquals(new int[]{0, 1}, IndiceTrigramas.intersectar(indice.listasPara("celular"))),
+            () -> assertArrayEquals(new int[]{0, 1, 3, 4}, IndiceTrigramas.intersectar(indice.listasPara("cel"))),
+            () -> assertArrayEquals(new int[]{4}, IndiceTrigramas.intersectar(indice.listasPara("celes"))),
+            () -> assertArrayEquals(new int[0], IndiceTrigramas.intersectar(indice.listasPara("xyz")))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe verificar las subcadenas sobre la clave del nombre, sin mayúsculas ni tildes")
+    void nombreContiene_debeIgnorarMayusculasYTildes() {
+        IndiceTrigramas indice = construir();
+
+        assertAll("Verificar claves de los nombres",
+            () -> assertArrayEquals(new int[]{5}, IndiceTrigramas.intersectar(indice.listasPara("camara"))),
+            () -> assertTrue(indice.nombreContiene(5, "fotografica")),
+            () -> assertTrue(indice.nombreContiene(0, "lar sam")),
+            () -> assertTrue(indice.nombreContiene(3, "")),
+            () -> assertFalse(indice.nombreContiene(1, "samsung")),
+            () -> assertFalse(indice.nombreContiene(NOMBRES.size(), "cel"))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe indicar que las subcadenas cortas no pueden usar el índice")
+    void listasPara_debeDevolverNullParaSubcadenasCortas() {
+        IndiceTrigramas indice = construir();
+
+        assertNull(indice.listasPara("ce"));
+        assertNull(indice.listasPara(""));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar altas después de congelar el índice")
+    void agregar_debeFallarDespuesDeCongelar() {
+        IndiceTrigramas indice = construir();
+
+        assertThrows(IllegalStateException.class, () -> indice.agregar(NOMBRES.size(), "Nuevo"));
+    }
+}
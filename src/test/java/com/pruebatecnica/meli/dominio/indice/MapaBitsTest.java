@@ -0,0 +1,78 @@
+package com.pruebatecnica.meli.dominio.indice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MapaBitsTest {
+
+    private static final int BLOQUES = 4;
+    private static final int VALORES_POR_BLOQUE = 1 << 16;
+    private static final int REPETICIONES = 50;
+
+    @Test
+    @DisplayName("Debe combinar y contar conjuntos dispersos y densos igual que un BitSet")
+    void operaciones_debenCoincidirConBitSet() {
+        Random aleatorio = new Random(7);
+
+        for (int repeticion = 0; repeticion < REPETICIONES; repeticion++) {
+            BitSet primero = generar(aleatorio);
+            BitSet segundo = generar(aleatorio);
+            MapaBits mapaPrimero = MapaBits.desde(primero.stream().toArray());
+            MapaBits mapaSegundo = MapaBits.desde(segundo.stream().toArray());
+
+            BitSet interseccion = (BitSet) primero.clone();
+            interseccion.and(segundo);
+            BitSet union = (BitSet) primero.clone();
+            union.or(segundo);
+            BitSet diferencia = (BitSet) primero.clone();
+            diferencia.andNot(segundo);
+
+            assertArrayEquals(interseccion.stream().toArray(), mapaPrimero.y(mapaSegundo).aArreglo());
+            assertArrayEquals(union.stream().toArray(), mapaPrimero.o(mapaSegundo).aArreglo());
+            assertArrayEquals(diferencia.stream().toArray(), mapaPrimero.yNo(mapaSegundo).aArreglo());
+            assertEquals(union.cardinality(), mapaPrimero.o(mapaSegundo).cardinalidad());
+            assertEquals(interseccion.cardinality(), mapaPrimero.cardinalidadInterseccion(mapaSegundo));
+            int valor = aleatorio.nextInt(BLOQUES * VALORES_POR_BLOQUE + 1);
+            assertEquals(union.get(0, valor).cardinality(), mapaPrimero.o(mapaSegundo).rango(valor));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe seleccionar una página de ordinales saltando bloques completos")
+    void seleccionar_debeDevolverLaPaginaPedida() {
+        int[] ordinales = new int[10_000];
+        for (int i = 0; i < ordinales.length; i++) {
+            ordinales[i] = i * 20;
+        }
+        MapaBits mapa = MapaBits.desde(ordinales);
+        int[] pagina = new int[3];
+
+        int copiados = mapa.seleccionar(5_000, pagina, pagina.length);
+
+        assertAll("Verificar página",
+            () -> assertEquals(3, copiados),
+            () -> assertArrayEquals(new int[]{100_000, 100_020, 100_040}, pagina),
+            () -> assertEquals(0, mapa.seleccionar(ordinales.length, pagina, pagina.length)),
+            () -> assertTrue(mapa.contiene(199_980)),
+            () -> assertFalse(mapa.contiene(199_981))
+        );
+    }
+
+    // Mezcla bloques vacíos, dispersos (arreglo) y densos (mapa de palabras).
+    private static BitSet generar(Random aleatorio) {
+        BitSet conjunto = new BitSet();
+        for (int bloque = 0; bloque < BLOQUES; bloque++) {
+            int modo = aleatorio.nextInt(3);
+            int cantidad = modo == 0 ? 0 : modo == 1 ? aleatorio.nextInt(100) : 3_000 + aleatorio.nextInt(20_000);
+            for (int i = 0; i < cantidad; i++) {
+                conjunto.set(bloque * VALORES_POR_BLOQUE + aleatorio.nextInt(VALORES_POR_BLOQUE));
+            }
+        }
+        return conjunto;
+    }
+}
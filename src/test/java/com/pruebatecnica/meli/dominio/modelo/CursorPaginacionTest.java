@@ -0,0 +1,75 @@
+package com.pruebatecnica.meli.dominio.modelo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorPaginacionTest {
+
+    private static final int ORDINAL = 41;
+    private static final long VERSION_BASE = 7L;
+    private static final String NOMBRE_CON_SEPARADOR = "Cable USB | 2 m";
+
+    private Producto crearProducto(String nombre, double precio) {
+        return crearProducto(1L, nombre, precio);
+    }
+
+    private Producto crearProducto(Long id, String nombre, double precio) {
+        return new Producto(id, nombre, "url", "desc", precio, 4.5, "Electrónica", "Marca", List.of());
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el cursor a partir de su token")
+    void codificar_debeSerReversible() {
+        Optional<Ordenamiento> porNombre = Optional.of(new Ordenamiento(Ordenamiento.Campo.NOMBRE, true));
+        CursorPaginacion porNombreDescendente = CursorPaginacion.despuesDe(
+                crearProducto(NOMBRE_CON_SEPARADOR, 10.0), ORDINAL, VERSION_BASE, porNombre);
+        CursorPaginacion porPrecio = CursorPaginacion.despuesDe(crearProducto("Cable", -0.0), ORDINAL, VERSION_BASE,
+                Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, false)));
+        CursorPaginacion catalogo = CursorPaginacion.despuesDe(crearProducto(null, 10.0), ORDINAL, VERSION_BASE,
+                Optional.empty());
+        CursorPaginacion sinId = CursorPaginacion.despuesDe(crearProducto(null, "Cable", 10.0), ORDINAL, VERSION_BASE,
+                Optional.empty());
+
+        assertAll("Verificar ida y vuelta",
+            () -> assertEquals(porNombreDescendente, CursorPaginacion.decodificar(porNombreDescendente.codificar())),
+            () -> assertEquals(porPrecio, CursorPaginacion.decodificar(porPrecio.codificar())),
+            () -> assertEquals(catalogo, CursorPaginacion.decodificar(catalogo.codificar())),
+            () -> assertEquals(sinId, CursorPaginacion.decodificar(sinId.codificar())),
+            () -> assertEquals(CursorPaginacion.SIN_ID, sinId.idProducto()),
+            () -> assertEquals(NOMBRE_CON_SEPARADOR,
+                    CursorPaginacion.decodificar(porNombreDescendente.codificar()).nombre())
+        );
+    }
+
+    @Test
+    @DisplayName("Debe comparar por la clave del campo y desempatar por ordinal")
+    void compararAscendente_debeDesempatarPorOrdinal() {
+        CursorPaginacion porPrecio = CursorPaginacion.despuesDe(crearProducto("Cable", 10.0), ORDINAL, VERSION_BASE,
+                Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, true)));
+        CursorPaginacion porNombre = CursorPaginacion.despuesDe(crearProducto("Cable", 10.0), ORDINAL, VERSION_BASE,
+                Optional.of(new Ordenamiento(Ordenamiento.Campo.NOMBRE, false)));
+
+        assertAll("Verificar posición relativa al cursor",
+            () -> assertTrue(porPrecio.compararAscendente(10.0, null, ORDINAL + 1) > 0),
+            () -> assertEquals(0, porPrecio.compararAscendente(10.0, null, ORDINAL)),
+            () -> assertTrue(porPrecio.compararAscendente(5.0, null, ORDINAL + 1) < 0),
+            () -> assertTrue(porNombre.compararAscendente(0.0, "cable", ORDINAL - 1) < 0),
+            () -> assertTrue(porNombre.compararAscendente(0.0, "Cargador", 0) > 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tokens mal formados")
+    void decodificar_debeRechazarTokensInvalidos() {
+        assertAll("Verificar tokens inválidos",
+            () -> assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar("no-es-base64!")),
+            () -> assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar("Y2F0YWxvZ28")),
+            () -> assertThrows(IllegalArgumentException.class, () -> CursorPaginacion.decodificar(""))
+        );
+    }
+}
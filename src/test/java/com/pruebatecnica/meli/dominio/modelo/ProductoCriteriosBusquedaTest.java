@@ -24,7 +24,10 @@ class ProductoCriteriosBusquedaTest {
             Optional<Double> precioMax,
             int pagina,
             int tamanioPagina) {
-        return new ProductoCriteriosBusqueda(nombre, categoria, precioMin, precioMax, pagina, tamanioPagina);
+        return ProductoCriteriosBusqueda.sinFiltros(pagina, tamanioPagina)
+                .conNombre(nombre)
+                .conCategoria(categoria)
+                .conRangoPrecio(precioMin, precioMax);
     }
 
     @Test
@@ -0,0 +1,57 @@
+package com.pruebatecnica.meli.dominio.texto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalizadorTextoTest {
+
+    @Test
+    @DisplayName("Debe reducir plurales y vocal final a una raíz común")
+    void raiz_debeUnificarSingularYPlural() {
+        assertAll("Verificar raíces",
+            () -> assertEquals(AnalizadorTexto.raiz("celular"), AnalizadorTexto.raiz("celulares")),
+            () -> assertEquals(AnalizadorTexto.raiz("pantalla"), AnalizadorTexto.raiz("pantallas")),
+            () -> assertEquals(AnalizadorTexto.raiz("nuevo"), AnalizadorTexto.raiz("nuevos")),
+            () -> assertEquals(AnalizadorTexto.raiz("mesa"), AnalizadorTexto.raiz("mesas")),
+            () -> assertEquals(AnalizadorTexto.raiz("caja"), AnalizadorTexto.raiz("cajas")),
+            () -> assertEquals(AnalizadorTexto.raiz("foco"), AnalizadorTexto.raiz("focos")),
+            () -> assertEquals(AnalizadorTexto.raiz("cama"), AnalizadorTexto.raiz("camas")),
+            () -> assertEquals(AnalizadorTexto.raiz("tablet"), AnalizadorTexto.raiz("tablets")),
+            () -> assertEquals(AnalizadorTexto.raiz("pie"), AnalizadorTexto.raiz("pies")),
+            () -> assertEquals("mes", AnalizadorTexto.raiz("mesas")),
+            () -> assertEquals("gas", AnalizadorTexto.raiz("gas")),
+            () -> assertEquals("virus", AnalizadorTexto.raiz("virus")),
+            () -> assertEquals("lapiz", AnalizadorTexto.raiz("lapices")),
+            () -> assertEquals("luz", AnalizadorTexto.raiz("luz")),
+            () -> assertEquals("128gb", AnalizadorTexto.raiz("128gb"))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe normalizar el texto y descartar las palabras vacías")
+    void terminos_debeNormalizarYDescartarPalabrasVacias() {
+        assertAll("Verificar términos",
+            () -> assertArrayEquals(new String[]{"fund", "celular", "samsung"},
+                    AnalizadorTexto.terminos("Fundas para Celulares de Samsung")),
+            () -> assertArrayEquals(new String[]{"camar", "camar"}, AnalizadorTexto.terminos("Cámara CAMARAS")),
+            () -> assertArrayEquals(new String[]{"camar"}, AnalizadorTexto.terminosConsulta("Cámara CAMARAS")),
+            () -> assertArrayEquals(new String[0], AnalizadorTexto.terminos("de la para")),
+            () -> assertArrayEquals(new String[0], AnalizadorTexto.terminos(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe indicar si el texto contiene alguno de los términos de la consulta")
+    void contieneAlguno_debeBuscarCualquierTermino() {
+        String[] consulta = AnalizadorTexto.terminosConsulta("celulares baratos");
+
+        assertAll("Verificar coincidencias",
+            () -> assertTrue(AnalizadorTexto.contieneAlguno("Funda para celular", consulta)),
+            () -> assertTrue(AnalizadorTexto.contieneAlguno("Auriculares baratos", consulta)),
+            () -> assertFalse(AnalizadorTexto.contieneAlguno("Funda para tablet", consulta)),
+            () -> assertFalse(AnalizadorTexto.contieneAlguno(null, consulta))
+        );
+    }
+}
@@ -0,0 +1,44 @@
+package com.pruebatecnica.meli.dominio.texto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClaveBusquedaTest {
+
+    @Test
+    @DisplayName("Debe normalizar a minúsculas sin tildes ni diacríticos")
+    void normalizar_debeQuitarMayusculasYTildes() {
+        assertAll("Verificar claves",
+            () -> assertEquals("electronica", ClaveBusqueda.normalizar("Electrónica")),
+            () -> assertEquals("acao e pinguino", ClaveBusqueda.normalizar("AÇÃO e PINGÜINO")),
+            () -> assertEquals("espana", ClaveBusqueda.normalizar("España")),
+            () -> assertEquals("istanbul", ClaveBusqueda.normalizar("İSTANBUL")),
+            () -> assertNull(ClaveBusqueda.normalizar(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe devolver la misma instancia si el texto ya es su clave")
+    void normalizar_debeConservarLaInstanciaDeUnaClave() {
+        String clave = "celular samsung";
+
+        assertSame(clave, ClaveBusqueda.normalizar(clave));
+    }
+
+    @Test
+    @DisplayName("Debe comparar textos contra una clave ya normalizada")
+    void igualYContiene_debenCompararContraLaClave() {
+        assertAll("Verificar comparaciones",
+            () -> assertTrue(ClaveBusqueda.igual("ELECTRÓNICA", "electronica")),
+            () -> assertTrue(ClaveBusqueda.igual("Hogar", "hogar")),
+            () -> assertFalse(ClaveBusqueda.igual("Hogares", "hogar")),
+            () -> assertFalse(ClaveBusqueda.igual(null, "hogar")),
+            () -> assertTrue(ClaveBusqueda.contiene("Cámara Fotográfica", "ara foto")),
+            () -> assertTrue(ClaveBusqueda.contiene("Celular Samsung", "SAMSUNG".toLowerCase())),
+            () -> assertFalse(ClaveBusqueda.contiene("Celular", "celulares")),
+            () -> assertFalse(ClaveBusqueda.contiene(null, "cel"))
+        );
+    }
+}
@@ -0,0 +1,39 @@
+package com.pruebatecnica.meli.dominio.texto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistanciaEdicionTest {
+
+    @Test
+    @DisplayName("Debe calcular la distancia de Levenshtein y cortar al superar la cota")
+    void calcular_debeRespetarLaCota() {
+        assertAll("Verificar distancias",
+            () -> assertEquals(1, DistanciaEdicion.calcular("smarphone", "smartphone", 2)),
+            () -> assertEquals(2, DistanciaEdicion.calcular("tecaldo", "teclado", 2)),
+            () -> assertEquals(0, DistanciaEdicion.calcular("laptop", "laptop", 0)),
+            () -> assertEquals(3, DistanciaEdicion.calcular("mouse", "monitor", 2)),
+            () -> assertEquals(3, DistanciaEdicion.calcular("sol", "solitario", 2))
+        );
+    }
+
+    @Test
+    @DisplayName("Debe tolerar errores según el largo y buscar exactos los términos sin letras")
+    void coincidenTodos_debeAplicarLaToleranciaDeCadaTermino() {
+        String[] terminos = DistanciaEdicion.terminos("smarphone samsun a52");
+
+        assertAll("Verificar coincidencias",
+            () -> assertArrayEquals(new String[]{"smarphone", "samsun", "a52"}, terminos),
+            () -> assertEquals(0, DistanciaEdicion.toleranciaPara("tv")),
+            () -> assertEquals(0, DistanciaEdicion.toleranciaPara("2024")),
+            () -> assertEquals(1, DistanciaEdicion.toleranciaPara("laptp")),
+            () -> assertEquals(2, DistanciaEdicion.toleranciaPara("smarphone")),
+            () -> assertTrue(DistanciaEdicion.coincidenTodos("Smartphone Samsung A52", terminos)),
+            () -> assertFalse(DistanciaEdicion.coincidenTodos("Smartphone Samsung A52", new String[]{"a5"})),
+            () -> assertFalse(DistanciaEdicion.coincidenTodos("Laptop 2024", new String[]{"2025"})),
+            () -> assertFalse(DistanciaEdicion.coincidenTodos("Laptop", new String[0]))
+        );
+    }
+}
@@ -5,6 +5,7 @@ import com.pruebatecnica.meli.compartido.excepciones.ErrorLecturaJsonException;
 import com.pruebatecnica.meli.compartido.excepciones.ProductoNoEncontradoException;
 import com.pruebatecnica.meli.compartido.excepciones.ParametrosInvalidosException;
 import com.pruebatecnica.meli.compartido.excepciones.CantidadIdsInvalidaException;
+import com.pruebatecnica.meli.compartido.excepciones.CursorVencidoException;
 import com.pruebatecnica.meli.compartido.utilidad.ErrorRespuesta;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.ResponseEntity;
@@ -32,7 +33,10 @@ class ManejadorGlobalExcepcionesTest {
     private static final String ERROR_INESPERADO = "Error inesperado";
     private static final String PARAMETROS_INVALIDOS = "Parámetros inválidos";
     private static final String CANTIDAD_DE_IDS_INVALIDA = "Cantidad de IDs inválida";
+    private static final String CURSOR_VENCIDO = "Cursor vencido";
+    private static final String LA_ULTIMA_FILA_YA_NO_EXISTE = "La última fila ya no existe";
     private static final int CODIGO_DE_RESPUESTA_404 = 404;
+    private static final int CODIGO_DE_RESPUESTA_410 = 410;
     private static final int CODIGO_DE_RESPUESTA_500 = 500;
     private static final int CODIGO_DE_RESPUESTA_503 = 503;
     private static final int CODIGO_DE_RESPUESTA_400 = 400;
@@ -136,4 +140,18 @@ class ManejadorGlobalExcepcionesTest {
         assertEquals(String.format(plantilla, min, max, recibidos), respuesta.getBody().getMensaje());
         assertEquals(RUTA_PRODUCTOS_COMPARADOR, respuesta.getBody().getRuta());
     }
+
+    @Test
+    void manejarCursorVencido_debeRetornar410() {
+        when(webRequest.getDescription(false)).thenReturn(RUTA_PRODUCTOS);
+        CursorVencidoException excepcion = new CursorVencidoException(LA_ULTIMA_FILA_YA_NO_EXISTE);
+
+        ResponseEntity<ErrorRespuesta> respuesta = manejador.manejarCursorVencido(excepcion, webRequest);
+
+        assertNotNull(respuesta.getBody());
+        assertEquals(CODIGO_DE_RESPUESTA_410, respuesta.getStatusCode().value());
+        assertEquals(CURSOR_VENCIDO, respuesta.getBody().getTitulo());
+        assertEquals(LA_ULTIMA_FILA_YA_NO_EXISTE, respuesta.getBody().getMensaje());
+        assertEquals(RUTA_PRODUCTOS, respuesta.getBody().getRuta());
+    }
 }
@@ -1,14 +1,26 @@
 package com.pruebatecnica.meli.infraestructura.controlador;
 
+import com.pruebatecnica.meli.aplicacion.casodeuso.AutocompletarProductosCasoUso;
 import com.pruebatecnica.meli.aplicacion.casodeuso.ListarProductosCasoUso;
 import com.pruebatecnica.meli.aplicacion.casodeuso.ObtenerProductoPorIdCasoUso;
 import com.pruebatecnica.meli.aplicacion.casodeuso.ObtenerProductosPorIdsCasoUso;
 import com.pruebatecnica.meli.compartido.excepciones.CantidadIdsInvalidaException;
 import com.pruebatecnica.meli.compartido.excepciones.ParametrosInvalidosException;
 import com.pruebatecnica.meli.compartido.utilidad.ProductoConstantes;
+import com.pruebatecnica.meli.dominio.catalogo.AccesoConsulta;
+import com.pruebatecnica.meli.dominio.catalogo.EstimacionFiltro;
+import com.pruebatecnica.meli.dominio.catalogo.PlanConsulta;
+import com.pruebatecnica.meli.dominio.modelo.CampoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.ConteoFaceta;
+import com.pruebatecnica.meli.dominio.modelo.CursorPaginacion;
+import com.pruebatecnica.meli.dominio.modelo.Facetas;
+import com.pruebatecnica.meli.dominio.modelo.ModoTotal;
+import com.pruebatecnica.meli.dominio.modelo.Ordenamiento;
 import com.pruebatecnica.meli.dominio.modelo.Producto;
 import com.pruebatecnica.meli.dominio.modelo.ProductoCriteriosBusqueda;
+import com.pruebatecnica.meli.dominio.modelo.RangoPrecio;
 import com.pruebatecnica.meli.dominio.modelo.ResultadoPaginado;
+import com.pruebatecnica.meli.dominio.modelo.Sugerencia;
 import com.pruebatecnica.meli.infraestructura.configuracion.ManejadorGlobalExcepciones;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +28,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,11 +41,14 @@ class ProductoControladorTest {
     private ListarProductosCasoUso listarProductosCasoUso;
     private ObtenerProductoPorIdCasoUso obtenerProductoPorIdCasoUso;
     private ObtenerProductosPorIdsCasoUso obtenerProductosPorIdsCasoUso;
+    private AutocompletarProductosCasoUso autocompletarProductosCasoUso;
     private MockMvc mockMvc;
 
     private static final String RUTA_PRODUCTOS = "/productos";
     private static final String RUTA_PRODUCTO_ID = "/productos/{idProducto}";
     private static final String RUTA_COMPARADOR = "/productos/comparador";
+    private static final String RUTA_PLAN = "/productos/plan";
+    private static final String RUTA_AUTOCOMPLETAR = "/productos/autocompletar";
     private static final String URI_COMPARADOR = "uri=/productos/comparador";
 
     private static final String PARAMETROS_INVALIDOS = "Parámetros inválidos";
@@ -44,11 +60,13 @@ class ProductoControladorTest {
         listarProductosCasoUso = mock(ListarProductosCasoUso.class);
         obtenerProductoPorIdCasoUso = mock(ObtenerProductoPorIdCasoUso.class);
         obtenerProductosPorIdsCasoUso = mock(ObtenerProductosPorIdsCasoUso.class);
+        autocompletarProductosCasoUso = mock(AutocompletarProductosCasoUso.class);
 
         ProductoControlador productoControlador = new ProductoControlador(
                 listarProductosCasoUso,
                 obtenerProductoPorIdCasoUso,
-                obtenerProductosPorIdsCasoUso
+                obtenerProductosPorIdsCasoUso,
+                autocompletarProductosCasoUso
         );
 
         mockMvc = MockMvcBuilders.standaloneSetup(productoControlador)
@@ -60,7 +78,7 @@ class ProductoControladorTest {
     void listarProductos_debeRetornarListaDeProductos() throws Exception {
         Producto producto1 = new Producto(1L, "Producto 1", "url1", "desc1", 100.0, 4.5, "cat1", "marca1", List.of("spec1", "spec2"));
         Producto producto2 = new Producto(2L, "Producto 2", "url2", "desc2", 200.0, 4.7, "cat2", "marca2", List.of("specA"));
-        ProductoCriteriosBusqueda criterios = new ProductoCriteriosBusqueda(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 0, 10);
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10);
         ResultadoPaginado<Producto> resultado = new ResultadoPaginado<>(List.of(producto1, producto2), 0, 1, 2);
         when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(resultado);
 
@@ -73,7 +91,7 @@ class ProductoControladorTest {
 
     @Test
     void listarProductos_debeRetornarListaVacia() throws Exception {
-        ProductoCriteriosBusqueda criterios = new ProductoCriteriosBusqueda(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 0, 10);
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10);
         ResultadoPaginado<Producto> resultado = new ResultadoPaginado<>(List.of(), 0, 0, 0);
         when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(resultado);
 
@@ -85,7 +103,7 @@ class ProductoControladorTest {
 
     @Test
     void listarProductos_debeRetornarErrorSiCasoUsoFalla() throws Exception {
-        ProductoCriteriosBusqueda criterios = new ProductoCriteriosBusqueda(Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), 0, 10);
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10);
         when(listarProductosCasoUso.listarProductos(criterios)).thenThrow(new RuntimeException("Error interno"));
 
         mockMvc.perform(get(RUTA_PRODUCTOS)
@@ -93,6 +111,248 @@ class ProductoControladorTest {
                 .andExpect(status().isInternalServerError());
     }
 
+    @Test
+    void explicarConsulta_debeRetornarElPlanElegido() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 1)
+                .conCategoria(Optional.of("Hogar"));
+        PlanConsulta plan = new PlanConsulta(AccesoConsulta.INDICE_MAPAS_BITS, 100, 5, 5, 2.5,
+                List.of(new EstimacionFiltro("categoria", 0.05, 1.0, true)));
+        when(listarProductosCasoUso.explicarConsulta(criterios)).thenReturn(plan);
+
+        mockMvc.perform(get(RUTA_PLAN)
+                .param("categoria", "Hogar")
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.acceso").value("INDICE_MAPAS_BITS"))
+                .andExpect(jsonPath("$.filasCandidatas").value(5))
+                .andExpect(jsonPath("$.filtros[0].resueltoPorIndice").value(true));
+    }
+
+    @Test
+    void listarProductos_debeConstruirElOrdenamientoSolicitado() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conOrden(Optional.of(new Ordenamiento(Ordenamiento.Campo.PRECIO, true)));
+        Producto producto = new Producto(2L, "Producto 2", "url2", "desc2", 200.0, 4.7, "cat2", "marca2", List.of());
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(producto), 0, 1, 1));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("ordenarPor", "precio")
+                        .param("direccion", "desc")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].idProducto").value(2));
+    }
+
+    @Test
+    void listarProductos_debeRetornar400SiElCampoDeOrdenamientoNoExiste() throws Exception {
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("ordenarPor", "stock")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.titulo").value(PARAMETROS_INVALIDOS))
+                .andExpect(jsonPath("$.mensaje").value(String.format(ProductoConstantes.ERROR_ORDENAR_POR, "stock")));
+
+        verifyNoInteractions(listarProductosCasoUso);
+    }
+
+    @Test
+    void listarProductos_debeRetornar400SiElCursorEsDeOtroOrdenamiento() throws Exception {
+        String cursor = new CursorPaginacion(Optional.empty(), 0.0, null, 10L, 9, 1L).codificar();
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("ordenarPor", "precio")
+                        .param("cursor", cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(ProductoConstantes.ERROR_CURSOR_ORDENAMIENTO));
+
+        verifyNoInteractions(listarProductosCasoUso);
+    }
+
+    @Test
+    void listarProductos_debeInformarElTotalAproximadoSolicitado() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("Producto"))
+                .conIncluirTotal(ModoTotal.APROXIMADO);
+        Producto producto = new Producto(2L, "Producto 2", "url2", "desc2", 200.0, 4.7, "cat2", "marca2", List.of());
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(producto), 0,
+                120, 1200, null, ModoTotal.APROXIMADO, 35));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("nombre", "Producto")
+                        .param("incluirTotal", "aproximado")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElementos").value(1200))
+                .andExpect(jsonPath("$.precisionTotal").value("APROXIMADO"))
+                .andExpect(jsonPath("$.margenErrorTotal").value(35));
+    }
+
+    @Test
+    void listarProductos_debeRecortarLosFiltrosDeTexto() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(Optional.of("Hogar"))
+                .conMarca(Optional.of("Sony"))
+                .conTexto(Optional.of("televisor"));
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(), 0, 0, 0));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("categoria", " Hogar ")
+                        .param("marca", "Sony ")
+                        .param("q", " televisor")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElementos").value(0));
+    }
+
+    @Test
+    void listarProductos_debeRetornar400SiElModoDeTotalNoExiste() throws Exception {
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("incluirTotal", "estimado")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(String.format(ProductoConstantes.ERROR_INCLUIR_TOTAL, "estimado")));
+
+        verifyNoInteractions(listarProductosCasoUso);
+    }
+
+    @Test
+    void listarProductos_debeDevolverLasFacetasSolicitadas() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conCategoria(Optional.of("cat2"))
+                .conFacetas(EnumSet.of(CampoFaceta.MARCA, CampoFaceta.PRECIO));
+        Producto producto = new Producto(2L, "Producto 2", "url2", "desc2", 200.0, 4.7, "cat2", "marca2", List.of());
+        Facetas facetas = new Facetas(null, List.of(new ConteoFaceta("marca2", 1)),
+                List.of(new RangoPrecio(200.0, 500.0, 1)));
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(producto), 0,
+                1, 1, null, ModoTotal.EXACTO, 0, facetas));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("categoria", "cat2")
+                        .param("facetas", "marca, PRECIO")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.facetas.marcas[0].valor").value("marca2"))
+                .andExpect(jsonPath("$.facetas.marcas[0].cantidad").value(1))
+                .andExpect(jsonPath("$.facetas.precios[0].desde").value(200.0))
+                .andExpect(jsonPath("$.facetas.precios[0].hasta").value(500.0));
+    }
+
+    @Test
+    void listarProductos_debeActivarLaBusquedaDifusaPorNombre() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conNombre(Optional.of("celulr"))
+                .conNombreDifuso(true);
+        Producto producto = new Producto(1L, "Celular", "url1", "desc1", 100.0, 4.5, "cat1", "marca1", List.of());
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(producto), 0,
+                1, 1));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("nombre", "celulr")
+                        .param("difuso", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].nombre").value("Celular"));
+    }
+
+    @Test
+    void listarProductos_debeBuscarPorTextoCompleto() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conTexto(Optional.of("celular samsung"));
+        Producto producto = new Producto(1L, "Celular", "url1", "desc1", 100.0, 4.5, "cat1", "marca1", List.of());
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(producto), 0,
+                1, 1));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("q", "celular samsung")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].nombre").value("Celular"));
+    }
+
+    @Test
+    void listarProductos_debeFiltrarPorRangoDePrecioYCalificacion() throws Exception {
+        ProductoCriteriosBusqueda criterios = ProductoCriteriosBusqueda.sinFiltros(0, 10)
+                .conRangoPrecio(Optional.of(100.0), Optional.empty())
+                .conRangoCalificacion(Optional.of(4.0), Optional.of(4.8));
+        Producto producto = new Producto(1L, "Celular", "url1", "desc1", 100.0, 4.5, "cat1", "marca1", List.of());
+        when(listarProductosCasoUso.listarProductos(criterios)).thenReturn(new ResultadoPaginado<>(List.of(producto), 0,
+                1, 1));
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("precioMinimo", "100")
+                        .param("calificacionMinima", "4")
+                        .param("calificacionMaxima", "4.8")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.elementos[0].nombre").value("Celular"));
+    }
+
+    @Test
+    void listarProductos_debeRetornar400SiSePideCursorConOrdenPorRelevancia() throws Exception {
+        String cursor = new CursorPaginacion(Optional.empty(), 0.0, null, 10L, 9, 1L).codificar();
+
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("q", "celular")
+                        .param("cursor", cursor)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(ProductoConstantes.ERROR_CURSOR_RELEVANCIA));
+
+        verifyNoInteractions(listarProductosCasoUso);
+    }
+
+    @Test
+    void listarProductos_debeRetornar400SiLaFacetaNoExiste() throws Exception {
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("facetas", "categoria,color")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(String.format(ProductoConstantes.ERROR_FACETAS, "categoria,color")));
+
+        verifyNoInteractions(listarProductosCasoUso);
+    }
+
+    @Test
+    void listarProductos_debeRetornar400SiElFiltroPorAtributoEsInvalido() throws Exception {
+        mockMvc.perform(get(RUTA_PRODUCTOS)
+                        .param("atributo", "ram:>=16", "ram>=16")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.mensaje").value(String.format(ProductoConstantes.ERROR_ATRIBUTO, "ram>=16")));
+
+        verifyNoInteractions(listarProductosCasoUso);
+    }
+
+    @Test
+    void autocompletar_debeRetornarSugerenciasConElLimitePorDefecto() throws Exception {
+        when(autocompletarProductosCasoUso.autocompletar("sma", ProductoConstantes.LIMITE_AUTOCOMPLETADO_POR_DEFECTO))
+                .thenReturn(List.of(new Sugerencia(2L, "Smartwatch", 4.8), new Sugerencia(1L, "Smartphone", 4.5)));
+
+        mockMvc.perform(get(RUTA_AUTOCOMPLETAR)
+                        .param("prefijo", "sma")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].idProducto").value(2))
+                .andExpect(jsonPath("$[0].nombre").value("Smartwatch"))
+                .andExpect(jsonPath("$[1].calificacion").value(4.5));
+    }
+
+    @Test
+    void autocompletar_debeRetornar400SiElLimiteEsInvalido() throws Exception {
+        String mensaje = String.format(ProductoConstantes.ERROR_LIMITE_AUTOCOMPLETADO,
+                ProductoConstantes.MAXIMO_LIMITE_AUTOCOMPLETADO, 50);
+        when(autocompletarProductosCasoUso.autocompletar("sma", 50)).thenThrow(new ParametrosInvalidosException(mensaje));
+
+        mockMvc.perform(get(RUTA_AUTOCOMPLETAR)
+                        .param("prefijo", "sma")
+                        .param("limite", "50")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.titulo").value(PARAMETROS_INVALIDOS))
+                .andExpect(jsonPath("$.mensaje").value(mensaje));
+    }
+
     @Test
     void obtenerProductoPorId_debeRetornarProductoSiExiste() throws Exception {
         Long idProducto = 1L;
@@ -0,0 +1,98 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CargadorParaleloCatalogoTest {
+
+    private final JsonFactory fabricaJson = new JsonFactory();
+    private final LectorCatalogoJson lector = new LectorCatalogoJson(fabricaJson);
+
+    private static byte[] catalogo(int cantidad) {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < cantidad; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            if (i % 10 == 3) {
+                json.append("  {\"nombre\": \"Sin id, con \\\"comillas\\\" y ]\"}");
+            } else {
+                json.append("  {\"idProducto\": ").append(i)
+                        .append(", \"nombre\": \"Producto {").append(i).append("}\"")
+                        .append(", \"especificaciones\": [\"a,b\", \"]\"]}");
+            }
+        }
+        return json.append("\n]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private CatalogoSnapshot leerEnStreaming(byte[] datos) throws IOException {
+        ConstructorCatalogo constructor = new ConstructorCatalogo();
+        lector.leer(new ByteArrayInputStream(datos), constructor);
+        return constructor.construir(1L, Instant.now(), Duration.ZERO);
+    }
+
+    private CatalogoSnapshot leerEnParalelo(byte[] datos, int hilos) throws IOException {
+        ConstructorCatalogo constructor = new ConstructorCatalogo();
+        new CargadorParaleloCatalogo(fabricaJson, lector, hilos).cargar(datos, constructor);
+        return constructor.construir(1L, Instant.now(), Duration.ZERO);
+    }
+
+    @Test
+    void cargar_debeProducirElMismoCatalogoQueLaLecturaEnStreaming() throws IOException {
+        byte[] datos = catalogo(500);
+        CatalogoSnapshot esperado = leerEnStreaming(datos);
+
+        for (int hilos : new int[]{1, 3, 8}) {
+            CatalogoSnapshot obtenido = leerEnParalelo(datos, hilos);
+            assertAll("Verificar carga paralela con " + hilos + " hilos",
+                () -> assertEquals(esperado.productos(), obtenido.productos()),
+                () -> assertEquals(esperado.registrosInvalidos(), obtenido.registrosInvalidos()),
+                () -> assertEquals(50, obtenido.metadatos().registrosInvalidos())
+            );
+        }
+    }
+
+    @Test
+    void cargar_debeReportarLaUbicacionOriginalDeLosRegistrosInvalidos() throws IOException {
+        CatalogoSnapshot snapshot = leerEnParalelo(catalogo(20), 4);
+
+        assertAll("Verificar ubicación del primer registro inválido",
+            () -> assertEquals(3, snapshot.registrosInvalidos().getFirst().posicion()),
+            () -> assertEquals(5, snapshot.registrosInvalidos().getFirst().linea()),
+            () -> assertEquals(3, snapshot.registrosInvalidos().getFirst().columna())
+        );
+    }
+
+    @Test
+    void dividir_debeCortarSoloEnLimitesDeElemento() throws IOException {
+        byte[] datos = catalogo(100);
+
+        List<FragmentoJson> fragmentos = CargadorParaleloCatalogo.dividir(datos, 8);
+
+        assertTrue(fragmentos.size() > 1);
+        assertEquals(0, fragmentos.getFirst().primeraPosicion());
+        for (FragmentoJson fragmento : fragmentos) {
+            assertEquals('{', datos[fragmento.inicio()]);
+            assertEquals('}', datos[fragmento.fin() - 1]);
+        }
+    }
+
+    @Test
+    void cargar_debeFallarSiElArchivoEstaTruncado() {
+        byte[] datos = "[{\"idProducto\": 1}, {\"idProducto\"".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(JsonProcessingException.class, () -> leerEnParalelo(datos, 2));
+    }
+}
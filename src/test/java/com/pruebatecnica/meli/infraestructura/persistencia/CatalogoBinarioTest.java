@@ -0,0 +1,102 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.pruebatecnica.meli.compartido.excepciones.ErrorLecturaJsonException;
+import com.pruebatecnica.meli.dominio.catalogo.MetadatosCatalogo;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogoBinarioTest {
+
+    private static final String CATALOGO_JSON = """
+            [
+              {"idProducto": 1, "nombre": "Celular", "imagenUrl": "url", "descripcion": "Pantalla de 6,5\\"",
+               "precio": 599.99, "calificacion": 4.5, "categoria": "Electrónica", "marca": "XYZ",
+               "especificaciones": ["128GB", "6GB RAM"]},
+              {"idProducto": 2, "nombre": "Sin marca", "precio": 10, "categoria": "Electrónica"},
+              {"nombre": "Sin id"},
+              {"idProducto": 3, "nombre": "Tablet", "precio": 399.99, "categoria": "Tablets", "marca": "XYZ",
+               "especificaciones": []}
+            ]""";
+
+    @TempDir
+    Path directorio;
+
+    private Path compilar() throws IOException {
+        Path destino = directorio.resolve("catalogo/productos.bin");
+        new CompiladorCatalogoBinario(new JsonFactory())
+                .compilar(new ByteArrayInputStream(CATALOGO_JSON.getBytes(StandardCharsets.UTF_8)), destino);
+        return destino;
+    }
+
+    @Test
+    void mapear_debeDecodificarLosMismosProductosQueElJson() throws IOException {
+        CatalogoBinario catalogo = CatalogoBinario.mapear(compilar());
+
+        assertAll("Verificar catálogo binario",
+            () -> assertEquals(3, catalogo.tamanio()),
+            () -> assertEquals(1, catalogo.registrosInvalidos()),
+            () -> assertEquals(new Producto(1L, "Celular", "url", "Pantalla de 6,5\"", 599.99, 4.5,
+                    "Electrónica", "XYZ", List.of("128GB", "6GB RAM")), catalogo.producto(0)),
+            () -> assertEquals(new Producto(2L, "Sin marca", null, null, 10.0, 0.0,
+                    "Electrónica", null, null), catalogo.producto(1)),
+            () -> assertEquals(List.of(), catalogo.producto(2).especificaciones()),
+            () -> assertEquals(2, catalogo.construirIndiceIds().buscar(3L))
+        );
+    }
+
+    @Test
+    void repositorio_debeServirElCatalogoMapeado() throws IOException {
+        ProductoRepositorioBinario repositorio = new ProductoRepositorioBinario(compilar().toString());
+
+        List<Producto> productos = repositorio.listarProductos();
+        MetadatosCatalogo metadatos = repositorio.obtenerSnapshot().orElseThrow().metadatos();
+
+        assertAll("Verificar repositorio binario",
+            () -> assertEquals(3, productos.size()),
+            () -> assertSame(productos, repositorio.listarProductos()),
+            () -> assertEquals("Tablet", repositorio.obtenerProductoPorId(3L).orElseThrow().nombre()),
+            () -> assertTrue(repositorio.obtenerProductoPorId(99L).isEmpty()),
+            () -> assertEquals(List.of(1L, 3L), repositorio.obtenerProductosPorIds(List.of(3L, 1L)).stream()
+                    .map(Producto::idProducto).toList()),
+            () -> assertEquals(3, metadatos.totalProductos()),
+            () -> assertEquals(1, metadatos.registrosInvalidos())
+        );
+    }
+
+    @Test
+    void sobre_debeRechazarUnArchivoQueNoEsCatalogoBinario() {
+        assertThrows(IOException.class, () -> CatalogoBinario.sobre(ByteBuffer.allocate(128)));
+    }
+
+    @Test
+    void repositorio_debeReportarArchivoNoEncontrado() {
+        ProductoRepositorioBinario repositorio = new ProductoRepositorioBinario(directorio.resolve("no-existe.bin").toString());
+
+        ErrorLecturaJsonException error = assertThrows(ErrorLecturaJsonException.class, repositorio::listarProductos);
+        assertInstanceOf(FileNotFoundException.class, error.getCause());
+    }
+
+    @Test
+    void compilar_debeReemplazarElArchivoExistente() throws IOException {
+        Path destino = compilar();
+        long tamanioOriginal = Files.size(destino);
+
+        compilar();
+
+        assertEquals(tamanioOriginal, Files.size(destino));
+        assertFalse(Files.exists(destino.resolveSibling("productos.bin.tmp")));
+    }
+}
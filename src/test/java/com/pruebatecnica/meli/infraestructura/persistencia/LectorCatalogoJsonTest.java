@@ -0,0 +1,78 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.ConstructorCatalogo;
+import com.pruebatecnica.meli.dominio.catalogo.RegistroInvalido;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LectorCatalogoJsonTest {
+
+    private static final String PRODUCTO_VALIDO = """
+            {"idProducto": 1, "nombre": "Celular", "imagenUrl": "url", "descripcion": "desc",
+             "precio": 599.99, "calificacion": 4.5, "categoria": "Electrónica", "marca": "XYZ",
+             "especificaciones": ["128GB", "6GB RAM"], "campoDesconocido": {"anidado": [1, 2]}}""";
+    private static final String PRODUCTO_PRECIO_INVALIDO = """
+            {"idProducto": 2, "nombre": "Tablet", "precio": {"valor": 10}}""";
+    private static final String PRODUCTO_SIN_ID = """
+            {"nombre": "Sin id", "precio": 10}""";
+
+    private final LectorCatalogoJson lector = new LectorCatalogoJson(new JsonFactory());
+
+    private CatalogoSnapshot leer(String json) throws IOException {
+        ConstructorCatalogo constructor = new ConstructorCatalogo();
+        lector.leer(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), constructor);
+        return constructor.construir(1L, Instant.now(), Duration.ZERO);
+    }
+
+    @Test
+    void leer_debeConstruirProductosConTodosLosCampos() throws IOException {
+        CatalogoSnapshot snapshot = leer("[" + PRODUCTO_VALIDO + "]");
+
+        Producto producto = snapshot.productos().getFirst();
+        assertEquals(1, snapshot.tamanio());
+        assertEquals(new Producto(1L, "Celular", "url", "desc", 599.99, 4.5, "Electrónica", "XYZ",
+                List.of("128GB", "6GB RAM")), producto);
+        assertEquals(0, snapshot.metadatos().registrosInvalidos());
+    }
+
+    @Test
+    void leer_debeDescartarRegistrosInvalidosSinAbortarLaCarga() throws IOException {
+        CatalogoSnapshot snapshot = leer("[" + PRODUCTO_PRECIO_INVALIDO + ", 5, " + PRODUCTO_SIN_ID + ", " + PRODUCTO_VALIDO + "]");
+
+        assertEquals(1, snapshot.tamanio());
+        assertEquals(1L, snapshot.productos().getFirst().idProducto());
+        assertEquals(3, snapshot.metadatos().registrosInvalidos());
+
+        List<RegistroInvalido> invalidos = snapshot.registrosInvalidos();
+        assertAll("Verificar detalle de registros inválidos",
+            () -> assertEquals(0, invalidos.get(0).posicion()),
+            () -> assertEquals(1L, invalidos.get(0).offsetBytes()),
+            () -> assertTrue(invalidos.get(0).motivo().contains("precio")),
+            () -> assertEquals(1, invalidos.get(1).posicion()),
+            () -> assertEquals(2, invalidos.get(2).posicion()),
+            () -> assertTrue(invalidos.get(2).motivo().contains("idProducto"))
+        );
+    }
+
+    @Test
+    void leer_debeFallarSiLaRaizNoEsUnArreglo() {
+        assertThrows(JsonProcessingException.class, () -> leer(PRODUCTO_VALIDO));
+    }
+
+    @Test
+    void leer_debeFallarSiElArchivoEstaTruncado() {
+        assertThrows(JsonProcessingException.class, () -> leer("[" + PRODUCTO_VALIDO + ", {\"idProducto\": 3"));
+    }
+}
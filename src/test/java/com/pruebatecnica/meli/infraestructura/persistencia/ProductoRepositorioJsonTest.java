@@ -0,0 +1,186 @@
+package com.pruebatecnica.meli.infraestructura.persistencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pruebatecnica.meli.dominio.catalogo.CatalogoSnapshot;
+import com.pruebatecnica.meli.dominio.catalogo.RecargaCatalogo;
+import com.pruebatecnica.meli.dominio.modelo.Producto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductoRepositorioJsonTest {
+
+    private static final String UN_PRODUCTO = "[{\"idProducto\": 1, \"nombre\": \"Celular\"}]";
+    private static final String DOS_PRODUCTOS =
+            "[{\"idProducto\": 1, \"nombre\": \"Celular\"}, {\"idProducto\": 2, \"nombre\": \"Tablet\"}]";
+    private static final String DELTAS_INICIALES = """
+            {"operacion": "upsert", "producto": {"idProducto": 1, "nombre": "Celular", "precio": 50.0}}
+            {"operacion": "upsert", "producto": {"idProducto": 3, "nombre": "Laptop"}}
+            {"operacion": "desconocida"}
+            """;
+
+    private ProductoRepositorioJson repositorio;
+
+    @BeforeEach
+    void setUp() {
+        repositorio = new ProductoRepositorioJson(new ObjectMapper(), "streaming", 0, "", false, 500, "", 1000, 10000);
+    }
+
+    @Test
+    void listarProductos_debeReutilizarElMismoSnapshotEntreLlamadas() {
+        List<Producto> primeraLectura = repositorio.listarProductos();
+        List<Producto> segundaLectura = repositorio.listarProductos();
+
+        assertFalse(primeraLectura.isEmpty());
+        assertSame(primeraLectura, segundaLectura);
+    }
+
+    @Test
+    void obtenerSnapshot_debeExponerMetadatosDeLaCarga() {
+        CatalogoSnapshot snapshot = repositorio.obtenerSnapshot().orElseThrow();
+
+        assertEquals(1L, snapshot.version());
+        assertEquals(repositorio.listarProductos().size(), snapshot.metadatos().totalProductos());
+        assertNotNull(snapshot.metadatos().cargadoEn());
+        assertSame(snapshot, repositorio.obtenerSnapshot().orElseThrow());
+    }
+
+    @Test
+    void obtenerProductoPorId_debeUsarElSnapshotCargado() {
+        assertTrue(repositorio.obtenerProductoPorId(1L).isPresent());
+        assertTrue(repositorio.obtenerProductoPorId(9999L).isEmpty());
+        assertEquals(1L, repositorio.obtenerSnapshot().orElseThrow().version());
+    }
+
+    @Test
+    void recargarCatalogo_debePublicarUnNuevoSnapshotSinAfectarAlAnterior(@TempDir Path directorio) throws IOException {
+        Path archivo = Files.writeString(directorio.resolve("productos.json"), UN_PRODUCTO);
+        ProductoRepositorioJson desdeArchivo = new ProductoRepositorioJson(
+                new ObjectMapper(), "streaming", 0, archivo.toString(), false, 50, "", 1000, 10000);
+        CatalogoSnapshot anterior = desdeArchivo.obtenerSnapshot().orElseThrow();
+
+        Files.writeString(archivo, DOS_PRODUCTOS);
+        desdeArchivo.recargarCatalogo();
+
+        RecargaCatalogo recarga = desdeArchivo.obtenerUltimaRecarga().orElseThrow();
+        assertAll("Verificar recarga del catálogo",
+            () -> assertEquals(1, anterior.tamanio()),
+            () -> assertEquals(2, desdeArchivo.listarProductos().size()),
+            () -> assertTrue(recarga.exitosa()),
+            () -> assertEquals(1L, recarga.versionAnterior()),
+            () -> assertEquals(2L, recarga.versionNueva()),
+            () -> assertEquals(1, recarga.productosAnteriores()),
+            () -> assertEquals(2, recarga.productosNuevos())
+        );
+    }
+
+    @Test
+    void recargarCatalogo_debeConservarElSnapshotVigenteSiElArchivoEsInvalido(@TempDir Path directorio) throws IOException {
+        Path archivo = Files.writeString(directorio.resolve("productos.json"), UN_PRODUCTO);
+        ProductoRepositorioJson desdeArchivo = new ProductoRepositorioJson(
+                new ObjectMapper(), "streaming", 0, archivo.toString(), false, 50, "", 1000, 10000);
+        CatalogoSnapshot vigente = desdeArchivo.obtenerSnapshot().orElseThrow();
+
+        Files.writeString(archivo, "[{\"idProducto\": 1");
+        desdeArchivo.recargarCatalogo();
+
+        assertSame(vigente, desdeArchivo.obtenerSnapshot().orElseThrow());
+        assertFalse(desdeArchivo.obtenerUltimaRecarga().orElseThrow().exitosa());
+    }
+
+    @Test
+    void vigilancia_debeRecargarCuandoCambiaElArchivo(@TempDir Path directorio) throws Exception {
+        Path archivo = Files.writeString(directorio.resolve("productos.json"), UN_PRODUCTO);
+        ProductoRepositorioJson vigilado = new ProductoRepositorioJson(
+                new ObjectMapper(), "streaming", 0, archivo.toString(), true, 50, "", 1000, 10000);
+        vigilado.precargarCatalogo();
+        try {
+            Path temporal = Files.writeString(directorio.resolve("productos.json.tmp"), DOS_PRODUCTOS);
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            long limite = System.currentTimeMillis() + 15_000;
+            while (vigilado.obtenerSnapshot().orElseThrow().version() < 2 && System.currentTimeMillis() < limite) {
+                Thread.sleep(50);
+            }
+
+            assertEquals(2, vigilado.listarProductos().size());
+        } finally {
+            vigilado.detenerVigilancia();
+        }
+    }
+
+    @Test
+    void procesarDeltas_debeAplicarSoloLasLineasCompletasNuevas(@TempDir Path directorio) throws IOException {
+        Path archivo = Files.writeString(directorio.resolve("productos.json"), DOS_PRODUCTOS);
+        Path deltas = Files.writeString(directorio.resolve("productos.deltas.jsonl"), DELTAS_INICIALES);
+        ProductoRepositorioJson conDeltas = new ProductoRepositorioJson(
+                new ObjectMapper(), "streaming", 0, archivo.toString(), false, 50, deltas.toString(), 1000, 100);
+        CatalogoSnapshot inicial = conDeltas.obtenerSnapshot().orElseThrow();
+
+        Files.writeString(deltas, "{\"operacion\": \"eliminar\", \"idProducto\": 2}\n{\"operacion\": \"elim",
+                StandardOpenOption.APPEND);
+        conDeltas.procesarDeltas();
+        CatalogoSnapshot actualizado = conDeltas.obtenerSnapshot().orElseThrow();
+
+        assertAll("Verificar aplicación de deltas",
+            () -> assertEquals(50.0, inicial.buscarPorId(1L).orElseThrow().precio()),
+            () -> assertEquals(3, inicial.tamanio()),
+            () -> assertEquals(2, inicial.operacionesPendientes()),
+            () -> assertEquals(List.of(1L, 3L), actualizado.productos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(3, actualizado.operacionesPendientes()),
+            () -> assertTrue(conDeltas.obtenerProductoPorId(2L).isEmpty())
+        );
+    }
+
+    @Test
+    void recargarCatalogo_debeReaplicarLosDeltasSinModificarElArchivo(@TempDir Path directorio) throws IOException {
+        Path archivo = Files.writeString(directorio.resolve("productos.json"), UN_PRODUCTO);
+        Path deltas = Files.writeString(directorio.resolve("productos.deltas.jsonl"), DELTAS_INICIALES);
+        ProductoRepositorioJson conDeltas = new ProductoRepositorioJson(
+                new ObjectMapper(), "streaming", 0, archivo.toString(), false, 50, deltas.toString(), 1000, 100);
+        CatalogoSnapshot inicial = conDeltas.obtenerSnapshot().orElseThrow();
+
+        String contenido = DELTAS_INICIALES + "{\"operacion\": \"eliminar\", \"idProducto\": 3}\n";
+        Files.writeString(deltas, contenido);
+        Files.writeString(archivo, "[{\"idProducto\": 1, \"nombre\": \"Celular\", \"precio\": 80.0}, "
+                + "{\"idProducto\": 2, \"nombre\": \"Tablet\"}, {\"idProducto\": 3, \"nombre\": \"Laptop\"}]");
+        conDeltas.recargarCatalogo();
+        CatalogoSnapshot recargado = conDeltas.obtenerSnapshot().orElseThrow();
+
+        assertAll("Verificar que la recarga reaplica los deltas consumidos y no toca el archivo",
+            () -> assertEquals(50.0, inicial.buscarPorId(1L).orElseThrow().precio()),
+            () -> assertEquals(50.0, recargado.buscarPorId(1L).orElseThrow().precio()),
+            () -> assertEquals(List.of(1L, 2L), recargado.productos().stream().map(Producto::idProducto).toList()),
+            () -> assertEquals(3, recargado.operacionesPendientes()),
+            () -> assertEquals(contenido, Files.readString(deltas))
+        );
+    }
+
+    @Test
+    void procesarDeltas_debeCompactarAlSuperarElUmbral(@TempDir Path directorio) throws IOException {
+        Path archivo = Files.writeString(directorio.resolve("productos.json"), DOS_PRODUCTOS);
+        Path deltas = Files.writeString(directorio.resolve("productos.deltas.jsonl"), "");
+        ProductoRepositorioJson conDeltas = new ProductoRepositorioJson(
+                new ObjectMapper(), "streaming", 0, archivo.toString(), false, 50, deltas.toString(), 1000, 2);
+        conDeltas.obtenerSnapshot().orElseThrow();
+
+        Files.writeString(deltas, DELTAS_INICIALES);
+        conDeltas.procesarDeltas();
+        CatalogoSnapshot compactado = conDeltas.obtenerSnapshot().orElseThrow();
+
+        assertAll("Verificar compactación",
+            () -> assertEquals(0, compactado.operacionesPendientes()),
+            () -> assertEquals(3, compactado.columnas().tamanio()),
+            () -> assertEquals(50.0, compactado.columnas().precio(0))
+        );
+    }
+}